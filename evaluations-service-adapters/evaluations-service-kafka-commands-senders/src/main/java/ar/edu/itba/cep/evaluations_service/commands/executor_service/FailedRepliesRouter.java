@@ -0,0 +1,293 @@
+package ar.edu.itba.cep.evaluations_service.commands.executor_service;
+
+import com.bellotapps.the_messenger.commons.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A component in charge of routing the replies that could not be processed.
+ * A failed reply is sent to the retry topic (with an exponential backoff) until it fails the max. amount of times,
+ * in which case it is sent to the dead letter topic. This way, a reply that can not be processed
+ * never blocks the rest of the replies.
+ * Replies that will never be processed (e.g they refer to a solution that does not exist)
+ * are sent to the dead letter topic right away.
+ * Routed replies are keyed by their solution, so the replies of a solution are consumed in order
+ * (as the retry topic is consumed concurrently with the reply topic, the processing of replies also locks
+ * the affected solution).
+ * The amount of routed replies is reported as the {@code executor.replies.routed} metric
+ * (tagged with the destination).
+ */
+@Component
+public class FailedRepliesRouter {
+
+    /**
+     * The {@link Logger}.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(FailedRepliesRouter.class);
+
+    /**
+     * The name of the metric counting the routed replies.
+     */
+    private static final String ROUTED_REPLIES_METRIC = "executor.replies.routed";
+
+    /**
+     * The {@link KafkaTemplate} used to send the replies.
+     */
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    /**
+     * The topic from where replies are consumed (to which replayed replies are sent).
+     */
+    private final String replyTopic;
+    /**
+     * The topic to which failed replies are sent in order to be retried.
+     */
+    private final String retryTopic;
+    /**
+     * The topic to which replies are sent once they failed the max. amount of times.
+     */
+    private final String deadLetterTopic;
+    /**
+     * The max. amount of times a reply is processed before being dead lettered.
+     */
+    private final int maxAttempts;
+    /**
+     * The time (in milliseconds) to wait before processing a reply that failed once
+     * (doubled after each subsequent failure).
+     */
+    private final long backoff;
+    /**
+     * The max. time (in milliseconds) to wait before processing a failed reply again.
+     */
+    private final long maxBackoff;
+    /**
+     * Counts the replies sent to retry.
+     */
+    private final Counter retriedCounter;
+    /**
+     * Counts the dead lettered replies.
+     */
+    private final Counter deadLetteredCounter;
+    /**
+     * Counts the replayed replies.
+     */
+    private final Counter replayedCounter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param kafkaTemplate    The {@link KafkaTemplate} used to send the replies.
+     * @param replyTopic       The topic from where replies are consumed.
+     * @param retryTopic       The topic to which failed replies are sent in order to be retried.
+     * @param deadLetterTopic  The topic to which replies are sent once they failed the max. amount of times.
+     * @param maxAttempts      The max. amount of times a reply is processed before being dead lettered.
+     * @param backoff          The time (in milliseconds) to wait before processing a reply that failed once.
+     * @param maxBackoff       The max. time (in milliseconds) to wait before processing a failed reply again.
+     * @param registryProvider An {@link ObjectProvider} of the {@link MeterRegistry} in which metrics are registered.
+     * @throws IllegalArgumentException If any of the values is not valid.
+     */
+    public FailedRepliesRouter(
+            final KafkaTemplate<Object, Object> kafkaTemplate,
+            @Value("${executor-service.command-messages.request-execution.reply-channel}") final String replyTopic,
+            @Value("${executor-service.command-messages.request-execution.reply-retry-channel}")
+            final String retryTopic,
+            @Value("${executor-service.command-messages.request-execution.reply-dead-letter-channel}")
+            final String deadLetterTopic,
+            @Value("${executor-service.replies-consumer.retry.max-attempts:4}") final int maxAttempts,
+            @Value("${executor-service.replies-consumer.retry.backoff:5000}") final long backoff,
+            @Value("${executor-service.replies-consumer.retry.max-backoff:60000}") final long maxBackoff,
+            final ObjectProvider<MeterRegistry> registryProvider) throws IllegalArgumentException {
+        Assert.isTrue(maxAttempts > 0, "The max. amount of attempts must be positive");
+        Assert.isTrue(backoff >= 0, "The backoff must not be negative");
+        Assert.isTrue(maxBackoff >= backoff, "The max. backoff must not be smaller than the backoff");
+        this.kafkaTemplate = kafkaTemplate;
+        this.replyTopic = replyTopic;
+        this.retryTopic = retryTopic;
+        this.deadLetterTopic = deadLetterTopic;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        final var registry = registryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.retriedCounter = routedRepliesCounter(registry, "retry");
+        this.deadLetteredCounter = routedRepliesCounter(registry, "dead-letter");
+        this.replayedCounter = routedRepliesCounter(registry, "replay");
+    }
+
+
+    /**
+     * Routes the given {@code message}, which failed to be processed the given amount of {@code attempts},
+     * to the retry topic, or to the dead letter topic if it reached the max. amount of attempts.
+     *
+     * @param message  The {@link Message} that could not be processed.
+     * @param attempts The amount of times the {@code message} was processed.
+     * @param cause    The {@link Exception} that caused the last failure.
+     * @throws KafkaException If the {@code message} could not be sent.
+     */
+    public void failed(final Message message, final int attempts, final Exception cause) throws KafkaException {
+        if (attempts >= maxAttempts) {
+            LOGGER.error("Reply {} failed {} times. Dead lettering it", message, attempts, cause);
+            send(deadLetterTopic, message, attempts, null, describe(cause));
+            deadLetteredCounter.increment();
+            return;
+        }
+        LOGGER.warn("Reply {} failed (attempt {}). Sending it to retry", message, attempts, cause);
+        final var delay = Math.min(maxBackoff, backoff * (1L << Math.min(attempts - 1, 20)));
+        send(retryTopic, message, attempts, Instant.now().plusMillis(delay), describe(cause));
+        retriedCounter.increment();
+    }
+
+    /**
+     * Sends the given {@code message}, which was rejected (i.e retrying it is pointless),
+     * to the dead letter topic right away.
+     *
+     * @param message The {@link Message} that was rejected.
+     * @param reason  The reason why the {@code message} was rejected.
+     * @throws KafkaException If the {@code message} could not be sent.
+     */
+    public void rejected(final Message message, final String reason) throws KafkaException {
+        LOGGER.warn("Reply {} was rejected ({}). Dead lettering it", message, reason);
+        send(deadLetterTopic, message, 1, null, reason);
+        deadLetteredCounter.increment();
+    }
+
+    /**
+     * Sends the given dead lettered {@code message} to the reply topic, in order to be processed again
+     * (with its attempts reset).
+     *
+     * @param message The {@link Message} to be replayed.
+     * @throws KafkaException If the {@code message} could not be sent.
+     */
+    public void replay(final Message message) throws KafkaException {
+        LOGGER.info("Replaying reply {}", message);
+        send(record(replyTopic, message));
+        replayedCounter.increment();
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Retrieves the value of the header with the given {@code key} in the given {@code record}.
+     *
+     * @param record The {@link ConsumerRecord} from where the header is taken.
+     * @param key    The header's key.
+     * @return An {@link Optional} containing the header's value if present, or empty otherwise.
+     */
+    /* package */ static Optional<String> recordHeader(final ConsumerRecord<?, ?> record, final String key) {
+        return Optional.ofNullable(record.headers().lastHeader(key))
+                .map(header -> new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends the given {@code message} to the given {@code topic},
+     * including the failure data in the record's headers.
+     *
+     * @param topic    The topic to which the {@code message} is sent.
+     * @param message  The {@link Message} to be sent.
+     * @param attempts The amount of times the {@code message} was processed.
+     * @param retryAt  The moment before which the {@code message} must not be processed again
+     *                 (or {@code null} if it must not be retried).
+     * @param cause    A description of the last failure.
+     * @throws KafkaException If the {@code message} could not be sent.
+     */
+    private void send(
+            final String topic,
+            final Message message,
+            final int attempts,
+            final Instant retryAt,
+            final String cause) throws KafkaException {
+        final var record = record(topic, message);
+        addHeader(record, ResponseIdDataHeaders.ATTEMPTS_RECORD_HEADER, Integer.toString(attempts));
+        addHeader(record, ResponseIdDataHeaders.CAUSE_RECORD_HEADER, cause);
+        if (retryAt != null) {
+            addHeader(record, ResponseIdDataHeaders.RETRY_AT_RECORD_HEADER, Long.toString(retryAt.toEpochMilli()));
+        }
+        send(record);
+    }
+
+    /**
+     * Sends the given {@code record}, waiting until it is acknowledged
+     * (so the failed reply is not lost if the consumer's offsets are committed).
+     *
+     * @param record The {@link ProducerRecord} to be sent.
+     * @throws KafkaException If the {@code record} could not be sent.
+     */
+    private void send(final ProducerRecord<Object, Object> record) throws KafkaException {
+        try {
+            kafkaTemplate.send(record).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while sending a reply to " + record.topic(), e);
+        } catch (final ExecutionException e) {
+            throw new KafkaException("Could not send a reply to " + record.topic(), e.getCause());
+        }
+    }
+
+    /**
+     * Creates a {@link ProducerRecord} holding the given {@code message}, to be sent to the given {@code topic},
+     * keyed with the message's {@link ResponseIdDataHeaders#SOLUTION_ID_HEADER} header (if present),
+     * so the replies of an {@link ar.edu.itba.cep.evaluations_service.models.ExerciseSolution} are kept
+     * in the same partition (and processed by the same consumer) after being routed.
+     *
+     * @param topic   The topic to which the {@code message} is sent.
+     * @param message The {@link Message} to be sent.
+     * @return The created {@link ProducerRecord}.
+     */
+    private static ProducerRecord<Object, Object> record(final String topic, final Message message) {
+        final var key = message.headerValue(ResponseIdDataHeaders.SOLUTION_ID_HEADER).orElse(null);
+        return new ProducerRecord<>(topic, key, message);
+    }
+
+    /**
+     * Describes the given {@code cause}, in order to be included in the routed records.
+     *
+     * @param cause The {@link Exception} to be described.
+     * @return The description.
+     */
+    private static String describe(final Exception cause) {
+        return cause.getClass().getName() + ": " + cause.getMessage();
+    }
+
+    /**
+     * Adds a header to the given {@code record}.
+     *
+     * @param record The {@link ProducerRecord} to which the header is added.
+     * @param key    The header's key.
+     * @param value  The header's value.
+     */
+    private static void addHeader(final ProducerRecord<?, ?> record, final String key, final String value) {
+        record.headers().add(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Registers a {@link Counter} of routed replies for the given {@code destination}.
+     *
+     * @param registry    The {@link MeterRegistry} in which the {@link Counter} is registered.
+     * @param destination The destination of the replies counted by the {@link Counter}.
+     * @return The registered {@link Counter}.
+     */
+    private static Counter routedRepliesCounter(final MeterRegistry registry, final String destination) {
+        return Counter.builder(ROUTED_REPLIES_METRIC)
+                .description("Replies of the executor service that could not be processed, by destination")
+                .tag("destination", destination)
+                .register(registry);
+    }
+}
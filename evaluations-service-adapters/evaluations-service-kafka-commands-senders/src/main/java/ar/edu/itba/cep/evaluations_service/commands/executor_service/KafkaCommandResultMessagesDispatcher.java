@@ -1,37 +1,194 @@
 package ar.edu.itba.cep.evaluations_service.commands.executor_service;
 
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.config.ExecutorServiceProxyKafkaCommandsSendersConfig;
 import ar.edu.itba.cep.executor.client.ExecutionResponseDispatcher;
+import ar.edu.itba.cep.executor.client.ExecutionResponseIdDataFactory;
 import com.bellotapps.the_messenger.commons.Message;
 import com.bellotapps.the_messenger.consumer.MessageHandler;
-import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Kafka command reply messages dispatcher.
+ * Messages are received in batches, and all the replies in a batch are processed together
+ * (see {@link ExecutionResponsesBatcher}).
+ * If processing a batch conflicts with a concurrent update of the affected results
+ * (i.e an {@link OptimisticLockingFailureException} is thrown), the whole batch is processed again.
+ * If the batch still can not be processed, its replies are processed one by one,
+ * so a single failing reply does not drag the rest of the batch into the retry topic.
+ * Replies that can not be processed are handed to the {@link FailedRepliesRouter},
+ * so they are retried one by one (and eventually dead-lettered) without blocking the rest of the topic.
+ * Replies rejected by the batch (i.e those referring to a solution or test case that does not exist)
+ * are dead-lettered right away, as retrying them is pointless.
  */
 @Component
-@AllArgsConstructor
 public class KafkaCommandResultMessagesDispatcher {
 
+    /**
+     * The {@link Logger}.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaCommandResultMessagesDispatcher.class);
+
     /**
      * The {@link MessageHandler} in charge of dispatching actions based on received messages.
      */
     private final ExecutionResponseDispatcher<SolutionAndTestCaseIds> messageDispatcher;
+    /**
+     * The {@link ExecutionResponsesBatcher} in charge of processing the dispatched replies together.
+     */
+    private final ExecutionResponsesBatcher executionResponsesBatcher;
+    /**
+     * The {@link ExecutionResponseIdDataFactory} used to match the dispatched messages with the rejected replies.
+     */
+    private final ExecutionResponseIdDataFactory<SolutionAndTestCaseIds> idDataFactory;
+    /**
+     * The {@link FailedRepliesRouter} in charge of routing the replies that can not be processed.
+     */
+    private final FailedRepliesRouter failedRepliesRouter;
+    /**
+     * The max. amount of times a batch is processed when it conflicts with concurrent updates.
+     */
+    private final int maxAttempts;
+
+
+    /**
+     * Constructor.
+     *
+     * @param messageDispatcher         The {@link MessageHandler} in charge of dispatching actions
+     *                                  based on received messages.
+     * @param executionResponsesBatcher The {@link ExecutionResponsesBatcher} in charge of processing
+     *                                  the dispatched replies together.
+     * @param idDataFactory             The {@link ExecutionResponseIdDataFactory} used to match
+     *                                  the dispatched messages with the rejected replies.
+     * @param failedRepliesRouter       The {@link FailedRepliesRouter} in charge of routing the replies
+     *                                  that can not be processed.
+     * @param maxAttempts               The max. amount of times a batch is processed
+     *                                  when it conflicts with concurrent updates.
+     * @throws IllegalArgumentException If the {@code maxAttempts} is not positive.
+     */
+    public KafkaCommandResultMessagesDispatcher(
+            final ExecutionResponseDispatcher<SolutionAndTestCaseIds> messageDispatcher,
+            final ExecutionResponsesBatcher executionResponsesBatcher,
+            final ExecutionResponseIdDataFactory<SolutionAndTestCaseIds> idDataFactory,
+            final FailedRepliesRouter failedRepliesRouter,
+            @Value("${executor-service.replies-consumer.max-attempts:3}") final int maxAttempts)
+            throws IllegalArgumentException {
+        Assert.isTrue(maxAttempts > 0, "The max. amount of attempts must be positive");
+        this.messageDispatcher = messageDispatcher;
+        this.executionResponsesBatcher = executionResponsesBatcher;
+        this.idDataFactory = idDataFactory;
+        this.failedRepliesRouter = failedRepliesRouter;
+        this.maxAttempts = maxAttempts;
+    }
 
 
     /**
-     * Receives a {@link Message}s and delegates it handling to the {@code messageHandler}.
+     * Receives a batch of {@link Message}s and delegates their handling to the {@code messageHandler},
+     * within a single {@link ExecutionResponsesBatcher} batch.
+     * A message that can not be dispatched (e.g it is malformed) is sent to retry,
+     * so it does not prevent the rest of the batch from being processed.
+     * If the batch as a whole can not be processed, its messages are processed one by one
+     * (see {@link #dispatchOneByOne(List)}), so only the failing ones are sent to retry.
      *
-     * @param message The received {@link Message}.
+     * @param messages The received {@link Message}s.
      */
     @KafkaListener(
             topics = {
                     "${executor-service.command-messages.request-execution.reply-channel}",
             },
+            containerFactory = ExecutorServiceProxyKafkaCommandsSendersConfig.REPLIES_CONTAINER_FACTORY,
             autoStartup = "true"
     )
-    public void dispatch(final Message message) {
-        this.messageDispatcher.dispatch(message);
+    public void dispatch(final List<Message> messages) {
+        for (int attempt = 1; ; attempt++) {
+            final var failures = new LinkedHashMap<Message, RuntimeException>();
+            try {
+                final var rejected = executionResponsesBatcher
+                        .inBatch(() -> messages.forEach(message -> dispatch(message, failures)));
+                failures.forEach((message, cause) -> failedRepliesRouter.failed(message, 1, cause));
+                routeRejected(messages, failures, rejected);
+                return;
+            } catch (final OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    LOGGER.warn("Could not process a batch of {} replies after {} attempts. Processing them one by one",
+                            messages.size(), attempt);
+                    dispatchOneByOne(messages);
+                    return;
+                }
+                LOGGER.debug("Batch of replies conflicted with a concurrent update. Retrying", e);
+            } catch (final RuntimeException e) {
+                LOGGER.warn("Could not process a batch of {} replies. Processing them one by one", messages.size(), e);
+                dispatchOneByOne(messages);
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Processes each of the given {@code messages} in its own {@link ExecutionResponsesBatcher} batch,
+     * sending to retry only those that can not be processed.
+     *
+     * @param messages The {@link Message}s to be processed.
+     */
+    private void dispatchOneByOne(final List<Message> messages) {
+        for (final var message : messages) {
+            final var failures = new LinkedHashMap<Message, RuntimeException>();
+            try {
+                final var rejected = executionResponsesBatcher.inBatch(() -> dispatch(message, failures));
+                routeRejected(List.of(message), failures, rejected);
+            } catch (final RuntimeException e) {
+                LOGGER.error("Could not process reply message {}", message, e);
+                failures.put(message, e);
+            }
+            failures.forEach((failed, cause) -> failedRepliesRouter.failed(failed, 1, cause));
+        }
+    }
+
+    /**
+     * Dead-letters those of the given {@code messages} that were rejected by the batch in which they were processed.
+     *
+     * @param messages The processed {@link Message}s.
+     * @param failures The {@link Message}s that could not be dispatched (already routed, and thus skipped).
+     * @param rejected The {@link SolutionAndTestCaseIds} of the replies rejected by the batch.
+     */
+    private void routeRejected(
+            final List<Message> messages,
+            final Map<Message, RuntimeException> failures,
+            final Set<SolutionAndTestCaseIds> rejected) {
+        if (rejected.isEmpty()) {
+            return;
+        }
+        messages.stream()
+                .filter(message -> !failures.containsKey(message))
+                .filter(message -> rejected.contains(idDataFactory.buildFromMessage(message)))
+                .forEach(message -> failedRepliesRouter
+                        .rejected(message, "The reply refers to a solution or test case that does not exist"));
+    }
+
+    /**
+     * Delegates the handling of the given {@code message} to the {@code messageHandler}.
+     *
+     * @param message  The {@link Message} to be dispatched.
+     * @param failures A {@link Map} in which the {@code message} is stored together with the failure cause
+     *                 if it can not be dispatched.
+     */
+    private void dispatch(final Message message, final Map<Message, RuntimeException> failures) {
+        try {
+            this.messageDispatcher.dispatch(message);
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Could not dispatch reply message {}. Sending it to retry", message, e);
+            failures.put(message, e);
+        }
     }
 }
@@ -0,0 +1,200 @@
+package ar.edu.itba.cep.evaluations_service.commands.executor_service;
+
+import ar.edu.itba.cep.evaluations_service.models.DeadLetteredReply;
+import com.bellotapps.the_messenger.commons.Message;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * An {@link ExecutionRepliesDeadLetterQueue} backed by the dead letter topic to which the {@link FailedRepliesRouter}
+ * sends the replies that could not be processed.
+ * The topic is read with short-lived consumers that are assigned its partitions (i.e they do not join the group,
+ * nor commit offsets), so inspecting it does not affect the regular consumers.
+ * The id of a {@link DeadLetteredReply} is its partition and offset in the topic (i.e {@code partition-offset}).
+ */
+@Component
+public class KafkaExecutionRepliesDeadLetterQueue implements ExecutionRepliesDeadLetterQueue {
+
+    /**
+     * The max. time to wait for records in each poll.
+     */
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    /**
+     * The {@link ConsumerFactory} used to create the consumers that read the dead letter topic.
+     */
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    /**
+     * The {@link FailedRepliesRouter} used to replay the replies.
+     */
+    private final FailedRepliesRouter failedRepliesRouter;
+    /**
+     * The dead letter topic.
+     */
+    private final String deadLetterTopic;
+
+
+    /**
+     * Constructor.
+     *
+     * @param consumerFactory     The {@link ConsumerFactory} used to create the consumers
+     *                            that read the dead letter topic.
+     * @param failedRepliesRouter The {@link FailedRepliesRouter} used to replay the replies.
+     * @param deadLetterTopic     The dead letter topic.
+     */
+    public KafkaExecutionRepliesDeadLetterQueue(
+            final ConsumerFactory<Object, Object> consumerFactory,
+            final FailedRepliesRouter failedRepliesRouter,
+            @Value("${executor-service.command-messages.request-execution.reply-dead-letter-channel}")
+            final String deadLetterTopic) {
+        this.consumerFactory = consumerFactory;
+        this.failedRepliesRouter = failedRepliesRouter;
+        this.deadLetterTopic = deadLetterTopic;
+    }
+
+
+    @Override
+    public List<DeadLetteredReply> peek(final int amount) {
+        try (final var consumer = consumerFactory.createConsumer()) {
+            final var partitions = partitionsOf(consumer);
+            if (partitions.isEmpty()) {
+                return Collections.emptyList();
+            }
+            consumer.assign(partitions);
+            final var beginningOffsets = consumer.beginningOffsets(partitions);
+            final var endOffsets = consumer.endOffsets(partitions);
+            // Only the last "amount" records of each partition can be among the most recent ones.
+            partitions.forEach(partition -> consumer.seek(
+                    partition,
+                    Math.max(beginningOffsets.get(partition), endOffsets.get(partition) - amount)
+            ));
+            final var replies = new LinkedList<DeadLetteredReply>();
+            while (!reachedEnd(consumer, endOffsets)) {
+                final var records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+                records.forEach(record -> replies.add(toDeadLetteredReply(record)));
+            }
+            return replies.stream()
+                    .sorted(Comparator.comparing(DeadLetteredReply::getDeadLetteredAt).reversed())
+                    .limit(amount)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public boolean replay(final String id) {
+        final var location = id.split("-");
+        if (location.length != 2) {
+            return false;
+        }
+        final TopicPartition partition;
+        final long offset;
+        try {
+            partition = new TopicPartition(deadLetterTopic, Integer.parseInt(location[0]));
+            offset = Long.parseLong(location[1]);
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+        try (final var consumer = consumerFactory.createConsumer()) {
+            if (!partitionsOf(consumer).contains(partition)) {
+                return false;
+            }
+            final var partitions = List.of(partition);
+            consumer.assign(partitions);
+            final var beginningOffset = consumer.beginningOffsets(partitions).get(partition);
+            final var endOffset = consumer.endOffsets(partitions).get(partition);
+            if (offset < beginningOffset || offset >= endOffset) {
+                return false;
+            }
+            consumer.seek(partition, offset);
+            // The record should be the first one returned by the poll.
+            for (final var record : consumer.poll(POLL_TIMEOUT)) {
+                if (record.offset() == offset && record.value() instanceof Message) {
+                    failedRepliesRouter.replay((Message) record.value());
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Retrieves the partitions of the dead letter topic.
+     *
+     * @param consumer The {@link Consumer} used to retrieve the partitions.
+     * @return A {@link List} containing the dead letter topic's partitions.
+     */
+    private List<TopicPartition> partitionsOf(final Consumer<?, ?> consumer) {
+        return Optional.ofNullable(consumer.partitionsFor(deadLetterTopic))
+                .orElse(Collections.emptyList())
+                .stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Indicates whether the given {@code consumer} has reached the given {@code endOffsets}
+     * in all of its assigned partitions.
+     *
+     * @param consumer   The {@link Consumer}.
+     * @param endOffsets The end offsets, by partition.
+     * @return {@code true} if the end has been reached, or {@code false} otherwise.
+     */
+    private static boolean reachedEnd(final Consumer<?, ?> consumer, final Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream()
+                .allMatch(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+    }
+
+    /**
+     * Builds a {@link DeadLetteredReply} from the given {@code record}.
+     *
+     * @param record The {@link ConsumerRecord} of the dead letter topic.
+     * @return The built {@link DeadLetteredReply}.
+     */
+    private static DeadLetteredReply toDeadLetteredReply(final ConsumerRecord<?, ?> record) {
+        final var message = Optional.ofNullable(record.value())
+                .filter(Message.class::isInstance)
+                .map(Message.class::cast);
+        return DeadLetteredReply.create(
+                record.partition() + "-" + record.offset(),
+                message.flatMap(m -> longHeader(m, ResponseIdDataHeaders.SOLUTION_ID_HEADER)).orElse(null),
+                message.flatMap(m -> longHeader(m, ResponseIdDataHeaders.TEST_CASE_ID_HEADER)).orElse(null),
+                FailedRepliesRouter.recordHeader(record, ResponseIdDataHeaders.ATTEMPTS_RECORD_HEADER)
+                        .map(Integer::parseInt)
+                        .orElse(0),
+                Instant.ofEpochMilli(record.timestamp()),
+                FailedRepliesRouter.recordHeader(record, ResponseIdDataHeaders.CAUSE_RECORD_HEADER).orElse(null)
+        );
+    }
+
+    /**
+     * Retrieves the value of the given {@code message}'s header with the given {@code key}, as a {@link Long}.
+     *
+     * @param message The {@link Message}.
+     * @param key     The header's key.
+     * @return An {@link Optional} containing the header's value if present and valid, or empty otherwise.
+     */
+    private static Optional<Long> longHeader(final Message message, final String key) {
+        try {
+            return message.headerValue(key).map(Long::parseLong);
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
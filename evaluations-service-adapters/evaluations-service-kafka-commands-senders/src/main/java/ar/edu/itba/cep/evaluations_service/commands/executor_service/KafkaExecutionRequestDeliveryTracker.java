@@ -0,0 +1,116 @@
+package ar.edu.itba.cep.evaluations_service.commands.executor_service;
+
+import com.bellotapps.the_messenger.commons.Message;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.support.ProducerListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link ExecutionRequestDeliveryTracker} that learns the outcome of the sends through the callbacks
+ * of the {@code KafkaTemplate} (i.e it is the {@link ProducerListener} of the template).
+ * Records are matched with the tracked requests by the id data headers of the {@link Message}s they hold
+ * (i.e the solution id, the test case id, and the dispatching moment).
+ * The acknowledgment of a record is reported when the broker accepts it (or the send fails),
+ * so sends are not blocked waiting for it.
+ *
+ * @implNote Being a {@link ProducerListener} bean, it replaces the one that just logs the outcome of the sends.
+ * Failures of untracked records are still logged.
+ */
+@Component
+public class KafkaExecutionRequestDeliveryTracker
+        implements ExecutionRequestDeliveryTracker, ProducerListener<Object, Object> {
+
+    /**
+     * The {@link Logger}.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaExecutionRequestDeliveryTracker.class);
+
+    /**
+     * The deliveries being tracked, by key (see {@link #key(String, String, String)}).
+     */
+    private final Map<String, CompletableFuture<Void>> deliveries;
+
+
+    /**
+     * Constructor.
+     */
+    public KafkaExecutionRequestDeliveryTracker() {
+        this.deliveries = new ConcurrentHashMap<>();
+    }
+
+
+    @Override
+    public CompletableFuture<Void> track(final SolutionAndTestCaseIds ids) {
+        final var key = key(
+                Long.toString(ids.getSolutionId()),
+                Long.toString(ids.getTestCaseId()),
+                Optional.ofNullable(ids.getDispatchedAt()).map(i -> Long.toString(i.toEpochMilli())).orElse(null)
+        );
+        final var delivery = new CompletableFuture<Void>();
+        deliveries.put(key, delivery);
+        delivery.whenComplete((ignoredResult, ignoredException) -> deliveries.remove(key, delivery));
+        return delivery;
+    }
+
+    @Override
+    public void onSuccess(final ProducerRecord<Object, Object> record, final RecordMetadata recordMetadata) {
+        delivery(record).ifPresent(delivery -> delivery.complete(null));
+    }
+
+    @Override
+    public void onError(final ProducerRecord<Object, Object> record, final Exception exception) {
+        LOGGER.error("Could not send record to topic {}", record.topic(), exception);
+        delivery(record).ifPresent(delivery -> delivery.completeExceptionally(exception));
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Retrieves the tracked delivery corresponding to the given {@code record}.
+     *
+     * @param record The {@link ProducerRecord}.
+     * @return An {@link Optional} containing the delivery if the record is being tracked, or empty otherwise.
+     */
+    private Optional<CompletableFuture<Void>> delivery(final ProducerRecord<Object, Object> record) {
+        if (deliveries.isEmpty() || !(record.value() instanceof Message)) {
+            return Optional.empty();
+        }
+        final var message = (Message) record.value();
+        return message.headerValue(ResponseIdDataHeaders.SOLUTION_ID_HEADER)
+                .flatMap(solutionId -> message.headerValue(ResponseIdDataHeaders.TEST_CASE_ID_HEADER)
+                        .map(testCaseId -> key(
+                                solutionId,
+                                testCaseId,
+                                message.headerValue(ResponseIdDataHeaders.DISPATCHED_AT_HEADER).orElse(null)
+                        ))
+                )
+                .map(deliveries::get);
+    }
+
+    /**
+     * Builds the key of a delivery.
+     *
+     * @param solutionId   The solution id (as in the message headers).
+     * @param testCaseId   The test case id (as in the message headers).
+     * @param dispatchedAt The dispatching moment, as epoch milliseconds (as in the message headers),
+     *                     or {@code null} if not present.
+     * @return The key.
+     * @implNote Including the dispatching moment avoids matching records of previous dispatches of the same
+     * execution (e.g their replies being sent to retry). Replies of the tracked dispatch can not be matched,
+     * as they are produced once the request is delivered (i.e when it is not tracked anymore).
+     */
+    private static String key(final String solutionId, final String testCaseId, final String dispatchedAt) {
+        return solutionId + ":" + testCaseId + ":" + dispatchedAt;
+    }
+}
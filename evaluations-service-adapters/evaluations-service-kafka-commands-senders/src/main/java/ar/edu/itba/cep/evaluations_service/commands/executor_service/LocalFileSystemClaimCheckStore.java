@@ -0,0 +1,229 @@
+package ar.edu.itba.cep.evaluations_service.commands.executor_service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link ClaimCheckStore} that keeps the payloads as files in a local (or mounted) directory.
+ * Each payload is stored in a file named after its SHA-256 digest, within a subdirectory named after
+ * the digest's first two chars (to avoid huge directories). The reference of a payload is {@code sha-256:<digest>}.
+ * Files are written to a temporary file and then atomically moved, so a payload is never read partially written,
+ * even if several instances of the service store it at the same time.
+ * <p>
+ * Payloads are kept for a retention period since they were last stored (storing an already stored payload
+ * refreshes its modification time), and are periodically purged once it elapses.
+ * The retention must be longer than the time an execution request can take to be executed
+ * (including its retries, which store the payloads again), as a purged payload can not be retrieved.
+ */
+@Component
+public class LocalFileSystemClaimCheckStore implements ClaimCheckStore {
+
+    /**
+     * The {@link Logger}.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalFileSystemClaimCheckStore.class);
+
+    /**
+     * The algorithm used to compute the digests.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    /**
+     * The prefix of the references (i.e the algorithm used to compute the digest).
+     */
+    private static final String REFERENCE_PREFIX = "sha-256:";
+    /**
+     * The {@link Pattern} of a valid digest (which guarantees references can not point outside the directory).
+     */
+    private static final Pattern DIGEST_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    /**
+     * The directory in which payloads are stored.
+     */
+    private final Path directory;
+    /**
+     * The time (in milliseconds) a payload is kept since it was last stored.
+     */
+    private final long retention;
+
+
+    /**
+     * Constructor.
+     *
+     * @param directory The directory in which payloads are stored.
+     * @param retention The time (in milliseconds) a payload is kept since it was last stored.
+     * @throws IllegalArgumentException If the {@code retention} is not positive.
+     */
+    public LocalFileSystemClaimCheckStore(
+            @Value("${executor-service.claim-check.directory:${java.io.tmpdir}/evaluations-service/claim-checks}")
+            final String directory,
+            @Value("${executor-service.claim-check.retention:86400000}") final long retention)
+            throws IllegalArgumentException {
+        Assert.isTrue(retention > 0, "The retention must be positive");
+        this.directory = Paths.get(directory);
+        this.retention = retention;
+    }
+
+
+    @Override
+    public String store(final byte[] content) throws UncheckedIOException {
+        final var digest = digest(content);
+        final var path = pathOf(digest);
+        try {
+            if (refresh(path)) {
+                return REFERENCE_PREFIX + digest;
+            }
+            Files.createDirectories(path.getParent());
+            final var temporary = Files.createTempFile(path.getParent(), digest, ".tmp");
+            try {
+                Files.write(temporary, content);
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final FileAlreadyExistsException ignored) {
+                // Stored by someone else in the meantime (i.e it has the same content).
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not store a claim-check payload", e);
+        }
+        return REFERENCE_PREFIX + digest;
+    }
+
+    @Override
+    public Optional<byte[]> retrieve(final String reference) throws UncheckedIOException {
+        if (reference == null || !reference.startsWith(REFERENCE_PREFIX)) {
+            return Optional.empty();
+        }
+        final var digest = reference.substring(REFERENCE_PREFIX.length());
+        if (!DIGEST_PATTERN.matcher(digest).matches()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readAllBytes(pathOf(digest)));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not retrieve a claim-check payload", e);
+        }
+    }
+
+
+    /**
+     * Deletes the payloads (and leftover temporary files) that were last stored before the retention period.
+     */
+    @Scheduled(
+            initialDelayString = "${executor-service.claim-check.cleanup-delay:3600000}",
+            fixedDelayString = "${executor-service.claim-check.cleanup-delay:3600000}"
+    )
+    public void purgeExpired() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        final var threshold = FileTime.from(Instant.now().minusMillis(retention));
+        try (final var files = Files.walk(directory, 2)) {
+            final var purged = files
+                    .filter(Files::isRegularFile)
+                    .filter(file -> isExpired(file, threshold))
+                    .filter(LocalFileSystemClaimCheckStore::delete)
+                    .count();
+            LOGGER.debug("Purged {} expired claim-check payloads", purged);
+        } catch (final IOException | UncheckedIOException e) {
+            LOGGER.warn("Could not purge the expired claim-check payloads", e);
+        }
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Refreshes the modification time of the payload file with the given {@code path}, if it exists,
+     * so it is kept for another retention period.
+     *
+     * @param path The {@link Path} of the payload file.
+     * @return {@code true} if the payload exists, or {@code false} otherwise.
+     * @throws IOException If the modification time can not be changed.
+     */
+    private static boolean refresh(final Path path) throws IOException {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            return true;
+        } catch (final NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Indicates whether the given {@code file} was last modified before the given {@code threshold}.
+     *
+     * @param file      The file to be checked.
+     * @param threshold The threshold.
+     * @return {@code true} if it is expired, or {@code false} otherwise (including when it was already deleted).
+     */
+    private static boolean isExpired(final Path file, final FileTime threshold) {
+        try {
+            return Files.getLastModifiedTime(file).compareTo(threshold) < 0;
+        } catch (final NoSuchFileException e) {
+            return false;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes the given {@code file}.
+     *
+     * @param file The file to be deleted.
+     * @return {@code true} if it was deleted by this call, or {@code false} otherwise.
+     */
+    private static boolean delete(final Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Builds the {@link Path} of the file holding the payload with the given {@code digest}.
+     *
+     * @param digest The payload's digest.
+     * @return The {@link Path}.
+     */
+    private Path pathOf(final String digest) {
+        return directory.resolve(digest.substring(0, 2)).resolve(digest);
+    }
+
+    /**
+     * Computes the digest of the given {@code content}.
+     *
+     * @param content The content.
+     * @return The digest, as an hexadecimal {@link String}.
+     */
+    private static String digest(final byte[] content) {
+        try {
+            final var hash = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content);
+            final var builder = new StringBuilder(hash.length * 2);
+            for (final var b : hash) {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Every Java platform must support " + DIGEST_ALGORITHM, e);
+        }
+    }
+}
@@ -21,4 +21,28 @@ package ar.edu.itba.cep.evaluations_service.commands.executor_service;
      * {@link ar.edu.itba.cep.evaluations_service.models.ExerciseSolution}.
      */
     /* package */ static final String TEST_CASE_ID_HEADER = "TestCase-Id";
+    /**
+     * The Dispatched At header key. Holds the moment at which an execution was requested (as epoch milliseconds),
+     * which allows detecting duplicated or stale {@link ar.edu.itba.cep.executor.models.ExecutionResponse}s.
+     */
+    /* package */ static final String DISPATCHED_AT_HEADER = "Dispatched-At";
+
+
+    // ================================================================================================================
+    // Failed replies record headers
+    // ================================================================================================================
+
+    /**
+     * The Kafka record header holding the amount of times a reply sent to retry (or dead lettered) was processed.
+     */
+    /* package */ static final String ATTEMPTS_RECORD_HEADER = "Reply-Attempts";
+    /**
+     * The Kafka record header holding the moment (as epoch milliseconds) before which a reply sent to retry
+     * must not be processed again.
+     */
+    /* package */ static final String RETRY_AT_RECORD_HEADER = "Reply-Retry-At";
+    /**
+     * The Kafka record header holding a description of the last failure of a reply sent to retry (or dead lettered).
+     */
+    /* package */ static final String CAUSE_RECORD_HEADER = "Reply-Failure-Cause";
 }
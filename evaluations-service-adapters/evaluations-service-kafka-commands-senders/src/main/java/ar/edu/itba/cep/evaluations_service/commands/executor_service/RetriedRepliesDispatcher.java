@@ -0,0 +1,81 @@
+package ar.edu.itba.cep.evaluations_service.commands.executor_service;
+
+import ar.edu.itba.cep.executor.client.ExecutionResponseDispatcher;
+import com.bellotapps.the_messenger.commons.Message;
+import lombok.AllArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka dispatcher of the replies that were sent to retry (see {@link FailedRepliesRouter}).
+ * Replies are processed one at a time (i.e each of them in its own transaction),
+ * once their backoff has elapsed. Those failing again are routed back by the {@link FailedRepliesRouter}.
+ */
+@Component
+@AllArgsConstructor
+public class RetriedRepliesDispatcher {
+
+    /**
+     * The {@link Logger}.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetriedRepliesDispatcher.class);
+
+    /**
+     * The {@link ExecutionResponseDispatcher} in charge of dispatching actions based on received messages.
+     */
+    private final ExecutionResponseDispatcher<SolutionAndTestCaseIds> messageDispatcher;
+    /**
+     * The {@link FailedRepliesRouter} in charge of routing the replies that fail again.
+     */
+    private final FailedRepliesRouter failedRepliesRouter;
+
+
+    /**
+     * Receives a reply sent to retry, and dispatches it once its backoff has elapsed.
+     *
+     * @param record The received {@link ConsumerRecord}, holding the reply's {@link Message}.
+     * @implNote Waiting only blocks the retry topic's consumer (i.e not the one consuming fresh replies).
+     * As all the replies in the retry topic have similar backoffs, the wait is bounded by the max. backoff.
+     */
+    @KafkaListener(
+            topics = {
+                    "${executor-service.command-messages.request-execution.reply-retry-channel}",
+            },
+            autoStartup = "true"
+    )
+    public void dispatch(final ConsumerRecord<String, Message> record) {
+        final var message = record.value();
+        final var attempts = FailedRepliesRouter.recordHeader(record, ResponseIdDataHeaders.ATTEMPTS_RECORD_HEADER)
+                .map(Integer::parseInt)
+                .orElse(1);
+        FailedRepliesRouter.recordHeader(record, ResponseIdDataHeaders.RETRY_AT_RECORD_HEADER)
+                .map(Long::parseLong)
+                .ifPresent(RetriedRepliesDispatcher::waitUntil);
+        try {
+            messageDispatcher.dispatch(message);
+        } catch (final RuntimeException e) {
+            failedRepliesRouter.failed(message, attempts + 1, e);
+        }
+    }
+
+    /**
+     * Blocks the current thread until the given moment.
+     *
+     * @param epochMillis The moment (as epoch milliseconds) until which the current thread is blocked.
+     */
+    private static void waitUntil(final long epochMillis) {
+        final var wait = epochMillis - System.currentTimeMillis();
+        if (wait <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(wait);
+        } catch (final InterruptedException e) {
+            LOGGER.debug("Interrupted while waiting to retry a reply. Retrying it right away");
+            Thread.currentThread().interrupt();
+        }
+    }
+}
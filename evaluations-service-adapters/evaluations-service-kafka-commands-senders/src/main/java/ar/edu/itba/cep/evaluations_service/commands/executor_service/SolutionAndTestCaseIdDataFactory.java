@@ -4,11 +4,14 @@ import ar.edu.itba.cep.executor.client.ExecutionResponseIdDataFactory;
 import com.bellotapps.the_messenger.commons.Message;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+
 /**
  * An {@link ExecutionResponseIdDataFactory} that builds a {@link SolutionAndTestCaseIds} instance from
  * a {@link Message}, taking data from its headers
  * (i.e checks for the {@link ResponseIdDataHeaders#SOLUTION_ID_HEADER} and
- * {@link ResponseIdDataHeaders#TEST_CASE_ID_HEADER} headers).
+ * {@link ResponseIdDataHeaders#TEST_CASE_ID_HEADER} headers,
+ * and for the optional {@link ResponseIdDataHeaders#DISPATCHED_AT_HEADER} header).
  */
 @Component
 public class SolutionAndTestCaseIdDataFactory implements ExecutionResponseIdDataFactory<SolutionAndTestCaseIds> {
@@ -21,7 +24,11 @@ public class SolutionAndTestCaseIdDataFactory implements ExecutionResponseIdData
         final var solutionId = message.headerValue(ResponseIdDataHeaders.SOLUTION_ID_HEADER)
                 .map(Long::parseLong)
                 .orElseThrow(() -> new IllegalArgumentException("Missing solution id")); // TODO: throw?
+        final var dispatchedAt = message.headerValue(ResponseIdDataHeaders.DISPATCHED_AT_HEADER)
+                .map(Long::parseLong)
+                .map(Instant::ofEpochMilli)
+                .orElse(null);
 
-        return SolutionAndTestCaseIds.create(solutionId, testCaseId);
+        return SolutionAndTestCaseIds.create(solutionId, testCaseId, dispatchedAt);
     }
 }
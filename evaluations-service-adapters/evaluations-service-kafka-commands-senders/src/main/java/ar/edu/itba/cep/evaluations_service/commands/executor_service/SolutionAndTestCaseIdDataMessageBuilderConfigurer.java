@@ -8,6 +8,8 @@ import org.springframework.stereotype.Component;
  * An {@link ExecutionResponseIdDataMessageBuilderConfigurer} that configures the builder in order
  * to set the {@link ResponseIdDataHeaders#SOLUTION_ID_HEADER} and {@link ResponseIdDataHeaders#TEST_CASE_ID_HEADER}
  * headers using data in a {@link SolutionAndTestCaseIds} instance.
+ * If the dispatching moment is known, it is also set in the {@link ResponseIdDataHeaders#DISPATCHED_AT_HEADER} header
+ * (as epoch milliseconds).
  */
 @Component
 public class SolutionAndTestCaseIdDataMessageBuilderConfigurer
@@ -15,8 +17,18 @@ public class SolutionAndTestCaseIdDataMessageBuilderConfigurer
 
     @Override
     public void configureMessageBuilder(final MessageBuilder builder, final SolutionAndTestCaseIds idData) {
-        builder.copyHeaders(ResponseIdDataHeaders.SOLUTION_ID_HEADER, ResponseIdDataHeaders.TEST_CASE_ID_HEADER)
+        builder.copyHeaders(
+                ResponseIdDataHeaders.SOLUTION_ID_HEADER,
+                ResponseIdDataHeaders.TEST_CASE_ID_HEADER,
+                ResponseIdDataHeaders.DISPATCHED_AT_HEADER
+        )
                 .withHeader(ResponseIdDataHeaders.SOLUTION_ID_HEADER, Long.toString(idData.getSolutionId()))
                 .withHeader(ResponseIdDataHeaders.TEST_CASE_ID_HEADER, Long.toString(idData.getTestCaseId()));
+        if (idData.getDispatchedAt() != null) {
+            builder.withHeader(
+                    ResponseIdDataHeaders.DISPATCHED_AT_HEADER,
+                    Long.toString(idData.getDispatchedAt().toEpochMilli())
+            );
+        }
     }
 }
@@ -0,0 +1,53 @@
+package ar.edu.itba.cep.evaluations_service.commands.executor_service;
+
+import com.bellotapps.the_messenger.commons.Message;
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+import java.util.Map;
+
+/**
+ * A {@link ProducerInterceptor} that keys the records holding a {@link Message} with the
+ * {@link ResponseIdDataHeaders#SOLUTION_ID_HEADER} header with the said header's value,
+ * so all the execution requests of an {@link ar.edu.itba.cep.evaluations_service.models.ExerciseSolution}
+ * are sent to the same partition (and their replies, which copy the header, can be kept in order too).
+ * Records that do not match are sent as they are.
+ *
+ * @apiNote This interceptor is instantiated by the Kafka producer
+ * (i.e it must be registered in the {@code interceptor.classes} producer property).
+ */
+public class SolutionIdPartitioningProducerInterceptor implements ProducerInterceptor<Object, Object> {
+
+    @Override
+    public ProducerRecord<Object, Object> onSend(final ProducerRecord<Object, Object> record) {
+        if (!(record.value() instanceof Message)) {
+            return record;
+        }
+        return ((Message) record.value()).headerValue(ResponseIdDataHeaders.SOLUTION_ID_HEADER)
+                .map(solutionId -> new ProducerRecord<Object, Object>(
+                        record.topic(),
+                        record.partition(),
+                        record.timestamp(),
+                        solutionId,
+                        record.value(),
+                        record.headers()
+                ))
+                .orElse(record);
+    }
+
+    @Override
+    public void onAcknowledgement(final RecordMetadata metadata, final Exception exception) {
+        // Nothing to do here
+    }
+
+    @Override
+    public void close() {
+        // Nothing to do here
+    }
+
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        // Nothing to do here
+    }
+}
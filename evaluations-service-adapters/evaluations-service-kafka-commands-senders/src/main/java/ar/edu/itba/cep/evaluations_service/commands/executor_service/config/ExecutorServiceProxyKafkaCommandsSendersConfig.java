@@ -1,8 +1,13 @@
 package ar.edu.itba.cep.evaluations_service.commands.executor_service.config;
 
 import ar.edu.itba.cep.executor.client.EnableExecutorServiceCommandMessages;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 
 /**
  * Configuration class for the executor service proxy for command messages.
@@ -13,4 +18,35 @@ import org.springframework.context.annotation.Configuration;
 })
 @EnableExecutorServiceCommandMessages
 public class ExecutorServiceProxyKafkaCommandsSendersConfig {
+
+    /**
+     * The name of the container factory bean used by the execution replies listener.
+     */
+    public static final String REPLIES_CONTAINER_FACTORY = "executionRepliesContainerFactory";
+
+
+    /**
+     * Creates the container factory used by the execution replies listener,
+     * which delivers the replies in batches (i.e all the records returned by each poll).
+     * Offsets are committed once the whole batch is processed.
+     * Several consumers can run in parallel, each of them being assigned a subset of the topic's partitions.
+     *
+     * @param consumerFactory The {@link ConsumerFactory} used to create the consumers.
+     * @param concurrency     The amount of consumers (i.e threads) to run.
+     * @return The created {@link ConcurrentKafkaListenerContainerFactory}.
+     * @apiNote The size of the batches is bounded by the {@code max.poll.records} property,
+     * and the time to wait for them to be filled by the {@code fetch.min.bytes}
+     * and {@code fetch.max.wait.ms} properties.
+     */
+    @Bean(name = REPLIES_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> executionRepliesContainerFactory(
+            final ConsumerFactory<Object, Object> consumerFactory,
+            @Value("${executor-service.replies-consumer.concurrency:1}") final int concurrency) {
+        final var factory = new ConcurrentKafkaListenerContainerFactory<Object, Object>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        return factory;
+    }
 }
@@ -0,0 +1,70 @@
+package ar.edu.itba.cep.evaluations_service.commands.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.ExtendedDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * A deserializer that reads both JSON and Smile documents, telling them apart by the Smile header.
+ * It accepts the same configuration properties as the {@link JsonDeserializer}.
+ * This allows producers to switch from the JSON format to the Smile one (see {@link SmileSerializer})
+ * without coordinating the change with the consumers, and records of both formats to coexist in a topic.
+ *
+ * @param <T> The concrete type of the values being deserialized.
+ */
+public class FormatDetectingJsonDeserializer<T> implements ExtendedDeserializer<T> {
+
+    /**
+     * The {@link JsonDeserializer} used to read JSON documents.
+     */
+    private final JsonDeserializer<T> jsonDeserializer;
+    /**
+     * The {@link JsonDeserializer} used to read Smile documents.
+     */
+    private final JsonDeserializer<T> smileDeserializer;
+
+
+    /**
+     * Default constructor, used by Kafka when the deserializer is set by its class name.
+     */
+    public FormatDetectingJsonDeserializer() {
+        this.jsonDeserializer = new JsonDeserializer<>();
+        this.smileDeserializer = new JsonDeserializer<>(SmileFormat.objectMapper());
+    }
+
+
+    @Override
+    public void configure(final Map<String, ?> configs, final boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+        smileDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public T deserialize(final String topic, final byte[] data) {
+        return deserializerFor(data).deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(final String topic, final Headers headers, final byte[] data) {
+        return deserializerFor(data).deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+        smileDeserializer.close();
+    }
+
+
+    /**
+     * Selects the {@link JsonDeserializer} that can read the given {@code data}.
+     *
+     * @param data The data to be read.
+     * @return The {@link JsonDeserializer} for the {@code data}'s format.
+     */
+    private JsonDeserializer<T> deserializerFor(final byte[] data) {
+        return SmileFormat.isSmile(data) ? smileDeserializer : jsonDeserializer;
+    }
+}
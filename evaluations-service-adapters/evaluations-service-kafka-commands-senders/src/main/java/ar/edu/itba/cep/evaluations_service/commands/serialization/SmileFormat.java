@@ -0,0 +1,62 @@
+package ar.edu.itba.cep.evaluations_service.commands.serialization;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Helper class with the stuff needed to read and write messages in the Smile format
+ * (i.e the binary counterpart of JSON, which keeps the same data model, so it can be (de)serialized
+ * with the same Jackson mappings).
+ */
+/* package */ final class SmileFormat {
+
+    /**
+     * The header with which Smile documents start (i.e {@code :)\n}).
+     */
+    private static final byte[] HEADER = {0x3A, 0x29, 0x0A};
+
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private SmileFormat() {
+    }
+
+
+    /**
+     * Creates an {@link ObjectMapper} that reads and writes Smile documents,
+     * configured as the ones used by the Spring Kafka JSON (de)serializers.
+     *
+     * @return The created {@link ObjectMapper}.
+     * @implNote Smile documents are always written with the {@link #HEADER},
+     * so they can be told apart from JSON documents (see {@link #isSmile(byte[])}).
+     */
+    /* package */
+    static ObjectMapper objectMapper() {
+        final var objectMapper = new ObjectMapper(new SmileFactory());
+        objectMapper.configure(MapperFeature.DEFAULT_VIEW_INCLUSION, false);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return objectMapper;
+    }
+
+    /**
+     * Indicates whether the given {@code data} is a Smile document.
+     *
+     * @param data The data to be checked.
+     * @return {@code true} if it starts with the Smile header, or {@code false} otherwise.
+     */
+    /* package */
+    static boolean isSmile(final byte[] data) {
+        if (data == null || data.length < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; i++) {
+            if (data[i] != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
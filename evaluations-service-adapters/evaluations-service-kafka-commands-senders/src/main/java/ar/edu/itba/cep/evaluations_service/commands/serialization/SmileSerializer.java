@@ -0,0 +1,22 @@
+package ar.edu.itba.cep.evaluations_service.commands.serialization;
+
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * A {@link JsonSerializer} that writes the Smile binary format instead of textual JSON.
+ * It accepts the same configuration properties as the {@link JsonSerializer}.
+ * Smile documents are more compact than their JSON counterparts (e.g numbers are written in binary
+ * and repeated property names are back-referenced), and cheaper to generate and parse.
+ *
+ * @param <T> The concrete type of the values being serialized.
+ * @apiNote Consumers must be able to read Smile documents (see {@link FormatDetectingJsonDeserializer}).
+ */
+public class SmileSerializer<T> extends JsonSerializer<T> {
+
+    /**
+     * Default constructor, used by Kafka when the serializer is set by its class name.
+     */
+    public SmileSerializer() {
+        super(SmileFormat.objectMapper());
+    }
+}
@@ -0,0 +1,173 @@
+package ar.edu.itba.cep.evaluations_service.commands.serialization;
+
+import net.jpountz.lz4.LZ4Factory;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark comparing the JSON and Smile formats used to (de)serialize the executor command messages.
+ * Payloads mimic an execution request (i.e a big answer, program arguments and a long stdin).
+ * Run it with the {@link #main(String[])} method. Besides the times reported by JMH,
+ * the amount of bytes on the wire (raw and lz4 compressed) for each format is printed before running.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageSerializationBenchmark {
+
+    /**
+     * The topic passed to the (de)serializers.
+     */
+    private static final String TOPIC = "benchmark";
+
+    /**
+     * The amount of lines of the answer and the stdin in the payload.
+     */
+    @Param({"10", "1000"})
+    private int lines;
+
+    /**
+     * The payload being (de)serialized.
+     */
+    private Map<String, Object> payload;
+    /**
+     * The {@link Serializer} writing JSON (i.e the one currently used).
+     */
+    private Serializer<Object> jsonSerializer;
+    /**
+     * The {@link Serializer} writing Smile.
+     */
+    private Serializer<Object> smileSerializer;
+    /**
+     * The {@link Deserializer} reading JSON (i.e the one currently used).
+     */
+    private Deserializer<Map> jsonDeserializer;
+    /**
+     * The {@link Deserializer} reading Smile.
+     */
+    private Deserializer<Map> smileDeserializer;
+    /**
+     * The payload, serialized as JSON.
+     */
+    private byte[] json;
+    /**
+     * The payload, serialized as Smile.
+     */
+    private byte[] smile;
+
+
+    /**
+     * Creates the payload, the (de)serializers and the serialized payloads.
+     */
+    @Setup
+    public void setup() {
+        this.payload = payload(lines);
+        this.jsonSerializer = new JsonSerializer<>();
+        this.smileSerializer = new SmileSerializer<>();
+        this.jsonDeserializer = new JsonDeserializer<>(Map.class);
+        this.smileDeserializer = new FormatDetectingJsonDeserializer<>();
+        this.smileDeserializer.configure(Map.of(JsonDeserializer.VALUE_DEFAULT_TYPE, Map.class.getName()), false);
+        this.json = jsonSerializer.serialize(TOPIC, payload);
+        this.smile = smileSerializer.serialize(TOPIC, payload);
+    }
+
+
+    // ================================================================================================================
+    // Benchmarks
+    // ================================================================================================================
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(TOPIC, payload);
+    }
+
+    @Benchmark
+    public byte[] serializeSmile() {
+        return smileSerializer.serialize(TOPIC, payload);
+    }
+
+    @Benchmark
+    public Map deserializeJson() {
+        return jsonDeserializer.deserialize(TOPIC, json);
+    }
+
+    @Benchmark
+    public Map deserializeSmile() {
+        return smileDeserializer.deserialize(TOPIC, smile);
+    }
+
+
+    // ================================================================================================================
+    // Runner
+    // ================================================================================================================
+
+    /**
+     * Prints the bytes on the wire for each format, and runs the benchmark.
+     *
+     * @param args Ignored.
+     * @throws RunnerException If the benchmark fails.
+     */
+    public static void main(final String[] args) throws RunnerException {
+        final var compressor = LZ4Factory.fastestInstance().fastCompressor();
+        for (final var lines : new int[]{10, 1000}) {
+            final var payload = payload(lines);
+            final var json = new JsonSerializer<>().serialize(TOPIC, payload);
+            final var smile = new SmileSerializer<>().serialize(TOPIC, payload);
+            System.out.printf(
+                    "%d lines: JSON %d bytes (%d lz4), Smile %d bytes (%d lz4)%n",
+                    lines,
+                    json.length,
+                    compressor.compress(json).length,
+                    smile.length,
+                    compressor.compress(smile).length
+            );
+        }
+        new Runner(new OptionsBuilder().include(MessageSerializationBenchmark.class.getSimpleName()).build()).run();
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Creates a payload resembling an execution request.
+     *
+     * @param lines The amount of lines of the answer and the stdin.
+     * @return The created payload.
+     */
+    private static Map<String, Object> payload(final int lines) {
+        final var payload = new HashMap<String, Object>();
+        payload.put(
+                "code",
+                IntStream.range(0, lines)
+                        .mapToObj(i -> "    System.out.println(Integer.parseInt(args[0]) * " + i + ");")
+                        .collect(Collectors.joining("\n"))
+        );
+        payload.put(
+                "programArguments",
+                IntStream.range(0, 10).mapToObj(Integer::toString).collect(Collectors.toList())
+        );
+        payload.put("stdin", IntStream.range(0, lines).mapToObj(i -> "input line " + i).collect(Collectors.toList()));
+        payload.put("compilerFlags", "-Xlint:all");
+        payload.put("timeout", 5000L);
+        payload.put("mainFileName", "Main.java");
+        payload.put("language", "JAVA");
+        return Map.of("headers", Map.of("Solution-Id", "1", "TestCase-Id", "2"), "payload", payload);
+    }
+}
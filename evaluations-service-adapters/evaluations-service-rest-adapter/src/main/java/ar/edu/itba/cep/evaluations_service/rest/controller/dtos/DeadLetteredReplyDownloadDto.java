@@ -0,0 +1,103 @@
+package ar.edu.itba.cep.evaluations_service.rest.controller.dtos;
+
+import ar.edu.itba.cep.evaluations_service.models.DeadLetteredReply;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * Data transfer object for sending a {@link DeadLetteredReply}'s data to an API consumer.
+ */
+public class DeadLetteredReplyDownloadDto {
+
+    /**
+     * The {@link DeadLetteredReply}'s id.
+     */
+    private final String id;
+    /**
+     * The id of the solution to which the reply belongs to.
+     */
+    private final Long solutionId;
+    /**
+     * The id of the test case to which the reply belongs to.
+     */
+    private final Long testCaseId;
+    /**
+     * The amount of times the reply was processed.
+     */
+    private final int attempts;
+    /**
+     * The {@link Instant} at which the reply was set aside.
+     */
+    private final Instant deadLetteredAt;
+    /**
+     * A description of the cause of the last failure.
+     */
+    private final String cause;
+
+
+    /**
+     * Constructor.
+     *
+     * @param reply The {@link DeadLetteredReply} whose data will be transferred.
+     */
+    public DeadLetteredReplyDownloadDto(final DeadLetteredReply reply) {
+        this.id = reply.getId();
+        this.solutionId = reply.getSolutionId();
+        this.testCaseId = reply.getTestCaseId();
+        this.attempts = reply.getAttempts();
+        this.deadLetteredAt = reply.getDeadLetteredAt();
+        this.cause = reply.getCause();
+    }
+
+
+    /**
+     * @return The {@link DeadLetteredReply}'s id.
+     */
+    @JsonProperty(value = "id", access = JsonProperty.Access.READ_ONLY)
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return The id of the solution to which the reply belongs to.
+     */
+    @JsonProperty(value = "solutionId", access = JsonProperty.Access.READ_ONLY)
+    public Long getSolutionId() {
+        return solutionId;
+    }
+
+    /**
+     * @return The id of the test case to which the reply belongs to.
+     */
+    @JsonProperty(value = "testCaseId", access = JsonProperty.Access.READ_ONLY)
+    public Long getTestCaseId() {
+        return testCaseId;
+    }
+
+    /**
+     * @return The amount of times the reply was processed.
+     */
+    @JsonProperty(value = "attempts", access = JsonProperty.Access.READ_ONLY)
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return The {@link Instant} at which the reply was set aside.
+     */
+    @JsonProperty(value = "deadLetteredAt", access = JsonProperty.Access.READ_ONLY)
+    @JsonFormat(pattern = Constants.STARTING_AT_DATE_PATTERN, timezone = Constants.STARTING_AT_TIME_ZONE)
+    public Instant getDeadLetteredAt() {
+        return deadLetteredAt;
+    }
+
+    /**
+     * @return A description of the cause of the last failure.
+     */
+    @JsonProperty(value = "cause", access = JsonProperty.Access.READ_ONLY)
+    public String getCause() {
+        return cause;
+    }
+}
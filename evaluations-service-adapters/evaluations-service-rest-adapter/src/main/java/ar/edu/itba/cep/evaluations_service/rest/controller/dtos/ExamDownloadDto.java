@@ -84,4 +84,10 @@ import java.time.LocalDateTime;
     @JsonProperty(value = "actualDuration", access = JsonProperty.Access.READ_ONLY)
     @JsonSerialize(using = Java8DurationToMinutesSerializer.class)
     public abstract Duration getActualDuration();
+
+    /**
+     * @return The {@link Exam.EvaluationPolicy} used to evaluate the exam's submissions.
+     */
+    @JsonProperty(value = "evaluationPolicy", access = JsonProperty.Access.READ_ONLY)
+    public abstract Exam.EvaluationPolicy getEvaluationPolicy();
 }
@@ -0,0 +1,35 @@
+package ar.edu.itba.cep.evaluations_service.rest.controller.dtos;
+
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import com.bellotapps.webapps_commons.errors.ConstraintViolationError.ErrorCausePayload.MissingValue;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Data transfer object for receiving an {@link Exam}'s {@link Exam.EvaluationPolicy} from an API consumer.
+ */
+@Getter
+public class ExamEvaluationPolicyUploadDto {
+
+    /**
+     * The {@link Exam.EvaluationPolicy} to be used to evaluate the exam's submissions.
+     */
+    @NotNull(message = "The evaluation policy is missing.", payload = MissingValue.class)
+    private final Exam.EvaluationPolicy evaluationPolicy;
+
+
+    /**
+     * Constructor.
+     *
+     * @param evaluationPolicy The {@link Exam.EvaluationPolicy} to be used to evaluate the exam's submissions.
+     */
+    @JsonCreator
+    public ExamEvaluationPolicyUploadDto(
+            @JsonProperty(value = "evaluationPolicy", access = JsonProperty.Access.WRITE_ONLY)
+            final Exam.EvaluationPolicy evaluationPolicy) {
+        this.evaluationPolicy = evaluationPolicy;
+    }
+}
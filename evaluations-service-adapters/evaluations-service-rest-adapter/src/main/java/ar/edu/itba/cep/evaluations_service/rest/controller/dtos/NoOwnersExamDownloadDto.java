@@ -55,4 +55,9 @@ public class NoOwnersExamDownloadDto extends ExamDownloadDto<ExamWithoutOwners>
     public Duration getActualDuration() {
         return getExamWrapper().getActualDuration();
     }
+
+    @Override
+    public Exam.EvaluationPolicy getEvaluationPolicy() {
+        return getExamWrapper().getEvaluationPolicy();
+    }
 }
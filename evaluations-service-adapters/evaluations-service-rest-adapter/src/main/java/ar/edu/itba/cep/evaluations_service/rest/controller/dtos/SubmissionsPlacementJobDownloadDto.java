@@ -0,0 +1,91 @@
+package ar.edu.itba.cep.evaluations_service.rest.controller.dtos;
+
+import ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * Data transfer object for sending a {@link SubmissionsPlacementJob}'s progress to an API consumer.
+ */
+public class SubmissionsPlacementJobDownloadDto {
+
+    /**
+     * The {@link SubmissionsPlacementJob}'s state.
+     */
+    private final SubmissionsPlacementJob.State state;
+    /**
+     * The amount of submissions placed so far.
+     */
+    private final int placedSubmissions;
+    /**
+     * The {@link Instant} in which the {@link SubmissionsPlacementJob} was created.
+     */
+    private final Instant createdAt;
+    /**
+     * The {@link Instant} in which the {@link SubmissionsPlacementJob} was completed.
+     */
+    private final Instant completedAt;
+    /**
+     * The error of the last failed attempt of the {@link SubmissionsPlacementJob}.
+     */
+    private final String lastError;
+
+
+    /**
+     * Constructor.
+     *
+     * @param job The {@link SubmissionsPlacementJob} whose data will be transferred.
+     */
+    public SubmissionsPlacementJobDownloadDto(final SubmissionsPlacementJob job) {
+        this.state = job.getState();
+        this.placedSubmissions = job.getPlacedSubmissions();
+        this.createdAt = job.getCreatedAt();
+        this.completedAt = job.getCompletedAt();
+        this.lastError = job.getLastError();
+    }
+
+
+    /**
+     * @return The {@link SubmissionsPlacementJob}'s state.
+     */
+    @JsonProperty(value = "state", access = JsonProperty.Access.READ_ONLY)
+    public SubmissionsPlacementJob.State getState() {
+        return state;
+    }
+
+    /**
+     * @return The amount of submissions placed so far.
+     */
+    @JsonProperty(value = "placedSubmissions", access = JsonProperty.Access.READ_ONLY)
+    public int getPlacedSubmissions() {
+        return placedSubmissions;
+    }
+
+    /**
+     * @return The {@link Instant} in which the {@link SubmissionsPlacementJob} was created.
+     */
+    @JsonProperty(value = "createdAt", access = JsonProperty.Access.READ_ONLY)
+    @JsonFormat(pattern = Constants.STARTING_AT_DATE_PATTERN, timezone = Constants.STARTING_AT_TIME_ZONE)
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return The {@link Instant} in which the {@link SubmissionsPlacementJob} was completed.
+     */
+    @JsonProperty(value = "completedAt", access = JsonProperty.Access.READ_ONLY)
+    @JsonFormat(pattern = Constants.STARTING_AT_DATE_PATTERN, timezone = Constants.STARTING_AT_TIME_ZONE)
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    /**
+     * @return The error of the last failed attempt of the {@link SubmissionsPlacementJob}.
+     */
+    @JsonProperty(value = "lastError", access = JsonProperty.Access.READ_ONLY)
+    public String getLastError() {
+        return lastError;
+    }
+}
@@ -41,6 +41,16 @@ public class TestCaseDownloadDto {
      */
     private final List<String> expectedOutputs;
 
+    /**
+     * The way in which outputs are compared with the expected ones.
+     */
+    private final TestCase.OutputComparison outputComparison;
+
+    /**
+     * The relative tolerance used when comparing numbers.
+     */
+    private final Double tolerance;
+
 
     /**
      * Constructor.
@@ -54,6 +64,8 @@ public class TestCaseDownloadDto {
         this.programArguments = testCase.getProgramArguments();
         this.stdin = testCase.getStdin();
         this.expectedOutputs = testCase.getExpectedOutputs();
+        this.outputComparison = testCase.getOutputComparison();
+        this.tolerance = testCase.getTolerance();
     }
 
 
@@ -104,4 +116,20 @@ public class TestCaseDownloadDto {
     public List<String> getExpectedOutputs() {
         return expectedOutputs;
     }
+
+    /**
+     * @return The way in which outputs are compared with the expected ones.
+     */
+    @JsonProperty(value = "outputComparison", access = JsonProperty.Access.READ_ONLY)
+    public TestCase.OutputComparison getOutputComparison() {
+        return outputComparison;
+    }
+
+    /**
+     * @return The relative tolerance used when comparing numbers.
+     */
+    @JsonProperty(value = "tolerance", access = JsonProperty.Access.READ_ONLY)
+    public Double getTolerance() {
+        return tolerance;
+    }
 }
@@ -0,0 +1,50 @@
+package ar.edu.itba.cep.evaluations_service.rest.controller.dtos;
+
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import com.bellotapps.webapps_commons.errors.ConstraintViolationError.ErrorCausePayload.IllegalValue;
+import com.bellotapps.webapps_commons.errors.ConstraintViolationError.ErrorCausePayload.MissingValue;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+
+/**
+ * Data transfer object for receiving a {@link TestCase}'s {@link TestCase.OutputComparison} from an API consumer.
+ */
+@Getter
+public class TestCaseOutputComparisonUploadDto {
+
+    /**
+     * The {@link TestCase.OutputComparison} to be used to check the outputs of the test case's executions.
+     */
+    @NotNull(message = "The output comparison is missing.", payload = MissingValue.class)
+    private final TestCase.OutputComparison outputComparison;
+
+    /**
+     * The relative tolerance used when comparing numbers
+     * (only for {@link TestCase.OutputComparison#FLOAT_TOLERANCE}).
+     */
+    @PositiveOrZero(message = "The tolerance must not be negative.", payload = IllegalValue.class)
+    private final Double tolerance;
+
+
+    /**
+     * Constructor.
+     *
+     * @param outputComparison The {@link TestCase.OutputComparison} to be used
+     *                         to check the outputs of the test case's executions.
+     * @param tolerance        The relative tolerance used when comparing numbers
+     *                         (only for {@link TestCase.OutputComparison#FLOAT_TOLERANCE}).
+     */
+    @JsonCreator
+    public TestCaseOutputComparisonUploadDto(
+            @JsonProperty(value = "outputComparison", access = JsonProperty.Access.WRITE_ONLY)
+            final TestCase.OutputComparison outputComparison,
+            @JsonProperty(value = "tolerance", access = JsonProperty.Access.WRITE_ONLY)
+            final Double tolerance) {
+        this.outputComparison = outputComparison;
+        this.tolerance = tolerance;
+    }
+}
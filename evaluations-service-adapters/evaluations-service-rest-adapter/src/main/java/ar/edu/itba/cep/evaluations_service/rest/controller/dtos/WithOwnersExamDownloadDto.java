@@ -58,6 +58,11 @@ public class WithOwnersExamDownloadDto extends ExamDownloadDto<ExamWithOwners> {
         return getExamWrapper().getActualDuration();
     }
 
+    @Override
+    public Exam.EvaluationPolicy getEvaluationPolicy() {
+        return getExamWrapper().getEvaluationPolicy();
+    }
+
     /**
      * @return The owners of the exam.
      */
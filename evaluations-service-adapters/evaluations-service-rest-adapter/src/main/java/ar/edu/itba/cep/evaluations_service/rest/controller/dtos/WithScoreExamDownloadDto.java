@@ -57,6 +57,11 @@ public class WithScoreExamDownloadDto extends ExamDownloadDto<ExamWithScore> {
         return null;
     }
 
+    @Override
+    public Exam.EvaluationPolicy getEvaluationPolicy() {
+        return null;
+    }
+
     /**
      * @return The exam's max. score.
      */
@@ -0,0 +1,63 @@
+package ar.edu.itba.cep.evaluations_service.rest.controller.endpoints;
+
+import ar.edu.itba.cep.evaluations_service.rest.controller.dtos.DeadLetteredReplyDownloadDto;
+import ar.edu.itba.cep.evaluations_service.services.DeadLetteredRepliesService;
+import com.bellotapps.webapps_commons.config.JerseyController;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.stream.Collectors;
+
+/**
+ * Rest Adapter of {@link DeadLetteredRepliesService},
+ * encapsulating {@link ar.edu.itba.cep.evaluations_service.models.DeadLetteredReply} inspection and replaying.
+ */
+@Path("")
+@Produces(MediaType.APPLICATION_JSON)
+@JerseyController
+public class DeadLetteredRepliesEndpoint {
+
+    /**
+     * The {@link Logger} object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeadLetteredRepliesEndpoint.class);
+
+    /**
+     * The {@link DeadLetteredRepliesService} being wrapped.
+     */
+    private final DeadLetteredRepliesService deadLetteredRepliesService;
+
+    /**
+     * Constructor.
+     *
+     * @param deadLetteredRepliesService The {@link DeadLetteredRepliesService} being wrapped.
+     */
+    @Autowired
+    public DeadLetteredRepliesEndpoint(final DeadLetteredRepliesService deadLetteredRepliesService) {
+        this.deadLetteredRepliesService = deadLetteredRepliesService;
+    }
+
+
+    @GET
+    @Path(Routes.DEAD_LETTERED_REPLIES)
+    public Response getDeadLetteredReplies(@QueryParam("amount") @DefaultValue("20") final int amount) {
+        LOGGER.debug("Getting the last {} dead lettered replies", amount);
+        final var replies = deadLetteredRepliesService.getDeadLetteredReplies(amount)
+                .stream()
+                .map(DeadLetteredReplyDownloadDto::new)
+                .collect(Collectors.toList());
+        return Response.ok(replies).build();
+    }
+
+    @PUT
+    @Path(Routes.DEAD_LETTERED_REPLY_REPLAY)
+    public Response replay(@PathParam("replyId") final String replyId) {
+        LOGGER.debug("Replaying dead lettered reply with id {}", replyId);
+        deadLetteredRepliesService.replay(replyId);
+        return Response.noContent().build();
+    }
+}
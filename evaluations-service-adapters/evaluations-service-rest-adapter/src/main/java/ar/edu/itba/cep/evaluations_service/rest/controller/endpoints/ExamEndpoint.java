@@ -1,5 +1,6 @@
 package ar.edu.itba.cep.evaluations_service.rest.controller.endpoints;
 
+import ar.edu.itba.cep.evaluations_service.rest.controller.dtos.ExamEvaluationPolicyUploadDto;
 import ar.edu.itba.cep.evaluations_service.rest.controller.dtos.ExamUploadDto;
 import ar.edu.itba.cep.evaluations_service.rest.controller.dtos.NoOwnersExamDownloadDto;
 import ar.edu.itba.cep.evaluations_service.rest.controller.dtos.WithOwnersExamDownloadDto;
@@ -140,6 +141,17 @@ public class ExamEndpoint {
         return Response.noContent().build();
     }
 
+    @PUT
+    @Path(Routes.EXAM_EVALUATION_POLICY)
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Response changeEvaluationPolicy(
+            @PathParam("examId") final long examId,
+            @Valid final ExamEvaluationPolicyUploadDto dto) {
+        LOGGER.debug("Changing evaluation policy of exam with id {}", examId);
+        examService.changeEvaluationPolicy(examId, dto.getEvaluationPolicy());
+        return Response.noContent().build();
+    }
+
     @PUT
     @Path(Routes.EXAM_OWNER)
     public Response addOwner(@PathParam("examId") final long examId, @PathParam("owner") final String owner) {
@@ -100,4 +100,12 @@ public class ExamSolutionSubmissionEndpoint {
         solutionService.scoreSubmission(submissionId);
         return Response.noContent().build();
     }
+
+    @PUT
+    @Path(Routes.EXAM_SOLUTIONS_SUBMISSIONS_SCORE)
+    public Response scoreExamSolutions(@PathParam("examId") final long examId) {
+        LOGGER.debug("Scoring submissions of exam with id {}", examId);
+        solutionService.scoreExamSubmissions(examId);
+        return Response.noContent().build();
+    }
 }
@@ -15,10 +15,14 @@ public class Routes {
 
     public static final String EXAM_FINISH = "/exams/{examId : \\d+}/finish";
 
+    public static final String EXAM_EVALUATION_POLICY = "/exams/{examId : \\d+}/evaluation-policy";
+
     public static final String EXAM_OWNER = "/exams/{examId : \\d+}/owners/{owner : .+}";
 
     public static final String EXAM_EXERCISES = "/exams/{examId : \\d+}/exercises";
 
+    public static final String EXAM_SUBMISSIONS_PLACEMENT = "/exams/{examId : \\d+}/submissions-placement";
+
     public static final String EXERCISES = "/exercises";
 
     public static final String EXERCISE = "/exercises/{exerciseId : \\d+}";
@@ -33,8 +37,12 @@ public class Routes {
 
     public static final String TEST_CASE = "/test-cases/{testCaseId : \\d+}";
 
+    public static final String TEST_CASE_OUTPUT_COMPARISON = "/test-cases/{testCaseId : \\d+}/output-comparison";
+
     public static final String EXAM_SOLUTIONS_SUBMISSIONS_BY_EXAM = "/exams/{examId : \\d+}/solutions-submissions";
 
+    public static final String EXAM_SOLUTIONS_SUBMISSIONS_SCORE = "/exams/{examId : \\d+}/solutions-submissions/score";
+
     public static final String EXAM_SOLUTIONS_SUBMISSIONS = "/solutions-submissions";
 
     public static final String EXAM_SOLUTIONS_SUBMISSION = "/solutions-submissions/{submissionId : \\d+}";
@@ -57,4 +65,8 @@ public class Routes {
 
 
     public static final String EXAM_INTERNAL = "/internal/exams/{examId : \\d+}";
+
+    public static final String DEAD_LETTERED_REPLIES = "/internal/dead-lettered-replies";
+
+    public static final String DEAD_LETTERED_REPLY_REPLAY = "/internal/dead-lettered-replies/{replyId : \\d+-\\d+}/replay";
 }
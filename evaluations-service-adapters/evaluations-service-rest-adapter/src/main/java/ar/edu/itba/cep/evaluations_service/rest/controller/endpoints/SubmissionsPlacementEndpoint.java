@@ -0,0 +1,56 @@
+package ar.edu.itba.cep.evaluations_service.rest.controller.endpoints;
+
+import ar.edu.itba.cep.evaluations_service.rest.controller.dtos.SubmissionsPlacementJobDownloadDto;
+import ar.edu.itba.cep.evaluations_service.services.SubmissionsPlacementService;
+import com.bellotapps.webapps_commons.config.JerseyController;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+/**
+ * Rest Adapter of {@link SubmissionsPlacementService},
+ * encapsulating {@link ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob} querying.
+ */
+@Path("")
+@Produces(MediaType.APPLICATION_JSON)
+@JerseyController
+public class SubmissionsPlacementEndpoint {
+
+    /**
+     * The {@link Logger} object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubmissionsPlacementEndpoint.class);
+
+    /**
+     * The {@link SubmissionsPlacementService} being wrapped.
+     */
+    private final SubmissionsPlacementService submissionsPlacementService;
+
+    /**
+     * Constructor.
+     *
+     * @param submissionsPlacementService The {@link SubmissionsPlacementService} being wrapped.
+     */
+    @Autowired
+    public SubmissionsPlacementEndpoint(final SubmissionsPlacementService submissionsPlacementService) {
+        this.submissionsPlacementService = submissionsPlacementService;
+    }
+
+    @GET
+    @Path(Routes.EXAM_SUBMISSIONS_PLACEMENT)
+    public Response getPlacementJobForExam(@PathParam("examId") final long examId) {
+        LOGGER.debug("Getting submissions placement job for exam with id {}", examId);
+        return submissionsPlacementService.getPlacementJobForExam(examId)
+                .map(SubmissionsPlacementJobDownloadDto::new)
+                .map(Response::ok)
+                .orElse(Response.status(Response.Status.NOT_FOUND).entity(""))
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package ar.edu.itba.cep.evaluations_service.rest.controller.endpoints;
 
 import ar.edu.itba.cep.evaluations_service.rest.controller.dtos.TestCaseDownloadDto;
+import ar.edu.itba.cep.evaluations_service.rest.controller.dtos.TestCaseOutputComparisonUploadDto;
 import ar.edu.itba.cep.evaluations_service.rest.controller.dtos.TestCaseUploadDto;
 import ar.edu.itba.cep.evaluations_service.services.ExamService;
 import com.bellotapps.webapps_commons.config.JerseyController;
@@ -119,6 +120,17 @@ public class TestCaseEndpoint {
         return Response.noContent().build();
     }
 
+    @PUT
+    @Path(Routes.TEST_CASE_OUTPUT_COMPARISON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Response changeOutputComparison(
+            @PathParam("testCaseId") final long testCaseId,
+            @Valid final TestCaseOutputComparisonUploadDto dto) {
+        LOGGER.debug("Changing output comparison of test case with id {}", testCaseId);
+        examService.changeTestCaseOutputComparison(testCaseId, dto.getOutputComparison(), dto.getTolerance());
+        return Response.noContent().build();
+    }
+
     @DELETE
     @Path(Routes.TEST_CASE)
     public Response deleteTestCase(@PathParam("testCaseId") final long testCaseId) {
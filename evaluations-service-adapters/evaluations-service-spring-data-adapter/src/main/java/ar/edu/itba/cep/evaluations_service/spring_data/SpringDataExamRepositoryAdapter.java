@@ -63,4 +63,14 @@ public class SpringDataExamRepositoryAdapter
         final var page = repository.findByOwners(owner, pageable);
         return PagingMapper.map(page);
     }
+
+    @Override
+    public void addToMaxScore(final Exam exam, final int delta) {
+        repository.addToMaxScore(exam, delta);
+    }
+
+    @Override
+    public void clearMaxScore(final Exam exam) {
+        repository.clearMaxScore(exam);
+    }
 }
@@ -3,6 +3,7 @@ package ar.edu.itba.cep.evaluations_service.spring_data;
 import ar.edu.itba.cep.evaluations_service.models.Exam;
 import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
 import ar.edu.itba.cep.evaluations_service.repositories.ExamSolutionSubmissionRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.SubmissionScoring;
 import ar.edu.itba.cep.evaluations_service.spring_data.interfaces.SpringDataExamSolutionSubmissionRepository;
 import ar.edu.itba.cep.evaluations_service.spring_data.interfaces.SpringDataExerciseRepository;
 import com.bellotapps.webapps_commons.persistence.repository_utils.paging_and_sorting.Page;
@@ -10,11 +11,14 @@ import com.bellotapps.webapps_commons.persistence.repository_utils.paging_and_so
 import com.bellotapps.webapps_commons.persistence.spring_data.repository_utils_adapters.paging_and_sorting.PagingMapper;
 import com.bellotapps.webapps_commons.persistence.spring_data.repository_utils_adapters.repositories.BasicRepositoryAdapter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * A concrete implementation of an {@link ExamSolutionSubmissionRepository}
@@ -68,6 +72,14 @@ public class SpringDataExamSolutionSubmissionRepositoryAdapter
         return repository.getByExamAndState(exam, state);
     }
 
+    @Override
+    public List<ExamSolutionSubmission> getByExamAndState(
+            final Exam exam,
+            final ExamSolutionSubmission.State state,
+            final int amount) {
+        return repository.getByExamAndState(exam, state, PageRequest.of(0, amount, Sort.by("id")));
+    }
+
     @Override
     public void deleteExamSubmissions(final Exam exam) {
         repository.deleteByExam(exam);
@@ -82,4 +94,40 @@ public class SpringDataExamSolutionSubmissionRepositoryAdapter
     public boolean existsSubmissionFor(final Exam exam, final String submitter) {
         return repository.existsByExamAndSubmitter(exam, submitter);
     }
+
+    @Override
+    public SubmissionScoring getScoring(final ExamSolutionSubmission submission) {
+        return repository.getScoring(submission.getId())
+                .stream()
+                .findFirst()
+                .map(SpringDataExamSolutionSubmissionRepositoryAdapter::toScoring)
+                .orElseGet(() -> new SubmissionScoring(submission.getId(), 0, 0)); // A submission without solutions.
+    }
+
+    @Override
+    public List<SubmissionScoring> getScorings(final Exam exam, final ExamSolutionSubmission.State state) {
+        return repository.getScorings(exam.getId(), state.name())
+                .stream()
+                .map(SpringDataExamSolutionSubmissionRepositoryAdapter::toScoring)
+                .collect(Collectors.toList());
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Maps a row returned by the scoring queries into a {@link SubmissionScoring}.
+     *
+     * @param row The row (i.e the submission id, the amount of pending results, and the approved score).
+     * @return The built {@link SubmissionScoring}.
+     */
+    private static SubmissionScoring toScoring(final Object[] row) {
+        return new SubmissionScoring(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                ((Number) row[2]).intValue()
+        );
+    }
 }
@@ -2,6 +2,7 @@ package ar.edu.itba.cep.evaluations_service.spring_data;
 
 import ar.edu.itba.cep.evaluations_service.models.Exam;
 import ar.edu.itba.cep.evaluations_service.models.Exercise;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseRepository;
 import ar.edu.itba.cep.evaluations_service.spring_data.interfaces.SpringDataExerciseRepository;
 import com.bellotapps.webapps_commons.persistence.spring_data.repository_utils_adapters.repositories.BasicRepositoryAdapter;
@@ -56,6 +57,11 @@ public class SpringDataExerciseRepositoryAdapter
         return repository.getByExam(exam);
     }
 
+    @Override
+    public boolean existsWithoutPrivateTestCases(final Exam exam) {
+        return repository.countWithoutTestCases(exam, TestCase.Visibility.PRIVATE) > 0;
+    }
+
     @Override
     public void deleteExamExercises(final Exam exam) {
         repository.deleteByExam(exam);
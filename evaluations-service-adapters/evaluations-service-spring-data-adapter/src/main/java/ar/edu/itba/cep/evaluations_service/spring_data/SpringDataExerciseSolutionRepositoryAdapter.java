@@ -45,4 +45,9 @@ public class SpringDataExerciseSolutionRepositoryAdapter
     public List<ExerciseSolution> getExerciseSolutions(final ExamSolutionSubmission submission) {
         return repository.getBySubmission(submission);
     }
+
+    @Override
+    public void lock(final ExerciseSolution solution) {
+        repository.lockById(solution.getId());
+    }
 }
@@ -8,8 +8,10 @@ import ar.edu.itba.cep.evaluations_service.spring_data.interfaces.SpringDataExer
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * A concrete implementation of an {@link ExerciseSolutionResultRepository}
@@ -41,6 +43,14 @@ public class SpringDataExerciseSolutionResultRepositoryAdapter implements Exerci
         return repository.save(result);
     }
 
+    @Override
+    public <S extends ExerciseSolutionResult> List<S> saveAll(final Iterable<S> results)
+            throws IllegalArgumentException {
+        final var saved = new LinkedList<S>();
+        repository.saveAll(results).forEach(saved::add);
+        return saved;
+    }
+
     @Override
     public Optional<ExerciseSolutionResult> find(final ExerciseSolution solution, final TestCase testCase) {
         return repository.findBySolutionAndTestCase(solution, testCase);
@@ -55,4 +65,62 @@ public class SpringDataExerciseSolutionResultRepositoryAdapter implements Exerci
     public List<ExerciseSolutionResult> find(final ExerciseSolution solution) {
         return repository.findBySolution(solution);
     }
+
+    @Override
+    public List<ExerciseSolutionResult> find(final Collection<Long> solutionIds, final Collection<Long> testCaseIds) {
+        if (solutionIds.isEmpty() || testCaseIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return repository.getBySolutionIdInAndTestCaseIdIn(solutionIds, testCaseIds);
+    }
+
+    @Override
+    public int markPending(final ExerciseSolution solution, final ExerciseSolutionResult.Result result) {
+        return repository.markPending(solution, result);
+    }
+
+    @Override
+    public int registerDispatch(
+            final ExerciseSolution solution,
+            final Collection<TestCase> testCases,
+            final Instant dispatchedAt) {
+        if (testCases.isEmpty()) {
+            return 0;
+        }
+        return repository.registerDispatch(solution, testCases, dispatchedAt);
+    }
+
+    @Override
+    public int registerSendFailure(
+            final ExerciseSolution solution,
+            final Collection<TestCase> testCases,
+            final Instant dispatchedAt,
+            final String cause) {
+        if (testCases.isEmpty()) {
+            return 0;
+        }
+        return repository.registerSendFailure(solution, testCases, dispatchedAt, cause);
+    }
+
+    @Override
+    public long countInFlight(final Instant dispatchedSince) {
+        return repository.countInFlight(dispatchedSince);
+    }
+
+    @Override
+    public List<ExerciseSolutionResult> getStaleForUpdate(
+            final Instant now,
+            final Duration timeout,
+            final int amount) {
+        // First lock the rows (using a native query in order to skip those locked by another transaction),
+        // and then fetch them together with their solutions and test cases.
+        final var ids = repository.lockStale(now, timeout.toMillis(), amount)
+                .stream()
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return repository.getByIdIn(ids);
+    }
 }
@@ -0,0 +1,76 @@
+package ar.edu.itba.cep.evaluations_service.spring_data;
+
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import ar.edu.itba.cep.evaluations_service.models.PendingExecutionRequest;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingExecutionRequestRepository;
+import ar.edu.itba.cep.evaluations_service.spring_data.interfaces.SpringDataPendingExecutionRequestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A concrete implementation of a {@link PendingExecutionRequestRepository}
+ * which acts as an adapter for a {@link SpringDataPendingExecutionRequestRepository}.
+ */
+@Repository
+public class SpringDataPendingExecutionRequestRepositoryAdapter implements PendingExecutionRequestRepository {
+
+    /**
+     * A {@link SpringDataPendingExecutionRequestRepository} to which all operations are delegated.
+     */
+    private final SpringDataPendingExecutionRequestRepository repository;
+
+
+    /**
+     * Constructor.
+     *
+     * @param repository A {@link SpringDataPendingExecutionRequestRepository} to which all operations are delegated.
+     */
+    @Autowired
+    public SpringDataPendingExecutionRequestRepositoryAdapter(
+            final SpringDataPendingExecutionRequestRepository repository) {
+        this.repository = repository;
+    }
+
+
+    @Override
+    public <S extends PendingExecutionRequest> S save(final S request) throws IllegalArgumentException {
+        return repository.save(request);
+    }
+
+    @Override
+    public <S extends PendingExecutionRequest> List<S> saveAll(final Iterable<S> requests)
+            throws IllegalArgumentException {
+        final var saved = new LinkedList<S>();
+        repository.saveAll(requests).forEach(saved::add);
+        return saved;
+    }
+
+    @Override
+    public List<PendingExecutionRequest> getNextForUpdate(final int amount) {
+        // First lock the rows (using a native query in order to skip those locked by another transaction),
+        // and then fetch them together with all the data needed to build the execution requests.
+        final var ids = repository.lockNext(amount)
+                .stream()
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return repository.getByIdIn(ids);
+    }
+
+    @Override
+    public void deleteAll(final Iterable<PendingExecutionRequest> requests) throws IllegalArgumentException {
+        repository.deleteAll(requests);
+    }
+
+    @Override
+    public void deleteBySolution(final ExerciseSolution solution) {
+        repository.deleteBySolution(solution);
+    }
+}
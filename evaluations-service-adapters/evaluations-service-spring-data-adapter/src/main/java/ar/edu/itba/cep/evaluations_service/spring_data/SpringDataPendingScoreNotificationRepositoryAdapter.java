@@ -0,0 +1,72 @@
+package ar.edu.itba.cep.evaluations_service.spring_data;
+
+import ar.edu.itba.cep.evaluations_service.models.PendingScoreNotification;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingScoreNotificationRepository;
+import ar.edu.itba.cep.evaluations_service.spring_data.interfaces.SpringDataPendingScoreNotificationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A concrete implementation of a {@link PendingScoreNotificationRepository}
+ * which acts as an adapter for a {@link SpringDataPendingScoreNotificationRepository}.
+ */
+@Repository
+public class SpringDataPendingScoreNotificationRepositoryAdapter implements PendingScoreNotificationRepository {
+
+    /**
+     * A {@link SpringDataPendingScoreNotificationRepository} to which all operations are delegated.
+     */
+    private final SpringDataPendingScoreNotificationRepository repository;
+
+
+    /**
+     * Constructor.
+     *
+     * @param repository A {@link SpringDataPendingScoreNotificationRepository}
+     *                   to which all operations are delegated.
+     */
+    @Autowired
+    public SpringDataPendingScoreNotificationRepositoryAdapter(
+            final SpringDataPendingScoreNotificationRepository repository) {
+        this.repository = repository;
+    }
+
+
+    @Override
+    public <S extends PendingScoreNotification> S save(final S notification) throws IllegalArgumentException {
+        return repository.save(notification);
+    }
+
+    @Override
+    public List<PendingScoreNotification> getDueForUpdate(final Instant now, final int amount) {
+        // First lock the rows (using a native query in order to skip those locked by another transaction),
+        // and then fetch them together with the data needed to build the scoring requests.
+        final var ids = repository.lockDue(now, amount)
+                .stream()
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+        return getByIds(ids);
+    }
+
+    @Override
+    public List<PendingScoreNotification> getByIds(final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return repository.getByIdIn(ids);
+    }
+
+    @Override
+    public void deleteByIds(final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        repository.deleteByIdIn(ids);
+    }
+}
@@ -0,0 +1,57 @@
+package ar.edu.itba.cep.evaluations_service.spring_data;
+
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob;
+import ar.edu.itba.cep.evaluations_service.repositories.SubmissionsPlacementJobRepository;
+import ar.edu.itba.cep.evaluations_service.spring_data.interfaces.SpringDataSubmissionsPlacementJobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A concrete implementation of a {@link SubmissionsPlacementJobRepository}
+ * which acts as an adapter for a {@link SpringDataSubmissionsPlacementJobRepository}.
+ */
+@Repository
+public class SpringDataSubmissionsPlacementJobRepositoryAdapter implements SubmissionsPlacementJobRepository {
+
+    /**
+     * A {@link SpringDataSubmissionsPlacementJobRepository} to which all operations are delegated.
+     */
+    private final SpringDataSubmissionsPlacementJobRepository repository;
+
+
+    /**
+     * Constructor.
+     *
+     * @param repository A {@link SpringDataSubmissionsPlacementJobRepository} to which all operations are delegated.
+     */
+    @Autowired
+    public SpringDataSubmissionsPlacementJobRepositoryAdapter(
+            final SpringDataSubmissionsPlacementJobRepository repository) {
+        this.repository = repository;
+    }
+
+
+    @Override
+    public <S extends SubmissionsPlacementJob> S save(final S job) throws IllegalArgumentException {
+        return repository.save(job);
+    }
+
+    @Override
+    public Optional<SubmissionsPlacementJob> getByExam(final Exam exam) {
+        return repository.getByExam(exam);
+    }
+
+    @Override
+    public List<Long> getIdsByState(final SubmissionsPlacementJob.State state) {
+        return repository.getIdsByState(state);
+    }
+
+    @Override
+    public Optional<SubmissionsPlacementJob> findForUpdate(final long id) {
+        return repository.findForUpdate(id);
+    }
+}
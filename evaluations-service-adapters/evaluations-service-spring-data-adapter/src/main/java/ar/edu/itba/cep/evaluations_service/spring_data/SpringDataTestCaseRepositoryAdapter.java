@@ -11,6 +11,7 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * A concrete implementation of a {@link TestCaseRepository}
@@ -52,6 +53,11 @@ public class SpringDataTestCaseRepositoryAdapter
     // ================================================================================================================
 
 
+    @Override
+    public Optional<TestCase> findWithExpectedOutputs(final long testCaseId) {
+        return repository.findWithExpectedOutputsById(testCaseId);
+    }
+
     @Override
     public List<TestCase> getAllTestCases(final Exercise exercise) {
         return repository.getByExercise(exercise);
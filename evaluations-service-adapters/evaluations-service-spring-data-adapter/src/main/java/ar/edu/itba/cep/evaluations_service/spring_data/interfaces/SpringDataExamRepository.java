@@ -3,7 +3,10 @@ package ar.edu.itba.cep.evaluations_service.spring_data.interfaces;
 import ar.edu.itba.cep.evaluations_service.models.Exam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -22,4 +25,25 @@ public interface SpringDataExamRepository extends PagingAndSortingRepository<Exa
      * given {@code pageable}.
      */
     Page<Exam> findByOwners(final String owner, final Pageable pageable);
+
+    /**
+     * Adds the given {@code delta} to the max. score of the given {@code exam} with a single update statement.
+     *
+     * @param exam  The {@link Exam} whose max. score is being changed.
+     * @param delta The amount of score to be added (negative to subtract score).
+     * @return The amount of updated {@link Exam}s.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE Exam e SET e.maxScore = e.maxScore + :delta WHERE e = :exam")
+    int addToMaxScore(@Param("exam") final Exam exam, @Param("delta") final int delta);
+
+    /**
+     * Sets the max. score of the given {@code exam} to zero with a single update statement.
+     *
+     * @param exam The {@link Exam} whose max. score is being cleared.
+     * @return The amount of updated {@link Exam}s.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE Exam e SET e.maxScore = 0 WHERE e = :exam")
+    int clearMaxScore(@Param("exam") final Exam exam);
 }
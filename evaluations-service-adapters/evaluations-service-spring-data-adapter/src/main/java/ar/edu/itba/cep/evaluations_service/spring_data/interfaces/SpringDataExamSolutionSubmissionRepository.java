@@ -4,7 +4,9 @@ import ar.edu.itba.cep.evaluations_service.models.Exam;
 import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -37,6 +39,20 @@ public interface SpringDataExamSolutionSubmissionRepository extends CrudReposito
      */
     List<ExamSolutionSubmission> getByExamAndState(final Exam exam, final ExamSolutionSubmission.State state);
 
+    /**
+     * Retrieves the {@link ExamSolutionSubmission}s belonging to the given {@code exam},
+     * that have the given {@code state}, limited and sorted according to the given {@code pageable}.
+     *
+     * @param exam     The {@link Exam} owning the {@link ExamSolutionSubmission}s being returned.
+     * @param state    The {@link ExamSolutionSubmission.State} of the {@link ExamSolutionSubmission}s to be returned.
+     * @param pageable The {@link Pageable} that indicates page number, size, sorting options, etc.
+     * @return A {@link List} containing the matching {@link ExamSolutionSubmission}s.
+     */
+    List<ExamSolutionSubmission> getByExamAndState(
+            final Exam exam,
+            final ExamSolutionSubmission.State state,
+            final Pageable pageable);
+
     /**
      * Deletes the {@link ExamSolutionSubmission}s belonging to the given {@code exam}.
      *
@@ -62,4 +78,60 @@ public interface SpringDataExamSolutionSubmissionRepository extends CrudReposito
      * @return {@code true} if a matching {@link ExamSolutionSubmission} exists, or {@code false} otherwise.
      */
     boolean existsByExamAndSubmitter(final Exam exam, final String submitter);
+
+    /**
+     * Computes the scoring data of the {@link ExamSolutionSubmission} with the given {@code submissionId}.
+     *
+     * @param submissionId The id of the {@link ExamSolutionSubmission} to be scored.
+     * @return A {@link List} with a single row (or empty if the submission has no solutions),
+     * containing the submission id, the amount of results that are not marked yet,
+     * and the sum of the awarded scores of the approved solutions.
+     * @apiNote Values are returned as {@link Number}s as the JDBC driver might map them to any numeric type.
+     */
+    @Query(value = "SELECT s.submission_id, SUM(s.pending), " +
+            "           SUM(CASE WHEN s.approved THEN s.awarded_score ELSE 0 END) " +
+            "       FROM (" + SOLUTIONS_SCORING +
+            "           WHERE es.submission_id = :submissionId " +
+            "           GROUP BY es.id, es.submission_id, e.awarded_score" +
+            "       ) s " +
+            "       GROUP BY s.submission_id",
+            nativeQuery = true)
+    List<Object[]> getScoring(@Param("submissionId") final long submissionId);
+
+    /**
+     * Computes the scoring data of the {@link ExamSolutionSubmission}s belonging to the {@link Exam}
+     * with the given {@code examId} that are in the given {@code state}.
+     *
+     * @param examId The id of the {@link Exam} owning the {@link ExamSolutionSubmission}s to be scored.
+     * @param state  The name of the {@link ExamSolutionSubmission.State}
+     *               of the {@link ExamSolutionSubmission}s to be scored.
+     * @return A {@link List} with a row per submission (except those without solutions),
+     * containing the submission id, the amount of results that are not marked yet,
+     * and the sum of the awarded scores of the approved solutions.
+     * @apiNote Values are returned as {@link Number}s as the JDBC driver might map them to any numeric type.
+     */
+    @Query(value = "SELECT s.submission_id, SUM(s.pending), " +
+            "           SUM(CASE WHEN s.approved THEN s.awarded_score ELSE 0 END) " +
+            "       FROM (" + SOLUTIONS_SCORING +
+            "           JOIN exam_solution_submission sub ON sub.id = es.submission_id " +
+            "           WHERE sub.exam_id = :examId AND sub.state = :state " +
+            "           GROUP BY es.id, es.submission_id, e.awarded_score" +
+            "       ) s " +
+            "       GROUP BY s.submission_id",
+            nativeQuery = true)
+    List<Object[]> getScorings(@Param("examId") final long examId, @Param("state") final String state);
+
+
+    /**
+     * The start of a query that computes, for each exercise solution, its submission id, its awarded score,
+     * the amount of its results that are not marked yet, and whether it is approved
+     * (i.e all its results are approved, which holds for solutions without results too).
+     * It must be completed with a {@code WHERE} clause, and grouped by the selected solution's columns.
+     */
+    String SOLUTIONS_SCORING = "SELECT es.submission_id AS submission_id, e.awarded_score AS awarded_score, " +
+            "       COUNT(r.id) FILTER (WHERE r.result IS NULL) AS pending, " +
+            "       COALESCE(BOOL_AND(r.result = 'APPROVED'), TRUE) AS approved " +
+            "   FROM exercise_solutions es " +
+            "       JOIN exercises e ON e.id = es.exercise_id " +
+            "       LEFT JOIN exercise_solution_results r ON r.solution_id = es.id ";
 }
@@ -2,7 +2,10 @@ package ar.edu.itba.cep.evaluations_service.spring_data.interfaces;
 
 import ar.edu.itba.cep.evaluations_service.models.Exam;
 import ar.edu.itba.cep.evaluations_service.models.Exercise;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,6 +24,27 @@ public interface SpringDataExerciseRepository extends CrudRepository<Exercise, L
      */
     List<Exercise> getByExam(final Exam exam);
 
+    /**
+     * Counts the {@link Exercise}s belonging to the given {@code exam}
+     * that have no {@link TestCase} with the given {@code visibility}.
+     *
+     * @param exam       The {@link Exam} owning the {@link Exercise}s being counted.
+     * @param visibility The {@link TestCase.Visibility} of the {@link TestCase}s the counted exercises lack.
+     * @return The amount of {@link Exercise}s of the given {@code exam} without test cases of the given visibility.
+     */
+    @Query(value = "SELECT COUNT(e) " +
+            "       FROM Exercise e " +
+            "       WHERE e.exam = :exam " +
+            "           AND NOT EXISTS (" +
+            "               SELECT tc " +
+            "               FROM TestCase tc " +
+            "               WHERE tc.exercise = e AND tc.visibility = :visibility" +
+            "           )")
+    long countWithoutTestCases(
+            @Param("exam") final Exam exam,
+            @Param("visibility") final TestCase.Visibility visibility
+    );
+
     /**
      * Deletes the {@link Exercise}s belonging to the given {@code exam}.
      *
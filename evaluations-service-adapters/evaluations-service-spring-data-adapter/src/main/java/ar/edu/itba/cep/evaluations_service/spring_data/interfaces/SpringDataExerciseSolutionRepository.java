@@ -2,7 +2,9 @@ package ar.edu.itba.cep.evaluations_service.spring_data.interfaces;
 
 import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
 import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,4 +22,13 @@ public interface SpringDataExerciseSolutionRepository extends CrudRepository<Exe
      * @return A {@link List} with the {@link ExerciseSolution}.
      */
     List<ExerciseSolution> getBySubmission(final ExamSolutionSubmission submission);
+
+    /**
+     * Locks the row of the {@link ExerciseSolution} with the given {@code id} until the current transaction ends.
+     *
+     * @param id The id of the {@link ExerciseSolution} to be locked.
+     * @return A {@link List} containing the locked id (or empty if there is no such solution).
+     */
+    @Query(value = "SELECT id FROM exercise_solutions WHERE id = :id FOR UPDATE", nativeQuery = true)
+    List<Number> lockById(@Param("id") final long id);
 }
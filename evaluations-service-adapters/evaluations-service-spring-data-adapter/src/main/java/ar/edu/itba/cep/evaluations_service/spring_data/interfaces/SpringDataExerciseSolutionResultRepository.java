@@ -3,9 +3,14 @@ package ar.edu.itba.cep.evaluations_service.spring_data.interfaces;
 import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
 import ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult;
 import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,4 +51,146 @@ public interface SpringDataExerciseSolutionResultRepository extends CrudReposito
      * @return A {@link List} containing the {@link ExerciseSolutionResult}s belonging to the given {@code solution}.
      */
     List<ExerciseSolutionResult> findBySolution(final ExerciseSolution solution);
+
+    /**
+     * Retrieves all the {@link ExerciseSolutionResult}s belonging to any of the {@link ExerciseSolution}s
+     * with the given {@code solutionIds} and to any of the {@link TestCase}s with the given {@code testCaseIds},
+     * fetching their {@link ExerciseSolution}s (with their exercises), and {@link TestCase}s.
+     * Expected outputs are not fetched (they are mapped to their own table), as outputs are usually checked
+     * with the {@link TestCase}'s fingerprint; when needed, they are loaded lazily, in batches.
+     *
+     * @param solutionIds The ids of the {@link ExerciseSolution}s.
+     * @param testCaseIds The ids of the {@link TestCase}s.
+     * @return The matching {@link ExerciseSolutionResult}s.
+     */
+    @Query(value = "SELECT r " +
+            "       FROM ExerciseSolutionResult r " +
+            "           JOIN FETCH r.solution s " +
+            "           JOIN FETCH s.exercise " +
+            "           JOIN FETCH r.testCase tc " +
+            "       WHERE s.id IN :solutionIds AND tc.id IN :testCaseIds")
+    List<ExerciseSolutionResult> getBySolutionIdInAndTestCaseIdIn(
+            @Param("solutionIds") final Collection<Long> solutionIds,
+            @Param("testCaseIds") final Collection<Long> testCaseIds
+    );
+
+    /**
+     * Sets the given {@code result} to all the {@link ExerciseSolutionResult}s of the given {@code solution}
+     * that are not marked yet, increasing their versions
+     * (bulk updates bypass optimistic locking, so loaded copies of the results become stale).
+     *
+     * @param solution The {@link ExerciseSolution} owning the {@link ExerciseSolutionResult}s being marked.
+     * @param result   The {@link ExerciseSolutionResult.Result} to be set.
+     * @return The amount of updated {@link ExerciseSolutionResult}s.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE ExerciseSolutionResult r " +
+            "       SET r.result = :result, r.version = r.version + 1 " +
+            "       WHERE r.solution = :solution AND r.result IS NULL")
+    int markPending(
+            @Param("solution") final ExerciseSolution solution,
+            @Param("result") final ExerciseSolutionResult.Result result
+    );
+
+    /**
+     * Sets the given {@code dispatchedAt} moment to the {@link ExerciseSolutionResult}s of the given {@code solution}
+     * and {@code testCases}, increasing their attempts and versions, and clearing their send failures.
+     *
+     * @param solution     The {@link ExerciseSolution} owning the {@link ExerciseSolutionResult}s being updated.
+     * @param testCases    The {@link TestCase}s of the {@link ExerciseSolutionResult}s being updated.
+     * @param dispatchedAt The dispatching moment to be set.
+     * @return The amount of updated {@link ExerciseSolutionResult}s.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE ExerciseSolutionResult r " +
+            "       SET r.dispatchedAt = :dispatchedAt, r.attempts = r.attempts + 1, r.version = r.version + 1, " +
+            "           r.sendFailure = NULL " +
+            "       WHERE r.solution = :solution AND r.testCase IN :testCases")
+    int registerDispatch(
+            @Param("solution") final ExerciseSolution solution,
+            @Param("testCases") final Collection<TestCase> testCases,
+            @Param("dispatchedAt") final Instant dispatchedAt
+    );
+
+    /**
+     * Sets the given {@code cause} as the send failure of the {@link ExerciseSolutionResult}s
+     * of the given {@code solution} and {@code testCases} that were dispatched at the given {@code dispatchedAt}
+     * moment, clearing their dispatching moments, decreasing their attempts, and increasing their versions.
+     *
+     * @param solution     The {@link ExerciseSolution} owning the {@link ExerciseSolutionResult}s being updated.
+     * @param testCases    The {@link TestCase}s of the {@link ExerciseSolutionResult}s being updated.
+     * @param dispatchedAt The dispatching moment of the {@link ExerciseSolutionResult}s being updated.
+     * @param cause        The send failure's cause to be set.
+     * @return The amount of updated {@link ExerciseSolutionResult}s.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE ExerciseSolutionResult r " +
+            "       SET r.sendFailure = :cause, r.dispatchedAt = NULL, r.attempts = r.attempts - 1, " +
+            "           r.version = r.version + 1 " +
+            "       WHERE r.solution = :solution AND r.testCase IN :testCases AND r.dispatchedAt = :dispatchedAt")
+    int registerSendFailure(
+            @Param("solution") final ExerciseSolution solution,
+            @Param("testCases") final Collection<TestCase> testCases,
+            @Param("dispatchedAt") final Instant dispatchedAt,
+            @Param("cause") final String cause
+    );
+
+    /**
+     * Counts the {@link ExerciseSolutionResult}s that are not marked, and were dispatched at or after
+     * the given {@code dispatchedSince} moment (i.e those whose executions are in-flight).
+     *
+     * @param dispatchedSince The moment since which dispatched executions are considered in-flight.
+     * @return The amount of in-flight executions.
+     * @implNote The conditions match the partial index on the dispatching moment, so it can be range scanned.
+     */
+    @Query(value = "SELECT COUNT(r) " +
+            "       FROM ExerciseSolutionResult r " +
+            "       WHERE r.result IS NULL AND r.dispatchedAt IS NOT NULL AND r.dispatchedAt >= :dispatchedSince")
+    long countInFlight(@Param("dispatchedSince") final Instant dispatchedSince);
+
+    /**
+     * Locks the stale {@link ExerciseSolutionResult}s (up to the given {@code amount}),
+     * skipping those already locked by another transaction.
+     * A result is stale when it is not marked, and it was dispatched
+     * more than {@code timeout * 2^(attempts - 1)} milliseconds before the given {@code now} moment.
+     *
+     * @param now     The current moment.
+     * @param timeout The time to wait for the response of the first attempt, in milliseconds.
+     * @param amount  The max. amount of {@link ExerciseSolutionResult}s to be locked.
+     * @return The ids of the locked {@link ExerciseSolutionResult}s.
+     * @apiNote The ids are returned as {@link Number}s as the JDBC driver might map them to any numeric type.
+     * @implNote The plain timeout condition is repeated in order to allow the partial index on the dispatching
+     * moment to be range scanned, while the backoff condition is evaluated only for the rows in that range.
+     */
+    @Query(value = "SELECT id " +
+            "       FROM exercise_solution_results " +
+            "       WHERE result IS NULL " +
+            "           AND dispatched_at IS NOT NULL " +
+            "           AND dispatched_at < CAST(:now AS TIMESTAMPTZ) - :timeout * INTERVAL '1 millisecond' " +
+            "           AND dispatched_at < CAST(:now AS TIMESTAMPTZ) " +
+            "               - :timeout * POWER(2, GREATEST(attempts - 1, 0)) * INTERVAL '1 millisecond' " +
+            "       ORDER BY dispatched_at " +
+            "       LIMIT :amount " +
+            "       FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Number> lockStale(
+            @Param("now") final Instant now,
+            @Param("timeout") final long timeout,
+            @Param("amount") final int amount
+    );
+
+    /**
+     * Retrieves the {@link ExerciseSolutionResult}s with the given {@code ids},
+     * fetching their {@link ExerciseSolution}s and {@link TestCase}s.
+     *
+     * @param ids The ids of the {@link ExerciseSolutionResult}s to be retrieved.
+     * @return The {@link ExerciseSolutionResult}s with the given {@code ids}, sorted by id.
+     */
+    @Query(value = "SELECT r " +
+            "       FROM ExerciseSolutionResult r " +
+            "           JOIN FETCH r.solution " +
+            "           JOIN FETCH r.testCase " +
+            "       WHERE r.id IN :ids " +
+            "       ORDER BY r.id")
+    List<ExerciseSolutionResult> getByIdIn(@Param("ids") final Collection<Long> ids);
 }
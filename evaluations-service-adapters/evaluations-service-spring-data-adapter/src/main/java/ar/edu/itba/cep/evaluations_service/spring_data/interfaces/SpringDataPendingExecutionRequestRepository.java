@@ -0,0 +1,80 @@
+package ar.edu.itba.cep.evaluations_service.spring_data.interfaces;
+
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import ar.edu.itba.cep.evaluations_service.models.PendingExecutionRequest;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A repository for {@link PendingExecutionRequest}s.
+ */
+@Repository
+public interface SpringDataPendingExecutionRequestRepository extends CrudRepository<PendingExecutionRequest, Long> {
+
+    /**
+     * Locks the next {@link PendingExecutionRequest}s (up to the given {@code amount}),
+     * skipping those already locked by another transaction.
+     * Requests are grouped in lanes (one per exam and language), and they are taken in turns
+     * (i.e the oldest request of each lane, then the second oldest of each lane, and so on).
+     *
+     * @param amount The max. amount of {@link PendingExecutionRequest}s to be locked.
+     * @return The ids of the locked {@link PendingExecutionRequest}s.
+     * @apiNote The ids are returned as {@link Number}s as the JDBC driver might map them to any numeric type.
+     * @implNote As window functions can not be used together with row locking,
+     * the turns are computed in a subquery, and then the selected rows are locked.
+     * As the limit is applied in the subquery (i.e before skipping locked rows), a transaction running concurrently
+     * selects the same rows, skips them, and gets an empty (or smaller) batch until the first one ends.
+     * This means that concurrent relays do not drain the outbox faster (they only provide failover),
+     * which is acceptable as the locks are held only while a batch is claimed.
+     */
+    @Query(value = "SELECT id " +
+            "       FROM pending_execution_requests " +
+            "       WHERE id IN (" +
+            "           SELECT lanes.id " +
+            "           FROM (" +
+            "               SELECT per.id AS id, " +
+            "                      ROW_NUMBER() OVER (PARTITION BY ess.exam_id, e.language ORDER BY per.id) AS turn " +
+            "               FROM pending_execution_requests per " +
+            "                   JOIN exercise_solutions es ON es.id = per.solution_id " +
+            "                   JOIN exam_solution_submission ess ON ess.id = es.submission_id " +
+            "                   JOIN exercises e ON e.id = es.exercise_id " +
+            "           ) lanes " +
+            "           ORDER BY lanes.turn, lanes.id " +
+            "           LIMIT :amount " +
+            "       ) " +
+            "       FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Number> lockNext(@Param("amount") final int amount);
+
+    /**
+     * Retrieves the {@link PendingExecutionRequest}s with the given {@code ids},
+     * fetching all the data needed to build the execution requests.
+     *
+     * @param ids The ids of the {@link PendingExecutionRequest}s to be retrieved.
+     * @return The {@link PendingExecutionRequest}s with the given {@code ids}, sorted by id.
+     */
+    @Query(value = "SELECT per " +
+            "       FROM PendingExecutionRequest per " +
+            "           JOIN FETCH per.solution s " +
+            "           JOIN FETCH s.exercise " +
+            "           JOIN FETCH per.testCase " +
+            "       WHERE per.id IN :ids " +
+            "       ORDER BY per.id")
+    List<PendingExecutionRequest> getByIdIn(@Param("ids") final Collection<Long> ids);
+
+    /**
+     * Deletes the {@link PendingExecutionRequest}s belonging to the given {@code solution}.
+     *
+     * @param solution The {@link ExerciseSolution} owning the {@link PendingExecutionRequest}s being deleted.
+     * @return The amount of deleted {@link PendingExecutionRequest}s.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM PendingExecutionRequest per WHERE per.solution = :solution")
+    int deleteBySolution(@Param("solution") final ExerciseSolution solution);
+}
@@ -0,0 +1,63 @@
+package ar.edu.itba.cep.evaluations_service.spring_data.interfaces;
+
+import ar.edu.itba.cep.evaluations_service.models.PendingScoreNotification;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A repository for {@link PendingScoreNotification}s.
+ */
+@Repository
+public interface SpringDataPendingScoreNotificationRepository
+        extends CrudRepository<PendingScoreNotification, Long> {
+
+    /**
+     * Locks the {@link PendingScoreNotification}s whose next attempt moment is not after the given {@code now}
+     * moment (up to the given {@code amount}), skipping those already locked by another transaction.
+     *
+     * @param now    The current moment.
+     * @param amount The max. amount of {@link PendingScoreNotification}s to be locked.
+     * @return The ids of the locked {@link PendingScoreNotification}s.
+     * @apiNote The ids are returned as {@link Number}s as the JDBC driver might map them to any numeric type.
+     */
+    @Query(value = "SELECT id " +
+            "       FROM pending_score_notifications " +
+            "       WHERE next_attempt_at <= CAST(:now AS TIMESTAMPTZ) " +
+            "       ORDER BY next_attempt_at " +
+            "       LIMIT :amount " +
+            "       FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Number> lockDue(@Param("now") final Instant now, @Param("amount") final int amount);
+
+    /**
+     * Retrieves the {@link PendingScoreNotification}s with the given {@code ids},
+     * fetching their scored submissions (and the exams of the said submissions).
+     *
+     * @param ids The ids of the {@link PendingScoreNotification}s to be retrieved.
+     * @return The {@link PendingScoreNotification}s with the given {@code ids}, sorted by next attempt moment.
+     */
+    @Query(value = "SELECT psn " +
+            "       FROM PendingScoreNotification psn " +
+            "           JOIN FETCH psn.submission s " +
+            "           JOIN FETCH s.exam " +
+            "       WHERE psn.id IN :ids " +
+            "       ORDER BY psn.nextAttemptAt, psn.id")
+    List<PendingScoreNotification> getByIdIn(@Param("ids") final Collection<Long> ids);
+
+    /**
+     * Deletes the {@link PendingScoreNotification}s with the given {@code ids}.
+     *
+     * @param ids The ids of the {@link PendingScoreNotification}s to be deleted.
+     * @return The amount of deleted {@link PendingScoreNotification}s.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM PendingScoreNotification psn WHERE psn.id IN :ids")
+    int deleteByIdIn(@Param("ids") final Collection<Long> ids);
+}
@@ -0,0 +1,49 @@
+package ar.edu.itba.cep.evaluations_service.spring_data.interfaces;
+
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A repository for {@link SubmissionsPlacementJob}s.
+ */
+@Repository
+public interface SpringDataSubmissionsPlacementJobRepository extends CrudRepository<SubmissionsPlacementJob, Long> {
+
+    /**
+     * Retrieves the {@link SubmissionsPlacementJob} of the given {@code exam}.
+     *
+     * @param exam The {@link Exam} whose {@link SubmissionsPlacementJob} must be retrieved.
+     * @return An {@link Optional} containing the matching {@link SubmissionsPlacementJob} if it exists,
+     * or empty otherwise.
+     */
+    Optional<SubmissionsPlacementJob> getByExam(final Exam exam);
+
+    /**
+     * Retrieves the ids of the {@link SubmissionsPlacementJob}s with the given {@code state}.
+     *
+     * @param state The {@link SubmissionsPlacementJob.State} of the {@link SubmissionsPlacementJob}s.
+     * @return A {@link List} containing the ids of the matching {@link SubmissionsPlacementJob}s.
+     */
+    @Query("SELECT j.id FROM SubmissionsPlacementJob j WHERE j.state = :state ORDER BY j.id")
+    List<Long> getIdsByState(@Param("state") final SubmissionsPlacementJob.State state);
+
+    /**
+     * Retrieves the {@link SubmissionsPlacementJob} with the given {@code id}, locking its row.
+     *
+     * @param id The id of the {@link SubmissionsPlacementJob} to be retrieved.
+     * @return An {@link Optional} containing the matching {@link SubmissionsPlacementJob} if it exists,
+     * or empty otherwise.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM SubmissionsPlacementJob j WHERE j.id = :id")
+    Optional<SubmissionsPlacementJob> findForUpdate(@Param("id") final long id);
+}
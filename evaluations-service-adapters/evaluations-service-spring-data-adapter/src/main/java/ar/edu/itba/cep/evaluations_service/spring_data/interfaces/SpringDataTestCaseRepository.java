@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * A repository for {@link TestCase}s.
@@ -22,16 +23,26 @@ public interface SpringDataTestCaseRepository extends CrudRepository<TestCase, L
      * @param exercise The {@link Exercise} owning the {@link TestCase}s being returned.
      * @return The {@link TestCase}s belonging to the given {@code exercise}.
      */
-    @Query(value = "SELECT DISTINCT tc " +
+    @Query(value = "SELECT tc " +
             "       FROM TestCase tc " +
-            "           LEFT JOIN FETCH tc.programArguments " +
-            "           LEFT JOIN FETCH tc.stdin " +
-            "           LEFT JOIN FETCH tc.expectedOutputs " +
             "       WHERE tc.exercise = :exercise")
     List<TestCase> getByExercise(@Param("exercise") final Exercise exercise);
 
     /**
-     * Retrieves the {@link TestCase}s belonging to the given {@code exercise}, applying visibility filter.
+     * Retrieves the {@link TestCase} with the given {@code id}, fetching its expected outputs.
+     *
+     * @param id The id of the {@link TestCase} to be retrieved.
+     * @return An {@link Optional} containing the {@link TestCase} if it exists, or empty otherwise.
+     */
+    @Query(value = "SELECT DISTINCT tc " +
+            "       FROM TestCase tc " +
+            "           LEFT JOIN FETCH tc.expectedOutputs " +
+            "       WHERE tc.id = :id")
+    Optional<TestCase> findWithExpectedOutputsById(@Param("id") final long id);
+
+    /**
+     * Retrieves the {@link TestCase}s belonging to the given {@code exercise}, applying visibility filter,
+     * fetching their expected outputs.
      *
      * @param exercise   The {@link Exercise} owning the {@link TestCase}s being returned.
      * @param visibility The {@link TestCase.Visibility} of the retrieved {@link TestCase}s.
@@ -39,8 +50,6 @@ public interface SpringDataTestCaseRepository extends CrudRepository<TestCase, L
      */
     @Query(value = "SELECT DISTINCT tc " +
             "       FROM TestCase tc " +
-            "           LEFT JOIN FETCH tc.programArguments " +
-            "           LEFT JOIN FETCH tc.stdin " +
             "           LEFT JOIN FETCH tc.expectedOutputs " +
             "       WHERE tc.exercise = :exercise AND tc.visibility = :visibility")
     List<TestCase> getByBelongsToAndVisibility(
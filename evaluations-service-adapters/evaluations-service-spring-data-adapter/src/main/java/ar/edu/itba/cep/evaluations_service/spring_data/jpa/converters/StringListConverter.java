@@ -0,0 +1,63 @@
+package ar.edu.itba.cep.evaluations_service.spring_data.jpa.converters;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * {@link AttributeConverter} for mapping a {@link List} of {@link String}s into a single {@link String},
+ * in which each element is prefixed with its length (in code points) and a colon
+ * (e.g {@code ["ab", "", "c:d"]} is mapped into {@code "2:ab0:3:c:d"}).
+ * This allows storing ordered lists in a single column of the owning row,
+ * so they are loaded together with it (instead of joining a collection table).
+ * A {@code null} {@link List} is stored as an empty one, as it happens with element collections.
+ *
+ * @implNote Lengths are measured in code points (and not in UTF-16 chars), in order to match
+ * the {@code length} function of PostgreSQL, which is used when migrating data into this format.
+ */
+@Converter
+public class StringListConverter implements AttributeConverter<List<String>, String> {
+
+    /**
+     * The separator between the length of an element and the element itself.
+     */
+    private static final char SEPARATOR = ':';
+
+
+    @Override
+    public String convertToDatabaseColumn(final List<String> attribute) {
+        if (attribute == null) {
+            return "";
+        }
+        final var builder = new StringBuilder();
+        for (final var element : attribute) {
+            if (element == null) {
+                throw new IllegalArgumentException("Lists with null elements can not be stored");
+            }
+            builder.append(element.codePointCount(0, element.length())).append(SEPARATOR).append(element);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(final String dbData) {
+        final var elements = new LinkedList<String>();
+        if (dbData == null) {
+            return elements;
+        }
+        int index = 0;
+        while (index < dbData.length()) {
+            final var separator = dbData.indexOf(SEPARATOR, index);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed list. Missing length separator at " + index);
+            }
+            final var length = Integer.parseInt(dbData.substring(index, separator));
+            final var start = separator + 1;
+            final var end = dbData.offsetByCodePoints(start, length);
+            elements.add(dbData.substring(start, end));
+            index = end;
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,161 @@
+package ar.edu.itba.cep.evaluations_service.spring_data.statements;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link DataSource} that measures the execution of the statements created through the connections it provides.
+ * Each execution is reported to the {@link StatementsStatistics} of the executing thread,
+ * and to the {@code db.statements} timer (i.e the amount of executed statements and the time they took).
+ * A batch execution is measured as a single statement, as it is sent in a single round trip.
+ */
+public class StatementsInstrumentingDataSource extends DelegatingDataSource {
+
+    /**
+     * The name of the metric measuring the executed statements.
+     */
+    private static final String STATEMENTS_METRIC = "db.statements";
+
+    /**
+     * An {@link ObjectProvider} of the {@link MeterRegistry} in which the statements are measured.
+     */
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    /**
+     * The {@link Timer} measuring the executed statements (lazily created, as the {@link MeterRegistry}
+     * might not be available yet when the {@link DataSource} is created).
+     */
+    private volatile Timer timer;
+
+
+    /**
+     * Constructor.
+     *
+     * @param dataSource       The {@link DataSource} to be instrumented.
+     * @param registryProvider An {@link ObjectProvider} of the {@link MeterRegistry}
+     *                         in which the statements are measured.
+     * @throws IllegalArgumentException If any argument is {@code null}.
+     */
+    public StatementsInstrumentingDataSource(
+            final DataSource dataSource,
+            final ObjectProvider<MeterRegistry> registryProvider) throws IllegalArgumentException {
+        super(dataSource);
+        Assert.notNull(registryProvider, "The registry provider must not be null");
+        this.registryProvider = registryProvider;
+    }
+
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrument(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return instrument(super.getConnection(username, password));
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Wraps the given {@code connection}, so the {@link Statement}s it creates are instrumented.
+     *
+     * @param connection The {@link Connection} to be wrapped.
+     * @return The wrapped {@link Connection}.
+     */
+    private Connection instrument(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (ignored, method, args) -> {
+                    final var result = invoke(method, connection, args);
+                    if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        return instrument((Statement) result, method.getReturnType());
+                    }
+                    return result;
+                }
+        );
+    }
+
+    /**
+     * Wraps the given {@code statement}, measuring its executions.
+     *
+     * @param statement The {@link Statement} to be wrapped.
+     * @param type      The {@link Statement} subtype to be exposed by the wrapper
+     *                  (e.g {@link java.sql.PreparedStatement}).
+     * @return The wrapped {@link Statement}.
+     */
+    private Statement instrument(final Statement statement, final Class<?> type) {
+        return (Statement) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (ignored, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(method, statement, args);
+                    }
+                    final var start = System.nanoTime();
+                    try {
+                        return invoke(method, statement, args);
+                    } finally {
+                        record(System.nanoTime() - start);
+                    }
+                }
+        );
+    }
+
+    /**
+     * Records the execution of a statement.
+     *
+     * @param nanos The time the statement took to be executed, in nanoseconds.
+     */
+    private void record(final long nanos) {
+        StatementsStatistics.record(nanos);
+        getTimer().record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The {@link Timer} measuring the executed statements (creating it if needed).
+     */
+    private Timer getTimer() {
+        var timer = this.timer;
+        if (timer == null) {
+            timer = Timer.builder(STATEMENTS_METRIC)
+                    .description("The executed SQL statements")
+                    .register(registryProvider.getIfAvailable(SimpleMeterRegistry::new));
+            this.timer = timer; // Registering it again just returns the same timer.
+        }
+        return timer;
+    }
+
+    /**
+     * Invokes the given {@code method} on the given {@code target}, unwrapping any thrown exception.
+     *
+     * @param method The {@link Method} to be invoked.
+     * @param target The object on which the method is invoked.
+     * @param args   The arguments of the invocation.
+     * @return The invocation result.
+     * @throws Throwable Any exception thrown by the invoked method.
+     */
+    private static Object invoke(final Method method, final Object target, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ar.edu.itba.cep.evaluations_service.spring_data.statements;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * A {@link BeanPostProcessor} that wraps the {@link DataSource}s of the application context
+ * with a {@link StatementsInstrumentingDataSource}, so every executed statement is measured.
+ */
+@Component
+public class StatementsInstrumentingPostProcessor implements BeanPostProcessor {
+
+    /**
+     * An {@link ObjectProvider} of the {@link MeterRegistry} in which the statements are measured.
+     */
+    private final ObjectProvider<MeterRegistry> registryProvider;
+
+
+    /**
+     * Constructor.
+     *
+     * @param registryProvider An {@link ObjectProvider} of the {@link MeterRegistry}
+     *                         in which the statements are measured.
+     * @apiNote The {@link MeterRegistry} is taken through an {@link ObjectProvider}
+     * (and only when the first statement is executed), as post processors are created before other beans.
+     */
+    public StatementsInstrumentingPostProcessor(final ObjectProvider<MeterRegistry> registryProvider) {
+        this.registryProvider = registryProvider;
+    }
+
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof StatementsInstrumentingDataSource)) {
+            return new StatementsInstrumentingDataSource((DataSource) bean, registryProvider);
+        }
+        return bean;
+    }
+}
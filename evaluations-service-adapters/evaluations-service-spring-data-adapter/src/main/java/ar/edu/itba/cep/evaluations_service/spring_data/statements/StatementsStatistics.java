@@ -0,0 +1,116 @@
+package ar.edu.itba.cep.evaluations_service.spring_data.statements;
+
+import java.time.Duration;
+
+/**
+ * Keeps track of the SQL statements executed by the current thread within {@link Scope}s
+ * (e.g a {@link Scope} can be opened when a request starts, and closed when it finishes,
+ * in order to know how many statements were executed to serve it, and how much time they took).
+ * Statements are reported by the {@link StatementsInstrumentingDataSource}.
+ */
+public final class StatementsStatistics {
+
+    /**
+     * Holds the innermost open {@link Scope} of each thread.
+     */
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private StatementsStatistics() {
+    }
+
+
+    /**
+     * Opens a new {@link Scope} for the current thread.
+     * Statements executed while it is open are also reported to the enclosing {@link Scope}s.
+     *
+     * @return The opened {@link Scope}.
+     * @apiNote {@link Scope}s must be closed by the same thread that opened them,
+     * in reverse order of opening (i.e they are meant to be used in a try-with-resources block).
+     */
+    public static Scope open() {
+        final var scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Reports the execution of a statement to the open {@link Scope}s of the current thread.
+     *
+     * @param nanos The time the statement took to be executed, in nanoseconds.
+     */
+    /* package */ static void record(final long nanos) {
+        for (var scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+            scope.nanos += nanos;
+        }
+    }
+
+
+    /**
+     * A span of execution in which statements are counted.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        /**
+         * The enclosing {@link Scope} (i.e the one that was the innermost when this was opened).
+         */
+        private final Scope parent;
+        /**
+         * The amount of statements executed while this {@link Scope} was open.
+         */
+        private int count;
+        /**
+         * The time taken by the statements executed while this {@link Scope} was open, in nanoseconds.
+         */
+        private long nanos;
+        /**
+         * Indicates whether this {@link Scope} is closed.
+         */
+        private boolean closed;
+
+        /**
+         * Constructor.
+         *
+         * @param parent The enclosing {@link Scope}.
+         */
+        private Scope(final Scope parent) {
+            this.parent = parent;
+            this.count = 0;
+            this.nanos = 0;
+            this.closed = false;
+        }
+
+        /**
+         * @return The amount of statements executed while this {@link Scope} was open.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return The time taken by the statements executed while this {@link Scope} was open.
+         */
+        public Duration getTime() {
+            return Duration.ofNanos(nanos);
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
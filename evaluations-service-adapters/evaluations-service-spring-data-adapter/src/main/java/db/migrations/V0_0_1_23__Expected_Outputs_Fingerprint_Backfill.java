@@ -0,0 +1,117 @@
+package db.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.PreparedStatement;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Fingerprints the expected outputs of the test cases that existed before fingerprints were introduced
+ * (see {@code V0_0_1_19__Test_Case_Expected_Outputs_Fingerprint.sql}), so their execution outputs are checked
+ * without loading the expected outputs.
+ * This is a Java migration in order to compute the SHA-256 digests as the application does.
+ * The decoding of the stored lists and the fingerprinting are copied here (instead of using the application's
+ * classes), so the migration keeps doing the same even if the application's code changes.
+ */
+public class V0_0_1_23__Expected_Outputs_Fingerprint_Backfill extends BaseJavaMigration {
+
+    /**
+     * The amount of rows updated in each JDBC batch.
+     */
+    private static final int BATCH_SIZE = 500;
+
+
+    @Override
+    public void migrate(final Context context) throws Exception {
+        final var connection = context.getConnection();
+        try (final var select = connection.createStatement();
+             final var update = connection.prepareStatement(
+                     "UPDATE test_cases " +
+                             "SET expected_outputs_lines = ?, " +
+                             "    expected_outputs_bytes = ?, " +
+                             "    expected_outputs_digest = ? " +
+                             "WHERE id = ?")) {
+            // Streams the rows (the migration runs in a transaction), so all the expected outputs are not held.
+            select.setFetchSize(BATCH_SIZE);
+            try (final var rows = select.executeQuery(
+                    "SELECT id, expected_outputs FROM test_cases WHERE expected_outputs_digest IS NULL")) {
+                int pending = 0;
+                while (rows.next()) {
+                    fingerprint(decode(rows.getString(2)), update);
+                    update.setLong(4, rows.getLong(1));
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    update.executeBatch();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Decodes the given stored list, in which each element is prefixed with its length (in code points)
+     * and a colon (e.g {@code "2:ab0:3:c:d"} is decoded into {@code ["ab", "", "c:d"]}).
+     *
+     * @param stored The stored list ({@code null} is decoded into an empty list).
+     * @return The decoded list.
+     */
+    private static List<String> decode(final String stored) {
+        final var elements = new LinkedList<String>();
+        if (stored == null) {
+            return elements;
+        }
+        int index = 0;
+        while (index < stored.length()) {
+            final var separator = stored.indexOf(':', index);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed list. Missing length separator at " + index);
+            }
+            final var length = Integer.parseInt(stored.substring(index, separator));
+            final var start = separator + 1;
+            final var end = stored.offsetByCodePoints(start, length);
+            elements.add(stored.substring(start, end));
+            index = end;
+        }
+        return elements;
+    }
+
+    /**
+     * Fingerprints the given {@code outputs} (i.e computes their amount of lines, their length in UTF-8 bytes,
+     * and their SHA-256 digest, in which each line is prefixed with its length), setting the values
+     * as the first three parameters of the given {@code update}.
+     *
+     * @param outputs The outputs to be fingerprinted.
+     * @param update  The {@link PreparedStatement} in which the fingerprint is set.
+     * @throws Exception If the fingerprint can not be computed or set.
+     */
+    private static void fingerprint(final List<String> outputs, final PreparedStatement update) throws Exception {
+        final var digest = MessageDigest.getInstance("SHA-256");
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(outputs.size()).array());
+        long length = 0;
+        for (final var line : outputs) {
+            // Lines come from the database, so they are valid UTF-8 (i.e encoding them does not replace anything).
+            final var bytes = line.getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+            digest.update(bytes);
+            length += bytes.length;
+        }
+        final var hash = digest.digest();
+        final var hex = new StringBuilder(hash.length * 2);
+        for (final var b : hash) {
+            hex.append(String.format("%02x", b));
+        }
+        update.setInt(1, outputs.size());
+        update.setLong(2, length);
+        update.setString(3, hex.toString());
+    }
+}
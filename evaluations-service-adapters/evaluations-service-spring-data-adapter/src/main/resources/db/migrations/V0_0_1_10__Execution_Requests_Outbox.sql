@@ -0,0 +1,9 @@
+CREATE TABLE pending_execution_requests
+(
+    id           BIGSERIAL PRIMARY KEY NOT NULL,
+    solution_id  BIGINT                NOT NULL,
+    test_case_id BIGINT                NOT NULL,
+    created_at   TIMESTAMP             NOT NULL,
+    FOREIGN KEY (solution_id) REFERENCES exercise_solutions (id) ON DELETE CASCADE ON UPDATE CASCADE,
+    FOREIGN KEY (test_case_id) REFERENCES test_cases (id) ON DELETE CASCADE ON UPDATE CASCADE
+);
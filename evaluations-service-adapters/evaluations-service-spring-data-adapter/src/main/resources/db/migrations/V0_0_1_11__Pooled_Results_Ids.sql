@@ -0,0 +1,4 @@
+-- Hibernate's pooled optimizer allocates ids in blocks, which requires the sequences
+-- to be incremented by the allocation size (i.e 50) configured in the mappings.
+ALTER SEQUENCE exercise_solution_results_id_seq INCREMENT BY 50;
+ALTER SEQUENCE pending_execution_requests_id_seq INCREMENT BY 50;
@@ -0,0 +1,12 @@
+CREATE TABLE submissions_placement_jobs
+(
+    id                 BIGSERIAL PRIMARY KEY NOT NULL,
+    exam_id            BIGINT                NOT NULL,
+    state              VARCHAR               NOT NULL,
+    placed_submissions INTEGER               NOT NULL,
+    created_at         TIMESTAMP             NOT NULL,
+    completed_at       TIMESTAMP,
+    FOREIGN KEY (exam_id) REFERENCES exams (id) ON DELETE CASCADE ON UPDATE CASCADE
+);
+
+CREATE UNIQUE INDEX submissions_placement_jobs_exam_id_unique_index ON submissions_placement_jobs (exam_id);
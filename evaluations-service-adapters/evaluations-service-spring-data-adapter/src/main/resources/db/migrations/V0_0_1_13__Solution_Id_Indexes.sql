@@ -0,0 +1,4 @@
+-- Allow operating over all the results and pending execution requests of a solution without scanning the tables
+-- (e.g when a solution does not compile, and all of its pending results are marked in bulk).
+CREATE INDEX exercise_solution_results_solution_id_index ON exercise_solution_results (solution_id);
+CREATE INDEX pending_execution_requests_solution_id_index ON pending_execution_requests (solution_id);
@@ -0,0 +1,2 @@
+ALTER TABLE exams
+    ADD COLUMN evaluation_policy VARCHAR NOT NULL DEFAULT 'COMPLETE';
@@ -0,0 +1,11 @@
+-- Track when the execution that produces a result was dispatched, and how many times it was attempted,
+-- in order to detect executions whose responses never arrive.
+ALTER TABLE exercise_solution_results
+    ADD COLUMN dispatched_at TIMESTAMP;
+ALTER TABLE exercise_solution_results
+    ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0;
+
+-- Only in-flight results (i.e not marked and dispatched) are looked up by dispatching moment,
+-- so the index is kept small by leaving the rest out.
+CREATE INDEX exercise_solution_results_dispatched_at_index ON exercise_solution_results (dispatched_at)
+    WHERE result IS NULL AND dispatched_at IS NOT NULL;
@@ -0,0 +1,4 @@
+-- Version used for optimistic locking, so concurrent updates of a result (e.g a reply being processed
+-- while the execution is re-dispatched) can not silently overwrite each other.
+ALTER TABLE exercise_solution_results
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Cause of the failure of the last attempt to send the execution to the executor service (if it failed).
+ALTER TABLE exercise_solution_results
+    ADD COLUMN send_failure VARCHAR;
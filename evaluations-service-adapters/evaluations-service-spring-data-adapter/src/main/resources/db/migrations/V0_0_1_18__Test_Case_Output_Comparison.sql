@@ -0,0 +1,10 @@
+-- The way in which outputs of executions are compared with the expected ones
+-- (and the relative tolerance for numbers, when comparing with the FLOAT_TOLERANCE strategy).
+ALTER TABLE test_cases
+    ADD COLUMN output_comparison VARCHAR NOT NULL DEFAULT 'EXACT',
+    ADD COLUMN tolerance         DOUBLE PRECISION;
+
+-- Version of the test case, incremented each time it is modified,
+-- so compiled output checkers can be cached per test case and version.
+ALTER TABLE test_cases
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,7 @@
+-- Fingerprint of the expected outputs (amount of lines, length in bytes and SHA-256 digest),
+-- so execution outputs can be checked without loading the expected outputs.
+-- Existing test cases are fingerprinted by V0_0_1_23 (a Java migration, as the digest is computed in Java).
+ALTER TABLE test_cases
+    ADD COLUMN expected_outputs_lines  INTEGER,
+    ADD COLUMN expected_outputs_bytes  BIGINT,
+    ADD COLUMN expected_outputs_digest VARCHAR(64);
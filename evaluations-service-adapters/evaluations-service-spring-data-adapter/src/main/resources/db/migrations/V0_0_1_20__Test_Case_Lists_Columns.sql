@@ -0,0 +1,38 @@
+-- Program arguments, stdin and expected outputs are stored in the test cases table,
+-- each list in a single column, with each element prefixed by its length (in characters) and a colon
+-- (e.g ['ab', '', 'c:d'] is stored as '2:ab0:3:c:d'), so test cases are loaded without joining three tables
+-- (which produced the cartesian product of the three lists for each test case).
+ALTER TABLE test_cases
+    ADD COLUMN program_arguments TEXT NOT NULL DEFAULT '',
+    ADD COLUMN stdin             TEXT NOT NULL DEFAULT '',
+    ADD COLUMN expected_outputs  TEXT NOT NULL DEFAULT '';
+
+UPDATE test_cases tc
+SET program_arguments = pa.encoded
+FROM (SELECT test_case_id,
+             string_agg(length(program_argument) || ':' || program_argument, ''
+                        ORDER BY program_argument_order) AS encoded
+      FROM test_case_program_arguments
+      GROUP BY test_case_id) pa
+WHERE pa.test_case_id = tc.id;
+
+UPDATE test_cases tc
+SET stdin = si.encoded
+FROM (SELECT test_case_id,
+             string_agg(length(input) || ':' || input, '' ORDER BY input_order) AS encoded
+      FROM test_case_stdin
+      GROUP BY test_case_id) si
+WHERE si.test_case_id = tc.id;
+
+UPDATE test_cases tc
+SET expected_outputs = eo.encoded
+FROM (SELECT test_case_id,
+             string_agg(length(expected_output) || ':' || expected_output, ''
+                        ORDER BY expected_output_order) AS encoded
+      FROM test_case_expected_outputs
+      GROUP BY test_case_id) eo
+WHERE eo.test_case_id = tc.id;
+
+DROP TABLE test_case_program_arguments;
+DROP TABLE test_case_stdin;
+DROP TABLE test_case_expected_outputs;
@@ -0,0 +1,26 @@
+-- Indexes for the columns by which repository queries filter, so none of them scans a whole table.
+
+-- Looking up the result of a solution for a test case is performed each time an execution response arrives.
+-- As the solution_id is the leading column, this index also serves lookups by solution only,
+-- so the index created in V0_0_1_13 is not needed anymore.
+CREATE INDEX exercise_solution_results_solution_id_test_case_id_index
+    ON exercise_solution_results (solution_id, test_case_id);
+DROP INDEX exercise_solution_results_solution_id_index;
+
+-- Test cases of an exercise (optionally filtered by visibility).
+CREATE INDEX test_cases_belongs_to_visibility_index ON test_cases (belongs_to, visibility);
+
+-- Exercises of an exam.
+CREATE INDEX exercises_belongs_to_index ON exercises (belongs_to);
+
+-- Exams owned by a user.
+CREATE INDEX exam_owners_owner_index ON exam_owners (owner);
+
+-- Submissions of an exam in a given state (e.g the ones still to be placed when the exam finishes).
+CREATE INDEX exam_solution_submission_exam_id_state_index ON exam_solution_submission (exam_id, state);
+
+-- Solutions of a submission (the existing unique index leads with the exercise_id, so it does not serve them).
+CREATE INDEX exercise_solutions_submission_id_index ON exercise_solutions (submission_id);
+
+-- Placement jobs in a given state (polled by the jobs runner).
+CREATE INDEX submissions_placement_jobs_state_index ON submissions_placement_jobs (state);
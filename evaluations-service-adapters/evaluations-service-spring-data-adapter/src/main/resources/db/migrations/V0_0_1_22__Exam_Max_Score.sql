@@ -0,0 +1,10 @@
+-- Max. score of each exam (i.e the sum of the awarded scores of its exercises),
+-- kept up to date when exercises are created, modified or deleted,
+-- so it can be read without loading the exam's exercises.
+ALTER TABLE exams
+    ADD COLUMN max_score INTEGER NOT NULL DEFAULT 0;
+
+UPDATE exams
+SET max_score = exercises_scores.max_score
+FROM (SELECT belongs_to, SUM(awarded_score) AS max_score FROM exercises GROUP BY belongs_to) AS exercises_scores
+WHERE exercises_scores.belongs_to = exams.id;
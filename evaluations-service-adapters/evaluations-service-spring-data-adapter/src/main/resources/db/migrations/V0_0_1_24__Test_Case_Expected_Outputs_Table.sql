@@ -0,0 +1,34 @@
+-- Expected outputs are moved back to their own table (one row per line), so they are not read each time
+-- a test case is loaded (e.g when processing execution responses, which check outputs with the fingerprint),
+-- but only when they are actually needed.
+-- Program arguments and stdin stay in the test cases table, as they are sent with each execution request.
+CREATE TABLE test_case_expected_outputs
+(
+    test_case_id          BIGINT  NOT NULL,
+    expected_output       TEXT    NOT NULL,
+    expected_output_order INTEGER NOT NULL,
+    PRIMARY KEY (test_case_id, expected_output_order),
+    FOREIGN KEY (test_case_id) REFERENCES test_cases (id) ON DELETE CASCADE ON UPDATE CASCADE
+);
+
+-- Decodes the column created in V0_0_1_20 (each element prefixed by its length, in characters, and a colon).
+WITH RECURSIVE decoded (test_case_id, expected_output, expected_output_order, rest) AS (
+    SELECT id, CAST(NULL AS TEXT), -1, expected_outputs
+    FROM test_cases
+    WHERE expected_outputs <> ''
+    UNION ALL
+    SELECT test_case_id,
+           substr(rest, strpos(rest, ':') + 1, CAST(split_part(rest, ':', 1) AS INTEGER)),
+           expected_output_order + 1,
+           substr(rest, strpos(rest, ':') + 1 + CAST(split_part(rest, ':', 1) AS INTEGER))
+    FROM decoded
+    WHERE rest <> ''
+)
+INSERT
+INTO test_case_expected_outputs (test_case_id, expected_output, expected_output_order)
+SELECT test_case_id, expected_output, expected_output_order
+FROM decoded
+WHERE expected_output_order >= 0;
+
+ALTER TABLE test_cases
+    DROP COLUMN expected_outputs;
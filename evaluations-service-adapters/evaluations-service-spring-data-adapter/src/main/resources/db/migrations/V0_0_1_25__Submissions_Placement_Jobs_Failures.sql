@@ -0,0 +1,6 @@
+-- Track the consecutive failed attempts of placing the next chunk of a job, and the error of the last one,
+-- so jobs failing too many times in a row are moved to the FAILED state instead of being retried forever.
+ALTER TABLE submissions_placement_jobs
+    ADD COLUMN failed_attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE submissions_placement_jobs
+    ADD COLUMN last_error VARCHAR;
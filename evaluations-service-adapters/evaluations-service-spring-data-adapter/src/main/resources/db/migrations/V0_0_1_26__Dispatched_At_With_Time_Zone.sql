@@ -0,0 +1,6 @@
+-- The dispatching moment identifies the dispatch a response belongs to (responses are matched by equality),
+-- so it is stored with time zone in order to round-trip exactly, regardless of the time zone of the service
+-- (a local time without time zone is ambiguous, e.g when clocks are set back).
+-- Existing values are interpreted in the session's time zone (i.e the one with which they were written).
+ALTER TABLE exercise_solution_results
+    ALTER COLUMN dispatched_at TYPE TIMESTAMP WITH TIME ZONE;
@@ -0,0 +1,14 @@
+-- The score notifications outbox: scores that must be sent to the LTI service.
+-- The next attempt moment is stored with time zone, as it is compared against the current moment.
+CREATE TABLE pending_score_notifications
+(
+    id              BIGSERIAL PRIMARY KEY    NOT NULL,
+    submission_id   BIGINT                   NOT NULL,
+    created_at      TIMESTAMP                NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    failed_attempts INTEGER                  NOT NULL,
+    last_error      VARCHAR,
+    FOREIGN KEY (submission_id) REFERENCES exam_solution_submission (id) ON DELETE CASCADE ON UPDATE CASCADE
+);
+
+CREATE INDEX pending_score_notifications_next_attempt_at_index ON pending_score_notifications (next_attempt_at);
@@ -0,0 +1,213 @@
+package ar.edu.itba.cep.evaluations_service.spring_data.benchmarks;
+
+import ar.edu.itba.cep.evaluations_service.models.*;
+import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import ar.edu.itba.cep.evaluations_service.spring_data.SpringDataExerciseSolutionResultRepositoryAdapter;
+import ar.edu.itba.cep.evaluations_service.spring_data.interfaces.SpringDataExerciseSolutionResultRepository;
+import ar.edu.itba.cep.executor.models.Language;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark for the bulk creation of {@link ExerciseSolutionResult}s performed when an {@link ExamSolutionSubmission}
+ * is submitted (i.e one result per {@link ExerciseSolution} - {@link TestCase} tuple),
+ * using the {@link ExerciseSolutionResultRepository#saveAll(Iterable)} method.
+ * A {@code batchSize} of 1 reproduces the behaviour of saving results one by one (i.e one round trip per row),
+ * while greater values take advantage of JDBC batching (which is enabled by the pooled sequence based ids).
+ * Besides the time measured by JMH, the amount of round trips per operation is reported when each trial ends.
+ * <p>
+ * Run it with the {@link #main(String[])} method (after compiling test classes).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExerciseSolutionResultsBulkSaveBenchmark {
+
+    /**
+     * The amount of {@link Exercise}s in the benchmarked {@link Exam}.
+     */
+    private static final int EXERCISES = 5;
+    /**
+     * The amount of {@link TestCase}s each {@link Exercise} has.
+     */
+    private static final int TEST_CASES_PER_EXERCISE = 20;
+
+
+    /**
+     * The JDBC batch size configured in Hibernate.
+     */
+    @Param({"1", "50"})
+    private int batchSize;
+
+    /**
+     * The {@link RoundTripsCounter} wrapping the {@link javax.sql.DataSource}.
+     */
+    private RoundTripsCounter roundTripsCounter;
+    /**
+     * The {@link EntityManagerFactory} used in the benchmark.
+     */
+    private EntityManagerFactory entityManagerFactory;
+    /**
+     * A transaction bound {@link EntityManager}.
+     */
+    private EntityManager entityManager;
+    /**
+     * The {@link TransactionTemplate} used to demarcate transactions.
+     */
+    private TransactionTemplate transactionTemplate;
+    /**
+     * The {@link ExerciseSolutionResultRepository} being benchmarked.
+     */
+    private ExerciseSolutionResultRepository resultRepository;
+    /**
+     * The {@link Exam} to which submissions are made.
+     */
+    private Exam exam;
+    /**
+     * The {@link TestCase}s of each {@link Exercise} in the {@link Exam}.
+     */
+    private Map<Exercise, List<TestCase>> testCases;
+    /**
+     * The amount of benchmarked operations performed in the current trial.
+     */
+    private long operations;
+
+
+    /**
+     * Sets up the persistence infrastructure, and the {@link Exam} with its {@link Exercise}s and {@link TestCase}s.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        roundTripsCounter = new RoundTripsCounter();
+        final var dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+
+        final var factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(roundTripsCounter.wrap(dataSource));
+        factoryBean.setMappingResources("META-INF/orm.xml");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.jdbc.batch_size", batchSize,
+                "hibernate.order_inserts", true,
+                "hibernate.order_updates", true
+        ));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        resultRepository = new SpringDataExerciseSolutionResultRepositoryAdapter(
+                new JpaRepositoryFactory(entityManager).getRepository(SpringDataExerciseSolutionResultRepository.class)
+        );
+
+        transactionTemplate.execute(status -> {
+            exam = new Exam("Benchmark", LocalDateTime.now().plusDays(1), Duration.ofHours(2), "benchmark");
+            entityManager.persist(exam);
+            testCases = IntStream.range(0, EXERCISES)
+                    .mapToObj(i -> new Exercise("Question " + i, Language.values()[0], null, 1, exam))
+                    .peek(entityManager::persist)
+                    .collect(Collectors.toMap(exercise -> exercise, this::createTestCases));
+            return null;
+        });
+        operations = 0;
+        roundTripsCounter.reset();
+    }
+
+    /**
+     * Reports the amount of round trips per operation, and releases resources.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf(
+                "%nBatch size: %d - Round trips per submission: %.2f%n",
+                batchSize,
+                (double) roundTripsCounter.getRoundTrips() / operations
+        );
+        entityManagerFactory.close();
+    }
+
+
+    /**
+     * Benchmarks the creation of results for a new submission.
+     * The round trips counted include those needed to create the submission and its solutions
+     * (which are the same regardless of the batch size).
+     */
+    @Benchmark
+    public void saveAll() {
+        transactionTemplate.execute(status -> {
+            final var submission = new ExamSolutionSubmission(exam, "submitter-" + operations);
+            entityManager.persist(submission);
+            final var results = testCases.entrySet().stream()
+                    .flatMap(entry -> {
+                        final var solution = new ExerciseSolution(submission, entry.getKey());
+                        entityManager.persist(solution);
+                        return entry.getValue()
+                                .stream()
+                                .map(testCase -> new ExerciseSolutionResult(solution, testCase));
+                    })
+                    .collect(Collectors.toList());
+            return resultRepository.saveAll(results);
+        });
+        operations++;
+    }
+
+
+    /**
+     * Creates and persists the {@link TestCase}s for the given {@code exercise}.
+     *
+     * @param exercise The {@link Exercise} to which the {@link TestCase}s belong to.
+     * @return The created {@link TestCase}s.
+     */
+    private List<TestCase> createTestCases(final Exercise exercise) {
+        return IntStream.range(0, TEST_CASES_PER_EXERCISE)
+                .mapToObj(i -> new TestCase(
+                        TestCase.Visibility.PUBLIC,
+                        1000L,
+                        List.of(),
+                        List.of(),
+                        List.of(Integer.toString(i)),
+                        exercise
+                ))
+                .peek(entityManager::persist)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Entry point to run this benchmark.
+     *
+     * @param args Program arguments (ignored).
+     * @throws RunnerException If the benchmark could not be run.
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(ExerciseSolutionResultsBulkSaveBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+}
@@ -0,0 +1,111 @@
+package ar.edu.itba.cep.evaluations_service.spring_data.benchmarks;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps a {@link DataSource} in order to count the amount of round trips to the database
+ * (i.e the amount of times a {@link Statement} is executed, where a batch counts as one execution).
+ */
+/* package */ final class RoundTripsCounter {
+
+    /**
+     * The amount of round trips performed since this counter was created (or reset).
+     */
+    private final AtomicLong roundTrips;
+
+
+    /**
+     * Constructor.
+     */
+    /* package */ RoundTripsCounter() {
+        this.roundTrips = new AtomicLong();
+    }
+
+
+    /**
+     * @return The amount of round trips performed since this counter was created (or reset).
+     */
+    /* package */ long getRoundTrips() {
+        return roundTrips.get();
+    }
+
+    /**
+     * Resets this counter.
+     */
+    /* package */ void reset() {
+        roundTrips.set(0);
+    }
+
+    /**
+     * Wraps the given {@code dataSource} in order to count round trips to the database.
+     *
+     * @param dataSource The {@link DataSource} to be wrapped.
+     * @return The wrapped {@link DataSource}.
+     */
+    /* package */ DataSource wrap(final DataSource dataSource) {
+        return proxy(DataSource.class, dataSource);
+    }
+
+
+    /**
+     * Creates a proxy of the given {@code target}, counting executions of {@link Statement}s,
+     * and wrapping all returned {@link Connection}s and {@link Statement}s.
+     *
+     * @param type   The interface being proxied.
+     * @param target The proxied object.
+     * @param <T>    The concrete type of the proxied object.
+     * @return The proxy.
+     */
+    private <T> T proxy(final Class<T> type, final T target) {
+        final var proxy = Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (ignored, method, args) -> {
+                    if (Statement.class.isAssignableFrom(type) && method.getName().startsWith("execute")) {
+                        roundTrips.incrementAndGet();
+                    }
+                    return wrapResult(method, invoke(method, target, args));
+                }
+        );
+        return type.cast(proxy);
+    }
+
+    /**
+     * Wraps the given {@code result} if it is a {@link Connection} or a {@link Statement}.
+     *
+     * @param method The invoked {@link Method}.
+     * @param result The value returned by the invoked {@link Method}.
+     * @return The wrapped result if it must be wrapped, or the result itself otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    private Object wrapResult(final Method method, final Object result) {
+        final var returnType = method.getReturnType();
+        if (result != null && (returnType == Connection.class || Statement.class.isAssignableFrom(returnType))) {
+            return proxy((Class<Object>) returnType, result);
+        }
+        return result;
+    }
+
+    /**
+     * Invokes the given {@code method} on the given {@code target}, unwrapping any thrown exception.
+     *
+     * @param method The {@link Method} to be invoked.
+     * @param target The object on which the method is invoked.
+     * @param args   The arguments of the invocation.
+     * @return The invocation result.
+     * @throws Throwable Any exception thrown by the invoked method.
+     */
+    private static Object invoke(final Method method, final Object target, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
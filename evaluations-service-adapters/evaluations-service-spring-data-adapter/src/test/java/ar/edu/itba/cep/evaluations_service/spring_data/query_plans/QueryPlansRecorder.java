@@ -0,0 +1,292 @@
+package ar.edu.itba.cep.evaluations_service.spring_data.query_plans;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Wraps a {@link DataSource} in order to record the plan of each executed query
+ * (i.e before executing a {@link PreparedStatement}, the same statement is sent prefixed with {@code EXPLAIN},
+ * with the same parameters bound to it, and the resulting plan is recorded).
+ * Only {@code SELECT}, {@code UPDATE} and {@code DELETE} statements are explained.
+ */
+/* package */ final class QueryPlansRecorder {
+
+    /**
+     * A {@link Pattern} matching plan nodes that scan an index.
+     */
+    private static final Pattern INDEX_SCAN = Pattern.compile("Index (Only )?Scan (Backward )?using");
+
+    /**
+     * The recorded {@link QueryPlan}s.
+     */
+    private final List<QueryPlan> plans;
+
+
+    /**
+     * Constructor.
+     */
+    /* package */ QueryPlansRecorder() {
+        this.plans = Collections.synchronizedList(new ArrayList<>());
+    }
+
+
+    /**
+     * @return The {@link QueryPlan}s recorded since this recorder was created (or reset).
+     */
+    /* package */ List<QueryPlan> getPlans() {
+        synchronized (plans) {
+            return new ArrayList<>(plans);
+        }
+    }
+
+    /**
+     * Discards the recorded {@link QueryPlan}s.
+     */
+    /* package */ void reset() {
+        plans.clear();
+    }
+
+    /**
+     * Wraps the given {@code dataSource} in order to record the plans of the executed queries.
+     *
+     * @param dataSource The {@link DataSource} to be wrapped.
+     * @return The wrapped {@link DataSource}.
+     */
+    /* package */ DataSource wrap(final DataSource dataSource) {
+        return (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class},
+                (ignored, method, args) -> {
+                    final var result = invoke(method, dataSource, args);
+                    return result instanceof Connection ? wrap((Connection) result) : result;
+                }
+        );
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Wraps the given {@code connection}, so the {@link PreparedStatement}s it creates are wrapped too.
+     *
+     * @param connection The {@link Connection} to be wrapped.
+     * @return The wrapped {@link Connection}.
+     */
+    private Connection wrap(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (ignored, method, args) -> {
+                    final var result = invoke(method, connection, args);
+                    if (result instanceof PreparedStatement && method.getName().equals("prepareStatement")) {
+                        return wrap((PreparedStatement) result, connection, (String) args[0]);
+                    }
+                    return result;
+                }
+        );
+    }
+
+    /**
+     * Wraps the given {@code statement}, recording the parameters bound to it,
+     * and explaining it before each execution.
+     *
+     * @param statement  The {@link PreparedStatement} to be wrapped.
+     * @param connection The {@link Connection} that created the {@code statement}.
+     * @param sql        The SQL of the {@code statement}.
+     * @return The wrapped {@link PreparedStatement}.
+     */
+    private PreparedStatement wrap(final PreparedStatement statement, final Connection connection, final String sql) {
+        final Map<Integer, Binding> bindings = new TreeMap<>();
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (ignored, method, args) -> {
+                    final var name = method.getName();
+                    if (isParameterSetter(method, args)) {
+                        bindings.put((Integer) args[0], new Binding(method, args));
+                    } else if (name.equals("clearParameters")) {
+                        bindings.clear();
+                    } else if (name.startsWith("execute") && (args == null || args.length == 0) && isExplainable(sql)) {
+                        plans.add(new QueryPlan(sql, explain(connection, sql, bindings.values())));
+                    }
+                    return invoke(method, statement, args);
+                }
+        );
+    }
+
+    /**
+     * Explains the given {@code sql}, binding the given {@code bindings}.
+     *
+     * @param connection The {@link Connection} through which the statement is explained.
+     * @param sql        The SQL to be explained.
+     * @param bindings   The parameters {@link Binding}s.
+     * @return The lines of the plan.
+     * @throws Throwable If explaining fails.
+     */
+    private static List<String> explain(
+            final Connection connection,
+            final String sql,
+            final Iterable<Binding> bindings) throws Throwable {
+        try (final var explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (final var binding : bindings) {
+                invoke(binding.method, explain, binding.args);
+            }
+            try (final var resultSet = explain.executeQuery()) {
+                final var lines = new ArrayList<String>();
+                while (resultSet.next()) {
+                    lines.add(resultSet.getString(1));
+                }
+                return lines;
+            }
+        }
+    }
+
+    /**
+     * Indicates whether the given {@code method} binds a parameter (i.e it is a {@code setXxx(int, ...)} method).
+     *
+     * @param method The invoked {@link Method}.
+     * @param args   The arguments of the invocation.
+     * @return {@code true} if it binds a parameter, or {@code false} otherwise.
+     */
+    private static boolean isParameterSetter(final Method method, final Object[] args) {
+        return method.getName().startsWith("set")
+                && args != null
+                && args.length >= 2
+                && method.getParameterTypes()[0] == int.class;
+    }
+
+    /**
+     * Indicates whether the given {@code sql} can be explained.
+     *
+     * @param sql The SQL to be checked.
+     * @return {@code true} if it can be explained, or {@code false} otherwise.
+     */
+    private static boolean isExplainable(final String sql) {
+        final var statement = sql.trim().toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("update") || statement.startsWith("delete");
+    }
+
+    /**
+     * Invokes the given {@code method} on the given {@code target}, unwrapping any thrown exception.
+     *
+     * @param method The {@link Method} to be invoked.
+     * @param target The object on which the method is invoked.
+     * @param args   The arguments of the invocation.
+     * @return The invocation result.
+     * @throws Throwable Any exception thrown by the invoked method.
+     */
+    private static Object invoke(final Method method, final Object target, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+
+    /**
+     * A parameter bound to a {@link PreparedStatement} (i.e the setter invocation, which is replayed).
+     */
+    private static final class Binding {
+
+        /**
+         * The setter {@link Method}.
+         */
+        private final Method method;
+        /**
+         * The arguments of the setter invocation.
+         */
+        private final Object[] args;
+
+        /**
+         * Constructor.
+         *
+         * @param method The setter {@link Method}.
+         * @param args   The arguments of the setter invocation.
+         */
+        private Binding(final Method method, final Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+    }
+
+    /**
+     * The plan of an executed query.
+     */
+    /* package */ static final class QueryPlan {
+
+        /**
+         * The SQL of the query.
+         */
+        private final String sql;
+        /**
+         * The lines of the plan (as returned by {@code EXPLAIN}).
+         */
+        private final List<String> lines;
+
+        /**
+         * Constructor.
+         *
+         * @param sql   The SQL of the query.
+         * @param lines The lines of the plan.
+         */
+        private QueryPlan(final String sql, final List<String> lines) {
+            this.sql = sql;
+            this.lines = lines;
+        }
+
+        /**
+         * Retrieves the nodes of this plan that read whole tables, which are sequential scans,
+         * and index scans without an index condition (i.e that read the whole index,
+         * which the planner chooses instead of a sequential scan when those are disabled).
+         *
+         * @return The lines of the said nodes.
+         */
+        /* package */ List<String> getUnindexedScans() {
+            final var scans = new ArrayList<String>();
+            for (int i = 0; i < lines.size(); i++) {
+                final var line = lines.get(i);
+                if (line.contains("Seq Scan on")) {
+                    scans.add(line.trim());
+                } else if (INDEX_SCAN.matcher(line).find() && !hasIndexCondition(i)) {
+                    scans.add(line.trim());
+                }
+            }
+            return scans;
+        }
+
+        /**
+         * Indicates whether the node in the given line has an index condition.
+         *
+         * @param nodeLine The index of the line of the node.
+         * @return {@code true} if it has an index condition, or {@code false} otherwise.
+         */
+        private boolean hasIndexCondition(final int nodeLine) {
+            // The details of a node are the lines that follow it, until the next node (i.e a line with an arrow).
+            for (int i = nodeLine + 1; i < lines.size() && !lines.get(i).contains("->"); i++) {
+                if (lines.get(i).trim().startsWith("Index Cond:")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return sql + System.lineSeparator() + String.join(System.lineSeparator(), lines);
+        }
+    }
+}
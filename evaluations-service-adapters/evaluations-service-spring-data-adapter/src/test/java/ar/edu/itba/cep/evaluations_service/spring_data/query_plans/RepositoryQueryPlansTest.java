@@ -0,0 +1,845 @@
+package ar.edu.itba.cep.evaluations_service.spring_data.query_plans;
+
+import ar.edu.itba.cep.evaluations_service.models.*;
+import ar.edu.itba.cep.evaluations_service.repositories.SubmissionScoring;
+import ar.edu.itba.cep.evaluations_service.spring_data.SpringDataExamSolutionSubmissionRepositoryAdapter;
+import ar.edu.itba.cep.evaluations_service.spring_data.interfaces.*;
+import ar.edu.itba.cep.evaluations_service.spring_data.statements.StatementsInstrumentingDataSource;
+import ar.edu.itba.cep.evaluations_service.spring_data.statements.StatementsStatistics;
+import ar.edu.itba.cep.executor.models.Language;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult.Result.*;
+
+/**
+ * Checks the plans of the queries performed by the Spring Data repositories against an embedded PostgreSQL,
+ * migrated with the application's Flyway migrations, so a query that is not backed by an index
+ * (e.g because an index is dropped, or because a query starts filtering by another column) is detected.
+ * Sequential scans are disabled in the connections used by the repositories (i.e {@code enable_seqscan = off}),
+ * so the planner only chooses them (or whole index scans) if no index can be used,
+ * regardless of the (tiny) amount of data in the database.
+ * <p>
+ * It also checks the amount of statements executed by the listing, starting and scoring operations
+ * (counted with {@link StatementsStatistics}), so a lazy association loaded per row,
+ * or a query performed per entity, is detected (i.e the amount must not grow with the amount of rows).
+ * The repositories are configured with the same batching properties the application uses.
+ * <p>
+ * {@link SpringDataPendingExecutionRequestRepository#lockNext(int)} is not checked,
+ * as it reads all the pending execution requests by design (in order to interleave them by exam and language).
+ */
+class RepositoryQueryPlansTest {
+
+    /**
+     * The location of the Flyway migrations (the same used by the application, including the Java ones).
+     */
+    private static final String MIGRATIONS_LOCATION = "classpath:db/migrations";
+
+    /**
+     * The embedded PostgreSQL.
+     */
+    private static EmbeddedPostgres postgres;
+    /**
+     * The {@link QueryPlansRecorder} wrapping the {@link javax.sql.DataSource} used by the repositories.
+     */
+    private static QueryPlansRecorder recorder;
+    /**
+     * The {@link EntityManagerFactory} used in the tests.
+     */
+    private static EntityManagerFactory entityManagerFactory;
+    /**
+     * A transaction bound {@link EntityManager}.
+     */
+    private static EntityManager entityManager;
+    /**
+     * The {@link TransactionTemplate} used to demarcate transactions.
+     */
+    private static TransactionTemplate transactionTemplate;
+
+    // Repositories
+    private static SpringDataExamRepository examRepository;
+    private static SpringDataExamSolutionSubmissionRepository submissionRepository;
+    private static SpringDataExerciseRepository exerciseRepository;
+    private static SpringDataExerciseSolutionRepository solutionRepository;
+    private static SpringDataExerciseSolutionResultRepository resultRepository;
+    private static SpringDataPendingExecutionRequestRepository pendingExecutionRequestRepository;
+    private static SpringDataPendingScoreNotificationRepository pendingScoreNotificationRepository;
+    private static SpringDataSubmissionsPlacementJobRepository placementJobRepository;
+    private static SpringDataTestCaseRepository testCaseRepository;
+
+    // Persisted entities used as query parameters
+    private static Exam exam;
+    private static Exercise exercise;
+    private static TestCase testCase;
+    private static ExamSolutionSubmission submission;
+    private static ExerciseSolution solution;
+    private static ExerciseSolutionResult result;
+    private static PendingExecutionRequest pendingExecutionRequest;
+    private static PendingScoreNotification pendingScoreNotification;
+    private static SubmissionsPlacementJob placementJob;
+
+
+    /**
+     * Starts the embedded PostgreSQL, migrates it, builds the repositories, and persists the entities
+     * used as query parameters.
+     *
+     * @throws IOException If the embedded PostgreSQL can not be started.
+     */
+    @BeforeAll
+    static void setup() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations(MIGRATIONS_LOCATION)
+                .load()
+                .migrate();
+
+        recorder = new QueryPlansRecorder();
+        final var dataSource = postgres.getPostgresDatabase(Map.of("options", "-c enable_seqscan=off"));
+        final var factoryBean = new LocalContainerEntityManagerFactoryBean();
+        // Statements are counted outside the recorder, so the explained statements are not counted.
+        final var registryProvider = new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class);
+        factoryBean.setDataSource(new StatementsInstrumentingDataSource(recorder.wrap(dataSource), registryProvider));
+        factoryBean.setMappingResources("META-INF/orm.xml");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "none",
+                "hibernate.jdbc.batch_size", "50",
+                "hibernate.default_batch_fetch_size", "50",
+                "hibernate.order_updates", "true"
+        ));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+        final var repositoryFactory = new JpaRepositoryFactory(entityManager);
+        examRepository = repositoryFactory.getRepository(SpringDataExamRepository.class);
+        submissionRepository = repositoryFactory.getRepository(SpringDataExamSolutionSubmissionRepository.class);
+        exerciseRepository = repositoryFactory.getRepository(SpringDataExerciseRepository.class);
+        solutionRepository = repositoryFactory.getRepository(SpringDataExerciseSolutionRepository.class);
+        resultRepository = repositoryFactory.getRepository(SpringDataExerciseSolutionResultRepository.class);
+        pendingExecutionRequestRepository =
+                repositoryFactory.getRepository(SpringDataPendingExecutionRequestRepository.class);
+        pendingScoreNotificationRepository =
+                repositoryFactory.getRepository(SpringDataPendingScoreNotificationRepository.class);
+        placementJobRepository = repositoryFactory.getRepository(SpringDataSubmissionsPlacementJobRepository.class);
+        testCaseRepository = repositoryFactory.getRepository(SpringDataTestCaseRepository.class);
+
+        transactionTemplate.execute(status -> {
+            exam = new Exam("Query plans", LocalDateTime.now().plusDays(1), Duration.ofHours(2), "owner");
+            entityManager.persist(exam);
+            exercise = new Exercise("Question", Language.values()[0], null, 1, exam);
+            entityManager.persist(exercise);
+            testCase = new TestCase(TestCase.Visibility.PUBLIC, 1000L, List.of(), List.of(), List.of("1"), exercise);
+            entityManager.persist(testCase);
+            submission = new ExamSolutionSubmission(exam, "submitter");
+            entityManager.persist(submission);
+            solution = new ExerciseSolution(submission, exercise);
+            entityManager.persist(solution);
+            result = new ExerciseSolutionResult(solution, testCase);
+            entityManager.persist(result);
+            pendingExecutionRequest = new PendingExecutionRequest(solution, testCase);
+            entityManager.persist(pendingExecutionRequest);
+            pendingScoreNotification = new PendingScoreNotification(submission);
+            entityManager.persist(pendingScoreNotification);
+            placementJob = new SubmissionsPlacementJob(exam);
+            entityManager.persist(placementJob);
+            return null;
+        });
+    }
+
+    /**
+     * Releases resources.
+     *
+     * @throws IOException If the embedded PostgreSQL can not be stopped.
+     */
+    @AfterAll
+    static void tearDown() throws IOException {
+        entityManagerFactory.close();
+        postgres.close();
+    }
+
+
+    // ================================================================================================================
+    // Exams
+    // ================================================================================================================
+
+    /**
+     * Checks {@link SpringDataExamRepository#findByOwners(String, org.springframework.data.domain.Pageable)}.
+     */
+    @Test
+    void testFindExamsByOwners() {
+        assertIndexed(() -> examRepository.findByOwners("owner", PageRequest.of(0, 10)));
+    }
+
+    /**
+     * Checks {@link SpringDataExamRepository#addToMaxScore(Exam, int)}.
+     */
+    @Test
+    void testAddToExamMaxScore() {
+        assertIndexed(() -> examRepository.addToMaxScore(exam, 1));
+    }
+
+    /**
+     * Checks {@link SpringDataExamRepository#clearMaxScore(Exam)}.
+     */
+    @Test
+    void testClearExamMaxScore() {
+        assertIndexed(() -> examRepository.clearMaxScore(exam));
+    }
+
+
+    // ================================================================================================================
+    // Submissions
+    // ================================================================================================================
+
+    /**
+     * Checks the paginated {@link SpringDataExamSolutionSubmissionRepository#getByExam}.
+     */
+    @Test
+    void testGetSubmissionsByExam() {
+        assertIndexed(() -> submissionRepository.getByExam(exam, PageRequest.of(0, 10)));
+    }
+
+    /**
+     * Checks {@link SpringDataExamSolutionSubmissionRepository#getByExamAndState(Exam, ExamSolutionSubmission.State)}.
+     */
+    @Test
+    void testGetSubmissionsByExamAndState() {
+        assertIndexed(() -> submissionRepository.getByExamAndState(exam, ExamSolutionSubmission.State.UNPLACED));
+    }
+
+    /**
+     * Checks the paginated {@link SpringDataExamSolutionSubmissionRepository#getByExamAndState}.
+     */
+    @Test
+    void testGetSubmissionsByExamAndStatePaginated() {
+        assertIndexed(() -> submissionRepository
+                .getByExamAndState(exam, ExamSolutionSubmission.State.UNPLACED, PageRequest.of(0, 10)));
+    }
+
+    /**
+     * Checks {@link SpringDataExamSolutionSubmissionRepository#deleteByExam(Exam)}.
+     */
+    @Test
+    void testDeleteSubmissionsByExam() {
+        assertIndexed(() -> submissionRepository.deleteByExam(exam));
+    }
+
+    /**
+     * Checks {@link SpringDataExamSolutionSubmissionRepository#getByExamAndSubmitter(Exam, String)}.
+     */
+    @Test
+    void testGetSubmissionByExamAndSubmitter() {
+        assertIndexed(() -> submissionRepository.getByExamAndSubmitter(exam, "submitter"));
+    }
+
+    /**
+     * Checks {@link SpringDataExamSolutionSubmissionRepository#existsByExamAndSubmitter(Exam, String)}.
+     */
+    @Test
+    void testExistsSubmissionByExamAndSubmitter() {
+        assertIndexed(() -> submissionRepository.existsByExamAndSubmitter(exam, "submitter"));
+    }
+
+    /**
+     * Checks {@link SpringDataExamSolutionSubmissionRepository#getScoring(long)}.
+     */
+    @Test
+    void testGetSubmissionScoring() {
+        assertIndexed(() -> submissionRepository.getScoring(submission.getId()));
+    }
+
+    /**
+     * Checks {@link SpringDataExamSolutionSubmissionRepository#getScorings(long, String)}.
+     */
+    @Test
+    void testGetExamSubmissionsScorings() {
+        final var state = ExamSolutionSubmission.State.SUBMITTED.name();
+        assertIndexed(() -> submissionRepository.getScorings(exam.getId(), state));
+    }
+
+    /**
+     * Checks the scorings computed by {@link SpringDataExamSolutionSubmissionRepository#getScoring(long)}
+     * and {@link SpringDataExamSolutionSubmissionRepository#getScorings(long, String)}
+     * for submissions with approved, failed, not executed, pending and not evaluated solutions,
+     * and for submissions without solutions.
+     */
+    @Test
+    void testSubmissionsScorings() {
+        final var adapter = new SpringDataExamSolutionSubmissionRepositoryAdapter(submissionRepository);
+        transactionTemplate.execute(status -> {
+            final var scoringExam = new Exam("Scoring", LocalDateTime.now().plusDays(1), Duration.ofHours(2), "owner");
+            entityManager.persist(scoringExam);
+            final var exercise1 = persistExercise(scoringExam, 1);
+            final var exercise2 = persistExercise(scoringExam, 2);
+            final var exercise4 = persistExercise(scoringExam, 4);
+            final var exercise8 = persistExercise(scoringExam, 8);
+            final var exercise16 = persistExercise(scoringExam, 16);
+            final var exercise32 = persistExercise(scoringExam, 32);
+
+            final var mixed = persistSubmission(scoringExam, "mixed", true);
+            persistSolution(mixed, exercise1, APPROVED, APPROVED);
+            persistSolution(mixed, exercise2, APPROVED, FAILED);
+            persistSolution(mixed, exercise4, SKIPPED);
+            persistSolution(mixed, exercise8, APPROVED, NOT_COMPILED);
+            persistSolution(mixed, exercise16, FAILED, null);
+            persistSolution(mixed, exercise32); // Not evaluated solutions (i.e without results) are approved.
+            final var approved = persistSubmission(scoringExam, "approved", true);
+            persistSolution(approved, exercise1, APPROVED);
+            persistSolution(approved, exercise2, APPROVED);
+            final var empty = persistSubmission(scoringExam, "empty", true);
+            final var unplaced = persistSubmission(scoringExam, "unplaced", false);
+            persistSolution(unplaced, exercise1, APPROVED);
+            entityManager.flush();
+
+            final var scorings = adapter.getScorings(scoringExam, ExamSolutionSubmission.State.SUBMITTED).stream()
+                    .collect(Collectors.toMap(SubmissionScoring::getSubmissionId, Function.identity()));
+            Assertions.assertAll(
+                    "Wrong submissions scorings",
+                    () -> Assertions.assertEquals(
+                            Set.of(mixed.getId(), approved.getId()),
+                            scorings.keySet(),
+                            "Only submitted submissions with solutions must be scored in bulk"
+                    ),
+                    () -> assertScoring(scorings.get(mixed.getId()), 1, 33),
+                    () -> assertScoring(scorings.get(approved.getId()), 0, 3),
+                    () -> assertScoring(adapter.getScoring(mixed), 1, 33),
+                    () -> assertScoring(adapter.getScoring(empty), 0, 0),
+                    () -> assertScoring(adapter.getScoring(unplaced), 0, 1),
+                    () -> Assertions.assertTrue(
+                            submissionRepository.getScoring(empty.getId()).isEmpty(),
+                            "A submission without solutions must not have a scoring row"
+                    )
+            );
+            status.setRollbackOnly();
+            return null;
+        });
+    }
+
+
+    // ================================================================================================================
+    // Exercises
+    // ================================================================================================================
+
+    /**
+     * Checks {@link SpringDataExerciseRepository#getByExam(Exam)}.
+     */
+    @Test
+    void testGetExercisesByExam() {
+        assertIndexed(() -> exerciseRepository.getByExam(exam));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseRepository#countWithoutTestCases(Exam, TestCase.Visibility)}.
+     */
+    @Test
+    void testCountExercisesWithoutTestCases() {
+        assertIndexed(() -> exerciseRepository.countWithoutTestCases(exam, TestCase.Visibility.PRIVATE));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseRepository#deleteByExam(Exam)}.
+     */
+    @Test
+    void testDeleteExercisesByExam() {
+        assertIndexed(() -> exerciseRepository.deleteByExam(exam));
+    }
+
+
+    // ================================================================================================================
+    // Solutions
+    // ================================================================================================================
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionRepository#getBySubmission(ExamSolutionSubmission)}.
+     */
+    @Test
+    void testGetSolutionsBySubmission() {
+        assertIndexed(() -> solutionRepository.getBySubmission(submission));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionRepository#lockById(long)}.
+     */
+    @Test
+    void testLockSolutionById() {
+        assertIndexed(() -> solutionRepository.lockById(solution.getId()));
+    }
+
+
+    // ================================================================================================================
+    // Results
+    // ================================================================================================================
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionResultRepository#findBySolutionAndTestCase(ExerciseSolution, TestCase)}.
+     */
+    @Test
+    void testFindResultBySolutionAndTestCase() {
+        assertIndexed(() -> resultRepository.findBySolutionAndTestCase(solution, testCase));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionResultRepository#findBySolutionIdAndTestCaseId(long, long)}.
+     */
+    @Test
+    void testFindResultBySolutionIdAndTestCaseId() {
+        assertIndexed(() -> resultRepository.findBySolutionIdAndTestCaseId(solution.getId(), testCase.getId()));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionResultRepository#findBySolution(ExerciseSolution)}.
+     */
+    @Test
+    void testFindResultsBySolution() {
+        assertIndexed(() -> resultRepository.findBySolution(solution));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionResultRepository#getBySolutionIdInAndTestCaseIdIn}.
+     */
+    @Test
+    void testGetResultsBySolutionIdsAndTestCaseIds() {
+        assertIndexed(() -> resultRepository
+                .getBySolutionIdInAndTestCaseIdIn(List.of(solution.getId()), List.of(testCase.getId())));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionResultRepository#markPending}.
+     */
+    @Test
+    void testMarkPendingResults() {
+        assertIndexed(() -> resultRepository.markPending(solution, ExerciseSolutionResult.Result.NOT_COMPILED));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionResultRepository#registerDispatch}.
+     */
+    @Test
+    void testRegisterDispatch() {
+        assertIndexed(() -> resultRepository.registerDispatch(solution, List.of(testCase), Instant.now()));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionResultRepository#registerSendFailure}.
+     */
+    @Test
+    void testRegisterSendFailure() {
+        assertIndexed(() -> resultRepository.registerSendFailure(solution, List.of(testCase), Instant.now(), "cause"));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionResultRepository#countInFlight(Instant)}.
+     */
+    @Test
+    void testCountInFlightResults() {
+        assertIndexed(() -> resultRepository.countInFlight(Instant.now()));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionResultRepository#lockStale(Instant, long, int)}.
+     */
+    @Test
+    void testLockStaleResults() {
+        assertIndexed(() -> resultRepository.lockStale(Instant.now(), 1000, 10));
+    }
+
+    /**
+     * Checks {@link SpringDataExerciseSolutionResultRepository#getByIdIn(java.util.Collection)}.
+     */
+    @Test
+    void testGetResultsByIds() {
+        assertIndexed(() -> resultRepository.getByIdIn(List.of(result.getId())));
+    }
+
+
+    // ================================================================================================================
+    // Pending execution requests
+    // ================================================================================================================
+
+    /**
+     * Checks {@link SpringDataPendingExecutionRequestRepository#getByIdIn(java.util.Collection)}.
+     */
+    @Test
+    void testGetPendingExecutionRequestsByIds() {
+        assertIndexed(() -> pendingExecutionRequestRepository.getByIdIn(List.of(pendingExecutionRequest.getId())));
+    }
+
+    /**
+     * Checks {@link SpringDataPendingExecutionRequestRepository#deleteBySolution(ExerciseSolution)}.
+     */
+    @Test
+    void testDeletePendingExecutionRequestsBySolution() {
+        assertIndexed(() -> pendingExecutionRequestRepository.deleteBySolution(solution));
+    }
+
+
+    // ================================================================================================================
+    // Pending score notifications
+    // ================================================================================================================
+
+    /**
+     * Checks {@link SpringDataPendingScoreNotificationRepository#lockDue(Instant, int)}.
+     */
+    @Test
+    void testLockDueScoreNotifications() {
+        assertIndexed(() -> pendingScoreNotificationRepository.lockDue(Instant.now(), 10));
+    }
+
+    /**
+     * Checks {@link SpringDataPendingScoreNotificationRepository#getByIdIn(java.util.Collection)}.
+     */
+    @Test
+    void testGetScoreNotificationsByIds() {
+        assertIndexed(() -> pendingScoreNotificationRepository.getByIdIn(List.of(pendingScoreNotification.getId())));
+    }
+
+    /**
+     * Checks {@link SpringDataPendingScoreNotificationRepository#deleteByIdIn(java.util.Collection)}.
+     */
+    @Test
+    void testDeleteScoreNotificationsByIds() {
+        assertIndexed(() -> pendingScoreNotificationRepository
+                .deleteByIdIn(List.of(pendingScoreNotification.getId())));
+    }
+
+
+    // ================================================================================================================
+    // Submissions placement jobs
+    // ================================================================================================================
+
+    /**
+     * Checks {@link SpringDataSubmissionsPlacementJobRepository#getByExam(Exam)}.
+     */
+    @Test
+    void testGetPlacementJobByExam() {
+        assertIndexed(() -> placementJobRepository.getByExam(exam));
+    }
+
+    /**
+     * Checks {@link SpringDataSubmissionsPlacementJobRepository#getIdsByState(SubmissionsPlacementJob.State)}.
+     */
+    @Test
+    void testGetPlacementJobIdsByState() {
+        assertIndexed(() -> placementJobRepository.getIdsByState(SubmissionsPlacementJob.State.IN_PROGRESS));
+    }
+
+    /**
+     * Checks {@link SpringDataSubmissionsPlacementJobRepository#findForUpdate(long)}.
+     */
+    @Test
+    void testFindPlacementJobForUpdate() {
+        assertIndexed(() -> placementJobRepository.findForUpdate(placementJob.getId()));
+    }
+
+
+    // ================================================================================================================
+    // Test cases
+    // ================================================================================================================
+
+    /**
+     * Checks {@link SpringDataTestCaseRepository#getByExercise(Exercise)}.
+     */
+    @Test
+    void testGetTestCasesByExercise() {
+        assertIndexed(() -> testCaseRepository.getByExercise(exercise));
+    }
+
+    /**
+     * Checks {@link SpringDataTestCaseRepository#findWithExpectedOutputsById(long)}.
+     */
+    @Test
+    void testFindTestCaseWithExpectedOutputs() {
+        assertIndexed(() -> testCaseRepository.findWithExpectedOutputsById(testCase.getId()));
+    }
+
+    /**
+     * Checks {@link SpringDataTestCaseRepository#getByBelongsToAndVisibility(Exercise, TestCase.Visibility)}.
+     */
+    @Test
+    void testGetTestCasesByExerciseAndVisibility() {
+        assertIndexed(() -> testCaseRepository.getByBelongsToAndVisibility(exercise, TestCase.Visibility.PRIVATE));
+    }
+
+    /**
+     * Checks {@link SpringDataTestCaseRepository#deleteByExercise(Exercise)}.
+     */
+    @Test
+    void testDeleteTestCasesByExercise() {
+        assertIndexed(() -> testCaseRepository.deleteByExercise(exercise));
+    }
+
+    /**
+     * Checks {@link SpringDataTestCaseRepository#deleteByExerciseExam(Exam)}.
+     */
+    @Test
+    void testDeleteTestCasesByExam() {
+        assertIndexed(() -> testCaseRepository.deleteByExerciseExam(exam));
+    }
+
+
+    // ================================================================================================================
+    // Statements per operation
+    // ================================================================================================================
+
+    /**
+     * Checks that listing the {@link Exam}s of an owner, together with their (lazy) owners,
+     * does not execute a statement per {@link Exam} (i.e the page, its count, and a single batch of owners).
+     */
+    @Test
+    void testListingExamsStatements() {
+        transactionTemplate.execute(status -> {
+            for (var i = 0; i < 5; i++) {
+                final var listed = new Exam("Listed", LocalDateTime.now().plusDays(1), Duration.ofHours(2), "lister");
+                listed.addOwner("co-owner");
+                entityManager.persist(listed);
+            }
+            assertMaxStatements(
+                    3,
+                    () -> examRepository.findByOwners("lister", PageRequest.of(0, 3))
+                            .forEach(listed -> listed.getOwners().size())
+            );
+            status.setRollbackOnly();
+            return null;
+        });
+    }
+
+    /**
+     * Checks that listing the {@link ExamSolutionSubmission}s of an {@link Exam}, together with their (lazy) exam,
+     * does not execute a statement per {@link ExamSolutionSubmission} (i.e the page, its count, and the exam).
+     */
+    @Test
+    void testListingSubmissionsStatements() {
+        transactionTemplate.execute(status -> {
+            final var listedExam = new Exam("Listed", LocalDateTime.now().plusDays(1), Duration.ofHours(2), "owner");
+            entityManager.persist(listedExam);
+            for (var i = 0; i < 5; i++) {
+                persistSubmission(listedExam, "submitter" + i, false);
+            }
+            assertMaxStatements(
+                    3,
+                    () -> submissionRepository.getByExam(listedExam, PageRequest.of(0, 3))
+                            .forEach(listed -> listed.getExam().getState())
+            );
+            status.setRollbackOnly();
+            return null;
+        });
+    }
+
+    /**
+     * Checks that starting an {@link Exam} does not execute a statement per {@link Exercise}
+     * (i.e loading the exam, its exercises, checking their private test cases, and updating the exam).
+     */
+    @Test
+    void testStartingExamStatements() {
+        transactionTemplate.execute(status -> {
+            final var startedExam = new Exam("Started", LocalDateTime.now().plusDays(1), Duration.ofHours(2), "owner");
+            entityManager.persist(startedExam);
+            for (var i = 0; i < 5; i++) {
+                final var startedExercise = persistExercise(startedExam, 1);
+                entityManager.persist(new TestCase(
+                        TestCase.Visibility.PRIVATE, 1000L, List.of(), List.of(), List.of("1"), startedExercise
+                ));
+            }
+            assertMaxStatements(4, () -> {
+                final var loaded = examRepository.findById(startedExam.getId()).orElseThrow();
+                Assertions.assertFalse(exerciseRepository.getByExam(loaded).isEmpty(), "The exercises were not found");
+                Assertions.assertEquals(
+                        0,
+                        exerciseRepository.countWithoutTestCases(loaded, TestCase.Visibility.PRIVATE),
+                        "All the exercises have private test cases"
+                );
+                loaded.startExam();
+            });
+            status.setRollbackOnly();
+            return null;
+        });
+    }
+
+    /**
+     * Checks that scoring the {@link ExamSolutionSubmission}s of an {@link Exam} does not execute a statement
+     * per {@link ExamSolutionSubmission} (i.e computing the scorings, loading the submissions, and a batch update),
+     * and that scoring a single {@link ExamSolutionSubmission} executes a single statement.
+     */
+    @Test
+    void testScoringStatements() {
+        final var adapter = new SpringDataExamSolutionSubmissionRepositoryAdapter(submissionRepository);
+        transactionTemplate.execute(status -> {
+            final var scoredExam = new Exam("Scored", LocalDateTime.now().plusDays(1), Duration.ofHours(2), "owner");
+            entityManager.persist(scoredExam);
+            final var scoredExercise = persistExercise(scoredExam, 1);
+            ExamSolutionSubmission scored = null;
+            for (var i = 0; i < 5; i++) {
+                scored = persistSubmission(scoredExam, "submitter" + i, true);
+                persistSolution(scored, scoredExercise, APPROVED);
+            }
+            final var submitted = ExamSolutionSubmission.State.SUBMITTED;
+            assertMaxStatements(3, () -> {
+                final var scores = adapter.getScorings(scoredExam, submitted).stream().collect(Collectors.toMap(
+                        SubmissionScoring::getSubmissionId,
+                        SubmissionScoring::getApprovedScore
+                ));
+                submissionRepository.getByExamAndState(scoredExam, submitted)
+                        .forEach(submission -> submission.score(scores.getOrDefault(submission.getId(), 0)));
+            });
+            final var single = scored;
+            assertMaxStatements(1, () -> adapter.getScoring(single));
+            status.setRollbackOnly();
+            return null;
+        });
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Persists an {@link Exercise} for the given {@code exam}.
+     *
+     * @param exam         The {@link Exam} to which the exercise belongs to.
+     * @param awardedScore The score awarded by the exercise.
+     * @return The persisted {@link Exercise}.
+     */
+    private static Exercise persistExercise(final Exam exam, final int awardedScore) {
+        final var persisted = new Exercise("Question", Language.values()[0], null, awardedScore, exam);
+        entityManager.persist(persisted);
+        return persisted;
+    }
+
+    /**
+     * Persists an {@link ExamSolutionSubmission} for the given {@code exam}.
+     *
+     * @param exam      The {@link Exam} to which the submission belongs to.
+     * @param submitter The submitter.
+     * @param submitted Whether the submission must be submitted.
+     * @return The persisted {@link ExamSolutionSubmission}.
+     */
+    private static ExamSolutionSubmission persistSubmission(
+            final Exam exam,
+            final String submitter,
+            final boolean submitted) {
+        final var persisted = new ExamSolutionSubmission(exam, submitter);
+        if (submitted) {
+            persisted.submit();
+        }
+        entityManager.persist(persisted);
+        return persisted;
+    }
+
+    /**
+     * Persists an {@link ExerciseSolution} for the given {@code exercise}, with a {@link TestCase}
+     * and an {@link ExerciseSolutionResult} for each of the given {@code results}.
+     *
+     * @param submission The {@link ExamSolutionSubmission} to which the solution belongs to.
+     * @param exercise   The solved {@link Exercise}.
+     * @param results    The {@link ExerciseSolutionResult.Result}s of the solution ({@code null} for pending ones).
+     */
+    private static void persistSolution(
+            final ExamSolutionSubmission submission,
+            final Exercise exercise,
+            final ExerciseSolutionResult.Result... results) {
+        final var persisted = new ExerciseSolution(submission, exercise);
+        entityManager.persist(persisted);
+        for (final var result : results) {
+            final var resultTestCase =
+                    new TestCase(TestCase.Visibility.PUBLIC, 1000L, List.of(), List.of(), List.of("1"), exercise);
+            entityManager.persist(resultTestCase);
+            final var solutionResult = new ExerciseSolutionResult(persisted, resultTestCase);
+            if (result != null) {
+                solutionResult.mark(result);
+            }
+            entityManager.persist(solutionResult);
+        }
+    }
+
+    /**
+     * Asserts that the given {@code scoring} has the given amount of {@code pendingResults}
+     * and {@code approvedScore}.
+     *
+     * @param scoring        The {@link SubmissionScoring} to be checked.
+     * @param pendingResults The expected amount of pending results.
+     * @param approvedScore  The expected approved score.
+     */
+    private static void assertScoring(
+            final SubmissionScoring scoring,
+            final long pendingResults,
+            final int approvedScore) {
+        Assertions.assertNotNull(scoring, "The submission was not scored");
+        Assertions.assertEquals(pendingResults, scoring.getPendingResults(), "Wrong amount of pending results");
+        Assertions.assertEquals(approvedScore, scoring.getApprovedScore(), "Wrong approved score");
+    }
+
+    /**
+     * Performs the given {@code call} (within the current transaction), and asserts that it executes
+     * at most {@code max} statements, including those flushed at its end.
+     * The persistence context is flushed and cleared before, so the call loads everything it needs.
+     *
+     * @param max  The max. amount of statements the call can execute.
+     * @param call The call to be checked.
+     */
+    private static void assertMaxStatements(final int max, final Runnable call) {
+        entityManager.flush();
+        entityManager.clear();
+        try (final var scope = StatementsStatistics.open()) {
+            call.run();
+            entityManager.flush();
+            Assertions.assertTrue(
+                    scope.getCount() <= max,
+                    () -> "Expected at most " + max + " statements, but " + scope.getCount() + " were executed"
+            );
+        }
+    }
+
+    /**
+     * Performs the given {@code query} (within a transaction that is rolled back),
+     * and asserts that none of the executed statements reads a whole table.
+     *
+     * @param query The query to be checked.
+     */
+    private static void assertIndexed(final Runnable query) {
+        recorder.reset();
+        transactionTemplate.execute(status -> {
+            query.run();
+            status.setRollbackOnly();
+            return null;
+        });
+        final var plans = recorder.getPlans();
+        Assertions.assertFalse(plans.isEmpty(), "No statement was executed");
+        Assertions.assertAll(
+                "Some statements read whole tables",
+                plans.stream().map(plan -> () -> Assertions.assertTrue(
+                        plan.getUnindexedScans().isEmpty(),
+                        () -> "Unindexed scans " + plan.getUnindexedScans() + " in plan:"
+                                + System.lineSeparator() + plan
+                ))
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package ar.edu.itba.cep.evaluations_service.application;
+
+import ar.edu.itba.cep.evaluations_service.spring_data.statements.StatementsStatistics;
+import com.bellotapps.webapps_commons.config.JerseyConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.glassfish.jersey.uri.UriTemplate;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+/**
+ * An {@link ApplicationEventListener} that measures the SQL statements executed to serve each request,
+ * registering, by endpoint (i.e HTTP method and matched URI template),
+ * the {@code http.server.requests.statements} distribution summary (i.e the amount of statements per request),
+ * and the {@code http.server.requests.statements.time} timer (i.e the time taken by those statements per request).
+ * Those metrics allow spotting endpoints whose amount of statements grows with the amount of data (N + 1 queries).
+ */
+@Component
+public class StatementsMetricsListener implements ApplicationEventListener, InitializingBean {
+
+    /**
+     * The name of the metric counting the statements executed per request.
+     */
+    private static final String STATEMENTS_METRIC = "http.server.requests.statements";
+    /**
+     * The name of the metric measuring the time taken by the statements executed per request.
+     */
+    private static final String STATEMENTS_TIME_METRIC = "http.server.requests.statements.time";
+    /**
+     * The URI tag value for requests that do not match any endpoint.
+     */
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    /**
+     * The {@link JerseyConfig} in which this listener is registered.
+     */
+    private final JerseyConfig jerseyConfig;
+    /**
+     * The {@link MeterRegistry} in which metrics are registered.
+     */
+    private final MeterRegistry registry;
+
+
+    /**
+     * Constructor.
+     *
+     * @param jerseyConfig The {@link JerseyConfig} in which this listener is registered.
+     * @param registry     The {@link MeterRegistry} in which metrics are registered.
+     */
+    public StatementsMetricsListener(final JerseyConfig jerseyConfig, final MeterRegistry registry) {
+        this.jerseyConfig = jerseyConfig;
+        this.registry = registry;
+    }
+
+
+    @Override
+    public void afterPropertiesSet() {
+        jerseyConfig.register(this);
+    }
+
+    @Override
+    public void onEvent(final ApplicationEvent event) {
+        // Application events are not measured.
+    }
+
+    @Override
+    public RequestEventListener onRequest(final RequestEvent requestEvent) {
+        // Requests are served synchronously, so the scope is opened and closed in the request's thread.
+        final var scope = StatementsStatistics.open();
+        return event -> {
+            if (event.getType() != RequestEvent.Type.FINISHED) {
+                return;
+            }
+            scope.close();
+            final var tags = Tags.of(
+                    "method", event.getContainerRequest().getMethod(),
+                    "uri", uriTemplate(event.getUriInfo())
+            );
+            DistributionSummary.builder(STATEMENTS_METRIC)
+                    .description("The amount of SQL statements executed per request")
+                    .tags(tags)
+                    .register(registry)
+                    .record(scope.getCount());
+            Timer.builder(STATEMENTS_TIME_METRIC)
+                    .description("The time taken by the SQL statements executed per request")
+                    .tags(tags)
+                    .register(registry)
+                    .record(scope.getTime());
+        };
+    }
+
+
+    /**
+     * Builds the URI template of the endpoint matched by a request.
+     *
+     * @param uriInfo The {@link ExtendedUriInfo} of the request.
+     * @return The matched URI template (e.g {@code /exams/{examId}/exercises}).
+     */
+    private static String uriTemplate(final ExtendedUriInfo uriInfo) {
+        final var templates = new ArrayList<>(uriInfo.getMatchedTemplates());
+        if (templates.isEmpty()) {
+            return UNKNOWN_URI;
+        }
+        Collections.reverse(templates); // Jersey reports the most specific template first.
+        final var uri = templates.stream()
+                .map(UriTemplate::getTemplate)
+                .collect(Collectors.joining())
+                .replaceAll("//+", "/");
+        return uri.isEmpty() ? "/" : uri;
+    }
+}
@@ -0,0 +1,104 @@
+package ar.edu.itba.cep.evaluations_service.domain.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.concurrent.*;
+
+/**
+ * Configuration class for the asynchronous handling of domain events.
+ * Events are handled in a bounded thread pool (i.e with a bounded queue),
+ * whose behaviour when saturated is defined by a {@link RejectionPolicy}.
+ * The pool is instrumented (if there is a {@link MeterRegistry} in the context),
+ * so its queue size, active threads and task durations can be monitored.
+ */
+@Configuration
+@EnableAsync
+public class AsyncEventsConfig {
+
+    /**
+     * The name of the {@link Executor} bean used to handle domain events asynchronously
+     * (to be used as the value of {@link org.springframework.scheduling.annotation.Async} annotations).
+     */
+    public static final String ASYNC_EVENTS_EXECUTOR = "asyncEventsExecutor";
+
+
+    /**
+     * Creates the {@link Executor} used to handle domain events asynchronously.
+     *
+     * @param corePoolSize     The amount of threads kept in the pool.
+     * @param maxPoolSize      The max. amount of threads in the pool (only reached when the queue is full).
+     * @param queueCapacity    The max. amount of events waiting to be handled.
+     * @param keepAlive        The time (in milliseconds) an idle thread above the core pool size is kept.
+     * @param rejectionPolicy  The {@link RejectionPolicy} applied when the pool is saturated.
+     * @param registryProvider An {@link ObjectProvider} of the {@link MeterRegistry} used to instrument the pool.
+     * @return The created {@link ExecutorService}.
+     * @throws IllegalArgumentException If any of the sizes is not valid.
+     */
+    @Bean(name = ASYNC_EVENTS_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService asyncEventsExecutor(
+            @Value("${async-events.core-pool-size:4}") final int corePoolSize,
+            @Value("${async-events.max-pool-size:16}") final int maxPoolSize,
+            @Value("${async-events.queue-capacity:1000}") final int queueCapacity,
+            @Value("${async-events.keep-alive:60000}") final long keepAlive,
+            @Value("${async-events.rejection-policy:CALLER_RUNS}") final RejectionPolicy rejectionPolicy,
+            final ObjectProvider<MeterRegistry> registryProvider) throws IllegalArgumentException {
+        Assert.isTrue(corePoolSize > 0, "The core pool size must be positive");
+        Assert.isTrue(maxPoolSize >= corePoolSize, "The max. pool size must not be smaller than the core pool size");
+        Assert.isTrue(queueCapacity > 0, "The queue capacity must be positive");
+        Assert.notNull(rejectionPolicy, "The rejection policy must not be null");
+        final var executor = new ThreadPoolExecutor(
+                corePoolSize,
+                maxPoolSize,
+                keepAlive,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("async-events-"),
+                rejectionPolicy.handler()
+        );
+        final var registry = registryProvider.getIfAvailable();
+        if (registry == null) {
+            return executor;
+        }
+        return ExecutorServiceMetrics.monitor(registry, executor, ASYNC_EVENTS_EXECUTOR, Collections.emptyList());
+    }
+
+
+    /**
+     * The policies that can be applied when the asynchronous events pool is saturated.
+     */
+    public enum RejectionPolicy {
+        /**
+         * The event is handled in the thread that published it, slowing down the publisher (i.e backpressure).
+         */
+        CALLER_RUNS {
+            @Override
+            /* package */ RejectedExecutionHandler handler() {
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            }
+        },
+        /**
+         * A {@link RejectedExecutionException} is thrown to the publisher.
+         */
+        ABORT {
+            @Override
+            /* package */ RejectedExecutionHandler handler() {
+                return new ThreadPoolExecutor.AbortPolicy();
+            }
+        },
+        ;
+
+        /**
+         * @return The {@link RejectedExecutionHandler} that implements the policy.
+         */
+        /* package */ abstract RejectedExecutionHandler handler();
+    }
+}
@@ -2,11 +2,13 @@ package ar.edu.itba.cep.evaluations_service.domain.config;
 
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Configuration class for the domain's module.
  */
 @Configuration
+@EnableScheduling
 @ComponentScan(basePackages = {
         "ar.edu.itba.cep.evaluations_service.domain"
 })
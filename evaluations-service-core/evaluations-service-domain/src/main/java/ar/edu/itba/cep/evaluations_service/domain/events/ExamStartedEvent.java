@@ -0,0 +1,22 @@
+package ar.edu.itba.cep.evaluations_service.domain.events;
+
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Represents the event of an {@link Exam} being started (i.e {@link Exam#startExam()} is called).
+ */
+@Getter
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+@AllArgsConstructor(staticName = "create")
+public class ExamStartedEvent {
+
+    /**
+     * The {@link Exam} that has started.
+     */
+    private final Exam exam;
+}
@@ -0,0 +1,23 @@
+package ar.edu.itba.cep.evaluations_service.domain.events;
+
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Represents the event of abandoning the execution that should produce an {@link ExerciseSolutionResult},
+ * as its response did not arrive after the max. amount of attempts.
+ */
+@Getter
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+@AllArgsConstructor(staticName = "create")
+public class ExecutionAbandonedEvent {
+
+    /**
+     * The {@link ExerciseSolutionResult} whose execution was abandoned.
+     */
+    private final ExerciseSolutionResult result;
+}
@@ -6,6 +6,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.time.Instant;
+
 /**
  * Represents the event of receiving an {@link ExecutionResponse}.
  */
@@ -27,4 +29,9 @@ public class ExecutionResponseArrivedEvent {
      * The {@link ExecutionResponse} that has arrived.
      */
     private final ExecutionResponse response;
+    /**
+     * The moment at which the execution was dispatched
+     * (or {@code null} if it is not known, e.g for responses to requests sent before it was included).
+     */
+    private final Instant dispatchedAt;
 }
@@ -0,0 +1,27 @@
+package ar.edu.itba.cep.evaluations_service.domain.events;
+
+import ar.edu.itba.cep.executor.models.ExecutionResponse;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Represents the event of rejecting an {@link ExecutionResponse} that can not be processed,
+ * as the solution or the test case it refers to does not exist (e.g they were deleted while it was running).
+ */
+@Getter
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+@AllArgsConstructor(staticName = "create")
+public class ExecutionResponseRejectedEvent {
+
+    /**
+     * The id of the solution referred by the rejected response.
+     */
+    private final long solutionId;
+    /**
+     * The id of the test case referred by the rejected response.
+     */
+    private final long testCaseId;
+}
@@ -0,0 +1,25 @@
+package ar.edu.itba.cep.evaluations_service.domain.events;
+
+import ar.edu.itba.cep.executor.models.ExecutionResponse;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Represents the event of receiving several {@link ExecutionResponse}s together
+ * (i.e a batch of {@link ExecutionResponseArrivedEvent}s, in arrival order).
+ */
+@Getter
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+@AllArgsConstructor(staticName = "create")
+public class ExecutionResponsesArrivedEvent {
+
+    /**
+     * The arrived responses, as {@link ExecutionResponseArrivedEvent}s.
+     */
+    private final List<ExecutionResponseArrivedEvent> responses;
+}
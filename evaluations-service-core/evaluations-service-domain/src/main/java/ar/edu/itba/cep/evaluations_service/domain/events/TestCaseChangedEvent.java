@@ -0,0 +1,22 @@
+package ar.edu.itba.cep.evaluations_service.domain.events;
+
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Represents the event of a {@link TestCase} being modified or deleted.
+ */
+@Getter
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+@AllArgsConstructor(staticName = "create")
+public class TestCaseChangedEvent {
+
+    /**
+     * The {@link TestCase} that has changed.
+     */
+    private final TestCase testCase;
+}
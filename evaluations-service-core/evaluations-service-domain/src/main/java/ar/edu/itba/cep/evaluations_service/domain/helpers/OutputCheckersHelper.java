@@ -0,0 +1,301 @@
+package ar.edu.itba.cep.evaluations_service.domain.helpers;
+
+import ar.edu.itba.cep.evaluations_service.models.OutputsFingerprint;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A helper class that compiles output checkers (i.e {@link Predicate}s that tell whether the outputs
+ * of an execution are approved) for the different {@link TestCase.OutputComparison}s.
+ * All the work that only depends on the expected outputs (e.g compiling patterns, normalizing lines,
+ * parsing numbers or counting lines) is performed once, when compiling,
+ * so checking the outputs of an execution only processes the said outputs.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OutputCheckersHelper {
+
+    /**
+     * A {@link Pattern} matching runs of whitespaces.
+     */
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    /**
+     * A {@link Pattern} matching decimal numbers
+     * (i.e without the hexadecimal, infinity and NaN notations accepted by {@link Double#parseDouble(String)}).
+     */
+    private static final Pattern NUMBER = Pattern.compile("[-+]?(\\d+\\.?\\d*|\\.\\d+)([eE][-+]?\\d+)?");
+
+
+    /**
+     * Compiles an output checker for the given {@code testCase}.
+     * For {@link TestCase.OutputComparison#EXACT} comparisons, the {@link TestCase}'s {@link OutputsFingerprint}
+     * is used if present, so the expected outputs are not even loaded.
+     *
+     * @param testCase The {@link TestCase} whose output checker is compiled.
+     * @return A {@link Predicate} that tells whether the given outputs match the {@code testCase}'s expected ones.
+     */
+    public static Predicate<List<String>> compile(final TestCase testCase) {
+        final var comparison = testCase.getOutputComparison();
+        if (comparison == null || comparison == TestCase.OutputComparison.EXACT) {
+            final var fingerprint = testCase.getExpectedOutputsFingerprint();
+            if (fingerprint.isPresent()) {
+                return fingerprint.get()::matches;
+            }
+        }
+        return compile(comparison, testCase.getTolerance(), testCase.getExpectedOutputs());
+    }
+
+    /**
+     * Compiles an output checker using the given {@code comparison}.
+     *
+     * @param comparison      The {@link TestCase.OutputComparison} to be used
+     *                        ({@code null} means {@link TestCase.OutputComparison#EXACT}).
+     * @param tolerance       The relative tolerance used when comparing numbers
+     *                        (only used for {@link TestCase.OutputComparison#FLOAT_TOLERANCE}).
+     * @param expectedOutputs The expected outputs.
+     * @return A {@link Predicate} that tells whether the given outputs match the {@code expectedOutputs}.
+     */
+    public static Predicate<List<String>> compile(
+            final TestCase.OutputComparison comparison,
+            final Double tolerance,
+            final List<String> expectedOutputs) {
+        if (comparison == null || comparison == TestCase.OutputComparison.EXACT || expectedOutputs == null) {
+            return exact(expectedOutputs);
+        }
+        switch (comparison) {
+            case WHITESPACE_INSENSITIVE:
+                return whitespaceInsensitive(expectedOutputs);
+            case FLOAT_TOLERANCE:
+                return floatTolerance(expectedOutputs, Objects.requireNonNullElse(tolerance, 0d));
+            case REGEX:
+                return regex(expectedOutputs);
+            case UNORDERED_LINES:
+                return unorderedLines(expectedOutputs);
+        }
+        throw new IllegalArgumentException("Unknown output comparison. Have you added a new value to the enum?");
+    }
+
+
+    // ================================================================================================================
+    // Checkers
+    // ================================================================================================================
+
+    /**
+     * Compiles a checker for the {@link TestCase.OutputComparison#EXACT} comparison.
+     *
+     * @param expectedOutputs The expected outputs.
+     * @return The checker.
+     */
+    private static Predicate<List<String>> exact(final List<String> expectedOutputs) {
+        final var expected = expectedOutputs == null ? null : new ArrayList<>(expectedOutputs);
+        return actual -> OutputsComparisonHelper.matches(expected, actual);
+    }
+
+    /**
+     * Compiles a checker for the {@link TestCase.OutputComparison#WHITESPACE_INSENSITIVE} comparison.
+     *
+     * @param expectedOutputs The expected outputs.
+     * @return The checker.
+     */
+    private static Predicate<List<String>> whitespaceInsensitive(final List<String> expectedOutputs) {
+        final var expected = normalize(expectedOutputs);
+        return actual -> actual != null && OutputsComparisonHelper.matches(expected, normalize(actual));
+    }
+
+    /**
+     * Compiles a checker for the {@link TestCase.OutputComparison#FLOAT_TOLERANCE} comparison.
+     * Lines are compared token by token (tokens being separated by whitespaces). Numeric tokens match if they differ
+     * up to the given {@code tolerance}, relative to the expected value (or absolute, if its magnitude is below 1),
+     * and the rest must be equal.
+     *
+     * @param expectedOutputs The expected outputs.
+     * @param tolerance       The relative tolerance.
+     * @return The checker.
+     */
+    private static Predicate<List<String>> floatTolerance(final List<String> expectedOutputs, final double tolerance) {
+        final var expected = expectedOutputs.stream()
+                .map(OutputCheckersHelper::tokenize)
+                .collect(Collectors.toCollection(ArrayList::new));
+        return actual -> {
+            if (actual == null || actual.size() != expected.size()) {
+                return false;
+            }
+            final var actualLines = actual.iterator();
+            for (final var expectedTokens : expected) {
+                if (!tokensMatch(expectedTokens, actualLines.next(), tolerance)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Compiles a checker for the {@link TestCase.OutputComparison#REGEX} comparison.
+     *
+     * @param expectedOutputs The expected outputs (i.e regular expressions).
+     * @return The checker.
+     */
+    private static Predicate<List<String>> regex(final List<String> expectedOutputs) {
+        final var patterns = expectedOutputs.stream()
+                .map(Pattern::compile)
+                .collect(Collectors.toCollection(ArrayList::new));
+        return actual -> {
+            if (actual == null || actual.size() != patterns.size()) {
+                return false;
+            }
+            final var actualLines = actual.iterator();
+            for (final var pattern : patterns) {
+                final var line = actualLines.next();
+                if (line == null || !pattern.matcher(line).matches()) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Compiles a checker for the {@link TestCase.OutputComparison#UNORDERED_LINES} comparison.
+     *
+     * @param expectedOutputs The expected outputs.
+     * @return The checker.
+     */
+    private static Predicate<List<String>> unorderedLines(final List<String> expectedOutputs) {
+        final var expectedCounts = expectedOutputs.stream()
+                .collect(Collectors.groupingBy(line -> line, HashMap::new, Collectors.counting()));
+        final var expectedSize = expectedOutputs.size();
+        return actual -> {
+            if (actual == null || actual.size() != expectedSize) {
+                return false;
+            }
+            // As sizes are equal, consuming a count for each actual line means both have the same lines.
+            final Map<String, Long> remaining = new HashMap<>(expectedCounts);
+            for (final var line : actual) {
+                final var count = remaining.get(line);
+                if (count == null) {
+                    return false;
+                }
+                if (count == 1) {
+                    remaining.remove(line);
+                } else {
+                    remaining.put(line, count - 1);
+                }
+            }
+            return true;
+        };
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Normalizes the given {@code lines}, trimming them, collapsing runs of whitespaces into a single space,
+     * and removing trailing blank lines.
+     *
+     * @param lines The lines to be normalized.
+     * @return The normalized lines.
+     */
+    private static List<String> normalize(final List<String> lines) {
+        final var normalized = new ArrayList<String>(lines.size());
+        for (final var line : lines) {
+            normalized.add(line == null ? "" : WHITESPACES.matcher(line.trim()).replaceAll(" "));
+        }
+        while (!normalized.isEmpty() && normalized.get(normalized.size() - 1).isEmpty()) {
+            normalized.remove(normalized.size() - 1);
+        }
+        return normalized;
+    }
+
+    /**
+     * Splits the given expected {@code line} into {@link Token}s, parsing numbers beforehand.
+     *
+     * @param line The line to be split.
+     * @return The {@link Token}s.
+     */
+    private static Token[] tokenize(final String line) {
+        return split(line).stream()
+                .map(text -> new Token(text, NUMBER.matcher(text).matches() ? Double.parseDouble(text) : null))
+                .toArray(Token[]::new);
+    }
+
+    /**
+     * Checks whether the given {@code line} matches the given {@code expected} {@link Token}s.
+     *
+     * @param expected  The expected {@link Token}s.
+     * @param line      The actual line.
+     * @param tolerance The relative tolerance used for numbers.
+     * @return {@code true} if they match, or {@code false} otherwise.
+     */
+    private static boolean tokensMatch(final Token[] expected, final String line, final double tolerance) {
+        if (line == null) {
+            return false;
+        }
+        final var actual = split(line);
+        if (actual.size() != expected.length) {
+            return false;
+        }
+        final Iterator<String> actualTokens = actual.iterator();
+        for (final var token : expected) {
+            if (!token.matches(actualTokens.next(), tolerance)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits the given {@code line} into its whitespace separated parts.
+     *
+     * @param line The line to be split.
+     * @return The parts of the line.
+     */
+    private static List<String> split(final String line) {
+        final var trimmed = line.trim();
+        return trimmed.isEmpty() ? List.of() : List.of(WHITESPACES.split(trimmed));
+    }
+
+
+    /**
+     * A token of an expected output line, holding its value as a number if it is numeric.
+     */
+    @AllArgsConstructor
+    private static final class Token {
+
+        /**
+         * The token's text.
+         */
+        private final String text;
+        /**
+         * The token's numeric value, or {@code null} if it is not a number.
+         */
+        private final Double number;
+
+        /**
+         * Checks whether the given {@code actual} token matches this one.
+         *
+         * @param actual    The actual token.
+         * @param tolerance The relative tolerance used if this token is a number.
+         * @return {@code true} if they match, or {@code false} otherwise.
+         */
+        private boolean matches(final String actual, final double tolerance) {
+            if (number == null || !NUMBER.matcher(actual).matches()) {
+                return text.equals(actual);
+            }
+            return Math.abs(Double.parseDouble(actual) - number) <= tolerance * Math.max(1, Math.abs(number));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ar.edu.itba.cep.evaluations_service.domain.helpers;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A helper class that contains shared methods to compare the outputs of executions
+ * (i.e lists of lines, which can be huge).
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OutputsComparisonHelper {
+
+    /**
+     * Checks whether the given {@code actual} outputs match the given {@code expected} ones
+     * (i.e they have the same lines, in the same order).
+     *
+     * @param expected The expected outputs.
+     * @param actual   The actual outputs.
+     * @return {@code true} if they match, or {@code false} otherwise.
+     * @implNote Sizes are compared first (which {@link List#equals(Object)} does not do), so outputs with a different
+     * amount of lines are rejected without visiting them. Then lines are compared in a single pass with iterators
+     * (i.e without random access, which is linear for linked lists), stopping at the first mismatch.
+     */
+    public static boolean matches(final List<String> expected, final List<String> actual) {
+        if (expected == actual) {
+            return true;
+        }
+        if (expected == null || actual == null || expected.size() != actual.size()) {
+            return false;
+        }
+        return linesMatch(expected.iterator(), actual.iterator());
+    }
+
+    /**
+     * Checks whether the lines of the given {@link Iterator}s match, stopping at the first mismatch.
+     *
+     * @param expected An {@link Iterator} over the expected lines.
+     * @param actual   An {@link Iterator} over the actual lines.
+     * @return {@code true} if both {@link Iterator}s have the same lines, in the same order,
+     * or {@code false} otherwise.
+     */
+    private static boolean linesMatch(final Iterator<String> expected, final Iterator<String> actual) {
+        while (expected.hasNext() && actual.hasNext()) {
+            if (!Objects.equals(expected.next(), actual.next())) {
+                return false;
+            }
+        }
+        return !expected.hasNext() && !actual.hasNext();
+    }
+}
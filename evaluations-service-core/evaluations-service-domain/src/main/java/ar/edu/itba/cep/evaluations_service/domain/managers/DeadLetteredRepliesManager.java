@@ -0,0 +1,38 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.ExecutionRepliesDeadLetterQueue;
+import ar.edu.itba.cep.evaluations_service.models.DeadLetteredReply;
+import ar.edu.itba.cep.evaluations_service.services.DeadLetteredRepliesService;
+import com.bellotapps.webapps_commons.exceptions.NoSuchEntityException;
+import lombok.AllArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * Manager for {@link DeadLetteredReply}s, which is restricted to administrators.
+ */
+@Service
+@AllArgsConstructor
+public class DeadLetteredRepliesManager implements DeadLetteredRepliesService {
+
+    private final ExecutionRepliesDeadLetterQueue deadLetterQueue;
+
+
+    @Override
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public List<DeadLetteredReply> getDeadLetteredReplies(final int amount) throws IllegalArgumentException {
+        Assert.isTrue(amount > 0, "The amount must be positive");
+        return deadLetterQueue.peek(amount);
+    }
+
+    @Override
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public void replay(final String id) throws NoSuchEntityException {
+        if (!deadLetterQueue.replay(id)) {
+            throw new NoSuchEntityException();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package ar.edu.itba.cep.evaluations_service.domain.managers;
 
 import ar.edu.itba.cep.evaluations_service.domain.events.ExamFinishedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExamStartedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.TestCaseChangedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.helpers.DataLoadingHelper;
 import ar.edu.itba.cep.evaluations_service.models.Exam;
 import ar.edu.itba.cep.evaluations_service.models.Exercise;
@@ -78,13 +80,7 @@ public class ExamManager implements ExamService {
 
     @Override
     public Optional<ExamWithScore> getExamWithScore(final long examId) {
-        return examRepository.findById(examId).map(exam -> {
-            final var score = exerciseRepository.getExamExercises(exam)
-                    .stream()
-                    .mapToInt(Exercise::getAwardedScore)
-                    .sum();
-            return new ExamWithScore(exam, score);
-        });
+        return examRepository.findById(examId).map(ExamWithScore::new); // The exam keeps its max. score.
     }
 
     @Override
@@ -119,18 +115,18 @@ public class ExamManager implements ExamService {
     public void startExam(final long examId) throws NoSuchEntityException, IllegalEntityStateException {
         final var exam = DataLoadingHelper.loadExam(examRepository, examId);
         // First verify that the exam has at least once exercise.
-        final var exercises = exerciseRepository.getExamExercises(exam);
-        if (exercises.isEmpty()) {
+        if (exerciseRepository.getExamExercises(exam).isEmpty()) {
             throw new IllegalEntityStateException(EXAM_DOES_NOT_CONTAIN_EXERCISES);
         }
-        // Then, verify that all exercises have at least one test case.
-        if (exercises.stream().map(testCaseRepository::getExercisePrivateTestCases).anyMatch(List::isEmpty)) {
+        // Then, verify that all exercises have at least one private test case (with a single query).
+        if (exerciseRepository.existsWithoutPrivateTestCases(exam)) {
             throw new IllegalEntityStateException(EXAM_CONTAIN_EXERCISE_WITHOUT_TEST_CASE);
         }
         // Then, start the exam.
         exam.startExam(); // The Exam verifies state by its own.
         // Finally, save the exam.
         examRepository.save(exam);
+        publisher.publishEvent(ExamStartedEvent.create(exam));
     }
 
     @Override
@@ -146,6 +142,19 @@ public class ExamManager implements ExamService {
         publisher.publishEvent(ExamFinishedEvent.create(exam));
     }
 
+    @Override
+    @Transactional
+    @PreAuthorize(
+            "hasAuthority('ADMIN')" +
+                    " or (hasAuthority('TEACHER') and @examAuthorizationProvider.isOwner(#examId, principal))"
+    )
+    public void changeEvaluationPolicy(final long examId, final Exam.EvaluationPolicy evaluationPolicy)
+            throws NoSuchEntityException, IllegalEntityStateException, IllegalArgumentException {
+        final var exam = DataLoadingHelper.loadExam(examRepository, examId);
+        exam.changeEvaluationPolicy(evaluationPolicy); // The Exam verifies state by its own.
+        examRepository.save(exam);
+    }
+
     @Override
     @Transactional
     @PreAuthorize(
@@ -215,6 +224,7 @@ public class ExamManager implements ExamService {
         performExamUpcomingStateVerification(exam);
         testCaseRepository.deleteExamTestCases(exam);
         exerciseRepository.deleteExamExercises(exam);
+        examRepository.clearMaxScore(exam);
     }
 
     @Override
@@ -234,7 +244,9 @@ public class ExamManager implements ExamService {
         final var exam = DataLoadingHelper.loadExam(examRepository, examId);
         performExamUpcomingStateVerification(exam);
         final var exercise = new Exercise(question, language, solutionTemplate, awardedScore, exam);
-        return exerciseRepository.save(exercise);
+        final var savedExercise = exerciseRepository.save(exercise);
+        examRepository.addToMaxScore(exam, awardedScore);
+        return savedExercise;
     }
 
     @Override
@@ -262,9 +274,14 @@ public class ExamManager implements ExamService {
             throws NoSuchEntityException, IllegalEntityStateException, IllegalArgumentException {
 
         final var exercise = DataLoadingHelper.loadExercise(exerciseRepository, exerciseId);
-        performExamUpcomingStateVerification(exercise.getExam());
+        final var exam = exercise.getExam();
+        performExamUpcomingStateVerification(exam);
+        final var previousAwardedScore = exercise.getAwardedScore();
         exercise.update(question, language, solutionTemplate, awardedScore);
         exerciseRepository.save(exercise);
+        if (previousAwardedScore != awardedScore) {
+            examRepository.addToMaxScore(exam, awardedScore - previousAwardedScore);
+        }
     }
 
     @Override
@@ -276,9 +293,11 @@ public class ExamManager implements ExamService {
     public void deleteExercise(final long exerciseId) throws IllegalEntityStateException {
         exerciseRepository.findById(exerciseId)
                 .ifPresent(exercise -> {
-                    performExamUpcomingStateVerification(exercise.getExam());
+                    final var exam = exercise.getExam();
+                    performExamUpcomingStateVerification(exam);
                     testCaseRepository.deleteExerciseTestCases(exercise);
                     exerciseRepository.delete(exercise);
+                    examRepository.addToMaxScore(exam, -exercise.getAwardedScore());
                 });
     }
 
@@ -340,12 +359,7 @@ public class ExamManager implements ExamService {
                     ")"
     )
     public Optional<TestCase> getTestCase(long testCaseId) {
-        return testCaseRepository.findById(testCaseId).map(testCase -> {
-            testCase.getProgramArguments().size(); // Initialize Lazy Collection
-            testCase.getStdin().size(); // Initialize Lazy Collection
-            testCase.getExpectedOutputs().size(); // Initialize Lazy Collection
-            return testCase;
-        });
+        return testCaseRepository.findWithExpectedOutputs(testCaseId);
     }
 
     @Override
@@ -365,6 +379,25 @@ public class ExamManager implements ExamService {
         performExamUpcomingStateVerification(testCase.getExercise().getExam());
         testCase.update(visibility, timeout, programArguments, stdin, expectedOutputs);
         testCaseRepository.save(testCase);
+        publisher.publishEvent(TestCaseChangedEvent.create(testCase));
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize(
+            "hasAuthority('ADMIN')" +
+                    " or (hasAuthority('TEACHER') and @testCaseAuthorizationProvider.isOwner(#testCaseId, principal))"
+    )
+    public void changeTestCaseOutputComparison(
+            final long testCaseId,
+            final TestCase.OutputComparison outputComparison,
+            final Double tolerance)
+            throws NoSuchEntityException, IllegalEntityStateException, IllegalArgumentException {
+        final var testCase = DataLoadingHelper.loadTestCase(testCaseRepository, testCaseId);
+        performExamUpcomingStateVerification(testCase.getExercise().getExam());
+        testCase.changeOutputComparison(outputComparison, tolerance);
+        testCaseRepository.save(testCase);
+        publisher.publishEvent(TestCaseChangedEvent.create(testCase));
     }
 
     @Override
@@ -378,6 +411,7 @@ public class ExamManager implements ExamService {
                 .ifPresent(testCase -> {
                     performExamUpcomingStateVerification(testCase.getExercise().getExam());
                     testCaseRepository.delete(testCase);
+                    publisher.publishEvent(TestCaseChangedEvent.create(testCase));
                 });
     }
 
@@ -1,9 +1,13 @@
 package ar.edu.itba.cep.evaluations_service.domain.managers;
 
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.ExecutionResponsesBatcher;
 import ar.edu.itba.cep.evaluations_service.commands.executor_service.SolutionAndTestCaseIds;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionRequestedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponseArrivedEvent;
-import ar.edu.itba.cep.executor.api.ExecutionRequestSender;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponseRejectedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponsesArrivedEvent;
+import ar.edu.itba.cep.evaluations_service.models.PendingExecutionRequest;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingExecutionRequestRepository;
 import ar.edu.itba.cep.executor.api.ExecutionResponseHandler;
 import ar.edu.itba.cep.executor.models.ExecutionRequest;
 import ar.edu.itba.cep.executor.models.ExecutionResponse;
@@ -11,43 +15,118 @@ import lombok.AllArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
 
 /**
- * A component in charge of sending {@link ExecutionRequest}s and receiving {@link ExecutionResponse}s.
+ * A component in charge of requesting {@link ExecutionRequest}s and receiving {@link ExecutionResponse}s.
+ * Requests are not sent right away, but stored in an outbox (as {@link PendingExecutionRequest}s),
+ * which is drained by the {@link ExecutionRequestsRelay}.
+ * Arrival of {@link ExecutionResponse}s is reported to the {@link ExecutionsInFlightLimiter}
+ * once they have been processed (i.e once their event is published without failing),
+ * so responses whose processing is retried (see {@link ExecutionResponsesBatcher#inBatch(Runnable)})
+ * are reported only once.
+ * {@link ExecutionResponse}s received within {@link #inBatch(Runnable)} are published together
+ * (as an {@link ExecutionResponsesArrivedEvent}) once the batch ends,
+ * collecting those rejected while processing them (see {@link ExecutionResponseRejectedEvent}).
  */
 @Component
 @AllArgsConstructor
-public class ExecutionManager implements ExecutionResponseHandler<SolutionAndTestCaseIds> {
+public class ExecutionManager implements ExecutionResponseHandler<SolutionAndTestCaseIds>, ExecutionResponsesBatcher {
 
-    private final ExecutionRequestSender<SolutionAndTestCaseIds> executionRequester;
+    /**
+     * Holds the responses collected by the batch being run in the current thread (if any).
+     */
+    private static final ThreadLocal<Batch> CURRENT_BATCH = new ThreadLocal<>();
+
+    private final PendingExecutionRequestRepository pendingExecutionRequestRepository;
     private final ApplicationEventPublisher publisher;
+    private final ExecutionsInFlightLimiter inFlightLimiter;
 
 
     /**
-     * Processes the given {@code event} by sending an {@link ExecutionRequest} to the executor service.
+     * Processes the given {@code event} by storing a {@link PendingExecutionRequest} in the outbox.
+     * As this listener is executed synchronously, the {@link PendingExecutionRequest} is stored
+     * in the same transaction in which the event was published (if any).
      *
      * @param event The {@link ExecutionRequestedEvent} to be processed.
      */
     @EventListener(ExecutionRequestedEvent.class)
     public void executionRequested(final ExecutionRequestedEvent event) {
-        final var solution = event.getSolution();
-        final var testCase = event.getTestCase();
-        final var request = new ExecutionRequest(
-                solution.getAnswer(),
-                testCase.getProgramArguments(),
-                testCase.getStdin(),
-                solution.getCompilerFlags(),
-                testCase.getTimeout(),
-                solution.getMainFileName(),
-                solution.getExercise().getLanguage()
+        pendingExecutionRequestRepository.save(
+                new PendingExecutionRequest(event.getSolution(), event.getTestCase())
         );
-        executionRequester.requestExecution(request, SolutionAndTestCaseIds.create(solution.getId(), testCase.getId()));
+    }
+
+    /**
+     * Processes the given {@code event} by registering the rejected response in the batch being run
+     * in the current thread (if any), so it is returned by {@link #inBatch(Runnable)}.
+     *
+     * @param event The {@link ExecutionResponseRejectedEvent} to be processed.
+     */
+    @EventListener(ExecutionResponseRejectedEvent.class)
+    public void executionResponseRejected(final ExecutionResponseRejectedEvent event) {
+        final var batch = CURRENT_BATCH.get();
+        if (batch != null) {
+            batch.rejections.add(SolutionAndTestCaseIds.create(event.getSolutionId(), event.getTestCaseId()));
+        }
     }
 
     @Override
     public void processExecutionResponse(final ExecutionResponse response, final SolutionAndTestCaseIds idData) {
-        publisher.publishEvent(
-                ExecutionResponseArrivedEvent.create(idData.getSolutionId(), idData.getTestCaseId(), response)
-        );
+        final var event = ExecutionResponseArrivedEvent
+                .create(idData.getSolutionId(), idData.getTestCaseId(), response, idData.getDispatchedAt());
+        final var batch = CURRENT_BATCH.get();
+        if (batch == null) {
+            publisher.publishEvent(event);
+            inFlightLimiter.completed(idData);
+        } else {
+            batch.events.add(event);
+            batch.completions.add(idData);
+        }
+    }
+
+    @Override
+    public Set<SolutionAndTestCaseIds> inBatch(final Runnable action) throws IllegalArgumentException {
+        Assert.notNull(action, "The action must not be null");
+        Assert.state(CURRENT_BATCH.get() == null, "Batches can not be nested");
+        final var batch = new Batch();
+        CURRENT_BATCH.set(batch);
+        try {
+            action.run();
+            if (batch.events.isEmpty()) {
+                return Set.of();
+            }
+            // The batch is kept while publishing, so rejections are registered in it.
+            publisher.publishEvent(ExecutionResponsesArrivedEvent.create(batch.events));
+        } finally {
+            CURRENT_BATCH.remove();
+        }
+        batch.completions.forEach(inFlightLimiter::completed);
+        return batch.rejections;
+    }
+
+
+    /**
+     * The responses collected by a batch, together with the ids of the executions that produced them.
+     */
+    private static final class Batch {
+        /**
+         * The {@link ExecutionResponseArrivedEvent}s to be published together.
+         */
+        private final List<ExecutionResponseArrivedEvent> events = new LinkedList<>();
+        /**
+         * The {@link SolutionAndTestCaseIds} of the completed executions,
+         * to be reported to the {@link ExecutionsInFlightLimiter} once the events are published.
+         */
+        private final List<SolutionAndTestCaseIds> completions = new LinkedList<>();
+        /**
+         * The {@link SolutionAndTestCaseIds} of the responses rejected while processing the batch.
+         */
+        private final Set<SolutionAndTestCaseIds> rejections = new LinkedHashSet<>();
     }
 }
@@ -0,0 +1,118 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.ClaimCheckStore;
+import ar.edu.itba.cep.executor.models.ExecutionRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * A component in charge of offloading the big payloads of the {@link ExecutionRequest}s (i.e answers and stdin)
+ * to a {@link ClaimCheckStore}, replacing them with a claim-check (i.e a {@link #CLAIM_CHECK_PREFIX} prefixed
+ * reference, which includes the payload's digest).
+ * As the store is content-addressed, an answer sent with each of the test cases of an exercise is stored once,
+ * so the size of the messages does not depend on the amount of test cases.
+ * Payloads smaller than the configured threshold are left in the message, as are all of them if disabled.
+ */
+@Component
+public class ExecutionRequestsClaimChecker {
+
+    /**
+     * The prefix of the claim-checks, which allows the executor service to tell them apart from actual payloads.
+     */
+    public static final String CLAIM_CHECK_PREFIX = "claim-check:";
+
+    /**
+     * The {@link ClaimCheckStore} to which payloads are offloaded.
+     */
+    private final ClaimCheckStore claimCheckStore;
+    /**
+     * Indicates whether payloads must be offloaded.
+     */
+    private final boolean enabled;
+    /**
+     * The min. size (in bytes) a payload must have in order to be offloaded.
+     */
+    private final int threshold;
+
+
+    /**
+     * Constructor.
+     *
+     * @param claimCheckStore The {@link ClaimCheckStore} to which payloads are offloaded.
+     * @param enabled         Indicates whether payloads must be offloaded.
+     * @param threshold       The min. size (in bytes) a payload must have in order to be offloaded.
+     * @throws IllegalArgumentException If the {@code threshold} is negative.
+     */
+    public ExecutionRequestsClaimChecker(
+            final ClaimCheckStore claimCheckStore,
+            @Value("${executor-service.claim-check.enabled:false}") final boolean enabled,
+            @Value("${executor-service.claim-check.threshold:65536}") final int threshold)
+            throws IllegalArgumentException {
+        Assert.isTrue(threshold >= 0, "The threshold must not be negative");
+        this.claimCheckStore = claimCheckStore;
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+
+    /**
+     * Offloads the given {@code answer} if it is big enough.
+     *
+     * @param answer The answer to be offloaded.
+     * @return The claim-check if offloaded, or the {@code answer} itself otherwise.
+     */
+    public String answer(final String answer) {
+        if (!enabled || answer == null) {
+            return answer;
+        }
+        final var content = answer.getBytes(StandardCharsets.UTF_8);
+        return content.length < threshold ? answer : claimCheck(content);
+    }
+
+    /**
+     * Offloads the given {@code stdin} if it is big enough.
+     * The stdin is stored as its lines, each of them followed by a line separator (i.e as it is fed to the program).
+     *
+     * @param stdin The stdin to be offloaded.
+     * @return A {@link List} with the claim-check as its only element if offloaded,
+     * or the {@code stdin} itself otherwise.
+     */
+    public List<String> stdin(final List<String> stdin) {
+        if (!enabled || stdin == null) {
+            return stdin;
+        }
+        final var content = toContent(stdin);
+        return content.length < threshold ? stdin : List.of(claimCheck(content));
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Stores the given {@code content}, creating its claim-check.
+     *
+     * @param content The content to be stored.
+     * @return The claim-check.
+     */
+    private String claimCheck(final byte[] content) {
+        return CLAIM_CHECK_PREFIX + claimCheckStore.store(content);
+    }
+
+    /**
+     * Converts the given {@code lines} into the content to be stored.
+     *
+     * @param lines The lines.
+     * @return The content.
+     */
+    private static byte[] toContent(final List<String> lines) {
+        final var builder = new StringBuilder();
+        lines.forEach(line -> builder.append(line).append('\n'));
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,118 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult;
+import ar.edu.itba.cep.evaluations_service.models.PendingExecutionRequest;
+import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingExecutionRequestRepository;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * A component in charge of taking {@link PendingExecutionRequest}s out of the execution requests outbox
+ * in order to be dispatched, and of putting back those whose delivery failed.
+ * Each operation is performed in its own (short) transaction, so the dispatching of the taken requests
+ * is committed before they are sent, and responses arriving right away match the registered dispatch
+ * (see {@link ExecutionRequestsRelay}).
+ */
+@Component
+@AllArgsConstructor
+public class ExecutionRequestsOutbox {
+
+    /**
+     * The {@link Logger}.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionRequestsOutbox.class);
+
+    private final PendingExecutionRequestRepository pendingExecutionRequestRepository;
+    private final ExerciseSolutionResultRepository exerciseSolutionResultRepository;
+
+
+    /**
+     * Takes the next {@code amount} of {@link PendingExecutionRequest}s out of the outbox
+     * (see {@link PendingExecutionRequestRepository#getNextForUpdate(int)}), registering them as dispatched
+     * at the given {@code dispatchedAt} moment in their {@link ExerciseSolutionResult}s.
+     * If the requests are never sent (e.g the service stops before sending them), they are dispatched again
+     * once detected as stale (see {@link StaleExecutionsWatchdog}).
+     *
+     * @param amount       The max. amount of {@link PendingExecutionRequest}s to take.
+     * @param dispatchedAt The dispatching moment.
+     * @return The taken {@link PendingExecutionRequest}s, with all the data needed to build the execution requests.
+     * @throws IllegalArgumentException If the {@code amount} is not positive, or the {@code dispatchedAt} is null.
+     */
+    @Transactional
+    public List<PendingExecutionRequest> takeNext(final int amount, final Instant dispatchedAt)
+            throws IllegalArgumentException {
+        Assert.isTrue(amount > 0, "The amount must be positive");
+        Assert.notNull(dispatchedAt, "The dispatching moment must not be null");
+        final var pendingRequests = pendingExecutionRequestRepository.getNextForUpdate(amount);
+        if (pendingRequests.isEmpty()) {
+            return pendingRequests;
+        }
+        pendingRequests.stream()
+                .collect(Collectors.groupingBy(
+                        PendingExecutionRequest::getSolution,
+                        Collectors.mapping(PendingExecutionRequest::getTestCase, Collectors.toList())
+                ))
+                .forEach((solution, testCases) ->
+                        exerciseSolutionResultRepository.registerDispatch(solution, testCases, dispatchedAt)
+                );
+        pendingExecutionRequestRepository.deleteAll(pendingRequests);
+        return pendingRequests;
+    }
+
+    /**
+     * Puts back into the outbox the given {@code failedRequests} (taken at the given {@code dispatchedAt} moment),
+     * so they are relayed again, registering their failures (i.e undoing their dispatching)
+     * with one bulk update per solution.
+     *
+     * @param failedRequests The {@link PendingExecutionRequest}s whose delivery failed, with the failures' causes.
+     * @param dispatchedAt   The moment in which the requests were taken.
+     * @implNote The cause registered for each solution is the first of its failures
+     * (failures in the same batch usually have the same cause).
+     * The requests are put back as new {@link PendingExecutionRequest}s, so they are relayed after the requests
+     * that were already waiting in the outbox.
+     */
+    @Transactional
+    public void putBack(final Map<PendingExecutionRequest, Throwable> failedRequests, final Instant dispatchedAt) {
+        if (failedRequests.isEmpty()) {
+            return;
+        }
+        LOGGER.warn("Could not deliver {} execution requests. Will retry later", failedRequests.size());
+        pendingExecutionRequestRepository.saveAll(
+                failedRequests.keySet().stream()
+                        .map(failed -> new PendingExecutionRequest(failed.getSolution(), failed.getTestCase()))
+                        .collect(Collectors.toList())
+        );
+        failedRequests.entrySet().stream()
+                .collect(Collectors.groupingBy(entry -> entry.getKey().getSolution()))
+                .forEach((solution, entries) -> exerciseSolutionResultRepository.registerSendFailure(
+                        solution,
+                        entries.stream().map(entry -> entry.getKey().getTestCase()).collect(Collectors.toList()),
+                        dispatchedAt,
+                        describe(entries.get(0).getValue())
+                ));
+    }
+
+    /**
+     * Describes the given {@code failure}.
+     *
+     * @param failure The failure to be described.
+     * @return The description.
+     */
+    private static String describe(final Throwable failure) {
+        final var cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        return cause.getClass().getName() + ": " + cause.getMessage();
+    }
+}
@@ -0,0 +1,220 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.ExecutionRequestDeliveryTracker;
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.SolutionAndTestCaseIds;
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult;
+import ar.edu.itba.cep.evaluations_service.models.PendingExecutionRequest;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingExecutionRequestRepository;
+import ar.edu.itba.cep.executor.api.ExecutionRequestSender;
+import ar.edu.itba.cep.executor.models.ExecutionRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A component in charge of draining the execution requests outbox (i.e the {@link PendingExecutionRequest}s),
+ * sending the corresponding {@link ExecutionRequest}s to the executor service.
+ * Requests are taken from the outbox in a fair-share manner (see
+ * {@link PendingExecutionRequestRepository#getNextForUpdate(int)}), and only while the amount of in-flight
+ * executions is below the limit imposed by the {@link ExecutionsInFlightLimiter}.
+ * The dispatching moment of each relayed request is registered in the corresponding {@link ExerciseSolutionResult},
+ * so executions whose responses never arrive can be detected (see {@link StaleExecutionsWatchdog}).
+ * The said registration is committed before sending the requests (see {@link ExecutionRequestsOutbox}),
+ * so a response arriving right away is never discarded as stale, and the outbox is not kept locked
+ * while waiting for the deliveries.
+ * Big answers and stdin are sent as claim-checks (see {@link ExecutionRequestsClaimChecker}).
+ * Requests of a batch are sent without waiting for each other, and the relay then waits for all of them
+ * to be delivered (see {@link ExecutionRequestDeliveryTracker}). Those whose delivery fails are put back
+ * in the outbox, and the failure is registered in the corresponding {@link ExerciseSolutionResult}.
+ */
+@Component
+public class ExecutionRequestsRelay {
+
+    /**
+     * The {@link Logger}.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionRequestsRelay.class);
+
+    /**
+     * The {@link ExecutionRequestsOutbox} from where {@link PendingExecutionRequest}s are taken.
+     */
+    private final ExecutionRequestsOutbox outbox;
+    /**
+     * The {@link ExecutionRequestSender} used to send the {@link ExecutionRequest}s.
+     */
+    private final ExecutionRequestSender<SolutionAndTestCaseIds> executionRequester;
+    /**
+     * The {@link ExecutionsInFlightLimiter} that caps the amount of in-flight executions.
+     */
+    private final ExecutionsInFlightLimiter inFlightLimiter;
+    /**
+     * The {@link ExecutionRequestsClaimChecker} that offloads the big payloads of the {@link ExecutionRequest}s.
+     */
+    private final ExecutionRequestsClaimChecker claimChecker;
+    /**
+     * The {@link ExecutionRequestDeliveryTracker} used to track the delivery of the {@link ExecutionRequest}s.
+     */
+    private final ExecutionRequestDeliveryTracker deliveryTracker;
+    /**
+     * The max. amount of {@link PendingExecutionRequest}s relayed in each batch.
+     */
+    private final int batchSize;
+    /**
+     * The max. amount of milliseconds to wait for the deliveries of a batch.
+     */
+    private final long deliveryTimeout;
+
+
+    /**
+     * Constructor.
+     *
+     * @param outbox             The {@link ExecutionRequestsOutbox} from where {@link PendingExecutionRequest}s
+     *                           are taken.
+     * @param executionRequester The {@link ExecutionRequestSender} used to send the {@link ExecutionRequest}s.
+     * @param inFlightLimiter    The {@link ExecutionsInFlightLimiter} that caps the amount of in-flight executions.
+     * @param claimChecker       The {@link ExecutionRequestsClaimChecker}
+     *                           that offloads the big payloads of the {@link ExecutionRequest}s.
+     * @param deliveryTracker    The {@link ExecutionRequestDeliveryTracker}
+     *                           used to track the delivery of the {@link ExecutionRequest}s.
+     * @param batchSize          The max. amount of {@link PendingExecutionRequest}s relayed in each batch.
+     * @param deliveryTimeout    The max. amount of milliseconds to wait for the deliveries of a batch.
+     * @throws IllegalArgumentException If the {@code batchSize} or the {@code deliveryTimeout} is not positive.
+     */
+    public ExecutionRequestsRelay(
+            final ExecutionRequestsOutbox outbox,
+            final ExecutionRequestSender<SolutionAndTestCaseIds> executionRequester,
+            final ExecutionsInFlightLimiter inFlightLimiter,
+            final ExecutionRequestsClaimChecker claimChecker,
+            final ExecutionRequestDeliveryTracker deliveryTracker,
+            @Value("${executor-service.requests-relay.batch-size:100}") final int batchSize,
+            @Value("${executor-service.requests-relay.delivery-timeout:10000}") final long deliveryTimeout)
+            throws IllegalArgumentException {
+        Assert.isTrue(batchSize > 0, "The batch size must be positive");
+        Assert.isTrue(deliveryTimeout > 0, "The delivery timeout must be positive");
+        this.outbox = outbox;
+        this.executionRequester = executionRequester;
+        this.inFlightLimiter = inFlightLimiter;
+        this.claimChecker = claimChecker;
+        this.deliveryTracker = deliveryTracker;
+        this.batchSize = batchSize;
+        this.deliveryTimeout = deliveryTimeout;
+    }
+
+
+    /**
+     * Relays the next batch of {@link PendingExecutionRequest}s to the executor service.
+     * The batch is taken out of the outbox (registering its dispatching) in a transaction that is committed
+     * before sending the requests, so several instances of the service can drain the outbox concurrently.
+     * Requests whose delivery fails are put back in the outbox in another transaction, so they will be relayed
+     * again, which means that requests are delivered at least once.
+     * Requests whose delivery outcome is not known once the delivery timeout elapses are considered delivered,
+     * as well as those not sent because the service stopped (if they are lost, they will be dispatched again
+     * once detected as stale).
+     * Nothing is relayed if the in-flight executions limit has been reached.
+     */
+    @Scheduled(
+            initialDelayString = "${executor-service.requests-relay.delay:500}",
+            fixedDelayString = "${executor-service.requests-relay.delay:500}"
+    )
+    public void relayPendingExecutionRequests() {
+        final var amount = Math.min(batchSize, inFlightLimiter.availablePermits());
+        if (amount == 0) {
+            return;
+        }
+        // Truncated as the moment is sent (and stored) with milliseconds precision.
+        final var dispatchedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        final var pendingRequests = outbox.takeNext(amount, dispatchedAt);
+        if (pendingRequests.isEmpty()) {
+            return;
+        }
+        // The answer of a solution is sent with each of its test cases, so it is offloaded once per batch.
+        final var answers = new HashMap<ExerciseSolution, String>();
+        final var deliveries = new LinkedHashMap<PendingExecutionRequest, CompletableFuture<Void>>();
+        pendingRequests.forEach(pendingRequest ->
+                deliveries.put(pendingRequest, relay(pendingRequest, dispatchedAt, answers))
+        );
+        awaitDeliveries(deliveries.values());
+        final var failures = new LinkedHashMap<PendingExecutionRequest, Throwable>();
+        deliveries.forEach((pendingRequest, delivery) -> {
+            try {
+                delivery.join();
+            } catch (final CompletionException | CancellationException e) {
+                failures.put(pendingRequest, e);
+            }
+        });
+        outbox.putBack(failures, dispatchedAt);
+    }
+
+
+    /**
+     * Sends the {@link ExecutionRequest} corresponding to the given {@code pendingRequest}.
+     *
+     * The dispatching moment is sent together with the request, so the response can be matched against it.
+     * If the request can not be built (e.g its payloads can not be offloaded) or sent,
+     * the returned delivery is completed exceptionally, so only the said request is put back in the outbox.
+     *
+     * @param pendingRequest The {@link PendingExecutionRequest} to be relayed.
+     * @param dispatchedAt   The dispatching moment.
+     * @param answers        A {@link Map} holding the answers (as sent) of the already relayed solutions.
+     * @return A {@link CompletableFuture} that is completed when the request is delivered.
+     */
+    private CompletableFuture<Void> relay(
+            final PendingExecutionRequest pendingRequest,
+            final Instant dispatchedAt,
+            final Map<ExerciseSolution, String> answers) {
+        final var solution = pendingRequest.getSolution();
+        final var testCase = pendingRequest.getTestCase();
+        final ExecutionRequest request;
+        try {
+            request = new ExecutionRequest(
+                    answers.computeIfAbsent(solution, s -> claimChecker.answer(s.getAnswer())),
+                    testCase.getProgramArguments(),
+                    claimChecker.stdin(testCase.getStdin()),
+                    solution.getCompilerFlags(),
+                    testCase.getTimeout(),
+                    solution.getMainFileName(),
+                    solution.getExercise().getLanguage()
+            );
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        final var ids = SolutionAndTestCaseIds.create(solution.getId(), testCase.getId(), dispatchedAt);
+        final var delivery = deliveryTracker.track(ids);
+        try {
+            executionRequester.requestExecution(request, ids);
+        } catch (final RuntimeException e) {
+            delivery.completeExceptionally(e);
+        }
+        return delivery;
+    }
+
+    /**
+     * Waits for the given {@code deliveries} to complete, up to the delivery timeout.
+     * Those not completed once the timeout elapses are completed (i.e considered delivered).
+     *
+     * @param deliveries The deliveries to wait for.
+     */
+    private void awaitDeliveries(final Collection<CompletableFuture<Void>> deliveries) {
+        try {
+            CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new))
+                    .get(deliveryTimeout, TimeUnit.MILLISECONDS);
+        } catch (final ExecutionException e) {
+            // Failures are handled for each delivery.
+        } catch (final TimeoutException e) {
+            LOGGER.warn("The outcome of some deliveries is not known. Considering them delivered");
+        } catch (final InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for deliveries. Considering pending ones delivered");
+            Thread.currentThread().interrupt();
+        }
+        deliveries.forEach(delivery -> delivery.complete(null));
+    }
+}
@@ -0,0 +1,401 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.domain.events.TestCaseChangedEvent;
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import ar.edu.itba.cep.executor.models.ExecutionResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * A bounded, content-addressed cache of {@link ExecutionResponse}s.
+ * Responses are stored under a digest of everything that affects an execution
+ * (i.e the {@link ExerciseSolution}'s answer, compiler flags, main file name and language,
+ * and the {@link TestCase}'s program arguments, stdin and timeout),
+ * so byte-identical solutions run against the same inputs share the same entry.
+ * The least recently used entries are evicted once the max. amount of entries or the max. estimated size
+ * (i.e the characters of the stored stdout and stderr) is reached, so a few executions printing huge outputs
+ * can not exhaust the heap; responses larger than the max. size are never stored.
+ * Entries of a {@link TestCase} are evicted when the said {@link TestCase} changes.
+ * Only responses that are deterministic (i.e completed executions and compile errors) are stored,
+ * as timeouts and errors might not happen again.
+ *
+ * @implNote As the digest includes the {@link TestCase}'s inputs, a modified {@link TestCase} never matches
+ * a stale entry, even if the invalidation happened in another instance of the service.
+ */
+@Component
+public class ExecutionResponsesCache {
+
+    /**
+     * The algorithm used to compute the digests.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    /**
+     * The estimated size (in bytes) of an entry without its outputs (i.e the digest, the response and the maps' nodes).
+     */
+    private static final long ENTRY_OVERHEAD = 512;
+    /**
+     * The estimated size (in bytes) of each output line, besides its characters (i.e the {@link String} object).
+     */
+    private static final long LINE_OVERHEAD = 48;
+
+    /**
+     * The max. amount of entries this cache can hold.
+     */
+    private final int maxEntries;
+    /**
+     * The max. estimated size (in bytes) of the entries this cache can hold.
+     */
+    private final long maxBytes;
+    /**
+     * The cached entries, in access order (i.e the least recently used first).
+     */
+    private final LinkedHashMap<String, Entry> entries;
+    /**
+     * Holds the digests of the entries stored for each {@link TestCase} (by id).
+     */
+    private final Map<Long, Set<String>> digestsByTestCase;
+    /**
+     * The estimated size (in bytes) of the entries currently held.
+     */
+    private long bytes;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries The max. amount of entries this cache can hold.
+     * @param maxBytes   The max. estimated size (in bytes) of the entries this cache can hold.
+     * @throws IllegalArgumentException If the {@code maxEntries} or the {@code maxBytes} are not positive.
+     */
+    public ExecutionResponsesCache(
+            @Value("${executor-service.responses-cache.max-entries:10000}") final int maxEntries,
+            @Value("${executor-service.responses-cache.max-bytes:67108864}") final long maxBytes)
+            throws IllegalArgumentException {
+        Assert.isTrue(maxEntries > 0, "The max. amount of entries must be positive");
+        Assert.isTrue(maxBytes > 0, "The max. size must be positive");
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.digestsByTestCase = new HashMap<>();
+        this.bytes = 0;
+    }
+
+
+    /**
+     * Retrieves the {@link ExecutionResponse} of running the given {@code solution} with the given {@code testCase}.
+     *
+     * @param solution The {@link ExerciseSolution}.
+     * @param testCase The {@link TestCase}.
+     * @return An {@link Optional} containing the cached {@link ExecutionResponse} if present, or empty otherwise.
+     */
+    public Optional<ExecutionResponse> get(final ExerciseSolution solution, final TestCase testCase) {
+        return get(solution, TestCaseInputs.of(testCase));
+    }
+
+    /**
+     * Retrieves the {@link ExecutionResponse} of running the given {@code solution}
+     * with the {@link TestCase} whose {@link TestCaseInputs} are the given {@code inputs}.
+     *
+     * @param solution The {@link ExerciseSolution}.
+     * @param inputs   The {@link TestCaseInputs}.
+     * @return An {@link Optional} containing the cached {@link ExecutionResponse} if present, or empty otherwise.
+     */
+    public Optional<ExecutionResponse> get(final ExerciseSolution solution, final TestCaseInputs inputs) {
+        final var digest = digest(solution, inputs);
+        synchronized (this) {
+            return Optional.ofNullable(entries.get(digest)).map(Entry::getResponse);
+        }
+    }
+
+    /**
+     * Stores the given {@code response} as the result of running the given {@code solution}
+     * with the given {@code testCase}. Non deterministic responses are ignored.
+     *
+     * @param solution The {@link ExerciseSolution}.
+     * @param testCase The {@link TestCase}.
+     * @param response The {@link ExecutionResponse} to be stored.
+     */
+    public void put(final ExerciseSolution solution, final TestCase testCase, final ExecutionResponse response) {
+        if (!isDeterministic(response)) {
+            return;
+        }
+        put(solution, TestCaseInputs.of(testCase), response);
+    }
+
+    /**
+     * Stores the given {@code response} as the result of running the given {@code solution}
+     * with the {@link TestCase} whose {@link TestCaseInputs} are the given {@code inputs}.
+     * Non deterministic responses, and responses larger than the max. size, are ignored.
+     *
+     * @param solution The {@link ExerciseSolution}.
+     * @param inputs   The {@link TestCaseInputs}.
+     * @param response The {@link ExecutionResponse} to be stored.
+     */
+    public void put(final ExerciseSolution solution, final TestCaseInputs inputs, final ExecutionResponse response) {
+        if (!isDeterministic(response)) {
+            return;
+        }
+        final var size = estimateSize(response);
+        if (size > maxBytes) {
+            return;
+        }
+        final var digest = digest(solution, inputs);
+        final var testCaseId = inputs.getTestCaseId();
+        synchronized (this) {
+            final var previous = entries.put(digest, new Entry(testCaseId, response, size));
+            if (previous != null) {
+                unindex(previous.getTestCaseId(), digest);
+                bytes -= previous.getSize();
+            }
+            bytes += size;
+            digestsByTestCase.computeIfAbsent(testCaseId, ignored -> new HashSet<>()).add(digest);
+            evictIfNeeded();
+        }
+    }
+
+    /**
+     * Evicts all the entries stored for the {@link TestCase} with the given {@code testCaseId}.
+     *
+     * @param testCaseId The id of the {@link TestCase} whose entries must be evicted.
+     */
+    public synchronized void invalidate(final long testCaseId) {
+        Optional.ofNullable(digestsByTestCase.remove(testCaseId))
+                .ifPresent(digests -> digests.stream()
+                        .map(entries::remove)
+                        .filter(Objects::nonNull)
+                        .forEach(removed -> bytes -= removed.getSize()));
+    }
+
+
+    // ================================================================================================================
+    // Event Listeners
+    // ================================================================================================================
+
+    /**
+     * Handles the given {@code event}, evicting the entries of the changed {@link TestCase}.
+     *
+     * @param event The {@link TestCaseChangedEvent} to be handled.
+     * @throws IllegalArgumentException If the {@code event} is {@code null}.
+     */
+    @EventListener(TestCaseChangedEvent.class)
+    public void testCaseChanged(final TestCaseChangedEvent event) throws IllegalArgumentException {
+        Assert.notNull(event, "The event must not be null");
+        invalidate(event.getTestCase().getId());
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Evicts the least recently used entries until neither the max. amount of entries nor the max. size is exceeded.
+     */
+    private void evictIfNeeded() {
+        final var iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+            final var eldest = iterator.next();
+            iterator.remove();
+            bytes -= eldest.getValue().getSize();
+            unindex(eldest.getValue().getTestCaseId(), eldest.getKey());
+        }
+    }
+
+    /**
+     * Removes the given {@code digest} from the index of the {@link TestCase} with the given {@code testCaseId}.
+     *
+     * @param testCaseId The {@link TestCase}'s id.
+     * @param digest     The digest to be removed.
+     */
+    private void unindex(final long testCaseId, final String digest) {
+        final var digests = digestsByTestCase.get(testCaseId);
+        if (digests == null) {
+            return;
+        }
+        digests.remove(digest);
+        if (digests.isEmpty()) {
+            digestsByTestCase.remove(testCaseId);
+        }
+    }
+
+    /**
+     * Indicates whether the given {@code response} would be the same if the execution is performed again.
+     *
+     * @param response The {@link ExecutionResponse} to be checked.
+     * @return {@code true} if it is deterministic, or {@code false} otherwise.
+     */
+    private static boolean isDeterministic(final ExecutionResponse response) {
+        return response.getResult() == ExecutionResponse.ExecutionResult.COMPLETED
+                || response.getResult() == ExecutionResponse.ExecutionResult.COMPILE_ERROR;
+    }
+
+    /**
+     * Estimates the size (in bytes) an entry holding the given {@code response} takes in the heap.
+     *
+     * @param response The {@link ExecutionResponse}.
+     * @return The estimated size, in bytes.
+     */
+    private static long estimateSize(final ExecutionResponse response) {
+        return ENTRY_OVERHEAD + estimateSize(response.getStdout()) + estimateSize(response.getStderr());
+    }
+
+    /**
+     * Estimates the size (in bytes) the given output {@code lines} take in the heap.
+     *
+     * @param lines The output lines (might be {@code null}).
+     * @return The estimated size, in bytes.
+     */
+    private static long estimateSize(final List<String> lines) {
+        if (lines == null) {
+            return 0;
+        }
+        return lines.stream()
+                .mapToLong(line -> LINE_OVERHEAD + (line == null ? 0 : (long) line.length() * Character.BYTES))
+                .sum();
+    }
+
+    /**
+     * Computes the digest that identifies the execution of the given {@code solution}
+     * with the {@link TestCase} whose {@link TestCaseInputs} are the given {@code inputs}.
+     *
+     * @param solution The {@link ExerciseSolution}.
+     * @param inputs   The {@link TestCaseInputs}.
+     * @return The digest, as an hexadecimal {@link String}.
+     */
+    private static String digest(final ExerciseSolution solution, final TestCaseInputs inputs) {
+        final var encoded = new ByteArrayOutputStream();
+        update(encoded, solution.getAnswer());
+        update(encoded, solution.getCompilerFlags());
+        update(encoded, solution.getMainFileName());
+        update(encoded, Objects.toString(solution.getExercise().getLanguage(), null));
+        final var digest = messageDigest();
+        digest.update(encoded.toByteArray());
+        digest.update(inputs.encoded);
+        final var hash = digest.digest();
+        final var builder = new StringBuilder(hash.length * 2);
+        for (final var b : hash) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes the given {@code values} into the given {@code encoded} stream, prefixed with their amount.
+     *
+     * @param encoded The {@link ByteArrayOutputStream} being written.
+     * @param values  The values.
+     */
+    private static void update(final ByteArrayOutputStream encoded, final List<String> values) {
+        if (values == null) {
+            encoded.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+        encoded.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(values.size()).array());
+        values.forEach(value -> update(encoded, value));
+    }
+
+    /**
+     * Writes the given {@code value} into the given {@code encoded} stream, prefixed with its length
+     * (so concatenations of different values do not produce the same digest).
+     *
+     * @param encoded The {@link ByteArrayOutputStream} being written.
+     * @param value   The value.
+     */
+    private static void update(final ByteArrayOutputStream encoded, final String value) {
+        if (value == null) {
+            encoded.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        encoded.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        encoded.writeBytes(bytes);
+    }
+
+    /**
+     * @return A new {@link MessageDigest} instance.
+     */
+    private static MessageDigest messageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Every Java platform must support " + DIGEST_ALGORITHM, e);
+        }
+    }
+
+
+    /**
+     * The inputs of a {@link TestCase} that affect an execution (i.e its timeout, program arguments and stdin),
+     * encoded once so they can be digested many times without touching the {@link TestCase} again.
+     */
+    public static final class TestCaseInputs {
+
+        /**
+         * The {@link TestCase}'s id.
+         */
+        @Getter
+        private final long testCaseId;
+        /**
+         * The encoded inputs.
+         */
+        private final byte[] encoded;
+
+        /**
+         * Constructor.
+         *
+         * @param testCaseId The {@link TestCase}'s id.
+         * @param encoded    The encoded inputs.
+         */
+        private TestCaseInputs(final long testCaseId, final byte[] encoded) {
+            this.testCaseId = testCaseId;
+            this.encoded = encoded;
+        }
+
+        /**
+         * Encodes the inputs of the given {@code testCase}.
+         *
+         * @param testCase The {@link TestCase}.
+         * @return The {@link TestCaseInputs} of the given {@code testCase}.
+         */
+        public static TestCaseInputs of(final TestCase testCase) {
+            final var encoded = new ByteArrayOutputStream();
+            update(encoded, Objects.toString(testCase.getTimeout(), null));
+            update(encoded, testCase.getProgramArguments());
+            update(encoded, testCase.getStdin());
+            return new TestCaseInputs(testCase.getId(), encoded.toByteArray());
+        }
+    }
+
+    /**
+     * A cache entry, holding the cached {@link ExecutionResponse} together with the id of the {@link TestCase}
+     * whose execution produced it, and its estimated size.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Entry {
+
+        /**
+         * The id of the {@link TestCase} whose execution produced the response.
+         */
+        private final long testCaseId;
+        /**
+         * The cached {@link ExecutionResponse}.
+         */
+        private final ExecutionResponse response;
+        /**
+         * The estimated size (in bytes) of this entry.
+         */
+        private final long size;
+    }
+}
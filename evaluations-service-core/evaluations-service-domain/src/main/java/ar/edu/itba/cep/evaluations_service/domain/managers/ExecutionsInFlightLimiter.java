@@ -0,0 +1,218 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.SolutionAndTestCaseIds;
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult;
+import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A component that caps the amount of executions that have been requested to the executor service
+ * and whose responses have not arrived yet (i.e the in-flight executions).
+ * The cap adapts to the observed response latency using an additive-increase/multiplicative-decrease strategy:
+ * each response arriving within the target latency slowly increases the cap,
+ * while late (or lost) responses shrink it, at most once per "window" (i.e responses of executions dispatched
+ * before the last back-off reflect the previous cap, so they do not shrink it again).
+ * In-flight executions are counted in the database (i.e {@link ExerciseSolutionResult}s that have been dispatched
+ * within the timeout, and are not marked yet), so executions requested by any instance of the service are counted,
+ * and their permits are released no matter which instance consumes their responses.
+ *
+ * @implNote The cap is adapted per service instance, with the responses each of them consumes
+ * (latencies are measured from the dispatching moment sent with each request).
+ * Relays running concurrently in several instances might exceed the cap by up to one batch each.
+ */
+@Component
+public class ExecutionsInFlightLimiter {
+
+    /**
+     * The {@link Logger} object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionsInFlightLimiter.class);
+
+    /**
+     * The factor by which the limit is multiplied when a response is late.
+     */
+    private static final double BACKOFF_RATIO = 0.9;
+
+    /**
+     * The min. value the limit can take.
+     */
+    private final int minLimit;
+    /**
+     * The max. value the limit can take.
+     */
+    private final int maxLimit;
+    /**
+     * The latency above which a response is considered late.
+     */
+    private final Duration targetLatency;
+    /**
+     * The time after which an execution whose response has not arrived is considered lost
+     * (i.e it is not counted as in-flight anymore).
+     */
+    private final Duration timeout;
+    /**
+     * The {@link ExerciseSolutionResultRepository} used to count the in-flight executions.
+     */
+    private final ExerciseSolutionResultRepository exerciseSolutionResultRepository;
+    /**
+     * The {@link Clock} used to measure latencies.
+     */
+    private final Clock clock;
+    /**
+     * The current limit.
+     */
+    private double limit;
+    /**
+     * The moment of the last back-off (i.e the last time the limit was decreased).
+     */
+    private Instant lastBackoff;
+
+
+    /**
+     * Constructor.
+     *
+     * @param exerciseSolutionResultRepository The {@link ExerciseSolutionResultRepository}
+     *                                         used to count the in-flight executions.
+     * @param initialLimit                     The limit to start with.
+     * @param minLimit                         The min. value the limit can take.
+     * @param maxLimit                         The max. value the limit can take.
+     * @param targetLatency                    The latency (in milliseconds) above which a response is late.
+     * @param timeout                          The time (in milliseconds) after which an execution
+     *                                         whose response has not arrived is considered lost.
+     * @throws IllegalArgumentException If any argument is not valid.
+     */
+    @Autowired
+    public ExecutionsInFlightLimiter(
+            final ExerciseSolutionResultRepository exerciseSolutionResultRepository,
+            @Value("${executor-service.in-flight.initial-limit:50}") final int initialLimit,
+            @Value("${executor-service.in-flight.min-limit:10}") final int minLimit,
+            @Value("${executor-service.in-flight.max-limit:500}") final int maxLimit,
+            @Value("${executor-service.in-flight.target-latency:30000}") final long targetLatency,
+            @Value("${executor-service.in-flight.timeout:300000}") final long timeout)
+            throws IllegalArgumentException {
+        this(exerciseSolutionResultRepository,
+                initialLimit, minLimit, maxLimit, targetLatency, timeout, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param exerciseSolutionResultRepository The {@link ExerciseSolutionResultRepository}
+     *                                         used to count the in-flight executions.
+     * @param initialLimit                     The limit to start with.
+     * @param minLimit                         The min. value the limit can take.
+     * @param maxLimit                         The max. value the limit can take.
+     * @param targetLatency                    The latency (in milliseconds) above which a response is late.
+     * @param timeout                          The time (in milliseconds) after which an execution
+     *                                         whose response has not arrived is considered lost.
+     * @param clock                            The {@link Clock} used to measure latencies.
+     * @throws IllegalArgumentException If any argument is not valid.
+     */
+    /* package */ ExecutionsInFlightLimiter(
+            final ExerciseSolutionResultRepository exerciseSolutionResultRepository,
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final long targetLatency,
+            final long timeout,
+            final Clock clock) throws IllegalArgumentException {
+        Assert.isTrue(minLimit > 0, "The min. limit must be positive");
+        Assert.isTrue(minLimit <= maxLimit, "The min. limit must not be greater than the max. limit");
+        Assert.isTrue(
+                minLimit <= initialLimit && initialLimit <= maxLimit,
+                "The initial limit must be between the min. and max. limits"
+        );
+        Assert.isTrue(targetLatency > 0, "The target latency must be positive");
+        Assert.isTrue(timeout > targetLatency, "The timeout must be greater than the target latency");
+        Assert.notNull(clock, "The clock must not be null");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatency = Duration.ofMillis(targetLatency);
+        this.timeout = Duration.ofMillis(timeout);
+        this.clock = clock;
+        this.exerciseSolutionResultRepository = exerciseSolutionResultRepository;
+        this.limit = initialLimit;
+        this.lastBackoff = Instant.MIN;
+    }
+
+
+    /**
+     * @return The current limit of in-flight executions.
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Indicates how many executions can be requested right now without exceeding the limit.
+     * Executions whose responses have not arrived within the timeout are considered lost, so they are not counted.
+     *
+     * @return The amount of executions that can be requested.
+     */
+    public int availablePermits() {
+        final var inFlight = exerciseSolutionResultRepository.countInFlight(clock.instant().minus(timeout));
+        return (int) Math.max(0, getLimit() - inFlight);
+    }
+
+    /**
+     * Registers that the response of the execution identified by the given {@code ids} has arrived,
+     * adapting the limit according to the observed latency (i.e the time elapsed since it was dispatched).
+     * A late response only decreases the limit if its execution was dispatched after the last back-off,
+     * so a burst of late responses from the same slow period decreases it only once.
+     * Responses whose dispatching moment is not known are ignored.
+     *
+     * @param ids The {@link SolutionAndTestCaseIds} identifying the completed execution.
+     */
+    public synchronized void completed(final SolutionAndTestCaseIds ids) {
+        final var dispatchedAt = ids.getDispatchedAt();
+        if (dispatchedAt == null) {
+            return;
+        }
+        final var now = clock.instant();
+        final var latency = Duration.between(dispatchedAt, now);
+        if (latency.compareTo(targetLatency) <= 0) {
+            increase();
+        } else if (dispatchedAt.isAfter(lastBackoff)) {
+            decrease(now);
+        }
+    }
+
+    /**
+     * Registers that executions were considered lost (i.e their responses never arrived), decreasing the limit.
+     * As lost executions were dispatched at least a timeout ago, the limit is decreased at most once per timeout.
+     */
+    public synchronized void lost() {
+        final var now = clock.instant();
+        if (now.minus(timeout).isAfter(lastBackoff)) {
+            LOGGER.warn("Some executions were considered lost. Backing off");
+            decrease(now);
+        }
+    }
+
+
+    /**
+     * Additively increases the limit (by one each time a whole "window" of responses arrives on time).
+     */
+    private void increase() {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+
+    /**
+     * Multiplicatively decreases the limit, registering the back-off moment.
+     *
+     * @param now The back-off moment.
+     */
+    private void decrease(final Instant now) {
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        lastBackoff = now;
+    }
+}
@@ -3,51 +3,105 @@ package ar.edu.itba.cep.evaluations_service.domain.managers;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExamScoredEvent;
 import ar.edu.itba.cep.evaluations_service.external_cep_services.lti_service.LtiService;
 import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
+import ar.edu.itba.cep.evaluations_service.models.PendingScoreNotification;
 import ar.edu.itba.cep.lti.ExamScoringRequest;
-import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+
 /**
  * A component in charge of sending {@link ExamScoringRequest}s to the LTI service.
+ * Scores are added to the score notifications outbox in the same transaction in which they are set,
+ * and they are relayed in background (see {@link ScoreNotificationsOutbox}),
+ * so scores are not lost if the LTI service is not available (failed deliveries are retried with backoff,
+ * and their failures are recorded in the corresponding {@link PendingScoreNotification}s).
  */
 @Component
-@AllArgsConstructor
 public class LtiManager {
 
+    /**
+     * The {@link ScoreNotificationsOutbox} in which the scores to be sent are stored.
+     */
+    private final ScoreNotificationsOutbox outbox;
     /**
      * The {@link LtiService} to which the {@link ExamScoringRequest} will be sent.
      */
     private final LtiService ltiService;
+    /**
+     * The max. amount of scores relayed in each batch.
+     */
+    private final int batchSize;
 
 
     /**
-     * Handles the given {@code event}.
+     * Constructor.
+     *
+     * @param outbox     The {@link ScoreNotificationsOutbox} in which the scores to be sent are stored.
+     * @param ltiService The {@link LtiService} to which the {@link ExamScoringRequest} will be sent.
+     * @param batchSize  The max. amount of scores relayed in each batch.
+     * @throws IllegalArgumentException If the {@code batchSize} is not positive.
+     */
+    public LtiManager(
+            final ScoreNotificationsOutbox outbox,
+            final LtiService ltiService,
+            @Value("${lti-service.score-notifications.batch-size:50}") final int batchSize)
+            throws IllegalArgumentException {
+        Assert.isTrue(batchSize > 0, "The batch size must be positive");
+        this.outbox = outbox;
+        this.ltiService = ltiService;
+        this.batchSize = batchSize;
+    }
+
+
+    /**
+     * Handles the given {@code event}, adding the score to the outbox.
+     * The event is handled synchronously, so the score is stored in the outbox only if the transaction
+     * in which it was set commits.
      *
      * @param event The {@link ExamScoredEvent} to be handled.
      * @throws IllegalArgumentException If the {@code event} is {@code null},
      *                                  if it contains a {@code null} {@link ExamSolutionSubmission},
      *                                  or if it contains an {@link ExamSolutionSubmission} without score.
      */
-    @Transactional
     @EventListener(ExamScoredEvent.class)
     public void examScored(final ExamScoredEvent event) throws IllegalArgumentException {
         Assert.notNull(event, "The event must not be null");
         Assert.notNull(event.getSubmission(), "The event contains a null submission");
         Assert.notNull(event.getSubmission().getScore(), "The event contains a submission without score");
-        ltiService.scoreExam(examScoringRequest(event.getSubmission()));
+        outbox.add(event.getSubmission());
     }
 
-
     /**
-     * Builds an {@link ExamScoringRequest} from the given {@code submission} and {@code score}.
-     *
-     * @param submission The {@link ExamSolutionSubmission} from where data for the {@link ExamScoringRequest} is taken.
-     * @return The created {@link ExamScoringRequest}.
+     * Relays the next batch of due scores to the LTI service, registering the outcome of each delivery
+     * (i.e delivered scores are removed from the outbox, and failed ones are retried later).
+     * If the outcomes can not be registered, the scores are sent again once their lease expires,
+     * which means that scores are delivered at least once (which is fine, as scoring is idempotent).
      */
-    private static ExamScoringRequest examScoringRequest(final ExamSolutionSubmission submission) {
-        return new ExamScoringRequest(submission.getExam().getId(), submission.getSubmitter(), submission.getScore());
+    @Scheduled(
+            initialDelayString = "${lti-service.score-notifications.delay:1000}",
+            fixedDelayString = "${lti-service.score-notifications.delay:1000}"
+    )
+    public void relayScores() {
+        final var requests = outbox.takeDue(batchSize, Instant.now());
+        if (requests.isEmpty()) {
+            return;
+        }
+        final var delivered = new LinkedList<Long>();
+        final var failed = new LinkedHashMap<Long, RuntimeException>();
+        requests.forEach((notificationId, request) -> {
+            try {
+                ltiService.scoreExam(request);
+                delivered.add(notificationId);
+            } catch (final RuntimeException e) {
+                failed.put(notificationId, e);
+            }
+        });
+        outbox.registerOutcomes(delivered, failed, Instant.now());
     }
 }
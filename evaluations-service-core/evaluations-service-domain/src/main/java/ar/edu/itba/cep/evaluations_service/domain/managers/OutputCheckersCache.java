@@ -0,0 +1,138 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.domain.events.TestCaseChangedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.helpers.OutputCheckersHelper;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A bounded cache of output checkers (see {@link OutputCheckersHelper}), keyed by {@link TestCase} id and version,
+ * so the expected outputs of a {@link TestCase} are loaded, parsed and normalized only once,
+ * and not each time an execution of it is checked.
+ * The least recently used entries are evicted once the max. amount of entries is reached,
+ * and entries of a {@link TestCase} are evicted when the said {@link TestCase} changes.
+ *
+ * @implNote As the key includes the {@link TestCase}'s version, a modified {@link TestCase} never matches
+ * a stale entry, even if the invalidation happened in another instance of the service.
+ */
+@Component
+public class OutputCheckersCache {
+
+    /**
+     * The max. amount of entries this cache can hold.
+     */
+    private final int maxEntries;
+    /**
+     * The cached checkers, in access order (i.e the least recently used first).
+     */
+    private final LinkedHashMap<Key, Predicate<List<String>>> entries;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries The max. amount of entries this cache can hold.
+     * @throws IllegalArgumentException If the {@code maxEntries} is not positive.
+     */
+    public OutputCheckersCache(
+            @Value("${executor-service.output-checkers-cache.max-entries:1000}") final int maxEntries)
+            throws IllegalArgumentException {
+        Assert.isTrue(maxEntries > 0, "The max. amount of entries must be positive");
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+
+    /**
+     * Retrieves the output checker of the given {@code testCase}, compiling it if it is not cached.
+     *
+     * @param testCase The {@link TestCase}.
+     * @return A {@link Predicate} that tells whether the given outputs match the {@code testCase}'s expected ones.
+     * @implNote Compilation is performed outside the lock, so a slow compilation does not block other lookups.
+     * Concurrent misses for the same {@link TestCase} may compile it more than once, which is harmless.
+     */
+    public Predicate<List<String>> get(final TestCase testCase) {
+        final var key = new Key(testCase.getId(), testCase.getVersion());
+        synchronized (this) {
+            final var checker = entries.get(key);
+            if (checker != null) {
+                return checker;
+            }
+        }
+        final var checker = OutputCheckersHelper.compile(testCase);
+        synchronized (this) {
+            entries.put(key, checker);
+            evictIfNeeded();
+        }
+        return checker;
+    }
+
+    /**
+     * Evicts all the entries stored for the {@link TestCase} with the given {@code testCaseId}.
+     *
+     * @param testCaseId The id of the {@link TestCase} whose entries must be evicted.
+     */
+    public synchronized void invalidate(final long testCaseId) {
+        entries.keySet().removeIf(key -> key.testCaseId == testCaseId);
+    }
+
+
+    // ================================================================================================================
+    // Event Listeners
+    // ================================================================================================================
+
+    /**
+     * Handles the given {@code event}, evicting the entries of the changed {@link TestCase}.
+     *
+     * @param event The {@link TestCaseChangedEvent} to be handled.
+     * @throws IllegalArgumentException If the {@code event} is {@code null}.
+     */
+    @EventListener(TestCaseChangedEvent.class)
+    public void testCaseChanged(final TestCaseChangedEvent event) throws IllegalArgumentException {
+        Assert.notNull(event, "The event must not be null");
+        invalidate(event.getTestCase().getId());
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Evicts the least recently used entries until the max. amount of entries is not exceeded.
+     */
+    private void evictIfNeeded() {
+        final var iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+
+    /**
+     * A cache key, identifying a version of a {@link TestCase}.
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Key {
+
+        /**
+         * The {@link TestCase}'s id.
+         */
+        private final long testCaseId;
+        /**
+         * The {@link TestCase}'s version.
+         */
+        private final long version;
+    }
+}
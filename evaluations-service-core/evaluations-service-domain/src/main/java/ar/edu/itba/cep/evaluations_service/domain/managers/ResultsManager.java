@@ -1,22 +1,30 @@
 package ar.edu.itba.cep.evaluations_service.domain.managers;
 
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.SolutionAndTestCaseIds;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExamSolutionSubmittedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionAbandonedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionRequestedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponseArrivedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponseRejectedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponsesArrivedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.helpers.DataLoadingHelper;
 import ar.edu.itba.cep.evaluations_service.domain.helpers.StateVerificationHelper;
+import ar.edu.itba.cep.evaluations_service.models.Exam;
 import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
 import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
 import ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult;
 import ar.edu.itba.cep.evaluations_service.models.TestCase;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingExecutionRequestRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.TestCaseRepository;
 import ar.edu.itba.cep.evaluations_service.services.ResultsService;
 import ar.edu.itba.cep.executor.models.ExecutionResponse;
 import com.bellotapps.webapps_commons.exceptions.IllegalEntityStateException;
 import com.bellotapps.webapps_commons.exceptions.NoSuchEntityException;
 import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -25,27 +33,55 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult.Result.*;
+import static java.util.function.Predicate.not;
 
 
 /**
  * A component in charge of managing {@link ExerciseSolutionResult}s,
  * sending to run {@link ExerciseSolution}s and setting a result based on an execution results.
+ * Executions whose {@link ExecutionResponse} is already known (see {@link ExecutionResponsesCache})
+ * are not sent to run, but marked right away.
+ * Also, as soon as an {@link ExerciseSolution} is known not to compile, the rest of its pending executions
+ * are discarded, as all of them would fail compiling too.
+ * For {@link Exam}s using the {@link Exam.EvaluationPolicy#EARLY_EXIT} policy, {@link TestCase}s are sent to run
+ * in stages (public ones first), and once an {@link ExerciseSolution} is not approved by any of them,
+ * the rest are marked as {@link ExerciseSolutionResult.Result#SKIPPED} instead of being executed.
+ * Outputs of completed executions are checked using the {@link TestCase}'s compiled output checker
+ * (see {@link OutputCheckersCache}), so expected outputs are not loaded nor parsed again for each response.
+ * The said checker, together with the {@link TestCase}'s inputs, is taken from the {@link TestCaseEvaluationCache},
+ * so processing a response does not load the {@link TestCase}.
+ * Executions that are abandoned (see {@link StaleExecutionsWatchdog}) are marked as
+ * {@link ExerciseSolutionResult.Result#UNKNOWN_ERROR}.
+ * Batches of {@link ExecutionResponse}s (see {@link ExecutionResponsesArrivedEvent}) are processed
+ * in a single transaction, loading all the affected {@link ExerciseSolutionResult}s together.
+ * The {@link ExerciseSolutionResult}s of submitted {@link ExamSolutionSubmission}s are created in the same
+ * transaction in which the submission is stored, so a committed submission always has its results
+ * (only sending them to run is deferred, through the execution requests outbox).
  */
 @Service
 @AllArgsConstructor
 @Transactional(readOnly = true)
 public class ResultsManager implements ResultsService {
 
+    /**
+     * The {@link Logger}.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultsManager.class);
+
     private final ExerciseSolutionRepository exerciseSolutionRepository;
     private final TestCaseRepository testCaseRepository;
     private final ExerciseSolutionResultRepository exerciseSolutionResultRepository;
+    private final PendingExecutionRequestRepository pendingExecutionRequestRepository;
+    private final ExecutionResponsesCache responsesCache;
+    private final TestCaseEvaluationCache evaluationCache;
     private final ApplicationEventPublisher publisher;
 
 
@@ -107,17 +143,26 @@ public class ResultsManager implements ResultsService {
             return; // Do nothing if not answered.
         }
         // Get the results and stay only with those that are marked (no execution is taking place)
-        // For those results, unmark them and store the new state in the repository
-        // Finally, send to run by publishing the event.
-        exerciseSolutionResultRepository.find(solution)
-                .stream()
+        // For those results, unmark them (marking again those whose execution response is already known)
+        // and store the new state in the repository (all together)
+        // Finally, send to run the rest by publishing the event.
+        final var solutionResults = exerciseSolutionResultRepository.find(solution);
+        final var results = solutionResults.stream()
                 .filter(ExerciseSolutionResult::isMarked)
                 .peek(ExerciseSolutionResult::unmark)
-                .peek(exerciseSolutionResultRepository::save)
-                .map(ExecutionRequestedEvent::fromResult)
-                .forEach(publisher::publishEvent)
-        ;
-
+                .collect(Collectors.toList());
+        if (isEarlyExit(solution.getSubmission().getExam())) {
+            // The evaluation starts again from the first stage (which might mark results that were not retried).
+            final var toRun = nextStage(solutionResults);
+            exerciseSolutionResultRepository.saveAll(solutionResults);
+            sendToRun(toRun);
+            return;
+        }
+        final var toRun = results.stream()
+                .filter(not(this::markFromCachedResponse))
+                .collect(Collectors.toList());
+        exerciseSolutionResultRepository.saveAll(results);
+        sendToRun(toRun);
     }
 
     @PreAuthorize(
@@ -143,10 +188,14 @@ public class ResultsManager implements ResultsService {
             return; // Skip if not answered.
         }
 
-        // Remove mark (this indicates that the solution is being sent to run again).
+        // Remove mark (this indicates that the solution is being sent to run again),
+        // unless the execution response is already known, in which case the result is marked right away.
         result.unmark();
+        final var memoized = markFromCachedResponse(result);
         exerciseSolutionResultRepository.save(result);
-        publisher.publishEvent(ExecutionRequestedEvent.fromResult(result));
+        if (!memoized) {
+            publisher.publishEvent(ExecutionRequestedEvent.fromResult(result));
+        }
     }
 
 
@@ -156,6 +205,10 @@ public class ResultsManager implements ResultsService {
 
     /**
      * Handles the given {@code event}.
+     * The event is handled synchronously, within the transaction in which it was published,
+     * so the {@link ExerciseSolutionResult}s are committed (or rolled back) together with the submission.
+     * Handling it after the commit would leave submissions without results if the handling fails
+     * (or if the service stops), and those would be scored as if every {@link TestCase} passed.
      *
      * @param event The {@link ExamSolutionSubmittedEvent} to be handled.
      * @throws IllegalArgumentException If the {@code event} is {@code null},
@@ -170,6 +223,7 @@ public class ResultsManager implements ResultsService {
 
     /**
      * Handles the given {@code event}.
+     * Duplicated or stale responses (see {@link #isAwaited(ExerciseSolutionResult, Instant)}) are ignored.
      *
      * @param event The {@link ExecutionResponseArrivedEvent} to be handled.
      * @throws NoSuchEntityException    If the event contains an {@link ExerciseSolution} id or a {@link TestCase} id
@@ -182,7 +236,66 @@ public class ResultsManager implements ResultsService {
     public void receiveExecutionResponse(final ExecutionResponseArrivedEvent event)
             throws NoSuchEntityException, IllegalArgumentException {
         Assert.notNull(event, "The event must not be null");
-        processResult(event.getSolutionId(), event.getTestCaseId(), event.getResponse());
+        processResult(event.getSolutionId(), event.getTestCaseId(), event.getResponse(), event.getDispatchedAt());
+    }
+
+    /**
+     * Handles the given {@code event}, processing all the arrived responses in the same transaction.
+     * Responses whose {@link ExerciseSolutionResult} does not exist are rejected
+     * (i.e an {@link ExecutionResponseRejectedEvent} is published for each of them,
+     * instead of failing, as it would roll back the whole batch),
+     * and duplicated or stale ones are ignored (see {@link #isAwaited(ExerciseSolutionResult, Instant)}).
+     *
+     * @param event The {@link ExecutionResponsesArrivedEvent} to be handled.
+     * @throws IllegalArgumentException If the {@code event} is {@code null},
+     *                                  or if it contains a response without {@link ExecutionResponse}.
+     */
+    @Transactional
+    @EventListener(ExecutionResponsesArrivedEvent.class)
+    public void receiveExecutionResponses(final ExecutionResponsesArrivedEvent event) throws IllegalArgumentException {
+        Assert.notNull(event, "The event must not be null");
+        final var responses = event.getResponses();
+        responses.forEach(response -> Assert.notNull(response.getResponse(), "Event without execution response"));
+        final var solutionResults = loadResultsFor(responses);
+        final var marked = new LinkedHashSet<ExerciseSolutionResult>();
+        for (final var response : responses) {
+            final var ids = SolutionAndTestCaseIds.create(response.getSolutionId(), response.getTestCaseId());
+            final var solutionResult = solutionResults.get(ids);
+            if (solutionResult == null) {
+                LOGGER.warn("Rejecting execution response for missing result {}", ids);
+                publisher.publishEvent(ExecutionResponseRejectedEvent.create(ids.getSolutionId(), ids.getTestCaseId()));
+                continue;
+            }
+            if (!isAwaited(solutionResult, response.getDispatchedAt())) {
+                LOGGER.debug("Discarding duplicated or stale execution response for {}", ids);
+                continue;
+            }
+            applyResponse(solutionResult, response.getResponse());
+            marked.add(solutionResult);
+        }
+        // Save all the results together in order to allow the repository to perform a bulk operation.
+        exerciseSolutionResultRepository.saveAll(marked);
+        marked.stream()
+                .collect(Collectors.groupingBy(ExerciseSolutionResult::getSolution))
+                .values()
+                .forEach(this::afterMarking);
+    }
+
+    /**
+     * Handles the given {@code event}, marking the abandoned result as
+     * {@link ExerciseSolutionResult.Result#UNKNOWN_ERROR}.
+     *
+     * @param event The {@link ExecutionAbandonedEvent} to be handled.
+     * @throws IllegalArgumentException If the {@code event} is {@code null}.
+     */
+    @Transactional
+    @EventListener(ExecutionAbandonedEvent.class)
+    public void executionAbandoned(final ExecutionAbandonedEvent event) throws IllegalArgumentException {
+        Assert.notNull(event, "The event must not be null");
+        final var solutionResult = event.getResult();
+        solutionResult.mark(UNKNOWN_ERROR);
+        exerciseSolutionResultRepository.save(solutionResult);
+        afterMarking(solutionResult, UNKNOWN_ERROR);
     }
 
 
@@ -227,12 +340,37 @@ public class ResultsManager implements ResultsService {
     private void processExamSolutionSubmission(final ExamSolutionSubmission submission)
             throws IllegalArgumentException {
         Assert.notNull(submission, "The submission must not be null");
-        exerciseSolutionRepository.getExerciseSolutions(submission)
+        final var results = exerciseSolutionRepository.getExerciseSolutions(submission)
                 .stream()
                 .map(this::createResultsFor) // This will set the "not answered" mark accordingly
                 .flatMap(Collection::stream)
-                .peek(exerciseSolutionResultRepository::save)
-                .filter(result -> !result.isMarked())
+                .collect(Collectors.toList());
+        // Those results whose execution response is already known are marked right away.
+        // When evaluating in stages, only the first stage of each solution is sent to run.
+        final var toRun = isEarlyExit(submission.getExam())
+                ? results.stream()
+                .collect(Collectors.groupingBy(ExerciseSolutionResult::getSolution))
+                .values()
+                .stream()
+                .map(this::nextStage)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList())
+                : results.stream()
+                .filter(not(ExerciseSolutionResult::isMarked))
+                .filter(not(this::markFromCachedResponse))
+                .collect(Collectors.toList());
+        // Save all the results together in order to allow the repository to perform a bulk operation.
+        exerciseSolutionResultRepository.saveAll(results);
+        sendToRun(toRun);
+    }
+
+    /**
+     * Sends to run the given {@code results} (i.e publishes an {@link ExecutionRequestedEvent} for each of them).
+     *
+     * @param results The {@link ExerciseSolutionResult}s to be sent to run.
+     */
+    private void sendToRun(final List<ExerciseSolutionResult> results) {
+        results.stream()
                 .map(ExecutionRequestedEvent::fromResult)
                 .forEach(publisher::publishEvent)
         ;
@@ -262,6 +400,157 @@ public class ResultsManager implements ResultsService {
     }
 
 
+    /**
+     * Marks the given {@code result} using the cached {@link ExecutionResponse} for its {@link ExerciseSolution}
+     * and {@link TestCase}, if any.
+     *
+     * @param result The {@link ExerciseSolutionResult} to be marked.
+     * @return {@code true} if the {@code result} was marked (i.e there is no need to send it to run),
+     * or {@code false} otherwise.
+     */
+    private boolean markFromCachedResponse(final ExerciseSolutionResult result) {
+        final var evaluation = evaluationCache.get(result.getTestCase());
+        return responsesCache.get(result.getSolution(), evaluation.getInputs())
+                .map(response -> getResultFor(response, evaluation::getChecker))
+                .map(mark -> {
+                    result.mark(mark);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Discards the pending executions of the given {@code solution}, marking its pending
+     * {@link ExerciseSolutionResult}s with the given {@code mark}, and removing those execution requests
+     * that have not been sent yet. Both operations are performed in bulk.
+     * Responses of executions that were already sent will arrive anyway, but they are discarded as stale
+     * (the results are already marked), so the results keep the given {@code mark}.
+     *
+     * @param solution The {@link ExerciseSolution} whose pending executions must be discarded.
+     * @param mark     The {@link ExerciseSolutionResult.Result} with which the pending results are marked
+     *                 (e.g {@link ExerciseSolutionResult.Result#NOT_COMPILED}, as compilation does not depend
+     *                 on the {@link TestCase}).
+     */
+    private void discardPendingExecutions(final ExerciseSolution solution, final ExerciseSolutionResult.Result mark) {
+        pendingExecutionRequestRepository.deleteBySolution(solution);
+        exerciseSolutionResultRepository.markPending(solution, mark);
+    }
+
+    /**
+     * Advances the staged evaluation of an {@link ExerciseSolution} after the given {@code solutionResult}
+     * has been marked: if the solution is not approved, the rest of its pending executions are skipped;
+     * otherwise, if the stage to which the {@code solutionResult} belongs is complete, the next one is sent to run.
+     *
+     * @param solutionResult The {@link ExerciseSolutionResult} that has been marked.
+     * @implNote The {@link ExerciseSolution} is locked before checking whether the stage is complete,
+     * so responses of the same solution processed concurrently (e.g one from the reply topic and one being retried)
+     * are serialized, and the completion of a stage is detected only once.
+     */
+    private void advanceStagedEvaluation(final ExerciseSolutionResult solutionResult) {
+        final var solution = solutionResult.getSolution();
+        if (solutionResult.getResult() != APPROVED) {
+            discardPendingExecutions(solution, SKIPPED);
+            return;
+        }
+        final var stage = stageOf(solutionResult);
+        exerciseSolutionRepository.lock(solution);
+        final var solutionResults = exerciseSolutionResultRepository.find(solution);
+        final var stageIsComplete = solutionResults.stream()
+                .filter(not(ExerciseSolutionResult::isMarked))
+                .noneMatch(result -> stageOf(result) <= stage);
+        if (!stageIsComplete) {
+            return; // Executions of the stage are still taking place.
+        }
+        final var toRun = nextStage(solutionResults);
+        exerciseSolutionResultRepository.saveAll(solutionResults);
+        sendToRun(toRun);
+    }
+
+    /**
+     * Calculates the next stage of the staged evaluation of an {@link ExerciseSolution}
+     * (i.e the unmarked {@link ExerciseSolutionResult}s of the first stage having any of them).
+     * Results whose execution response is already known are marked right away (moving to the following stage
+     * if all of them can be marked). If the solution is (or becomes) not approved by any of the given
+     * {@code solutionResults}, the unmarked ones are marked as {@link ExerciseSolutionResult.Result#SKIPPED}.
+     *
+     * @param solutionResults All the {@link ExerciseSolutionResult}s of the {@link ExerciseSolution}.
+     * @return The {@link ExerciseSolutionResult}s to be sent to run.
+     * @apiNote The given {@code solutionResults} are not saved by this method.
+     */
+    private List<ExerciseSolutionResult> nextStage(final List<ExerciseSolutionResult> solutionResults) {
+        final var stages = solutionResults.stream()
+                .filter(not(ExerciseSolutionResult::isMarked))
+                .collect(Collectors.groupingBy(ResultsManager::stageOf, TreeMap::new, Collectors.toList()))
+                .values();
+        for (final var stage : stages) {
+            if (solutionResults.stream().anyMatch(ResultsManager::isNotApproved)) {
+                break; // No need to keep evaluating, as the solution is not approved.
+            }
+            final var toRun = stage.stream()
+                    .filter(not(this::markFromCachedResponse))
+                    .collect(Collectors.toList());
+            if (!toRun.isEmpty() && solutionResults.stream().noneMatch(ResultsManager::isNotApproved)) {
+                return toRun;
+            }
+        }
+        solutionResults.stream()
+                .filter(not(ExerciseSolutionResult::isMarked))
+                .forEach(result -> result.mark(SKIPPED));
+        return List.of();
+    }
+
+    /**
+     * Indicates the stage in which the given {@code result} is executed when evaluating in stages
+     * (i.e {@link TestCase.Visibility#PUBLIC} {@link TestCase}s first).
+     *
+     * @param result The {@link ExerciseSolutionResult}.
+     * @return The stage (lower stages are executed first).
+     */
+    private static int stageOf(final ExerciseSolutionResult result) {
+        return result.getTestCase().getVisibility() == TestCase.Visibility.PUBLIC ? 0 : 1;
+    }
+
+    /**
+     * Indicates whether the given {@code result} is marked with a value other than
+     * {@link ExerciseSolutionResult.Result#APPROVED}.
+     *
+     * @param result The {@link ExerciseSolutionResult} to be checked.
+     * @return {@code true} if it is marked and not approved, or {@code false} otherwise.
+     */
+    private static boolean isNotApproved(final ExerciseSolutionResult result) {
+        return result.isMarked() && result.getResult() != APPROVED;
+    }
+
+    /**
+     * Indicates whether the given {@code solutionResult} is waiting for the response of the execution
+     * dispatched at the given {@code dispatchedAt} moment.
+     * This only checks the result's own state (i.e it does not need the {@link TestCase}'s expected outputs),
+     * so redelivered responses are discarded at almost no cost.
+     *
+     * @param solutionResult The {@link ExerciseSolutionResult} to be checked.
+     * @param dispatchedAt   The moment at which the response's execution was dispatched
+     *                       (or {@code null} if not known, in which case only the marking is checked).
+     * @return {@code true} if the result is not marked yet and, if known, the dispatch is the last one,
+     * or {@code false} otherwise (i.e the response is duplicated or belongs to an abandoned dispatch).
+     * @implNote The dispatching moment is truncated to milliseconds (as sent in the requests),
+     * and it is stored with time zone, so it round-trips exactly and can be compared for equality.
+     */
+    private static boolean isAwaited(final ExerciseSolutionResult solutionResult, final Instant dispatchedAt) {
+        return !solutionResult.isMarked()
+                && (dispatchedAt == null || dispatchedAt.equals(solutionResult.getDispatchedAt()));
+    }
+
+    /**
+     * Indicates whether the given {@code exam} is evaluated in stages.
+     *
+     * @param exam The {@link Exam} to be checked.
+     * @return {@code true} if it uses the {@link Exam.EvaluationPolicy#EARLY_EXIT} policy,
+     * or {@code false} otherwise.
+     */
+    private static boolean isEarlyExit(final Exam exam) {
+        return exam.getEvaluationPolicy() == Exam.EvaluationPolicy.EARLY_EXIT;
+    }
+
     /**
      * Processes the execution of the {@link ExerciseSolution} with the given {@code solutionId}
      * when being evaluated with the {@link TestCase} with the given {@code testCaseId}.
@@ -270,22 +559,27 @@ public class ResultsManager implements ResultsService {
      * @param solutionId        The id of the referenced {@link ExerciseSolution}.
      * @param testCaseId        The id of the referenced {@link TestCase}.
      * @param executionResponse An {@link ExecutionResponse} with data to be processed.
+     * @param dispatchedAt      The moment at which the execution was dispatched (or {@code null} if not known).
      * @throws NoSuchEntityException    If there is no {@link ExerciseSolution} with the given {@code solutionId},
      *                                  or if there is no {@link TestCase} with the given {@code testCaseId}.
      * @throws IllegalArgumentException If the given {@code executionResponse} is {@code null}.
      */
-    private void processResult(final long solutionId, final long testCaseId, final ExecutionResponse executionResponse)
-            throws NoSuchEntityException, IllegalArgumentException {
+    private void processResult(
+            final long solutionId,
+            final long testCaseId,
+            final ExecutionResponse executionResponse,
+            final Instant dispatchedAt) throws NoSuchEntityException, IllegalArgumentException {
         Assert.notNull(executionResponse, "Event without execution response");
         exerciseSolutionResultRepository.find(solutionId, testCaseId)
                 .ifPresentOrElse(
                         solutionResult -> {
-                            final var result = getResultFor(
-                                    executionResponse,
-                                    () -> solutionResult.getTestCase().getExpectedOutputs()
-                            );
-                            solutionResult.mark(result);
+                            if (!isAwaited(solutionResult, dispatchedAt)) {
+                                LOGGER.debug("Discarding duplicated or stale response for {}", solutionResult);
+                                return;
+                            }
+                            final var result = applyResponse(solutionResult, executionResponse);
                             exerciseSolutionResultRepository.save(solutionResult);
+                            afterMarking(solutionResult, result);
                         },
                         () -> {
                             // TODO: This should not happen as the ExerciseSolutionResult
@@ -301,25 +595,103 @@ public class ResultsManager implements ResultsService {
                 );
     }
 
+    /**
+     * Loads the {@link ExerciseSolutionResult}s affected by the given {@code responses}, using one query.
+     *
+     * @param responses The arrived responses.
+     * @return A {@link Map} holding the loaded {@link ExerciseSolutionResult}s by their {@link SolutionAndTestCaseIds}.
+     */
+    private Map<SolutionAndTestCaseIds, ExerciseSolutionResult> loadResultsFor(
+            final List<ExecutionResponseArrivedEvent> responses) {
+        final var solutionIds = responses.stream()
+                .map(ExecutionResponseArrivedEvent::getSolutionId)
+                .collect(Collectors.toSet());
+        final var testCaseIds = responses.stream()
+                .map(ExecutionResponseArrivedEvent::getTestCaseId)
+                .collect(Collectors.toSet());
+        // The repository returns the results matching any of the solutions and any of the test cases,
+        // so those not belonging to the batch are just not used.
+        return exerciseSolutionResultRepository.find(solutionIds, testCaseIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        result -> SolutionAndTestCaseIds
+                                .create(result.getSolution().getId(), result.getTestCase().getId()),
+                        Function.identity()
+                ));
+    }
+
+    /**
+     * Marks the given {@code solutionResult} according to the given {@code executionResponse},
+     * storing the said response in the {@link ExecutionResponsesCache}.
+     *
+     * @param solutionResult    The {@link ExerciseSolutionResult} to be marked.
+     * @param executionResponse The {@link ExecutionResponse} from where the result is taken.
+     * @return The {@link ExerciseSolutionResult.Result} with which the {@code solutionResult} was marked.
+     */
+    private ExerciseSolutionResult.Result applyResponse(
+            final ExerciseSolutionResult solutionResult,
+            final ExecutionResponse executionResponse) {
+        final var evaluation = evaluationCache.get(solutionResult.getTestCase());
+        final var result = getResultFor(executionResponse, evaluation::getChecker);
+        solutionResult.mark(result);
+        responsesCache.put(solutionResult.getSolution(), evaluation.getInputs(), executionResponse);
+        return result;
+    }
+
+    /**
+     * Performs the actions that follow the marking of several {@link ExerciseSolutionResult}s
+     * of the same {@link ExerciseSolution}
+     * (see {@link #afterMarking(ExerciseSolutionResult, ExerciseSolutionResult.Result)}),
+     * only once for the said solution, as the follow-up depends on the solution and not on each result.
+     * The result that drives the follow-up is a not compiled one, or a not approved one,
+     * or the one in the latest stage, in that order of precedence.
+     *
+     * @param solutionResults The marked {@link ExerciseSolutionResult}s (all of them of the same solution).
+     */
+    private void afterMarking(final List<ExerciseSolutionResult> solutionResults) {
+        final var driver = solutionResults.stream()
+                .filter(result -> result.getResult() == NOT_COMPILED)
+                .findAny()
+                .or(() -> solutionResults.stream().filter(ResultsManager::isNotApproved).findAny())
+                .orElseGet(() -> Collections.max(solutionResults, Comparator.comparingInt(ResultsManager::stageOf)));
+        afterMarking(driver, driver.getResult());
+    }
+
+    /**
+     * Performs the actions that follow the marking of the given {@code solutionResult} with the given {@code result}
+     * (i.e discarding the pending executions of a solution that does not compile,
+     * or advancing the staged evaluation for {@link Exam.EvaluationPolicy#EARLY_EXIT} {@link Exam}s).
+     *
+     * @param solutionResult The marked {@link ExerciseSolutionResult}.
+     * @param result         The {@link ExerciseSolutionResult.Result} with which it was marked.
+     */
+    private void afterMarking(final ExerciseSolutionResult solutionResult, final ExerciseSolutionResult.Result result) {
+        if (result == NOT_COMPILED) {
+            discardPendingExecutions(solutionResult.getSolution(), NOT_COMPILED);
+        } else if (isEarlyExit(solutionResult.getSolution().getSubmission().getExam())) {
+            advanceStagedEvaluation(solutionResult);
+        }
+    }
+
     /**
      * Gets the {@link ExerciseSolutionResult.Result} according to the given {@code executionResponse},
-     * using the given {@code expectedOutputsSupplier} to retrieve the expected results
+     * using the given {@code outputCheckerSupplier} to retrieve the output checker
      * if the given {@index executionResponse}'s result is {@link ExecutionResponse.ExecutionResult#COMPLETED}.
      *
-     * @param executionResponse       The {@link ExecutionResponse} to be analyzed.
-     * @param expectedOutputsSupplier The expected outputs to check if the execution is approved or failed
-     *                                in case the {@code response} is
-     *                                {@link ExecutionResponse.ExecutionResult#COMPLETED}.
+     * @param executionResponse     The {@link ExecutionResponse} to be analyzed.
+     * @param outputCheckerSupplier A {@link Supplier} of the checker of the outputs, used to check if the execution
+     *                              is approved or failed in case the {@code response} is
+     *                              {@link ExecutionResponse.ExecutionResult#COMPLETED}.
      * @return The corresponding {@link ExerciseSolutionResult.Result}.
      * @throws IllegalArgumentException If the given {@link ExecutionResponse}'s result is not known.
      *                                  This can happen if a new value is added and it is not handled here.
      */
     private ExerciseSolutionResult.Result getResultFor(
             final ExecutionResponse executionResponse,
-            final Supplier<List<String>> expectedOutputsSupplier) throws IllegalArgumentException {
+            final Supplier<Predicate<List<String>>> outputCheckerSupplier) throws IllegalArgumentException {
         switch (executionResponse.getResult()) {
             case COMPLETED:
-                return isApproved(executionResponse, expectedOutputsSupplier) ? APPROVED : FAILED;
+                return isApproved(executionResponse, outputCheckerSupplier) ? APPROVED : FAILED;
             case TIMEOUT:
                 return TIMED_OUT;
             case COMPILE_ERROR:
@@ -345,16 +717,16 @@ public class ResultsManager implements ResultsService {
     /**
      * Checks whether the given {@code response} is approved.
      *
-     * @param response                The {@link ExecutionResponse} from where execution stuff is taken.
-     * @param expectedOutputsSupplier A {@link Supplier} of the expected outputs for the execution
-     *                                in order to be considered approved.
+     * @param response              The {@link ExecutionResponse} from where execution stuff is taken.
+     * @param outputCheckerSupplier A {@link Supplier} of the checker the outputs of the execution must pass
+     *                              in order to be considered approved.
      * @return {@code true} if the execution is approved, or {@code false} otherwise.
-     * @implNote The method checks whether the exit code of the {@link ExecutionResponse} is 0, if there is
-     * no data in the standard error output, and if the outputs match the given {@code expectedOutputs}.
+     * @implNote The method checks whether the exit code of the {@link ExecutionResponse} is 0,
+     * and if the outputs pass the checker (which is only retrieved if the exit code is 0).
      */
     private static boolean isApproved(
             final ExecutionResponse response,
-            final Supplier<List<String>> expectedOutputsSupplier) {
-        return response.getExitCode() == 0 && expectedOutputsSupplier.get().equals(response.getStdout());
+            final Supplier<Predicate<List<String>>> outputCheckerSupplier) {
+        return response.getExitCode() == 0 && outputCheckerSupplier.get().test(response.getStdout());
     }
 }
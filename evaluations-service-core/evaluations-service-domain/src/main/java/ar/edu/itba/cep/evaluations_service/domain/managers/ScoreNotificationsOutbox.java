@@ -0,0 +1,177 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
+import ar.edu.itba.cep.evaluations_service.models.PendingScoreNotification;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingScoreNotificationRepository;
+import ar.edu.itba.cep.lti.ExamScoringRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A component in charge of the score notifications outbox (i.e the {@link PendingScoreNotification}s):
+ * it adds the scored {@link ExamSolutionSubmission}s to it, takes the notifications that are due
+ * in order to be sent to the LTI service, and registers the outcome of their deliveries.
+ * Notifications are taken in a (short) transaction that postpones them for a while (i.e a lease),
+ * so the outbox is not kept locked while waiting for the LTI service (see {@link LtiManager}),
+ * and notifications whose outcome is never registered (e.g the service stops while sending them) are sent again
+ * once the lease expires. Failed deliveries are retried with an exponential backoff.
+ */
+@Component
+public class ScoreNotificationsOutbox {
+
+    /**
+     * The {@link Logger}.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoreNotificationsOutbox.class);
+
+    /**
+     * The {@link PendingScoreNotificationRepository} used to store the {@link PendingScoreNotification}s.
+     */
+    private final PendingScoreNotificationRepository notificationRepository;
+    /**
+     * The amount of milliseconds during which a taken notification is not taken again.
+     */
+    private final long lease;
+    /**
+     * The amount of milliseconds to wait before retrying a notification that failed for the first time.
+     */
+    private final long backoff;
+    /**
+     * The max. amount of milliseconds to wait before retrying a failed notification.
+     */
+    private final long maxBackoff;
+
+
+    /**
+     * Constructor.
+     *
+     * @param notificationRepository The {@link PendingScoreNotificationRepository}
+     *                               used to store the {@link PendingScoreNotification}s.
+     * @param lease                  The amount of milliseconds during which a taken notification is not taken again.
+     * @param backoff                The amount of milliseconds to wait before retrying a notification
+     *                               that failed for the first time (doubled with each failed attempt).
+     * @param maxBackoff             The max. amount of milliseconds to wait before retrying a failed notification.
+     * @throws IllegalArgumentException If any of the durations is not positive,
+     *                                  or if the {@code maxBackoff} is less than the {@code backoff}.
+     */
+    public ScoreNotificationsOutbox(
+            final PendingScoreNotificationRepository notificationRepository,
+            @Value("${lti-service.score-notifications.lease:60000}") final long lease,
+            @Value("${lti-service.score-notifications.backoff:5000}") final long backoff,
+            @Value("${lti-service.score-notifications.max-backoff:3600000}") final long maxBackoff)
+            throws IllegalArgumentException {
+        Assert.isTrue(lease > 0, "The lease must be positive");
+        Assert.isTrue(backoff > 0, "The backoff must be positive");
+        Assert.isTrue(maxBackoff >= backoff, "The max. backoff must not be less than the backoff");
+        this.notificationRepository = notificationRepository;
+        this.lease = lease;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+
+    /**
+     * Adds the score of the given {@code submission} to the outbox, so it is sent to the LTI service
+     * once the current transaction commits.
+     *
+     * @param submission The scored {@link ExamSolutionSubmission}.
+     * @throws IllegalArgumentException If the {@code submission} is {@code null}.
+     */
+    @Transactional
+    public void add(final ExamSolutionSubmission submission) throws IllegalArgumentException {
+        notificationRepository.save(new PendingScoreNotification(submission));
+    }
+
+    /**
+     * Takes the {@link PendingScoreNotification}s that are due at the given {@code now} moment
+     * (up to the given {@code amount}), postponing them for the lease duration.
+     *
+     * @param amount The max. amount of {@link PendingScoreNotification}s to take.
+     * @param now    The current moment.
+     * @return A {@link Map} holding the {@link ExamScoringRequest} to be sent for each taken notification,
+     * keyed by the notification's id (in the order in which they must be sent).
+     * @throws IllegalArgumentException If the {@code amount} is not positive, or the {@code now} moment is null.
+     */
+    @Transactional
+    public Map<Long, ExamScoringRequest> takeDue(final int amount, final Instant now) throws IllegalArgumentException {
+        Assert.isTrue(amount > 0, "The amount must be positive");
+        Assert.notNull(now, "The current moment must not be null");
+        final var notifications = notificationRepository.getDueForUpdate(now, amount);
+        notifications.forEach(notification -> notification.postpone(now.plusMillis(lease)));
+        return notifications.stream().collect(Collectors.toMap(
+                PendingScoreNotification::getId,
+                notification -> examScoringRequest(notification.getSubmission()),
+                (first, second) -> first,
+                LinkedHashMap::new
+        ));
+    }
+
+    /**
+     * Registers the outcome of sending the notifications taken from the outbox:
+     * the {@code delivered} ones are removed, and the {@code failed} ones are retried after a backoff
+     * that grows exponentially with their failed attempts.
+     *
+     * @param delivered The ids of the delivered {@link PendingScoreNotification}s.
+     * @param failed    The failures of the {@link PendingScoreNotification}s that could not be delivered,
+     *                  keyed by the notification's id.
+     * @param now       The current moment.
+     */
+    @Transactional
+    public void registerOutcomes(
+            final Collection<Long> delivered,
+            final Map<Long, ? extends Throwable> failed,
+            final Instant now) {
+        notificationRepository.deleteByIds(delivered);
+        if (failed.isEmpty()) {
+            return;
+        }
+        LOGGER.warn("Could not send {} scores to the LTI service. Will retry later", failed.size());
+        notificationRepository.getByIds(failed.keySet()).forEach(notification -> notification.registerFailedAttempt(
+                describe(failed.get(notification.getId())),
+                now.plusMillis(backoff(notification.getFailedAttempts() + 1))
+        ));
+    }
+
+
+    /**
+     * Computes the time to wait before retrying a notification that failed the given amount of {@code attempts}.
+     *
+     * @param attempts The amount of failed attempts.
+     * @return The time to wait, in milliseconds.
+     */
+    private long backoff(final int attempts) {
+        // Shifting is bounded to avoid overflows (the max. backoff is reached way before anyway).
+        return Math.min(maxBackoff, backoff << Math.min(attempts - 1, 30));
+    }
+
+    /**
+     * Builds an {@link ExamScoringRequest} from the given {@code submission}.
+     *
+     * @param submission The {@link ExamSolutionSubmission} from where data for the {@link ExamScoringRequest} is taken.
+     * @return The created {@link ExamScoringRequest}.
+     */
+    private static ExamScoringRequest examScoringRequest(final ExamSolutionSubmission submission) {
+        return new ExamScoringRequest(submission.getExam().getId(), submission.getSubmitter(), submission.getScore());
+    }
+
+    /**
+     * Describes the given {@code failure}.
+     *
+     * @param failure The failure to be described.
+     * @return The description.
+     */
+    private static String describe(final Throwable failure) {
+        final var cause = failure.getCause() != null ? failure.getCause() : failure;
+        return cause.getClass().getName() + ": " + cause.getMessage();
+    }
+}
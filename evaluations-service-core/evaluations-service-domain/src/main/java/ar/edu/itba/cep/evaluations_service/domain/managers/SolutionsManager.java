@@ -1,6 +1,5 @@
 package ar.edu.itba.cep.evaluations_service.domain.managers;
 
-import ar.edu.itba.cep.evaluations_service.domain.events.ExamFinishedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExamScoredEvent;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExamSolutionSubmittedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.helpers.DataLoadingHelper;
@@ -8,7 +7,6 @@ import ar.edu.itba.cep.evaluations_service.domain.helpers.StateVerificationHelpe
 import ar.edu.itba.cep.evaluations_service.models.Exam;
 import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
 import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
-import ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult;
 import ar.edu.itba.cep.evaluations_service.repositories.*;
 import ar.edu.itba.cep.evaluations_service.security.authentication.AuthenticationHelper;
 import ar.edu.itba.cep.evaluations_service.services.SolutionService;
@@ -20,10 +18,7 @@ import com.bellotapps.webapps_commons.exceptions.UniqueViolationException;
 import com.bellotapps.webapps_commons.persistence.repository_utils.paging_and_sorting.Page;
 import com.bellotapps.webapps_commons.persistence.repository_utils.paging_and_sorting.PagingRequest;
 import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
-import lombok.ToString;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.event.EventListener;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,10 +27,8 @@ import org.springframework.util.Assert;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-
-import static ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult.Result.APPROVED;
-import static java.util.function.Predicate.not;
-
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Manager for {@link ExamSolutionSubmission}s and {@link ExerciseSolution}s.
@@ -49,7 +42,6 @@ public class SolutionsManager implements SolutionService {
     private final ExerciseRepository exerciseRepository;
     private final ExamSolutionSubmissionRepository submissionRepository;
     private final ExerciseSolutionRepository solutionRepository;
-    private final ExerciseSolutionResultRepository resultsRepository;
     private final ApplicationEventPublisher publisher;
 
 
@@ -141,16 +133,36 @@ public class SolutionsManager implements SolutionService {
             return; // Do not calculate it again.
         }
         StateVerificationHelper.checkSubmitted(submission);
-        final var totalScore = solutionRepository.getExerciseSolutions(submission)
+        final var scoring = submissionRepository.getScoring(submission);
+        if (scoring.hasPendingResults()) {
+            throw new IllegalEntityStateException(PENDING_EXECUTIONS);
+        }
+        score(submission, scoring.getApprovedScore());
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize(
+            "hasAuthority('ADMIN')" +
+                    " or (hasAuthority('TEACHER') and @examAuthorizationProvider.isOwner(#examId, principal))"
+    )
+    public void scoreExamSubmissions(final long examId) throws NoSuchEntityException {
+        final var exam = DataLoadingHelper.loadExam(examRepository, examId);
+        final var scorings = submissionRepository.getScorings(exam, ExamSolutionSubmission.State.SUBMITTED)
                 .stream()
-                .map(this::buildContainer)
-                .peek(SolutionAndResultsContainer::verifyPendingExecutions)
-                .filter(SolutionAndResultsContainer::isApproved)
-                .mapToInt(SolutionAndResultsContainer::getScore)
-                .sum();
-        submission.score(totalScore);
-        publisher.publishEvent(ExamScoredEvent.create(submission));
-        submissionRepository.save(submission);
+                .collect(Collectors.toMap(SubmissionScoring::getSubmissionId, Function.identity()));
+        submissionRepository.getByExamAndState(exam, ExamSolutionSubmission.State.SUBMITTED)
+                .stream()
+                .filter(submission -> Objects.isNull(submission.getScore()))
+                .forEach(submission -> {
+                    // Submissions without solutions are not included in the scorings.
+                    final var scoring = Optional.ofNullable(scorings.get(submission.getId()))
+                            .orElseGet(() -> new SubmissionScoring(submission.getId(), 0, 0));
+                    if (scoring.hasPendingResults()) {
+                        return; // It will be scored once its executions finish.
+                    }
+                    score(submission, scoring.getApprovedScore());
+                });
     }
 
 
@@ -209,25 +221,6 @@ public class SolutionsManager implements SolutionService {
     }
 
 
-    // ================================================================================================================
-    // Event Listeners
-    // ================================================================================================================
-
-    /**
-     * Handles the given {@code event}.
-     *
-     * @param event The {@link ExamSolutionSubmittedEvent} to be handled.
-     * @throws IllegalArgumentException If the {@code event} is {@code null},
-     *                                  or if it contains a {@code null} {@link ExamSolutionSubmission}
-     */
-    @Transactional
-    @EventListener(ExamFinishedEvent.class)
-    public void examFinished(final ExamFinishedEvent event) throws IllegalArgumentException {
-        Assert.notNull(event, "The event must not be null");
-        submitNonFinished(event.getExam());
-    }
-
-
     // ================================================================================================================
     // Helpers
     // ================================================================================================================
@@ -261,18 +254,6 @@ public class SolutionsManager implements SolutionService {
         }
     }
 
-    /**
-     * Submits all the {@link ExamSolutionSubmission} belonging to the given {@code exam} that are still unplaced.
-     *
-     * @param exam The {@link Exam} whose {@link ExamSolutionSubmission} must be placed.
-     */
-    private void submitNonFinished(final Exam exam) {
-        Assert.notNull(exam, "The exam whose submissions must be placed must not be null");
-        submissionRepository
-                .getByExamAndState(exam, ExamSolutionSubmission.State.UNPLACED)
-                .forEach(this::doPlaceSubmission);
-    }
-
     /**
      * Places the given {@code submission}
      * (i.e sets the {@link ExamSolutionSubmission} as submitted and stores the new state).
@@ -286,15 +267,16 @@ public class SolutionsManager implements SolutionService {
     }
 
     /**
-     * Builds a {@link SolutionAndResultsContainer} from the given {@code solution},
-     * using the {@link #resultsRepository}
-     * to retrieve the {@link ExerciseSolutionResult}s of the said {@code solution}.
+     * Sets the given {@code score} to the given {@code submission}, saving it,
+     * and publishing an {@link ExamScoredEvent}.
      *
-     * @param solution The {@link ExerciseSolution}.
-     * @return The build {@link SolutionAndResultsContainer}.
+     * @param submission The {@link ExamSolutionSubmission} being scored.
+     * @param score      The score to be set.
      */
-    private SolutionAndResultsContainer buildContainer(final ExerciseSolution solution) {
-        return SolutionAndResultsContainer.build(solution, resultsRepository.find(solution));
+    private void score(final ExamSolutionSubmission submission, final int score) {
+        submission.score(score);
+        publisher.publishEvent(ExamScoredEvent.create(submission));
+        submissionRepository.save(submission);
     }
 
 
@@ -325,52 +307,4 @@ public class SolutionsManager implements SolutionService {
      */
     private final static UniqueViolationError SUBMISSION_ALREADY_EXISTS =
             new UniqueViolationError("An Exam Solution Submission already exists", "exam", "submitter");
-
-
-    /**
-     * Wraps an {@link ExerciseSolution} with its {@link ExerciseSolutionResult}s.
-     * It contains methods to check if there are {@link ExerciseSolutionResult}s with pending executions,
-     * and to check if the {@link ExerciseSolution} is approved, based on the result's mark.
-     */
-    @ToString(doNotUseGetters = true)
-    @EqualsAndHashCode(doNotUseGetters = true)
-    @AllArgsConstructor(staticName = "build")
-    private static final class SolutionAndResultsContainer {
-
-        /**
-         * The {@link ExerciseSolution}.
-         */
-        private final ExerciseSolution solution;
-        /**
-         * The {@link ExerciseSolutionResult}s.
-         */
-        private final List<ExerciseSolutionResult> results;
-
-        /**
-         * Verifies if there any of the {@link #results} is pending of execution results.
-         */
-        private void verifyPendingExecutions() {
-            if (results.stream().anyMatch(not(ExerciseSolutionResult::isMarked))) {
-                throw new IllegalEntityStateException(PENDING_EXECUTIONS);
-            }
-        }
-
-        /**
-         * Checks if the {@link #solution} is approved.
-         *
-         * @return {@code true} if approved, or {@code false} otherwise.
-         */
-        private boolean isApproved() {
-            return results.stream().allMatch(res -> res.getResult() == APPROVED);
-        }
-
-        /**
-         * Returns the awarded score for the {@link #solution} (i.e it returns the solution's exercise awarded score).
-         *
-         * @return The amount of score it is awarded to the solution.
-         */
-        private int getScore() {
-            return solution.getExercise().getAwardedScore();
-        }
-    }
 }
@@ -0,0 +1,180 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionAbandonedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionRequestedEvent;
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult;
+import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A component in charge of detecting executions whose responses never arrived
+ * (e.g because a request or its reply was lost, or the executor service crashed while running it).
+ * Stale executions are requested again, waiting exponentially longer for each attempt
+ * (see {@link ExerciseSolutionResultRepository#getStaleForUpdate(Instant, Duration, int)}),
+ * and they are abandoned once the max. amount of attempts is reached
+ * (which is notified with an {@link ExecutionAbandonedEvent}).
+ * Stale executions are reported to the {@link ExecutionsInFlightLimiter}, as they are a sign of overload.
+ * For {@link Exam.EvaluationPolicy#EARLY_EXIT} {@link Exam}s, abandoning an execution discards the rest
+ * of the pending executions of the same solution (with a bulk update), so only one execution per solution
+ * is abandoned in each batch, and its siblings in the batch are left untouched.
+ */
+@Component
+public class StaleExecutionsWatchdog {
+
+    /**
+     * The {@link ExerciseSolutionResultRepository} from where stale {@link ExerciseSolutionResult}s are taken.
+     */
+    private final ExerciseSolutionResultRepository exerciseSolutionResultRepository;
+    /**
+     * An {@link ApplicationEventPublisher} to publish relevant events to the rest of the application's components.
+     */
+    private final ApplicationEventPublisher publisher;
+    /**
+     * The {@link ExecutionsInFlightLimiter} to which stale executions are reported.
+     */
+    private final ExecutionsInFlightLimiter inFlightLimiter;
+    /**
+     * The time to wait for the response of the first attempt of an execution.
+     */
+    private final Duration timeout;
+    /**
+     * The max. amount of times an execution is attempted before abandoning it.
+     */
+    private final int maxAttempts;
+    /**
+     * The max. amount of stale {@link ExerciseSolutionResult}s handled in each batch.
+     */
+    private final int batchSize;
+
+
+    /**
+     * Constructor.
+     *
+     * @param exerciseSolutionResultRepository The {@link ExerciseSolutionResultRepository}
+     *                                         from where stale {@link ExerciseSolutionResult}s are taken.
+     * @param publisher                        An {@link ApplicationEventPublisher} to publish relevant events
+     *                                         to the rest of the application's components.
+     * @param inFlightLimiter                  The {@link ExecutionsInFlightLimiter}
+     *                                         to which stale executions are reported.
+     * @param timeout                          The time to wait for the response of the first attempt
+     *                                         of an execution, in milliseconds.
+     * @param maxAttempts                      The max. amount of times an execution is attempted
+     *                                         before abandoning it.
+     * @param batchSize                        The max. amount of stale {@link ExerciseSolutionResult}s
+     *                                         handled in each batch.
+     * @throws IllegalArgumentException If any of the numeric arguments is not positive.
+     */
+    public StaleExecutionsWatchdog(
+            final ExerciseSolutionResultRepository exerciseSolutionResultRepository,
+            final ApplicationEventPublisher publisher,
+            final ExecutionsInFlightLimiter inFlightLimiter,
+            @Value("${executor-service.watchdog.timeout:300000}") final long timeout,
+            @Value("${executor-service.watchdog.max-attempts:3}") final int maxAttempts,
+            @Value("${executor-service.watchdog.batch-size:100}") final int batchSize)
+            throws IllegalArgumentException {
+        Assert.isTrue(timeout > 0, "The timeout must be positive");
+        Assert.isTrue(maxAttempts > 0, "The max. amount of attempts must be positive");
+        Assert.isTrue(batchSize > 0, "The batch size must be positive");
+        this.exerciseSolutionResultRepository = exerciseSolutionResultRepository;
+        this.publisher = publisher;
+        this.inFlightLimiter = inFlightLimiter;
+        this.timeout = Duration.ofMillis(timeout);
+        this.maxAttempts = maxAttempts;
+        this.batchSize = batchSize;
+    }
+
+
+    /**
+     * Handles the next batch of stale {@link ExerciseSolutionResult}s,
+     * requesting their executions again, or abandoning them if they were already attempted too many times.
+     * The batch is locked while it is being handled, so several instances of the service can run concurrently.
+     * Re-requested results are not considered stale until they are dispatched again.
+     * Only the handled results are saved (i.e those skipped because of an abandoned sibling are not,
+     * as their persisted state was already changed when discarding the pending executions of their solution).
+     */
+    @Transactional
+    @Scheduled(
+            initialDelayString = "${executor-service.watchdog.delay:60000}",
+            fixedDelayString = "${executor-service.watchdog.delay:60000}"
+    )
+    public void handleStaleExecutions() {
+        final var staleResults = exerciseSolutionResultRepository.getStaleForUpdate(Instant.now(), timeout, batchSize);
+        if (staleResults.isEmpty()) {
+            return;
+        }
+        inFlightLimiter.lost();
+        final var handled = staleResults.stream()
+                .collect(Collectors.groupingBy(
+                        ExerciseSolutionResult::getSolution,
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ))
+                .values()
+                .stream()
+                .map(this::handleSolutionResults)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+        exerciseSolutionResultRepository.saveAll(handled);
+    }
+
+
+    /**
+     * Handles the given stale {@code solutionResults}, all of them belonging to the same solution.
+     * If any of them must be abandoned and the solution is evaluated in stages, only that one is handled,
+     * as abandoning it discards the rest of the solution's pending executions.
+     *
+     * @param solutionResults The stale {@link ExerciseSolutionResult}s of the same solution.
+     * @return The handled {@link ExerciseSolutionResult}s.
+     */
+    private List<ExerciseSolutionResult> handleSolutionResults(final List<ExerciseSolutionResult> solutionResults) {
+        final var toAbandon = solutionResults.stream()
+                .filter(result -> result.getAttempts() >= maxAttempts)
+                .findFirst();
+        if (toAbandon.isPresent() && isEarlyExit(toAbandon.get())) {
+            handle(toAbandon.get());
+            return List.of(toAbandon.get());
+        }
+        solutionResults.forEach(this::handle);
+        return solutionResults;
+    }
+
+
+    /**
+     * Handles the given stale {@code result}.
+     *
+     * @param result The stale {@link ExerciseSolutionResult}.
+     */
+    private void handle(final ExerciseSolutionResult result) {
+        result.clearDispatch();
+        if (result.getAttempts() < maxAttempts) {
+            publisher.publishEvent(ExecutionRequestedEvent.fromResult(result));
+        } else {
+            publisher.publishEvent(ExecutionAbandonedEvent.create(result));
+        }
+    }
+
+    /**
+     * Indicates whether the solution of the given {@code result} is evaluated in stages.
+     *
+     * @param result The {@link ExerciseSolutionResult} to be checked.
+     * @return {@code true} if its {@link Exam} uses the {@link Exam.EvaluationPolicy#EARLY_EXIT} policy,
+     * or {@code false} otherwise.
+     */
+    private static boolean isEarlyExit(final ExerciseSolutionResult result) {
+        return result.getSolution().getSubmission().getExam().getEvaluationPolicy()
+                == Exam.EvaluationPolicy.EARLY_EXIT;
+    }
+}
@@ -0,0 +1,82 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * A component in charge of running the {@link SubmissionsPlacementJob}s in background.
+ * As each chunk is placed in its own transaction (through the {@link SubmissionsPlacementManager}),
+ * jobs that were interrupted (e.g because of a crash) are resumed the next time the runner is executed.
+ */
+@Component
+public class SubmissionsPlacementJobsRunner {
+
+    /**
+     * The {@link Logger} object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubmissionsPlacementJobsRunner.class);
+
+    /**
+     * The {@link SubmissionsPlacementManager} that performs the actual work.
+     */
+    private final SubmissionsPlacementManager submissionsPlacementManager;
+
+
+    /**
+     * Constructor.
+     *
+     * @param submissionsPlacementManager The {@link SubmissionsPlacementManager} that performs the actual work.
+     */
+    @Autowired
+    public SubmissionsPlacementJobsRunner(final SubmissionsPlacementManager submissionsPlacementManager) {
+        this.submissionsPlacementManager = submissionsPlacementManager;
+    }
+
+
+    /**
+     * Runs all the {@link SubmissionsPlacementJob}s that are in progress, chunk by chunk, until they are completed.
+     * A failing job has its failure registered, in order to be retried the next time this method is executed,
+     * until it fails too many times in a row
+     * (see {@link SubmissionsPlacementManager#registerFailure(long, Throwable)}).
+     */
+    @Scheduled(
+            initialDelayString = "${submissions-placement.delay:1000}",
+            fixedDelayString = "${submissions-placement.delay:1000}"
+    )
+    public void runJobs() {
+        for (final var jobId : submissionsPlacementManager.getInProgressJobs()) {
+            try {
+                //noinspection StatementWithEmptyBody
+                while (submissionsPlacementManager.placeNextChunk(jobId)) {
+                    // Keep on placing chunks until the job is completed.
+                }
+            } catch (final RuntimeException e) {
+                registerFailure(jobId, e);
+            }
+        }
+    }
+
+    /**
+     * Registers the given {@code failure} of the {@link SubmissionsPlacementJob} with the given {@code jobId}.
+     * If it cannot be registered, the job is retried the next time the jobs are run.
+     *
+     * @param jobId   The id of the failing {@link SubmissionsPlacementJob}.
+     * @param failure The failure.
+     */
+    private void registerFailure(final long jobId, final RuntimeException failure) {
+        try {
+            if (submissionsPlacementManager.registerFailure(jobId, failure)) {
+                LOGGER.error("Could not place submissions for job with id {}. Will retry later", jobId, failure);
+            } else {
+                LOGGER.error("Could not place submissions for job with id {}. Giving up", jobId, failure);
+            }
+        } catch (final RuntimeException e) {
+            failure.addSuppressed(e);
+            LOGGER.error("Could not place submissions for job with id {}. Will retry later", jobId, failure);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.domain.events.ExamFinishedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExamSolutionSubmittedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.helpers.DataLoadingHelper;
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
+import ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob;
+import ar.edu.itba.cep.evaluations_service.repositories.ExamRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.ExamSolutionSubmissionRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.SubmissionsPlacementJobRepository;
+import ar.edu.itba.cep.evaluations_service.services.SubmissionsPlacementService;
+import com.bellotapps.webapps_commons.exceptions.NoSuchEntityException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Manager for {@link SubmissionsPlacementJob}s.
+ * When an {@link Exam} finishes, a {@link SubmissionsPlacementJob} is created, which is then run in background
+ * by the {@link SubmissionsPlacementJobsRunner}, placing the still unplaced {@link ExamSolutionSubmission}s
+ * in chunks (each of them in its own transaction).
+ */
+@Service
+@Transactional(readOnly = true)
+public class SubmissionsPlacementManager implements SubmissionsPlacementService {
+
+    private final ExamRepository examRepository;
+    private final ExamSolutionSubmissionRepository submissionRepository;
+    private final SubmissionsPlacementJobRepository jobRepository;
+    private final ApplicationEventPublisher publisher;
+    /**
+     * The max. amount of {@link ExamSolutionSubmission}s placed in each chunk.
+     */
+    private final int chunkSize;
+    /**
+     * The max. amount of consecutive failed attempts of a {@link SubmissionsPlacementJob}
+     * before it is marked as failed.
+     */
+    private final int maxAttempts;
+
+
+    /**
+     * Constructor.
+     *
+     * @param examRepository       An {@link ExamRepository}.
+     * @param submissionRepository An {@link ExamSolutionSubmissionRepository}.
+     * @param jobRepository        A {@link SubmissionsPlacementJobRepository}.
+     * @param publisher            An {@link ApplicationEventPublisher}.
+     * @param chunkSize            The max. amount of {@link ExamSolutionSubmission}s placed in each chunk.
+     * @param maxAttempts          The max. amount of consecutive failed attempts of a {@link SubmissionsPlacementJob}
+     *                             before it is marked as failed.
+     * @throws IllegalArgumentException If the {@code chunkSize} or the {@code maxAttempts} are not positive.
+     */
+    public SubmissionsPlacementManager(
+            final ExamRepository examRepository,
+            final ExamSolutionSubmissionRepository submissionRepository,
+            final SubmissionsPlacementJobRepository jobRepository,
+            final ApplicationEventPublisher publisher,
+            @Value("${submissions-placement.chunk-size:20}") final int chunkSize,
+            @Value("${submissions-placement.max-attempts:10}") final int maxAttempts) throws IllegalArgumentException {
+        Assert.isTrue(chunkSize > 0, "The chunk size must be positive");
+        Assert.isTrue(maxAttempts > 0, "The max. amount of attempts must be positive");
+        this.examRepository = examRepository;
+        this.submissionRepository = submissionRepository;
+        this.jobRepository = jobRepository;
+        this.publisher = publisher;
+        this.chunkSize = chunkSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+
+    // ================================================================================================================
+    // SubmissionsPlacementService
+    // ================================================================================================================
+
+    @Override
+    @PreAuthorize(
+            "hasAuthority('ADMIN')" +
+                    " or (hasAuthority('TEACHER') and @examAuthorizationProvider.isOwner(#examId, principal))"
+    )
+    public Optional<SubmissionsPlacementJob> getPlacementJobForExam(final long examId) throws NoSuchEntityException {
+        final var exam = DataLoadingHelper.loadExam(examRepository, examId);
+        return jobRepository.getByExam(exam);
+    }
+
+
+    // ================================================================================================================
+    // Jobs processing
+    // ================================================================================================================
+
+    /**
+     * @return A {@link List} containing the ids of the {@link SubmissionsPlacementJob}s that are still in progress
+     * (i.e those that were just created, and those that were interrupted).
+     */
+    public List<Long> getInProgressJobs() {
+        return jobRepository.getIdsByState(SubmissionsPlacementJob.State.IN_PROGRESS);
+    }
+
+    /**
+     * Places the next chunk of {@link ExamSolutionSubmission}s for the {@link SubmissionsPlacementJob}
+     * with the given {@code jobId}, recording the job's progress in the same transaction.
+     * The job is locked while the chunk is being processed, so concurrent runners are serialized.
+     *
+     * @param jobId The id of the {@link SubmissionsPlacementJob} being run.
+     * @return {@code true} if there are still {@link ExamSolutionSubmission}s to be placed, or {@code false} otherwise
+     * (i.e the job is completed or it does not exist).
+     */
+    @Transactional
+    public boolean placeNextChunk(final long jobId) {
+        final var jobOptional = jobRepository.findForUpdate(jobId)
+                .filter(job -> job.getState() == SubmissionsPlacementJob.State.IN_PROGRESS);
+        if (jobOptional.isEmpty()) {
+            return false; // Already completed by another runner, or deleted together with its exam.
+        }
+        final var job = jobOptional.get();
+        final var submissions = submissionRepository.getByExamAndState(
+                job.getExam(),
+                ExamSolutionSubmission.State.UNPLACED,
+                chunkSize
+        );
+        submissions.forEach(this::doPlaceSubmission);
+        job.registerPlacedSubmissions(submissions.size());
+        if (submissions.size() < chunkSize) {
+            job.complete();
+        }
+        jobRepository.save(job);
+        return job.getState() == SubmissionsPlacementJob.State.IN_PROGRESS;
+    }
+
+    /**
+     * Registers that placing the next chunk of {@link ExamSolutionSubmission}s for the
+     * {@link SubmissionsPlacementJob} with the given {@code jobId} failed with the given {@code failure}
+     * (in its own transaction, as the chunk's one was rolled back).
+     * The job is marked as failed once it fails the configured max. amount of attempts in a row.
+     *
+     * @param jobId   The id of the {@link SubmissionsPlacementJob} whose chunk could not be placed.
+     * @param failure The failure.
+     * @return {@code true} if the job will be retried, or {@code false} otherwise
+     * (i.e the job has been marked as failed, it is not in progress anymore, or it does not exist).
+     */
+    @Transactional
+    public boolean registerFailure(final long jobId, final Throwable failure) {
+        final var jobOptional = jobRepository.findForUpdate(jobId)
+                .filter(job -> job.getState() == SubmissionsPlacementJob.State.IN_PROGRESS);
+        if (jobOptional.isEmpty()) {
+            return false;
+        }
+        final var job = jobOptional.get();
+        job.registerFailedAttempt(failure.getClass().getName() + ": " + failure.getMessage(), maxAttempts);
+        jobRepository.save(job);
+        return job.getState() == SubmissionsPlacementJob.State.IN_PROGRESS;
+    }
+
+
+    // ================================================================================================================
+    // Event Listeners
+    // ================================================================================================================
+
+    /**
+     * Handles the given {@code event}, by creating a {@link SubmissionsPlacementJob} for the finished {@link Exam}.
+     *
+     * @param event The {@link ExamFinishedEvent} to be handled.
+     * @throws IllegalArgumentException If the {@code event} is {@code null},
+     *                                  or if it contains a {@code null} {@link Exam}
+     */
+    @Transactional
+    @EventListener(ExamFinishedEvent.class)
+    public void examFinished(final ExamFinishedEvent event) throws IllegalArgumentException {
+        Assert.notNull(event, "The event must not be null");
+        jobRepository.save(new SubmissionsPlacementJob(event.getExam()));
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Places the given {@code submission}
+     * (i.e sets the {@link ExamSolutionSubmission} as submitted and stores the new state).
+     *
+     * @param submission The {@link ExamSolutionSubmission} to be submitted.
+     */
+    private void doPlaceSubmission(final ExamSolutionSubmission submission) {
+        submission.submit();
+        submissionRepository.save(submission);
+        publisher.publishEvent(ExamSolutionSubmittedEvent.create(submission));
+    }
+}
@@ -0,0 +1,258 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.domain.config.AsyncEventsConfig;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExamFinishedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExamStartedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.TestCaseChangedEvent;
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import ar.edu.itba.cep.evaluations_service.repositories.ExerciseRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.TestCaseRepository;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.Assert;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A bounded cache holding, for each {@link TestCase} (by id and version),
+ * everything needed to evaluate an execution of it
+ * (i.e its output checker and its {@link ExecutionResponsesCache.TestCaseInputs}),
+ * so processing an execution response does not load the {@link TestCase}.
+ * As {@link TestCase}s can not be modified once their {@link Exam} has started, the cache is populated
+ * when an {@link Exam} starts, and the entries of an {@link Exam} are evicted when the said {@link Exam} finishes.
+ * The least recently used entries are evicted once the max. amount of entries is reached,
+ * and entries of a {@link TestCase} are evicted when the said {@link TestCase} changes (or is deleted).
+ *
+ * @implNote As the key includes the {@link TestCase}'s version, a modified {@link TestCase} never matches
+ * a stale entry, even if the invalidation happened in another instance of the service.
+ */
+@Component
+public class TestCaseEvaluationCache {
+
+    /**
+     * The {@link Logger}.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestCaseEvaluationCache.class);
+
+    private final ExerciseRepository exerciseRepository;
+    private final TestCaseRepository testCaseRepository;
+    private final OutputCheckersCache outputCheckersCache;
+    /**
+     * The max. amount of entries this cache can hold.
+     */
+    private final int maxEntries;
+    /**
+     * The cached {@link TestCaseEvaluation}s, in access order (i.e the least recently used first).
+     */
+    private final LinkedHashMap<Key, TestCaseEvaluation> entries;
+
+
+    /**
+     * Constructor.
+     *
+     * @param exerciseRepository  An {@link ExerciseRepository}.
+     * @param testCaseRepository  A {@link TestCaseRepository}.
+     * @param outputCheckersCache The {@link OutputCheckersCache} from where output checkers are taken.
+     * @param maxEntries          The max. amount of entries this cache can hold.
+     * @throws IllegalArgumentException If the {@code maxEntries} is not positive.
+     */
+    public TestCaseEvaluationCache(
+            final ExerciseRepository exerciseRepository,
+            final TestCaseRepository testCaseRepository,
+            final OutputCheckersCache outputCheckersCache,
+            @Value("${executor-service.evaluation-cache.max-entries:5000}") final int maxEntries)
+            throws IllegalArgumentException {
+        Assert.isTrue(maxEntries > 0, "The max. amount of entries must be positive");
+        this.exerciseRepository = exerciseRepository;
+        this.testCaseRepository = testCaseRepository;
+        this.outputCheckersCache = outputCheckersCache;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+
+    /**
+     * Retrieves the {@link TestCaseEvaluation} of the given {@code testCase}, computing it if it is not cached.
+     *
+     * @param testCase The {@link TestCase}.
+     * @return The {@link TestCaseEvaluation} of the given {@code testCase}.
+     * @implNote Only the {@link TestCase}'s id and version are accessed when the entry is cached.
+     * Computation is performed outside the lock, so a slow computation does not block other lookups.
+     */
+    public TestCaseEvaluation get(final TestCase testCase) {
+        final var key = Key.of(testCase);
+        synchronized (this) {
+            final var evaluation = entries.get(key);
+            if (evaluation != null) {
+                return evaluation;
+            }
+        }
+        return load(testCase);
+    }
+
+    /**
+     * Evicts all the entries stored for the {@link TestCase} with the given {@code testCaseId}.
+     *
+     * @param testCaseId The id of the {@link TestCase} whose entries must be evicted.
+     */
+    public synchronized void invalidate(final long testCaseId) {
+        entries.keySet().removeIf(key -> key.testCaseId == testCaseId);
+    }
+
+
+    // ================================================================================================================
+    // Event Listeners
+    // ================================================================================================================
+
+    /**
+     * Handles the given {@code event}, populating this cache with the {@link TestCase}s of the started {@link Exam}.
+     * The event is handled asynchronously, after the transaction in which it was published commits
+     * (or right away if there is no transaction), so starting an {@link Exam} does not wait for it.
+     *
+     * @param event The {@link ExamStartedEvent} to be handled.
+     * @throws IllegalArgumentException If the {@code event} is {@code null}.
+     */
+    @Transactional(readOnly = true)
+    @Async(AsyncEventsConfig.ASYNC_EVENTS_EXECUTOR)
+    @TransactionalEventListener(value = ExamStartedEvent.class, fallbackExecution = true)
+    public void examStarted(final ExamStartedEvent event) throws IllegalArgumentException {
+        Assert.notNull(event, "The event must not be null");
+        final var testCases = getTestCases(event.getExam());
+        testCases.forEach(this::load);
+        LOGGER.debug("Cached the evaluation data of {} test cases of exam {}", testCases.size(), event.getExam());
+    }
+
+    /**
+     * Handles the given {@code event}, evicting the entries of the {@link TestCase}s of the finished {@link Exam}.
+     * The event is handled asynchronously, after the transaction in which it was published commits
+     * (or right away if there is no transaction), so finishing an {@link Exam} does not wait for it.
+     *
+     * @param event The {@link ExamFinishedEvent} to be handled.
+     * @throws IllegalArgumentException If the {@code event} is {@code null}.
+     */
+    @Transactional(readOnly = true)
+    @Async(AsyncEventsConfig.ASYNC_EVENTS_EXECUTOR)
+    @TransactionalEventListener(value = ExamFinishedEvent.class, fallbackExecution = true)
+    public void examFinished(final ExamFinishedEvent event) throws IllegalArgumentException {
+        Assert.notNull(event, "The event must not be null");
+        getTestCases(event.getExam()).stream().map(TestCase::getId).forEach(this::invalidate);
+    }
+
+    /**
+     * Handles the given {@code event}, evicting the entry of the changed {@link TestCase}.
+     *
+     * @param event The {@link TestCaseChangedEvent} to be handled.
+     * @throws IllegalArgumentException If the {@code event} is {@code null}.
+     */
+    @EventListener(TestCaseChangedEvent.class)
+    public void testCaseChanged(final TestCaseChangedEvent event) throws IllegalArgumentException {
+        Assert.notNull(event, "The event must not be null");
+        invalidate(event.getTestCase().getId());
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Computes the {@link TestCaseEvaluation} of the given {@code testCase}, and stores it in this cache.
+     *
+     * @param testCase The {@link TestCase}.
+     * @return The computed {@link TestCaseEvaluation}.
+     */
+    private TestCaseEvaluation load(final TestCase testCase) {
+        final var evaluation = new TestCaseEvaluation(
+                outputCheckersCache.get(testCase),
+                ExecutionResponsesCache.TestCaseInputs.of(testCase)
+        );
+        synchronized (this) {
+            entries.put(Key.of(testCase), evaluation);
+            evictIfNeeded();
+        }
+        return evaluation;
+    }
+
+    /**
+     * Retrieves all the {@link TestCase}s of the given {@code exam}.
+     *
+     * @param exam The {@link Exam}.
+     * @return The {@link TestCase}s of the given {@code exam}.
+     */
+    private List<TestCase> getTestCases(final Exam exam) {
+        return exerciseRepository.getExamExercises(exam).stream()
+                .map(testCaseRepository::getAllTestCases)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Evicts the least recently used entries until the max. amount of entries is not exceeded.
+     */
+    private void evictIfNeeded() {
+        final var iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+
+    /**
+     * A cache key, identifying a version of a {@link TestCase}.
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Key {
+
+        /**
+         * The {@link TestCase}'s id.
+         */
+        private final long testCaseId;
+        /**
+         * The {@link TestCase}'s version.
+         */
+        private final long version;
+
+
+        /**
+         * Creates the {@link Key} of the given {@code testCase}.
+         *
+         * @param testCase The {@link TestCase}.
+         * @return Its {@link Key}.
+         */
+        private static Key of(final TestCase testCase) {
+            return new Key(testCase.getId(), testCase.getVersion());
+        }
+    }
+
+    /**
+     * The data needed to evaluate an execution of a {@link TestCase}.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class TestCaseEvaluation {
+
+        /**
+         * A {@link Predicate} that tells whether the given outputs match the {@link TestCase}'s expected ones.
+         */
+        private final Predicate<List<String>> checker;
+        /**
+         * The {@link TestCase}'s inputs, used to access the {@link ExecutionResponsesCache}.
+         */
+        private final ExecutionResponsesCache.TestCaseInputs inputs;
+    }
+}
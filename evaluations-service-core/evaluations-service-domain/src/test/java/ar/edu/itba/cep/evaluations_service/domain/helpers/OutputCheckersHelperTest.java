@@ -0,0 +1,115 @@
+package ar.edu.itba.cep.evaluations_service.domain.helpers;
+
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Test class for the {@link OutputCheckersHelper}.
+ */
+class OutputCheckersHelperTest {
+
+    /**
+     * Tests the {@link TestCase.OutputComparison#EXACT} comparison.
+     */
+    @Test
+    void testExact() {
+        final var checker = OutputCheckersHelper.compile(TestCase.OutputComparison.EXACT, null, List.of("a b", "c"));
+        Assertions.assertAll(
+                "The exact comparison is not working as expected",
+                () -> Assertions.assertTrue(checker.test(List.of("a b", "c")), "Equal outputs are rejected"),
+                () -> Assertions.assertFalse(checker.test(List.of("a  b", "c")), "Different outputs are approved"),
+                () -> Assertions.assertFalse(checker.test(null), "Missing outputs are approved")
+        );
+    }
+
+    /**
+     * Tests the {@link TestCase.OutputComparison#WHITESPACE_INSENSITIVE} comparison.
+     */
+    @Test
+    void testWhitespaceInsensitive() {
+        final var checker = OutputCheckersHelper.compile(
+                TestCase.OutputComparison.WHITESPACE_INSENSITIVE,
+                null,
+                List.of("a b", "c")
+        );
+        Assertions.assertAll(
+                "The whitespace insensitive comparison is not working as expected",
+                () -> Assertions.assertTrue(
+                        checker.test(List.of("  a \t b ", "c", "", " ")),
+                        "Outputs differing in whitespaces are rejected"
+                ),
+                () -> Assertions.assertFalse(checker.test(List.of("ab", "c")), "Different outputs are approved"),
+                () -> Assertions.assertFalse(checker.test(List.of("a b", "", "c")), "Inner blank lines are ignored")
+        );
+    }
+
+    /**
+     * Tests the {@link TestCase.OutputComparison#FLOAT_TOLERANCE} comparison.
+     */
+    @Test
+    void testFloatTolerance() {
+        final var checker = OutputCheckersHelper.compile(
+                TestCase.OutputComparison.FLOAT_TOLERANCE,
+                0.001,
+                List.of("pi 3.14159", "1000")
+        );
+        Assertions.assertAll(
+                "The float tolerance comparison is not working as expected",
+                () -> Assertions.assertTrue(
+                        checker.test(List.of("pi  3.1416", "1000.5")),
+                        "Numbers within the tolerance are rejected"
+                ),
+                () -> Assertions.assertFalse(
+                        checker.test(List.of("pi 3.15", "1000")),
+                        "Numbers out of the tolerance are approved"
+                ),
+                () -> Assertions.assertFalse(
+                        checker.test(List.of("e 3.14159", "1000")),
+                        "Different words are approved"
+                ),
+                () -> Assertions.assertFalse(checker.test(List.of("pi NaN", "1000")), "Non numbers are approved")
+        );
+    }
+
+    /**
+     * Tests the {@link TestCase.OutputComparison#REGEX} comparison.
+     */
+    @Test
+    void testRegex() {
+        final var checker = OutputCheckersHelper.compile(
+                TestCase.OutputComparison.REGEX,
+                null,
+                List.of("\\d+ items?", "done")
+        );
+        Assertions.assertAll(
+                "The regex comparison is not working as expected",
+                () -> Assertions.assertTrue(checker.test(List.of("12 items", "done")), "Matching outputs are rejected"),
+                () -> Assertions.assertFalse(
+                        checker.test(List.of("12 items left", "done")),
+                        "Partially matching outputs are approved"
+                ),
+                () -> Assertions.assertFalse(checker.test(List.of("12 items")), "Missing lines are approved")
+        );
+    }
+
+    /**
+     * Tests the {@link TestCase.OutputComparison#UNORDERED_LINES} comparison.
+     */
+    @Test
+    void testUnorderedLines() {
+        final var checker = OutputCheckersHelper.compile(
+                TestCase.OutputComparison.UNORDERED_LINES,
+                null,
+                List.of("a", "b", "a")
+        );
+        Assertions.assertAll(
+                "The unordered lines comparison is not working as expected",
+                () -> Assertions.assertTrue(checker.test(List.of("b", "a", "a")), "Reordered outputs are rejected"),
+                () -> Assertions.assertTrue(checker.test(List.of("a", "a", "b")), "The checker is not reusable"),
+                () -> Assertions.assertFalse(checker.test(List.of("a", "b", "b")), "Different counts are approved")
+        );
+    }
+}
@@ -0,0 +1,137 @@
+package ar.edu.itba.cep.evaluations_service.domain.helpers;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark comparing {@link OutputsComparisonHelper#matches(List, List)} against {@link List#equals(Object)}
+ * (i.e the previous way of comparing outputs), for several output sizes and the most common scenarios
+ * (matching outputs, outputs with a missing line, and outputs with a wrong line at the middle).
+ * Expected outputs are linked lists (as stored by test cases), and actual outputs are array lists
+ * (as deserialized from the executor service replies).
+ * Run it with the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutputsComparisonBenchmark {
+
+    /**
+     * The amount of lines of the expected outputs.
+     */
+    @Param({"10", "1000", "100000"})
+    private int lines;
+
+    /**
+     * The scenario being benchmarked.
+     */
+    @Param({"MATCHING", "MISSING_LINE", "WRONG_LINE"})
+    private Scenario scenario;
+
+    /**
+     * The expected outputs.
+     */
+    private List<String> expected;
+    /**
+     * The actual outputs.
+     */
+    private List<String> actual;
+
+
+    /**
+     * Creates the outputs being compared.
+     */
+    @Setup
+    public void setup() {
+        this.expected = new LinkedList<>(outputs(lines));
+        // Different String instances, so equality is checked char by char (as with deserialized outputs).
+        this.actual = new ArrayList<>(outputs(lines));
+        switch (scenario) {
+            case MISSING_LINE:
+                actual.remove(actual.size() - 1);
+                break;
+            case WRONG_LINE:
+                actual.set(actual.size() / 2, "wrong");
+                break;
+            default:
+                break;
+        }
+    }
+
+
+    // ================================================================================================================
+    // Benchmarks
+    // ================================================================================================================
+
+    @Benchmark
+    public boolean listEquals() {
+        return expected.equals(actual);
+    }
+
+    @Benchmark
+    public boolean outputsComparisonHelper() {
+        return OutputsComparisonHelper.matches(expected, actual);
+    }
+
+
+    // ================================================================================================================
+    // Runner
+    // ================================================================================================================
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Ignored.
+     * @throws RunnerException If the benchmark fails.
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(OutputsComparisonBenchmark.class.getSimpleName()).build()).run();
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Creates outputs resembling those of a program (i.e lines with some text and numbers).
+     *
+     * @param lines The amount of lines.
+     * @return The created outputs.
+     */
+    private static List<String> outputs(final int lines) {
+        return IntStream.range(0, lines)
+                .mapToObj(i -> "Line " + i + ": the result is " + (i * 31L % 1000003))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The benchmarked scenarios.
+     */
+    public enum Scenario {
+        /**
+         * The actual outputs match the expected ones.
+         */
+        MATCHING,
+        /**
+         * The actual outputs miss the last line.
+         */
+        MISSING_LINE,
+        /**
+         * The actual outputs have a wrong line at the middle.
+         */
+        WRONG_LINE,
+    }
+}
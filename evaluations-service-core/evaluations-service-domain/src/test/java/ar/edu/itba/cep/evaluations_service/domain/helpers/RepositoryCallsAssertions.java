@@ -0,0 +1,73 @@
+package ar.edu.itba.cep.evaluations_service.domain.helpers;
+
+import org.junit.jupiter.api.Assertions;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Assertions over the amount of calls performed to mocked repositories, which are the domain's counterpart
+ * of the SQL statements executed by a service method (each repository method performs a bounded amount of them).
+ * They are meant to detect N + 1 query patterns (i.e repositories being called once per element of some collection),
+ * by asserting a max. amount of calls when the service method is performed with several elements.
+ */
+public final class RepositoryCallsAssertions {
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private RepositoryCallsAssertions() {
+    }
+
+
+    /**
+     * Performs the given {@code serviceCall}, asserting that it does not call the given {@code repositories}
+     * (which must be Mockito mocks) more than {@code max} times in total.
+     *
+     * @param max          The max. amount of repository calls allowed.
+     * @param serviceCall  The service method call being checked.
+     * @param repositories The mocked repositories whose calls are counted.
+     */
+    public static void assertMaxRepositoryCalls(
+            final int max,
+            final Runnable serviceCall,
+            final Object... repositories) {
+        final var before = countCalls(repositories);
+        serviceCall.run();
+        final var calls = countCalls(repositories) - before;
+        Assertions.assertTrue(
+                calls <= max,
+                () -> "The service method performed " + calls + " repository calls, but at most " + max
+                        + " were expected. Calls: " + describeCalls(repositories)
+        );
+    }
+
+
+    /**
+     * Counts the calls performed to the given {@code repositories}.
+     *
+     * @param repositories The mocked repositories.
+     * @return The amount of calls.
+     */
+    private static int countCalls(final Object... repositories) {
+        return Arrays.stream(repositories)
+                .map(Mockito::mockingDetails)
+                .mapToInt(details -> details.getInvocations().size())
+                .sum();
+    }
+
+    /**
+     * Describes the calls performed to the given {@code repositories}.
+     *
+     * @param repositories The mocked repositories.
+     * @return A description of the calls.
+     */
+    private static String describeCalls(final Object... repositories) {
+        return Arrays.stream(repositories)
+                .map(Mockito::mockingDetails)
+                .flatMap(details -> details.getInvocations().stream())
+                .map(Object::toString)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -2,9 +2,12 @@ package ar.edu.itba.cep.evaluations_service.domain.managers;
 
 import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
 import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import ar.edu.itba.cep.evaluations_service.repositories.ExerciseRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingExecutionRequestRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.TestCaseRepository;
+import org.mockito.Mockito;
 import org.springframework.context.ApplicationEventPublisher;
 
 /**
@@ -12,6 +15,15 @@ import org.springframework.context.ApplicationEventPublisher;
  */
 abstract class AbstractResultsManagerTest {
 
+    /**
+     * The max. amount of entries of the {@link OutputCheckersCache} used by the {@link TestCaseEvaluationCache}.
+     */
+    private static final int OUTPUT_CHECKERS_CACHE_MAX_ENTRIES = 10;
+    /**
+     * The max. amount of entries of the {@link TestCaseEvaluationCache} injected to the {@link ResultsManager}.
+     */
+    private static final int EVALUATION_CACHE_MAX_ENTRIES = 10;
+
     // ================================================================================================================
     // Mocks
     // ================================================================================================================
@@ -31,6 +43,22 @@ abstract class AbstractResultsManagerTest {
      * This reference is saved in order to configure its behaviour in each test.
      */
     /* package */ final ExerciseSolutionResultRepository exerciseSolutionResultRepository;
+    /**
+     * A {@link PendingExecutionRequestRepository} that is injected to the {@link ResultsManager}.
+     * This reference is saved in order to configure its behaviour in each test.
+     */
+    /* package */ final PendingExecutionRequestRepository pendingExecutionRequestRepository;
+    /**
+     * An {@link ExecutionResponsesCache} that is injected to the {@link ResultsManager}.
+     * This reference is saved in order to configure its behaviour in each test.
+     */
+    /* package */ final ExecutionResponsesCache responsesCache;
+    /**
+     * A {@link TestCaseEvaluationCache} that is injected to the {@link ResultsManager}.
+     * A real instance is used (instead of a mock), as it just compiles the checkers
+     * and encodes the inputs of the {@link TestCase} mocks (its event listeners are not exercised by these tests).
+     */
+    /* package */ final TestCaseEvaluationCache evaluationCache;
 
     /**
      * An {@link ApplicationEventPublisher} that is injected to the {@link ResultsManager}.
@@ -56,28 +84,45 @@ abstract class AbstractResultsManagerTest {
     /**
      * Constructor.
      *
-     * @param testCaseRepository               A {@link TestCaseRepository}
-     *                                         that is injected to the {@link ResultsManager}.
-     * @param exerciseSolutionRepository       An {@link ExerciseSolutionRepository}
-     *                                         that is injected to the {@link ResultsManager}.
-     * @param exerciseSolutionResultRepository An {@link ExerciseSolutionResultRepository}
-     *                                         that is injected to the {@link ResultsManager}.
-     * @param publisher                        An {@link ApplicationEventPublisher}
-     *                                         that is injected to the {@link ResultsManager}.
+     * @param testCaseRepository                A {@link TestCaseRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param exerciseSolutionRepository        An {@link ExerciseSolutionRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param exerciseSolutionResultRepository  An {@link ExerciseSolutionResultRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param pendingExecutionRequestRepository A {@link PendingExecutionRequestRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param responsesCache                    An {@link ExecutionResponsesCache}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param publisher                         An {@link ApplicationEventPublisher}
+     *                                          that is injected to the {@link ResultsManager}.
      */
     AbstractResultsManagerTest(
             final TestCaseRepository testCaseRepository,
             final ExerciseSolutionRepository exerciseSolutionRepository,
             final ExerciseSolutionResultRepository exerciseSolutionResultRepository,
+            final PendingExecutionRequestRepository pendingExecutionRequestRepository,
+            final ExecutionResponsesCache responsesCache,
             final ApplicationEventPublisher publisher) {
         this.testCaseRepository = testCaseRepository;
         this.exerciseSolutionRepository = exerciseSolutionRepository;
         this.exerciseSolutionResultRepository = exerciseSolutionResultRepository;
+        this.pendingExecutionRequestRepository = pendingExecutionRequestRepository;
+        this.responsesCache = responsesCache;
+        this.evaluationCache = new TestCaseEvaluationCache(
+                Mockito.mock(ExerciseRepository.class),
+                testCaseRepository,
+                new OutputCheckersCache(OUTPUT_CHECKERS_CACHE_MAX_ENTRIES),
+                EVALUATION_CACHE_MAX_ENTRIES
+        );
         this.publisher = publisher;
         this.resultsManager = new ResultsManager(
                 exerciseSolutionRepository,
                 testCaseRepository,
                 exerciseSolutionResultRepository,
+                pendingExecutionRequestRepository,
+                responsesCache,
+                evaluationCache,
                 publisher
         );
     }
@@ -21,7 +21,6 @@ abstract class AbstractSolutionsManagerTest {
     /* package */ final ExerciseRepository exerciseRepository;
     /* package */ final ExamSolutionSubmissionRepository submissionRepository;
     /* package */ final ExerciseSolutionRepository solutionRepository;
-    /* package */ final ExerciseSolutionResultRepository resultRepository;
     /* package */ final ApplicationEventPublisher publisher;
 
 
@@ -46,7 +45,6 @@ abstract class AbstractSolutionsManagerTest {
      * @param exerciseRepository   An {@link ExerciseRepository} to be injected to the {@link ExamManager}.
      * @param submissionRepository An {@link ExamSolutionSubmissionRepository} to be injected to the {@link ExamManager}.
      * @param solutionRepository   An {@link ExerciseSolutionRepository} to be injected to the {@link ExamManager}.
-     * @param resultRepository     An {@link ExerciseSolutionResultRepository} to be injected to the {@link ExamManager}.
      * @param publisher            An {@link ApplicationEventPublisher} to be injected to the {@link ExamManager}.
      */
     AbstractSolutionsManagerTest(
@@ -54,20 +52,17 @@ abstract class AbstractSolutionsManagerTest {
             final ExerciseRepository exerciseRepository,
             final ExamSolutionSubmissionRepository submissionRepository,
             final ExerciseSolutionRepository solutionRepository,
-            final ExerciseSolutionResultRepository resultRepository,
             final ApplicationEventPublisher publisher) {
         this.examRepository = examRepository;
         this.exerciseRepository = exerciseRepository;
         this.submissionRepository = submissionRepository;
         this.solutionRepository = solutionRepository;
-        this.resultRepository = resultRepository;
         this.publisher = publisher;
         this.solutionsManager = new SolutionsManager(
                 examRepository,
                 exerciseRepository,
                 submissionRepository,
                 solutionRepository,
-                resultRepository,
                 publisher
         );
     }
@@ -83,7 +78,6 @@ abstract class AbstractSolutionsManagerTest {
         verifyZeroInteractions(exerciseRepository);
         verifyZeroInteractions(submissionRepository);
         verifyZeroInteractions(solutionRepository);
-        verifyZeroInteractions(resultRepository);
         verifyZeroInteractions(publisher);
     }
 
@@ -97,7 +91,6 @@ abstract class AbstractSolutionsManagerTest {
         verifyZeroInteractions(exerciseRepository);
         verify(submissionRepository, only()).findById(submissionId);
         verifyZeroInteractions(solutionRepository);
-        verifyZeroInteractions(resultRepository);
         verifyZeroInteractions(publisher);
     }
 
@@ -111,7 +104,6 @@ abstract class AbstractSolutionsManagerTest {
         verifyZeroInteractions(exerciseRepository);
         verifyZeroInteractions(submissionRepository);
         verify(solutionRepository, only()).findById(solutionId);
-        verifyZeroInteractions(resultRepository);
         verifyZeroInteractions(publisher);
     }
 }
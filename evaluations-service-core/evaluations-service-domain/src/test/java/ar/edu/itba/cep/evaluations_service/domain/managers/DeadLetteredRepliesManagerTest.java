@@ -0,0 +1,117 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.ExecutionRepliesDeadLetterQueue;
+import ar.edu.itba.cep.evaluations_service.models.DeadLetteredReply;
+import com.bellotapps.webapps_commons.exceptions.NoSuchEntityException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link DeadLetteredRepliesManager}.
+ */
+@ExtendWith(MockitoExtension.class)
+class DeadLetteredRepliesManagerTest {
+
+    /**
+     * An id of a {@link DeadLetteredReply}.
+     */
+    private static final String REPLY_ID = "0-1";
+
+
+    // ================================================================================================================
+    // Mocks
+    // ================================================================================================================
+
+    private final ExecutionRepliesDeadLetterQueue deadLetterQueue;
+
+
+    // ================================================================================================================
+    // Dead Lettered Replies Manager
+    // ================================================================================================================
+
+    /**
+     * The {@link DeadLetteredRepliesManager} being tested.
+     */
+    private final DeadLetteredRepliesManager deadLetteredRepliesManager;
+
+
+    // ================================================================================================================
+    // Constructor
+    // ================================================================================================================
+
+    /**
+     * Constructor.
+     *
+     * @param deadLetterQueue An {@link ExecutionRepliesDeadLetterQueue} to be injected to the manager.
+     */
+    DeadLetteredRepliesManagerTest(
+            @Mock(name = "deadLetterQueue") final ExecutionRepliesDeadLetterQueue deadLetterQueue) {
+        this.deadLetterQueue = deadLetterQueue;
+        this.deadLetteredRepliesManager = new DeadLetteredRepliesManager(deadLetterQueue);
+    }
+
+
+    // ================================================================================================================
+    // Tests
+    // ================================================================================================================
+
+    /**
+     * Tests that the {@link DeadLetteredReply}s are retrieved from the {@link ExecutionRepliesDeadLetterQueue}.
+     *
+     * @param reply A {@link DeadLetteredReply} mock returned by the queue.
+     */
+    @Test
+    void testGetDeadLetteredReplies(@Mock(name = "reply") final DeadLetteredReply reply) {
+        when(deadLetterQueue.peek(10)).thenReturn(List.of(reply));
+        Assertions.assertEquals(
+                List.of(reply),
+                deadLetteredRepliesManager.getDeadLetteredReplies(10),
+                "The dead lettered replies are not the ones returned by the queue"
+        );
+        verify(deadLetterQueue, only()).peek(10);
+    }
+
+    /**
+     * Tests that a non positive amount of {@link DeadLetteredReply}s can not be requested.
+     */
+    @Test
+    void testGetDeadLetteredRepliesWithNonPositiveAmount() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> deadLetteredRepliesManager.getDeadLetteredReplies(0),
+                "Requesting a non positive amount of replies does not throw an IllegalArgumentException"
+        );
+        verifyZeroInteractions(deadLetterQueue);
+    }
+
+    /**
+     * Tests that an existing {@link DeadLetteredReply} is replayed.
+     */
+    @Test
+    void testReplay() {
+        when(deadLetterQueue.replay(REPLY_ID)).thenReturn(true);
+        deadLetteredRepliesManager.replay(REPLY_ID);
+        verify(deadLetterQueue, only()).replay(REPLY_ID);
+    }
+
+    /**
+     * Tests that replaying a non existing {@link DeadLetteredReply} throws a {@link NoSuchEntityException}.
+     */
+    @Test
+    void testReplayNonExistingReply() {
+        when(deadLetterQueue.replay(REPLY_ID)).thenReturn(false);
+        Assertions.assertThrows(
+                NoSuchEntityException.class,
+                () -> deadLetteredRepliesManager.replay(REPLY_ID),
+                "Replaying a non existing reply does not throw a NoSuchEntityException"
+        );
+        verify(deadLetterQueue, only()).replay(REPLY_ID);
+    }
+}
@@ -1,6 +1,9 @@
 package ar.edu.itba.cep.evaluations_service.domain.managers;
 
 import ar.edu.itba.cep.evaluations_service.domain.events.ExamFinishedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExamStartedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.TestCaseChangedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.helpers.RepositoryCallsAssertions;
 import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
 import ar.edu.itba.cep.evaluations_service.models.Exam;
 import ar.edu.itba.cep.evaluations_service.models.Exercise;
@@ -9,6 +12,7 @@ import ar.edu.itba.cep.evaluations_service.repositories.ExamRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.TestCaseRepository;
 import ar.edu.itba.cep.evaluations_service.services.ExamWithOwners;
+import ar.edu.itba.cep.evaluations_service.services.ExamWithScore;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -77,6 +81,33 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
         verifyOnlyExamSearch(examId);
     }
 
+    /**
+     * Tests that searching for an {@link Exam} together with its max. score returns the score kept by the exam
+     * (i.e the {@link Exercise}s of the exam are not loaded to compute it).
+     *
+     * @param exam A mocked {@link Exam} (which is returned by {@link ExamManager#getExamWithScore(long)}).
+     */
+    @Test
+    void testSearchForExamWithScoreThatExists(@Mock(name = "exam") final Exam exam) {
+        final var examId = TestHelper.validExamId();
+        final var maxScore = TestHelper.validAwardedScore();
+        when(exam.getMaxScore()).thenReturn(maxScore);
+        when(examRepository.findById(examId)).thenReturn(Optional.of(exam));
+        final var examOptional = examManager.getExamWithScore(examId);
+        Assertions.assertAll("Searching for an exam with its score is not working as expected",
+                () -> Assertions.assertTrue(
+                        examOptional.isPresent(),
+                        "The returned Optional is empty"
+                ),
+                () -> Assertions.assertEquals(
+                        maxScore,
+                        examOptional.map(ExamWithScore::getMaxScore).get().intValue(),
+                        "The returned max. score is not the one kept by the exam"
+                )
+        );
+        verifyOnlyExamSearch(examId);
+    }
+
     /**
      * Tests that an {@link Exam} is created (i.e is saved) when arguments are valid.
      *
@@ -157,19 +188,17 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
      *
      * @param exam     A mocked {@link Exam} (the one being started).
      * @param exercise A mocked {@link Exercise} (owned by the {@code exam}).
-     * @param testCase A mocked {@link TestCase} (owned by the {@code exercise}).
      */
     @Test
     void testExamIsStartedWhenIsUpcomingAndHasExercisesWithPrivateTestCases(
             @Mock(name = "exam") final Exam exam,
-            @Mock(name = "exercise") final Exercise exercise,
-            @Mock(name = "testCase") final TestCase testCase) {
+            @Mock(name = "exercise") final Exercise exercise) {
 
         final var examId = TestHelper.validExamId();
         doNothing().when(exam).startExam();
         when(examRepository.findById(examId)).thenReturn(Optional.of(exam));
         when(exerciseRepository.getExamExercises(exam)).thenReturn(List.of(exercise));
-        when(testCaseRepository.getExercisePrivateTestCases(exercise)).thenReturn(List.of(testCase));
+        when(exerciseRepository.existsWithoutPrivateTestCases(exam)).thenReturn(false);
         when(examRepository.save(any(Exam.class))).then(invocation -> invocation.getArgument(0));
         Assertions.assertDoesNotThrow(
                 () -> examManager.startExam(examId),
@@ -179,9 +208,11 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
         verify(examRepository, times(1)).findById(examId);
         verify(examRepository, times(1)).save(exam);
         verifyNoMoreInteractions(examRepository);
-        verify(exerciseRepository, only()).getExamExercises(exam);
-        verify(testCaseRepository, only()).getExercisePrivateTestCases(exercise);
-        verifyZeroInteractions(publisher);
+        verify(exerciseRepository, times(1)).getExamExercises(exam);
+        verify(exerciseRepository, times(1)).existsWithoutPrivateTestCases(exam);
+        verifyNoMoreInteractions(exerciseRepository);
+        verifyZeroInteractions(testCaseRepository);
+        verify(publisher, only()).publishEvent(argThat((final ExamStartedEvent e) -> e.getExam().equals(exam)));
     }
 
     /**
@@ -209,6 +240,31 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
         verify(publisher, only()).publishEvent(argThat((final ExamFinishedEvent e) -> e.getExam().equals(exam)));
     }
 
+    /**
+     * Tests that changing the evaluation policy of an {@link Exam} works as expected.
+     *
+     * @param exam A mocked {@link Exam} (the one whose evaluation policy is being changed).
+     */
+    @Test
+    void testEvaluationPolicyIsChanged(@Mock(name = "exam") final Exam exam) {
+        final var examId = TestHelper.validExamId();
+        final var evaluationPolicy = Exam.EvaluationPolicy.EARLY_EXIT;
+        doNothing().when(exam).changeEvaluationPolicy(evaluationPolicy);
+        when(examRepository.findById(examId)).thenReturn(Optional.of(exam));
+        when(examRepository.save(any(Exam.class))).then(invocation -> invocation.getArgument(0));
+        Assertions.assertDoesNotThrow(
+                () -> examManager.changeEvaluationPolicy(examId, evaluationPolicy),
+                "An unexpected exception was thrown"
+        );
+        verify(exam, only()).changeEvaluationPolicy(evaluationPolicy);
+        verify(examRepository, times(1)).findById(examId);
+        verify(examRepository, times(1)).save(exam);
+        verifyNoMoreInteractions(examRepository);
+        verifyZeroInteractions(exerciseRepository);
+        verifyZeroInteractions(testCaseRepository);
+        verifyZeroInteractions(publisher);
+    }
+
     /**
      * Tests that adding an owner to an {@link Exam} works as expected.
      *
@@ -282,6 +338,26 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
         verifyZeroInteractions(publisher);
     }
 
+    /**
+     * Tests that deleting an upcoming exam is performed with bulk operations
+     * (i.e its exercises and test cases are not deleted one by one).
+     *
+     * @param exam A mocked {@link Exam} (the one being deleted).
+     */
+    @Test
+    void testDeleteOfUpcomingExamRepositoryCalls(@Mock(name = "exam") final Exam exam) {
+        final var id = TestHelper.validExamId();
+        when(examRepository.findById(id)).thenReturn(Optional.of(exam));
+        when(exam.getState()).thenReturn(Exam.State.UPCOMING);
+        RepositoryCallsAssertions.assertMaxRepositoryCalls(
+                4,
+                () -> examManager.deleteExam(id),
+                examRepository,
+                exerciseRepository,
+                testCaseRepository
+        );
+    }
+
 
     // ================================================================================================================
     // Exercises
@@ -326,7 +402,10 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
                 () -> examManager.clearExercises(examId),
                 "Clearing exam's exercises throws an exception"
         );
-        verify(examRepository, only()).findById(examId);
+        verify(exam, only()).getState();
+        verify(examRepository, times(1)).findById(examId);
+        verify(examRepository, times(1)).clearMaxScore(exam);
+        verifyNoMoreInteractions(examRepository);
         verify(exerciseRepository, only()).deleteExamExercises(exam);
         verify(testCaseRepository, only()).deleteExamTestCases(exam);
         verifyZeroInteractions(publisher);
@@ -376,7 +455,9 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
                 )
         );
         verify(exam, only()).getState();
-        verify(examRepository, only()).findById(examId);
+        verify(examRepository, times(1)).findById(examId);
+        verify(examRepository, times(1)).addToMaxScore(exam, awardedScore);
+        verifyNoMoreInteractions(examRepository);
         verify(exerciseRepository, only()).save(any(Exercise.class));
         verifyZeroInteractions(testCaseRepository);
         verifyZeroInteractions(publisher);
@@ -423,8 +504,10 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
         final var newLanguage = TestHelper.validLanguage();
         final var newSolutionTemplate = TestHelper.validSolutionTemplate();
         final var awardedScore = TestHelper.validAwardedScore();
+        final var previousAwardedScore = awardedScore + 1;
         when(exam.getState()).thenReturn(Exam.State.UPCOMING);
         when(exercise.getExam()).thenReturn(exam);
+        when(exercise.getAwardedScore()).thenReturn(previousAwardedScore);
         doNothing().when(exercise).update(newQuestion, newLanguage, newSolutionTemplate, awardedScore);
         when(exerciseRepository.findById(exerciseId)).thenReturn(Optional.of(exercise));
         when(exerciseRepository.save(any(Exercise.class))).then(invocation -> invocation.getArgument(0));
@@ -434,8 +517,49 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
         );
         verify(exam, only()).getState();
         verify(exercise, times(1)).getExam();
+        verify(exercise, times(1)).getAwardedScore();
         verify(exercise, times(1)).update(newQuestion, newLanguage, newSolutionTemplate, awardedScore);
         verifyNoMoreInteractions(exercise);
+        verify(examRepository, only()).addToMaxScore(exam, awardedScore - previousAwardedScore);
+        verify(exerciseRepository, times(1)).findById(exerciseId);
+        verify(exerciseRepository, times(1)).save(exercise);
+        verifyNoMoreInteractions(exerciseRepository);
+        verifyZeroInteractions(testCaseRepository);
+        verifyZeroInteractions(publisher);
+    }
+
+    /**
+     * Tests that modifying an exercise without changing its awarded score does not modify its exam's max. score.
+     *
+     * @param exam     A mocked {@link Exam} (the owner of the exercise).
+     * @param exercise A mocked {@link Exercise} (the one being modified).
+     */
+    @Test
+    void testModifyExerciseKeepingAwardedScore(
+            @Mock(name = "exam") final Exam exam,
+            @Mock(name = "exercise") final Exercise exercise) {
+        final var exerciseId = TestHelper.validExerciseId();
+        final var newQuestion = TestHelper.validExerciseQuestion();
+        final var newLanguage = TestHelper.validLanguage();
+        final var newSolutionTemplate = TestHelper.validSolutionTemplate();
+        final var awardedScore = TestHelper.validAwardedScore();
+        when(exam.getState()).thenReturn(Exam.State.UPCOMING);
+        when(exercise.getExam()).thenReturn(exam);
+        when(exercise.getAwardedScore()).thenReturn(awardedScore);
+        doNothing().when(exercise).update(newQuestion, newLanguage, newSolutionTemplate, awardedScore);
+        when(exerciseRepository.findById(exerciseId)).thenReturn(Optional.of(exercise));
+        when(exerciseRepository.save(any(Exercise.class))).then(invocation -> invocation.getArgument(0));
+        Assertions.assertDoesNotThrow(
+                () -> examManager.modifyExercise(
+                        exerciseId,
+                        newQuestion,
+                        newLanguage,
+                        newSolutionTemplate,
+                        awardedScore
+                ),
+                "An unexpected exception was thrown"
+        );
+        verify(exam, only()).getState();
         verifyZeroInteractions(examRepository);
         verify(exerciseRepository, times(1)).findById(exerciseId);
         verify(exerciseRepository, times(1)).save(exercise);
@@ -455,8 +579,10 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
             @Mock(name = "exam") final Exam exam,
             @Mock(name = "exercise") final Exercise exercise) {
         final var exerciseId = TestHelper.validExerciseId();
+        final var awardedScore = TestHelper.validAwardedScore();
         when(exam.getState()).thenReturn(Exam.State.UPCOMING);
         when(exercise.getExam()).thenReturn(exam);
+        when(exercise.getAwardedScore()).thenReturn(awardedScore);
         when(exerciseRepository.findById(exerciseId)).thenReturn(Optional.of(exercise));
         doNothing().when(exerciseRepository).delete(exercise);
         Assertions.assertDoesNotThrow(
@@ -464,8 +590,10 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
                 "Deleting an exercise throws an exception"
         );
         verify(exam, only()).getState();
-        verify(exercise, only()).getExam();
-        verifyZeroInteractions(examRepository);
+        verify(exercise, times(1)).getExam();
+        verify(exercise, times(1)).getAwardedScore();
+        verifyNoMoreInteractions(exercise);
+        verify(examRepository, only()).addToMaxScore(exam, -awardedScore);
         verify(exerciseRepository, times(1)).findById(exerciseId);
         verify(exerciseRepository, times(1)).delete(exercise);
         verifyNoMoreInteractions(exerciseRepository);
@@ -605,7 +733,7 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
     void testSearchForTestCaseThatExists(@Mock(name = "testCase") final TestCase testCase) {
         final var testCaseId = TestHelper.validTestCaseId();
         when(testCase.getId()).thenReturn(testCaseId);
-        when(testCaseRepository.findById(testCaseId)).thenReturn(Optional.of(testCase));
+        when(testCaseRepository.findWithExpectedOutputs(testCaseId)).thenReturn(Optional.of(testCase));
         final var testCaseOptional = examManager.getTestCase(testCaseId);
         Assertions.assertAll("Searching for a test case that exists is not working as expected",
                 () -> Assertions.assertTrue(
@@ -618,7 +746,9 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
                         "The returned TestCase id's is not the same as the requested"
                 )
         );
-        verifyOnlyTestCaseSearch(testCaseId);
+        verifyZeroInteractions(examRepository);
+        verifyZeroInteractions(exerciseRepository);
+        verify(testCaseRepository, only()).findWithExpectedOutputs(testCaseId);
         verifyZeroInteractions(publisher);
     }
 
@@ -667,7 +797,48 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
         verify(testCaseRepository, times(1)).findById(testCaseId);
         verify(testCaseRepository, times(1)).save(testCase);
         verifyNoMoreInteractions(testCaseRepository);
-        verifyZeroInteractions(publisher);
+        verify(publisher, only())
+                .publishEvent(argThat((final TestCaseChangedEvent event) -> event.getTestCase() == testCase));
+    }
+
+    /**
+     * Tests that changing the output comparison of a test case belonging to an exercise of an upcoming exam
+     * is performed as expected.
+     *
+     * @param exam     A mocked {@link Exam} (the owner of the exercise).
+     * @param exercise A mocked {@link Exercise} (the owner of the test case)
+     * @param testCase A mocked {@link TestCase} (the one whose output comparison is being changed).
+     */
+    @Test
+    void testChangeTestCaseOutputComparisonForExerciseOfUpcomingExam(
+            @Mock(name = "exam") final Exam exam,
+            @Mock(name = "exercise") final Exercise exercise,
+            @Mock(name = "testCase") final TestCase testCase) {
+        final var testCaseId = TestHelper.validTestCaseId();
+        final var comparison = TestCase.OutputComparison.FLOAT_TOLERANCE;
+        final var tolerance = 0.001;
+        when(exam.getState()).thenReturn(Exam.State.UPCOMING);
+        when(exercise.getExam()).thenReturn(exam);
+        when(testCase.getExercise()).thenReturn(exercise);
+        doNothing().when(testCase).changeOutputComparison(comparison, tolerance);
+        when(testCaseRepository.findById(testCaseId)).thenReturn(Optional.of(testCase));
+        when(testCaseRepository.save(any(TestCase.class))).then(inv -> inv.getArgument(0));
+        Assertions.assertDoesNotThrow(
+                () -> examManager.changeTestCaseOutputComparison(testCaseId, comparison, tolerance),
+                "An unexpected exception was thrown"
+        );
+        verify(exam, only()).getState();
+        verify(exercise, only()).getExam();
+        verify(testCase, times(1)).getExercise();
+        verify(testCase, times(1)).changeOutputComparison(comparison, tolerance);
+        verifyNoMoreInteractions(testCase);
+        verifyZeroInteractions(examRepository);
+        verifyZeroInteractions(exerciseRepository);
+        verify(testCaseRepository, times(1)).findById(testCaseId);
+        verify(testCaseRepository, times(1)).save(testCase);
+        verifyNoMoreInteractions(testCaseRepository);
+        verify(publisher, only())
+                .publishEvent(argThat((final TestCaseChangedEvent event) -> event.getTestCase() == testCase));
     }
 
     /**
@@ -700,6 +871,7 @@ class ExamManagerHappyPathsTest extends AbstractExamManagerTest {
         verify(testCaseRepository, times(1)).findById(testCaseId);
         verify(testCaseRepository, times(1)).delete(testCase);
         verifyNoMoreInteractions(testCaseRepository);
-        verifyZeroInteractions(publisher);
+        verify(publisher, only())
+                .publishEvent(argThat((final TestCaseChangedEvent event) -> event.getTestCase() == testCase));
     }
 }
@@ -184,8 +184,10 @@ class ExamManagerIllegalArgumentsTest extends AbstractExamManagerTest {
         );
         verify(exam, only()).getState();
         verify(exercise, times(1)).getExam();
+        verify(exercise, times(1)).getAwardedScore();
         verify(exercise, times(1)).update(question, language, solutionTemplate, awardedScore);
         verifyNoMoreInteractions(exercise);
+        verifyZeroInteractions(examRepository);
         verifyOnlyExerciseSearch(exerciseId);
     }
 
@@ -77,20 +77,18 @@ class ExamManagerIllegalStateTest extends AbstractExamManagerTest {
      *
      * @param exam     A mocked {@link Exam} (the one being started).
      * @param exercise A mocked {@link Exercise} (owned by the {@code exam}).
-     * @param testCase A mocked {@link TestCase} (owned by the {@code exercise}).
      * @implNote In this test, the {@code exam} contains an {@link Exercise} with a private {@link TestCase} in order
      * to test only when the case in which {@link Exam#startExam()} throws the {@link IllegalEntityStateException}.
      */
     @Test
     void testExamIsNotStartedWhenIllegalEntityStateExceptionIsThrownByExam(
             @Mock(name = "exam") final Exam exam,
-            @Mock(name = "exercise") final Exercise exercise,
-            @Mock(name = "testCase") final TestCase testCase) {
+            @Mock(name = "exercise") final Exercise exercise) {
 
         final var examId = TestHelper.validExamId();
         doThrow(IllegalEntityStateException.class).when(exam).startExam();
         when(exerciseRepository.getExamExercises(exam)).thenReturn(List.of(exercise));
-        when(testCaseRepository.getExercisePrivateTestCases(exercise)).thenReturn(List.of(testCase));
+        when(exerciseRepository.existsWithoutPrivateTestCases(exam)).thenReturn(false);
         when(examRepository.findById(examId)).thenReturn(Optional.of(exam));
         Assertions.assertThrows(
                 IllegalEntityStateException.class,
@@ -101,8 +99,10 @@ class ExamManagerIllegalStateTest extends AbstractExamManagerTest {
 
         verify(exam, only()).startExam();
         verify(examRepository, only()).findById(examId);
-        verify(exerciseRepository, only()).getExamExercises(exam);
-        verify(testCaseRepository, only()).getExercisePrivateTestCases(exercise);
+        verify(exerciseRepository, times(1)).getExamExercises(exam);
+        verify(exerciseRepository, times(1)).existsWithoutPrivateTestCases(exam);
+        verifyNoMoreInteractions(exerciseRepository);
+        verifyZeroInteractions(testCaseRepository);
         verifyZeroInteractions(publisher);
     }
 
@@ -120,7 +120,7 @@ class ExamManagerIllegalStateTest extends AbstractExamManagerTest {
 
         final var examId = TestHelper.validExamId();
         when(exerciseRepository.getExamExercises(exam)).thenReturn(List.of(exercise));
-        when(testCaseRepository.getExercisePrivateTestCases(exercise)).thenReturn(Collections.emptyList());
+        when(exerciseRepository.existsWithoutPrivateTestCases(exam)).thenReturn(true);
         when(examRepository.findById(examId)).thenReturn(Optional.of(exam));
         Assertions.assertThrows(
                 IllegalEntityStateException.class,
@@ -131,8 +131,10 @@ class ExamManagerIllegalStateTest extends AbstractExamManagerTest {
 
         verifyZeroInteractions(exam);
         verify(examRepository, only()).findById(examId);
-        verify(exerciseRepository, only()).getExamExercises(exam);
-        verify(testCaseRepository, only()).getExercisePrivateTestCases(exercise);
+        verify(exerciseRepository, times(1)).getExamExercises(exam);
+        verify(exerciseRepository, times(1)).existsWithoutPrivateTestCases(exam);
+        verifyNoMoreInteractions(exerciseRepository);
+        verifyZeroInteractions(testCaseRepository);
         verifyZeroInteractions(publisher);
     }
 
@@ -173,6 +175,25 @@ class ExamManagerIllegalStateTest extends AbstractExamManagerTest {
                         " (when finishing an Exam)");
     }
 
+    /**
+     * Tests the service behaviour when {@link Exam#changeEvaluationPolicy(Exam.EvaluationPolicy)}
+     * throws an {@link IllegalEntityStateException} (i.e the {@link Exam} is not upcoming).
+     *
+     * @param exam A mocked {@link Exam} (the one whose evaluation policy is being changed).
+     */
+    @Test
+    void testEvaluationPolicyIsNotChangedWhenIllegalEntityStateExceptionIsThrown(
+            @Mock(name = "exam") final Exam exam) {
+        final var evaluationPolicy = Exam.EvaluationPolicy.EARLY_EXIT;
+        testExam(
+                exam,
+                (em, id) -> em.changeEvaluationPolicy(id, evaluationPolicy),
+                e -> e.changeEvaluationPolicy(evaluationPolicy),
+                "An IllegalEntityStateException is not being thrown when the Exam does" +
+                        " (when changing the evaluation policy)"
+        );
+    }
+
     /**
      * Tests the service behaviour when {@link Exam#removeOwner(String)} throws an {@link IllegalEntityStateException}.
      *
@@ -365,6 +386,38 @@ class ExamManagerIllegalStateTest extends AbstractExamManagerTest {
         testModifyTestCase(exam, exercise, testCase, Exam.State.FINISHED);
     }
 
+    /**
+     * Tests that changing the output comparison of a test case belonging to an exercise of an in progress exam
+     * is not allowed.
+     *
+     * @param exam     A mocked {@link Exam} (the owner of the exercise).
+     * @param exercise A mocked {@link Exercise} (the owner of the test case).
+     * @param testCase A mocked {@link TestCase} (the one whose output comparison is being tried to be changed).
+     */
+    @Test
+    void testChangeTestCaseOutputComparisonOfExerciseOfInProgressExam(
+            @Mock(name = "exam") final Exam exam,
+            @Mock(name = "exercise") final Exercise exercise,
+            @Mock(name = "testCase") final TestCase testCase) {
+        testChangeTestCaseOutputComparison(exam, exercise, testCase, Exam.State.IN_PROGRESS);
+    }
+
+    /**
+     * Tests that changing the output comparison of a test case belonging to an exercise of a finished exam
+     * is not allowed.
+     *
+     * @param exam     A mocked {@link Exam} (the owner of the exercise).
+     * @param exercise A mocked {@link Exercise} (the owner of the test case).
+     * @param testCase A mocked {@link TestCase} (the one whose output comparison is being tried to be changed).
+     */
+    @Test
+    void testChangeTestCaseOutputComparisonOfExerciseOfFinishedExam(
+            @Mock(name = "exam") final Exam exam,
+            @Mock(name = "exercise") final Exercise exercise,
+            @Mock(name = "testCase") final TestCase testCase) {
+        testChangeTestCaseOutputComparison(exam, exercise, testCase, Exam.State.FINISHED);
+    }
+
     /**
      * Tests that deleting a test case belonging to an exercise of an in progress exam is not allowed.
      *
@@ -526,6 +579,27 @@ class ExamManagerIllegalStateTest extends AbstractExamManagerTest {
                         " of an exam with " + state + " state is being allowed");
     }
 
+    /**
+     * Tests that changing the output comparison of a test case belonging to an exercise
+     * of an exam with the given {@code state} is not allowed.
+     *
+     * @param exam     The {@link Exam} owning the exercise.
+     * @param exercise The {@link Exercise} owning the test case.
+     * @param testCase The {@link TestCase} whose output comparison is being tried to be changed.
+     * @param state    The {@link Exam.State} being tested.
+     */
+    private void testChangeTestCaseOutputComparison(final Exam exam, final Exercise exercise, final TestCase testCase,
+                                                    final Exam.State state) {
+        testManagerTestCase(exam, state, exercise, testCase,
+                (manager, id) -> manager.changeTestCaseOutputComparison(
+                        id,
+                        TestCase.OutputComparison.UNORDERED_LINES,
+                        null
+                ),
+                "Changing the output comparison of a test case that belongs to an exercise" +
+                        " of an exam with " + state + " state is being allowed");
+    }
+
     /**
      * Tests that deleting a test case belonging to an exercise of an exam with the given {@code state} is not allowed.
      *
@@ -102,6 +102,19 @@ class ExamManagerNonExistenceTest extends AbstractExamManagerTest {
         );
     }
 
+    /**
+     * Tests that trying to change the evaluation policy of an {@link Exam} that does not exists
+     * throws a {@link NoSuchEntityException}.
+     */
+    @Test
+    void testChangeEvaluationPolicyOfNonExistenceExam() {
+        testMissingExamThrowsNoSuchEntityException(
+                (em, id) -> em.changeEvaluationPolicy(id, Exam.EvaluationPolicy.EARLY_EXIT),
+                "Trying to change the evaluation policy of an exam that does not exist" +
+                        " does not throw a NoSuchEntityException"
+        );
+    }
+
     /**
      * Tests that trying to add an owner to an {@link Exam} that does not exists throws a {@link NoSuchEntityException}.
      */
@@ -294,12 +307,14 @@ class ExamManagerNonExistenceTest extends AbstractExamManagerTest {
     @Test
     void testSearchForTestCaseThatDoesNotExist() {
         final var testCaseId = TestHelper.validTestCaseId();
-        when(testCaseRepository.findById(testCaseId)).thenReturn(Optional.empty());
+        when(testCaseRepository.findWithExpectedOutputs(testCaseId)).thenReturn(Optional.empty());
         Assertions.assertTrue(
                 examManager.getTestCase(testCaseId).isEmpty(),
                 "Searching for a test case that does not exist does not return an empty optional."
         );
-        verifyOnlyTestCaseSearch(testCaseId);
+        verifyZeroInteractions(examRepository);
+        verifyZeroInteractions(exerciseRepository);
+        verify(testCaseRepository, only()).findWithExpectedOutputs(testCaseId);
     }
 
     /**
@@ -322,6 +337,23 @@ class ExamManagerNonExistenceTest extends AbstractExamManagerTest {
         );
     }
 
+    /**
+     * Tests that trying to change the output comparison of a {@link TestCase} that does not exists
+     * throws a {@link NoSuchEntityException}.
+     */
+    @Test
+    void testChangeOutputComparisonOfNonExistenceTestCase() {
+        testMissingTestCaseThrowsNoSuchEntityException(
+                (manager, id) -> manager.changeTestCaseOutputComparison(
+                        id,
+                        TestCase.OutputComparison.UNORDERED_LINES,
+                        null
+                ),
+                "Trying to change the output comparison of a test case that does not exist" +
+                        " does not throw a NoSuchEntityException"
+        );
+    }
+
     /**
      * Tests that trying to delete a {@link TestCase} that does not not exists
      * does not throws a {@link NoSuchEntityException}.
@@ -3,20 +3,24 @@ package ar.edu.itba.cep.evaluations_service.domain.managers;
 import ar.edu.itba.cep.evaluations_service.commands.executor_service.SolutionAndTestCaseIds;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionRequestedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponseArrivedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponseRejectedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponsesArrivedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
 import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import ar.edu.itba.cep.evaluations_service.models.PendingExecutionRequest;
 import ar.edu.itba.cep.evaluations_service.models.TestCase;
-import ar.edu.itba.cep.executor.api.ExecutionRequestSender;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingExecutionRequestRepository;
 import ar.edu.itba.cep.executor.models.ExecutionResponse;
-import com.github.javafaker.Faker;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import static org.mockito.Mockito.*;
 
@@ -31,15 +35,20 @@ class ExecutionManagerTest {
     // ================================================================================================================
 
     /**
-     * An {@link ExecutionRequestSender} mock that is injected to the {@link ExecutionManager}.
+     * A {@link PendingExecutionRequestRepository} mock that is injected to the {@link ExecutionManager}.
      */
-    private final ExecutionRequestSender<SolutionAndTestCaseIds> executorService;
+    private final PendingExecutionRequestRepository pendingExecutionRequestRepository;
 
     /**
      * An {@link ApplicationEventPublisher} mock that is injected to the {@link ExecutionManager}.
      */
     private final ApplicationEventPublisher publisher;
 
+    /**
+     * An {@link ExecutionsInFlightLimiter} mock that is injected to the {@link ExecutionManager}.
+     */
+    private final ExecutionsInFlightLimiter inFlightLimiter;
+
 
     // ================================================================================================================
     // Solutions Manager
@@ -58,16 +67,22 @@ class ExecutionManagerTest {
     /**
      * Constructor.
      *
-     * @param executorService An {@link ExecutionRequestSender} mock
-     *                        that is injected to the {@link ExecutionManager}.
-     * @param publisher       An {@link ApplicationEventPublisher} that is injected to the {@link ExecutionManager}.
+     * @param pendingExecutionRequestRepository A {@link PendingExecutionRequestRepository} mock
+     *                                          that is injected to the {@link ExecutionManager}.
+     * @param publisher                         An {@link ApplicationEventPublisher}
+     *                                          that is injected to the {@link ExecutionManager}.
+     * @param inFlightLimiter                   An {@link ExecutionsInFlightLimiter} mock
+     *                                          that is injected to the {@link ExecutionManager}.
      */
     ExecutionManagerTest(
-            @Mock(name = "executorService") final ExecutionRequestSender<SolutionAndTestCaseIds> executorService,
-            @Mock(name = "publisher") final ApplicationEventPublisher publisher) {
-        this.executorService = executorService;
+            @Mock(name = "pendingExecutionRequestRepository")
+            final PendingExecutionRequestRepository pendingExecutionRequestRepository,
+            @Mock(name = "publisher") final ApplicationEventPublisher publisher,
+            @Mock(name = "inFlightLimiter") final ExecutionsInFlightLimiter inFlightLimiter) {
+        this.pendingExecutionRequestRepository = pendingExecutionRequestRepository;
         this.publisher = publisher;
-        this.executionManager = new ExecutionManager(executorService, publisher);
+        this.inFlightLimiter = inFlightLimiter;
+        this.executionManager = new ExecutionManager(pendingExecutionRequestRepository, publisher, inFlightLimiter);
     }
 
     /**
@@ -80,43 +95,23 @@ class ExecutionManagerTest {
     @Test
     void testExecutionRequested(
             @Mock(name = "event") final ExecutionRequestedEvent event,
-            @Mock(name = "solution", answer = Answers.RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "solution") final ExerciseSolution solution,
             @Mock(name = "testCase") final TestCase testCase) {
-
-        final var testCaseId = TestHelper.validTestCaseId();
-        final var solutionId = TestHelper.validExerciseSolutionId();
-        final var code = Faker.instance().lorem().characters();
-        final var programArguments = TestHelper.validTestCaseList();
-        final var stdin = TestHelper.validTestCaseList();
-        final var compilerFlags = TestHelper.validCompilerFlags();
-        final var language = TestHelper.validLanguage();
-        final var timeout = TestHelper.validTestCaseTimeout();
-
-        when(testCase.getId()).thenReturn(testCaseId);
-        when(testCase.getProgramArguments()).thenReturn(programArguments);
-        when(testCase.getStdin()).thenReturn(stdin);
-        when(testCase.getTimeout()).thenReturn(timeout);
-        when(solution.getId()).thenReturn(solutionId);
-        when(solution.getAnswer()).thenReturn(code);
-        when(solution.getExercise().getLanguage()).thenReturn(language);
-        when(solution.getCompilerFlags()).thenReturn(compilerFlags);
         when(event.getSolution()).thenReturn(solution);
         when(event.getTestCase()).thenReturn(testCase);
 
         executionManager.executionRequested(event);
 
         verifyZeroInteractions(publisher);
-        verify(executorService, only())
-                .requestExecution(
-                        argThat(req ->
-                                Objects.equals(code, req.getCode())
-                                        && Objects.equals(programArguments, req.getProgramArguments())
-                                        && Objects.equals(stdin, req.getStdin())
-                                        && Objects.equals(compilerFlags, req.getCompilerFlags())
-                                        && Objects.equals(language, req.getLanguage())
-                                        && Objects.equals(timeout, req.getTimeout())
-                        ),
-                        argThat(i -> solutionId == i.getSolutionId() && testCaseId == i.getTestCaseId())
+        verifyZeroInteractions(inFlightLimiter);
+        verifyZeroInteractions(solution);
+        verifyZeroInteractions(testCase);
+        verify(pendingExecutionRequestRepository, only())
+                .save(
+                        argThat(
+                                (final PendingExecutionRequest request) ->
+                                        request.getSolution() == solution && request.getTestCase() == testCase
+                        )
                 );
     }
 
@@ -130,13 +125,12 @@ class ExecutionManagerTest {
     void testProcessExecution(@Mock(name = "executionResponse") final ExecutionResponse executionResponse) {
         final var solutionId = TestHelper.validExerciseSolutionId();
         final var testCaseId = TestHelper.validTestCaseId();
+        final var ids = SolutionAndTestCaseIds.create(solutionId, testCaseId);
 
-        executionManager.processExecutionResponse(
-                executionResponse,
-                SolutionAndTestCaseIds.create(solutionId, testCaseId)
-        );
+        executionManager.processExecutionResponse(executionResponse, ids);
 
-        verifyZeroInteractions(executorService);
+        verifyZeroInteractions(pendingExecutionRequestRepository);
+        verify(inFlightLimiter, only()).completed(ids);
         verify(publisher, only())
                 .publishEvent(
                         argThat(
@@ -148,4 +142,117 @@ class ExecutionManagerTest {
                 );
 
     }
+
+    /**
+     * Tests that the {@link ExecutionResponse}s processed within a batch
+     * are published together once the batch ends.
+     *
+     * @param response1 An {@link ExecutionResponse} processed within the batch.
+     * @param response2 Another {@link ExecutionResponse} processed within the batch.
+     */
+    @Test
+    void testProcessExecutionsInBatch(
+            @Mock(name = "response1") final ExecutionResponse response1,
+            @Mock(name = "response2") final ExecutionResponse response2) {
+        final var ids1 = SolutionAndTestCaseIds.create(1, TestHelper.validTestCaseId());
+        final var ids2 = SolutionAndTestCaseIds.create(2, TestHelper.validTestCaseId());
+
+        executionManager.inBatch(() -> {
+            executionManager.processExecutionResponse(response1, ids1);
+            executionManager.processExecutionResponse(response2, ids2);
+            verifyZeroInteractions(publisher);
+            verifyZeroInteractions(inFlightLimiter);
+        });
+
+        verifyZeroInteractions(pendingExecutionRequestRepository);
+        verify(inFlightLimiter, times(1)).completed(ids1);
+        verify(inFlightLimiter, times(1)).completed(ids2);
+        verifyNoMoreInteractions(inFlightLimiter);
+        verify(publisher, only())
+                .publishEvent(
+                        ExecutionResponsesArrivedEvent.create(
+                                List.of(
+                                        ExecutionResponseArrivedEvent
+                                                .create(ids1.getSolutionId(), ids1.getTestCaseId(), response1, null),
+                                        ExecutionResponseArrivedEvent
+                                                .create(ids2.getSolutionId(), ids2.getTestCaseId(), response2, null)
+                                )
+                        )
+                );
+    }
+
+    /**
+     * Tests that the responses rejected while processing a batch are returned once the batch ends.
+     *
+     * @param response1 An {@link ExecutionResponse} processed within the batch.
+     * @param response2 Another {@link ExecutionResponse} processed within the batch, which is rejected.
+     */
+    @Test
+    void testBatchReturnsRejectedResponses(
+            @Mock(name = "response1") final ExecutionResponse response1,
+            @Mock(name = "response2") final ExecutionResponse response2) {
+        final var ids1 = SolutionAndTestCaseIds.create(1, TestHelper.validTestCaseId());
+        final var ids2 = SolutionAndTestCaseIds.create(2, TestHelper.validTestCaseId());
+        doAnswer(invocation -> {
+            executionManager.executionResponseRejected(
+                    ExecutionResponseRejectedEvent.create(ids2.getSolutionId(), ids2.getTestCaseId())
+            );
+            return null;
+        }).when(publisher).publishEvent(any(ExecutionResponsesArrivedEvent.class));
+
+        final var rejected = executionManager.inBatch(() -> {
+            executionManager.processExecutionResponse(response1, ids1);
+            executionManager.processExecutionResponse(response2, ids2);
+        });
+
+        Assertions.assertEquals(Set.of(ids2), rejected, "The rejected responses are not being returned");
+        verifyZeroInteractions(pendingExecutionRequestRepository);
+    }
+
+    /**
+     * Tests that the {@link ExecutionsInFlightLimiter} is not reported the completions of a batch
+     * whose processing fails (as the batch will be retried).
+     *
+     * @param response An {@link ExecutionResponse} processed within the batch.
+     */
+    @Test
+    void testFailedBatchDoesNotReportCompletions(@Mock(name = "response") final ExecutionResponse response) {
+        final var ids = SolutionAndTestCaseIds
+                .create(TestHelper.validExerciseSolutionId(), TestHelper.validTestCaseId());
+        doThrow(IllegalStateException.class).when(publisher).publishEvent(any(ExecutionResponsesArrivedEvent.class));
+
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> executionManager.inBatch(() -> executionManager.processExecutionResponse(response, ids)),
+                "The failure when processing the batch is not being propagated"
+        );
+        verifyZeroInteractions(pendingExecutionRequestRepository);
+        verifyZeroInteractions(inFlightLimiter);
+    }
+
+    /**
+     * Tests that nothing is published if no {@link ExecutionResponse} is processed within a batch.
+     */
+    @Test
+    void testEmptyBatch() {
+        executionManager.inBatch(() -> {
+        });
+        verifyZeroInteractions(pendingExecutionRequestRepository);
+        verifyZeroInteractions(inFlightLimiter);
+        verifyZeroInteractions(publisher);
+    }
+
+    /**
+     * Tests that batches can not be nested.
+     */
+    @Test
+    void testNestedBatches() {
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> executionManager.inBatch(() -> executionManager.inBatch(() -> {
+                })),
+                "Nesting batches is being allowed"
+        );
+        verifyZeroInteractions(publisher);
+    }
 }
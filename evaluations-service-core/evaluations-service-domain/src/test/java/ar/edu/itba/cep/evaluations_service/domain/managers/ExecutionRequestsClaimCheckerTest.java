@@ -0,0 +1,117 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.ClaimCheckStore;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link ExecutionRequestsClaimChecker}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExecutionRequestsClaimCheckerTest {
+
+    /**
+     * The threshold used to create the {@link ExecutionRequestsClaimChecker}s being tested.
+     */
+    private static final int THRESHOLD = 16;
+    /**
+     * The reference returned by the {@link ClaimCheckStore} mock.
+     */
+    private static final String REFERENCE = "sha-256:0123456789abcdef";
+
+
+    /**
+     * Tests that payloads are not offloaded when claim-checking is disabled.
+     *
+     * @param claimCheckStore A {@link ClaimCheckStore} mock that is injected to the
+     *                        {@link ExecutionRequestsClaimChecker}.
+     */
+    @Test
+    void testDisabled(@Mock(name = "claimCheckStore") final ClaimCheckStore claimCheckStore) {
+        final var claimChecker = new ExecutionRequestsClaimChecker(claimCheckStore, false, THRESHOLD);
+        final var answer = bigPayload();
+        final var stdin = List.of(bigPayload(), bigPayload());
+        Assertions.assertAll(
+                "Payloads are offloaded when claim-checking is disabled",
+                () -> Assertions.assertSame(answer, claimChecker.answer(answer), "The answer was offloaded"),
+                () -> Assertions.assertSame(stdin, claimChecker.stdin(stdin), "The stdin was offloaded")
+        );
+        verifyZeroInteractions(claimCheckStore);
+    }
+
+    /**
+     * Tests that payloads smaller than the threshold are not offloaded.
+     *
+     * @param claimCheckStore A {@link ClaimCheckStore} mock that is injected to the
+     *                        {@link ExecutionRequestsClaimChecker}.
+     */
+    @Test
+    void testSmallPayloads(@Mock(name = "claimCheckStore") final ClaimCheckStore claimCheckStore) {
+        final var claimChecker = new ExecutionRequestsClaimChecker(claimCheckStore, true, THRESHOLD);
+        final var answer = "a";
+        final var stdin = List.of("1", "2");
+        Assertions.assertAll(
+                "Small payloads are offloaded",
+                () -> Assertions.assertSame(answer, claimChecker.answer(answer), "The answer was offloaded"),
+                () -> Assertions.assertSame(stdin, claimChecker.stdin(stdin), "The stdin was offloaded")
+        );
+        verifyZeroInteractions(claimCheckStore);
+    }
+
+    /**
+     * Tests that a big answer is offloaded, being replaced by its claim-check.
+     *
+     * @param claimCheckStore A {@link ClaimCheckStore} mock that is injected to the
+     *                        {@link ExecutionRequestsClaimChecker}.
+     */
+    @Test
+    void testBigAnswer(@Mock(name = "claimCheckStore") final ClaimCheckStore claimCheckStore) {
+        final var claimChecker = new ExecutionRequestsClaimChecker(claimCheckStore, true, THRESHOLD);
+        final var answer = bigPayload();
+        when(claimCheckStore.store(any(byte[].class))).thenReturn(REFERENCE);
+        Assertions.assertEquals(
+                ExecutionRequestsClaimChecker.CLAIM_CHECK_PREFIX + REFERENCE,
+                claimChecker.answer(answer),
+                "The answer was not replaced by its claim-check"
+        );
+        verify(claimCheckStore, only()).store(aryEq(answer.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Tests that a big stdin is offloaded (as its lines, each followed by a line separator),
+     * being replaced by its claim-check.
+     *
+     * @param claimCheckStore A {@link ClaimCheckStore} mock that is injected to the
+     *                        {@link ExecutionRequestsClaimChecker}.
+     */
+    @Test
+    void testBigStdin(@Mock(name = "claimCheckStore") final ClaimCheckStore claimCheckStore) {
+        final var claimChecker = new ExecutionRequestsClaimChecker(claimCheckStore, true, THRESHOLD);
+        final var line1 = bigPayload();
+        final var line2 = bigPayload();
+        when(claimCheckStore.store(any(byte[].class))).thenReturn(REFERENCE);
+        Assertions.assertEquals(
+                List.of(ExecutionRequestsClaimChecker.CLAIM_CHECK_PREFIX + REFERENCE),
+                claimChecker.stdin(List.of(line1, line2)),
+                "The stdin was not replaced by its claim-check"
+        );
+        verify(claimCheckStore, only())
+                .store(aryEq((line1 + "\n" + line2 + "\n").getBytes(StandardCharsets.UTF_8)));
+    }
+
+
+    /**
+     * @return A payload that is bigger than the {@link #THRESHOLD}.
+     */
+    private static String bigPayload() {
+        return "x".repeat(THRESHOLD + 1);
+    }
+}
@@ -0,0 +1,172 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import ar.edu.itba.cep.evaluations_service.models.PendingExecutionRequest;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingExecutionRequestRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link ExecutionRequestsOutbox}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExecutionRequestsOutboxTest {
+
+    /**
+     * The amount of requests taken from the outbox in each test.
+     */
+    private static final int AMOUNT = 10;
+
+
+    // ================================================================================================================
+    // Mocks
+    // ================================================================================================================
+
+    /**
+     * A {@link PendingExecutionRequestRepository} mock that is injected to the {@link ExecutionRequestsOutbox}.
+     */
+    private final PendingExecutionRequestRepository pendingExecutionRequestRepository;
+
+    /**
+     * An {@link ExerciseSolutionResultRepository} mock that is injected to the {@link ExecutionRequestsOutbox}.
+     */
+    private final ExerciseSolutionResultRepository exerciseSolutionResultRepository;
+
+
+    // ================================================================================================================
+    // Outbox
+    // ================================================================================================================
+
+    /**
+     * The {@link ExecutionRequestsOutbox} being tested.
+     */
+    private final ExecutionRequestsOutbox outbox;
+
+
+    // ================================================================================================================
+    // Constructor
+    // ================================================================================================================
+
+    /**
+     * Constructor.
+     *
+     * @param pendingExecutionRequestRepository A {@link PendingExecutionRequestRepository} mock
+     *                                          that is injected to the {@link ExecutionRequestsOutbox}.
+     * @param exerciseSolutionResultRepository  An {@link ExerciseSolutionResultRepository} mock
+     *                                          that is injected to the {@link ExecutionRequestsOutbox}.
+     */
+    ExecutionRequestsOutboxTest(
+            @Mock(name = "pendingExecutionRequestRepository")
+            final PendingExecutionRequestRepository pendingExecutionRequestRepository,
+            @Mock(name = "exerciseSolutionResultRepository")
+            final ExerciseSolutionResultRepository exerciseSolutionResultRepository) {
+        this.pendingExecutionRequestRepository = pendingExecutionRequestRepository;
+        this.exerciseSolutionResultRepository = exerciseSolutionResultRepository;
+        this.outbox = new ExecutionRequestsOutbox(pendingExecutionRequestRepository, exerciseSolutionResultRepository);
+    }
+
+
+    /**
+     * Tests that taking requests from an empty outbox does not register any dispatch.
+     */
+    @Test
+    void testTakeNextWithEmptyOutbox() {
+        when(pendingExecutionRequestRepository.getNextForUpdate(AMOUNT)).thenReturn(Collections.emptyList());
+
+        Assertions.assertTrue(
+                outbox.takeNext(AMOUNT, Instant.now()).isEmpty(),
+                "Requests are being returned when the outbox is empty"
+        );
+        verify(pendingExecutionRequestRepository, only()).getNextForUpdate(AMOUNT);
+        verifyZeroInteractions(exerciseSolutionResultRepository);
+    }
+
+    /**
+     * Tests that taking requests from the outbox registers their dispatching (grouped by solution)
+     * and removes them from the outbox.
+     *
+     * @param pendingRequest1 A {@link PendingExecutionRequest} being taken.
+     * @param pendingRequest2 Another {@link PendingExecutionRequest} being taken (of the same solution).
+     * @param solution        The {@link ExerciseSolution} of the requests.
+     * @param testCase1       The {@link TestCase} of the first request.
+     * @param testCase2       The {@link TestCase} of the second request.
+     */
+    @Test
+    void testTakeNext(
+            @Mock(name = "pendingRequest1") final PendingExecutionRequest pendingRequest1,
+            @Mock(name = "pendingRequest2") final PendingExecutionRequest pendingRequest2,
+            @Mock(name = "solution") final ExerciseSolution solution,
+            @Mock(name = "testCase1") final TestCase testCase1,
+            @Mock(name = "testCase2") final TestCase testCase2) {
+        when(pendingRequest1.getSolution()).thenReturn(solution);
+        when(pendingRequest1.getTestCase()).thenReturn(testCase1);
+        when(pendingRequest2.getSolution()).thenReturn(solution);
+        when(pendingRequest2.getTestCase()).thenReturn(testCase2);
+        final var pendingRequests = List.of(pendingRequest1, pendingRequest2);
+        when(pendingExecutionRequestRepository.getNextForUpdate(AMOUNT)).thenReturn(pendingRequests);
+        final var dispatchedAt = Instant.now();
+
+        Assertions.assertEquals(
+                pendingRequests,
+                outbox.takeNext(AMOUNT, dispatchedAt),
+                "The taken requests are not the ones returned by the repository"
+        );
+        verify(exerciseSolutionResultRepository, only())
+                .registerDispatch(solution, List.of(testCase1, testCase2), dispatchedAt);
+        verify(pendingExecutionRequestRepository, times(1)).getNextForUpdate(AMOUNT);
+        verify(pendingExecutionRequestRepository, times(1)).deleteAll(pendingRequests);
+        verifyNoMoreInteractions(pendingExecutionRequestRepository);
+    }
+
+    /**
+     * Tests that putting back requests whose delivery failed stores them again in the outbox,
+     * registering the failure for the same dispatching moment.
+     *
+     * @param failedRequest The {@link PendingExecutionRequest} whose delivery failed.
+     * @param solution      The {@link ExerciseSolution} of the request.
+     * @param testCase      The {@link TestCase} of the request.
+     */
+    @Test
+    void testPutBack(
+            @Mock(name = "failedRequest") final PendingExecutionRequest failedRequest,
+            @Mock(name = "solution") final ExerciseSolution solution,
+            @Mock(name = "testCase") final TestCase testCase) {
+        when(failedRequest.getSolution()).thenReturn(solution);
+        when(failedRequest.getTestCase()).thenReturn(testCase);
+        final var dispatchedAt = Instant.now();
+
+        outbox.putBack(Map.of(failedRequest, new RuntimeException("Broker not available")), dispatchedAt);
+
+        verify(pendingExecutionRequestRepository, only()).saveAll(argThat(requests ->
+                StreamSupport.stream(requests.spliterator(), false)
+                        .allMatch(r -> r.getSolution() == solution && r.getTestCase() == testCase)
+                        && requests.iterator().hasNext()
+        ));
+        verify(exerciseSolutionResultRepository, only())
+                .registerSendFailure(eq(solution), eq(List.of(testCase)), eq(dispatchedAt), notNull());
+    }
+
+    /**
+     * Tests that nothing is performed when there are no requests to be put back.
+     */
+    @Test
+    void testPutBackWithoutFailures() {
+        outbox.putBack(Collections.emptyMap(), Instant.now());
+
+        verifyZeroInteractions(pendingExecutionRequestRepository);
+        verifyZeroInteractions(exerciseSolutionResultRepository);
+    }
+}
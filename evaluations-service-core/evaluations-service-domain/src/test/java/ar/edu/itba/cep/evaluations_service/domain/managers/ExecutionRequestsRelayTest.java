@@ -0,0 +1,325 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.ClaimCheckStore;
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.ExecutionRequestDeliveryTracker;
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.SolutionAndTestCaseIds;
+import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import ar.edu.itba.cep.evaluations_service.models.PendingExecutionRequest;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import ar.edu.itba.cep.executor.api.ExecutionRequestSender;
+import com.github.javafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link ExecutionRequestsRelay}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExecutionRequestsRelayTest {
+
+    /**
+     * The batch size used to create the {@link ExecutionRequestsRelay} being tested.
+     */
+    private static final int BATCH_SIZE = 10;
+    /**
+     * The delivery timeout used to create the {@link ExecutionRequestsRelay} being tested.
+     */
+    private static final long DELIVERY_TIMEOUT = 1000;
+
+
+    // ================================================================================================================
+    // Mocks
+    // ================================================================================================================
+
+    /**
+     * An {@link ExecutionRequestsOutbox} mock that is injected to the {@link ExecutionRequestsRelay}.
+     */
+    private final ExecutionRequestsOutbox outbox;
+
+    /**
+     * An {@link ExecutionRequestSender} mock that is injected to the {@link ExecutionRequestsRelay}.
+     */
+    private final ExecutionRequestSender<SolutionAndTestCaseIds> executorService;
+
+    /**
+     * An {@link ExecutionsInFlightLimiter} mock that is injected to the {@link ExecutionRequestsRelay}.
+     */
+    private final ExecutionsInFlightLimiter inFlightLimiter;
+
+    /**
+     * An {@link ExecutionRequestDeliveryTracker} mock that is injected to the {@link ExecutionRequestsRelay}.
+     */
+    private final ExecutionRequestDeliveryTracker deliveryTracker;
+
+
+    // ================================================================================================================
+    // Relay
+    // ================================================================================================================
+
+    /**
+     * The {@link ExecutionRequestsRelay} being tested.
+     */
+    private final ExecutionRequestsRelay executionRequestsRelay;
+
+
+    // ================================================================================================================
+    // Constructor
+    // ================================================================================================================
+
+    /**
+     * Constructor.
+     *
+     * @param outbox          An {@link ExecutionRequestsOutbox} mock
+     *                        that is injected to the {@link ExecutionRequestsRelay}.
+     * @param executorService An {@link ExecutionRequestSender} mock
+     *                        that is injected to the {@link ExecutionRequestsRelay}.
+     * @param inFlightLimiter An {@link ExecutionsInFlightLimiter} mock
+     *                        that is injected to the {@link ExecutionRequestsRelay}.
+     * @param claimCheckStore A {@link ClaimCheckStore} mock used by the (disabled)
+     *                        {@link ExecutionRequestsClaimChecker} injected to the {@link ExecutionRequestsRelay}.
+     * @param deliveryTracker An {@link ExecutionRequestDeliveryTracker} mock
+     *                        that is injected to the {@link ExecutionRequestsRelay}.
+     */
+    ExecutionRequestsRelayTest(
+            @Mock(name = "outbox") final ExecutionRequestsOutbox outbox,
+            @Mock(name = "executorService") final ExecutionRequestSender<SolutionAndTestCaseIds> executorService,
+            @Mock(name = "inFlightLimiter") final ExecutionsInFlightLimiter inFlightLimiter,
+            @Mock(name = "claimCheckStore") final ClaimCheckStore claimCheckStore,
+            @Mock(name = "deliveryTracker") final ExecutionRequestDeliveryTracker deliveryTracker) {
+        this.outbox = outbox;
+        this.executorService = executorService;
+        this.inFlightLimiter = inFlightLimiter;
+        this.deliveryTracker = deliveryTracker;
+        this.executionRequestsRelay = new ExecutionRequestsRelay(
+                outbox,
+                executorService,
+                inFlightLimiter,
+                new ExecutionRequestsClaimChecker(claimCheckStore, false, 0),
+                deliveryTracker,
+                BATCH_SIZE,
+                DELIVERY_TIMEOUT
+        );
+    }
+
+
+    /**
+     * Tests that relaying pending execution requests when the outbox is empty
+     * does not send anything to the executor service.
+     */
+    @Test
+    void testRelayWithEmptyOutbox() {
+        when(inFlightLimiter.availablePermits()).thenReturn(BATCH_SIZE);
+        when(outbox.takeNext(eq(BATCH_SIZE), notNull())).thenReturn(Collections.emptyList());
+
+        executionRequestsRelay.relayPendingExecutionRequests();
+
+        verify(outbox, only()).takeNext(eq(BATCH_SIZE), notNull());
+        verifyZeroInteractions(executorService);
+        verify(inFlightLimiter, only()).availablePermits();
+    }
+
+    /**
+     * Tests that nothing is taken from the outbox when the in-flight executions limit has been reached.
+     */
+    @Test
+    void testRelayWithNoPermits() {
+        when(inFlightLimiter.availablePermits()).thenReturn(0);
+
+        executionRequestsRelay.relayPendingExecutionRequests();
+
+        verify(inFlightLimiter, only()).availablePermits();
+        verifyZeroInteractions(outbox);
+        verifyZeroInteractions(executorService);
+    }
+
+    /**
+     * Tests that the amount of requests taken from the outbox is limited by the in-flight executions limit
+     * when it is smaller than the batch size.
+     */
+    @Test
+    void testRelayIsLimitedByPermits() {
+        final var permits = BATCH_SIZE / 2;
+        when(inFlightLimiter.availablePermits()).thenReturn(permits);
+        when(outbox.takeNext(eq(permits), notNull())).thenReturn(Collections.emptyList());
+
+        executionRequestsRelay.relayPendingExecutionRequests();
+
+        verify(outbox, only()).takeNext(eq(permits), notNull());
+        verifyZeroInteractions(executorService);
+    }
+
+    /**
+     * Tests that relaying pending execution requests sends the corresponding execution requests
+     * to the executor service once they are taken out of the outbox (i.e once their dispatching is registered),
+     * with the same dispatching moment, and without putting anything back in the outbox.
+     *
+     * @param pendingRequest The {@link PendingExecutionRequest} being relayed.
+     * @param solution       The {@link ExerciseSolution} to be send to execute.
+     * @param testCase       The {@link TestCase} used to run the solution.
+     */
+    @Test
+    void testRelay(
+            @Mock(name = "pendingRequest") final PendingExecutionRequest pendingRequest,
+            @Mock(name = "solution", answer = Answers.RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "testCase") final TestCase testCase) {
+
+        final var testCaseId = TestHelper.validTestCaseId();
+        final var solutionId = TestHelper.validExerciseSolutionId();
+        final var code = Faker.instance().lorem().characters();
+        final var programArguments = TestHelper.validTestCaseList();
+        final var stdin = TestHelper.validTestCaseList();
+        final var compilerFlags = TestHelper.validCompilerFlags();
+        final var language = TestHelper.validLanguage();
+        final var timeout = TestHelper.validTestCaseTimeout();
+
+        when(testCase.getId()).thenReturn(testCaseId);
+        when(testCase.getProgramArguments()).thenReturn(programArguments);
+        when(testCase.getStdin()).thenReturn(stdin);
+        when(testCase.getTimeout()).thenReturn(timeout);
+        when(solution.getId()).thenReturn(solutionId);
+        when(solution.getAnswer()).thenReturn(code);
+        when(solution.getExercise().getLanguage()).thenReturn(language);
+        when(solution.getCompilerFlags()).thenReturn(compilerFlags);
+        when(pendingRequest.getSolution()).thenReturn(solution);
+        when(pendingRequest.getTestCase()).thenReturn(testCase);
+        when(inFlightLimiter.availablePermits()).thenReturn(BATCH_SIZE);
+        when(outbox.takeNext(eq(BATCH_SIZE), notNull())).thenReturn(List.of(pendingRequest));
+        when(deliveryTracker.track(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        executionRequestsRelay.relayPendingExecutionRequests();
+
+        final var inOrder = inOrder(outbox, executorService);
+        final var dispatchedAt = ArgumentCaptor.forClass(Instant.class);
+        inOrder.verify(outbox).takeNext(eq(BATCH_SIZE), dispatchedAt.capture());
+        inOrder.verify(executorService)
+                .requestExecution(
+                        argThat(req ->
+                                Objects.equals(code, req.getCode())
+                                        && Objects.equals(programArguments, req.getProgramArguments())
+                                        && Objects.equals(stdin, req.getStdin())
+                                        && Objects.equals(compilerFlags, req.getCompilerFlags())
+                                        && Objects.equals(language, req.getLanguage())
+                                        && Objects.equals(timeout, req.getTimeout())
+                        ),
+                        argThat(i -> solutionId == i.getSolutionId()
+                                && testCaseId == i.getTestCaseId()
+                                && dispatchedAt.getValue().equals(i.getDispatchedAt()))
+                );
+        inOrder.verify(outbox).putBack(Collections.emptyMap(), dispatchedAt.getValue());
+        verifyNoMoreInteractions(outbox);
+        verifyNoMoreInteractions(executorService);
+        verify(inFlightLimiter, only()).availablePermits();
+    }
+
+    /**
+     * Tests that requests whose delivery fails are put back in the outbox
+     * (which registers the failure, so they are not counted as in-flight).
+     *
+     * @param pendingRequest The {@link PendingExecutionRequest} being relayed.
+     * @param solution       The {@link ExerciseSolution} to be send to execute.
+     * @param testCase       The {@link TestCase} used to run the solution.
+     */
+    @Test
+    void testRelayWithFailedDelivery(
+            @Mock(name = "pendingRequest") final PendingExecutionRequest pendingRequest,
+            @Mock(name = "solution", answer = Answers.RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "testCase") final TestCase testCase) {
+
+        final var testCaseId = TestHelper.validTestCaseId();
+        final var solutionId = TestHelper.validExerciseSolutionId();
+        when(testCase.getId()).thenReturn(testCaseId);
+        when(solution.getId()).thenReturn(solutionId);
+        when(pendingRequest.getSolution()).thenReturn(solution);
+        when(pendingRequest.getTestCase()).thenReturn(testCase);
+        when(inFlightLimiter.availablePermits()).thenReturn(BATCH_SIZE);
+        when(outbox.takeNext(eq(BATCH_SIZE), notNull())).thenReturn(List.of(pendingRequest));
+        when(deliveryTracker.track(any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker not available")));
+
+        executionRequestsRelay.relayPendingExecutionRequests();
+
+        final var dispatchedAt = ArgumentCaptor.forClass(Instant.class);
+        verify(executorService, only()).requestExecution(any(), any());
+        verify(outbox, times(1)).takeNext(eq(BATCH_SIZE), dispatchedAt.capture());
+        verify(outbox, times(1)).putBack(
+                argThat((Map<PendingExecutionRequest, Throwable> failures) ->
+                        failures.size() == 1 && failures.containsKey(pendingRequest)),
+                eq(dispatchedAt.getValue())
+        );
+        verifyNoMoreInteractions(outbox);
+        verify(inFlightLimiter, only()).availablePermits();
+    }
+
+    /**
+     * Tests that a request whose payloads can not be offloaded is put back in the outbox,
+     * without preventing the rest of the batch from being sent.
+     *
+     * @param claimCheckStore A {@link ClaimCheckStore} mock that fails to store the first payload.
+     * @param failedRequest   The {@link PendingExecutionRequest} whose payloads can not be offloaded.
+     * @param failedSolution  The {@link ExerciseSolution} of the failed request.
+     * @param failedTestCase  The {@link TestCase} of the failed request.
+     * @param pendingRequest  The {@link PendingExecutionRequest} that is sent.
+     * @param solution        The {@link ExerciseSolution} of the sent request.
+     * @param testCase        The {@link TestCase} of the sent request.
+     */
+    @Test
+    void testRelayWithFailedClaimCheck(
+            @Mock(name = "claimCheckStore") final ClaimCheckStore claimCheckStore,
+            @Mock(name = "failedRequest") final PendingExecutionRequest failedRequest,
+            @Mock(name = "failedSolution") final ExerciseSolution failedSolution,
+            @Mock(name = "failedTestCase") final TestCase failedTestCase,
+            @Mock(name = "pendingRequest") final PendingExecutionRequest pendingRequest,
+            @Mock(name = "solution", answer = Answers.RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "testCase") final TestCase testCase) {
+        final var relay = new ExecutionRequestsRelay(
+                outbox,
+                executorService,
+                inFlightLimiter,
+                new ExecutionRequestsClaimChecker(claimCheckStore, true, 0),
+                deliveryTracker,
+                BATCH_SIZE,
+                DELIVERY_TIMEOUT
+        );
+        when(failedSolution.getAnswer()).thenReturn(Faker.instance().lorem().characters());
+        when(failedRequest.getSolution()).thenReturn(failedSolution);
+        when(failedRequest.getTestCase()).thenReturn(failedTestCase);
+        when(solution.getAnswer()).thenReturn(Faker.instance().lorem().characters());
+        when(pendingRequest.getSolution()).thenReturn(solution);
+        when(pendingRequest.getTestCase()).thenReturn(testCase);
+        when(claimCheckStore.store(any()))
+                .thenThrow(new UncheckedIOException(new IOException("No space left on device")))
+                .thenReturn("sha-256:" + "0".repeat(64));
+        when(inFlightLimiter.availablePermits()).thenReturn(BATCH_SIZE);
+        when(outbox.takeNext(eq(BATCH_SIZE), notNull())).thenReturn(List.of(failedRequest, pendingRequest));
+        when(deliveryTracker.track(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relayPendingExecutionRequests();
+
+        final var dispatchedAt = ArgumentCaptor.forClass(Instant.class);
+        verify(executorService, only()).requestExecution(any(), any());
+        verify(deliveryTracker, only()).track(any());
+        verify(outbox, times(1)).takeNext(eq(BATCH_SIZE), dispatchedAt.capture());
+        verify(outbox, times(1)).putBack(
+                argThat((Map<PendingExecutionRequest, Throwable> failures) ->
+                        failures.size() == 1 && failures.containsKey(failedRequest)),
+                eq(dispatchedAt.getValue())
+        );
+        verifyNoMoreInteractions(outbox);
+    }
+}
@@ -0,0 +1,311 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.domain.events.TestCaseChangedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import ar.edu.itba.cep.executor.models.ExecutionResponse;
+import ar.edu.itba.cep.executor.models.Language;
+import com.github.javafaker.Faker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the {@link ExecutionResponsesCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExecutionResponsesCacheTest {
+
+    /**
+     * The max. amount of entries of the {@link ExecutionResponsesCache} being tested.
+     */
+    private static final int MAX_ENTRIES = 2;
+    /**
+     * The max. size (in bytes) of the {@link ExecutionResponsesCache} being tested.
+     */
+    private static final long MAX_BYTES = 8192;
+
+    /**
+     * The {@link ExecutionResponsesCache} being tested.
+     */
+    private final ExecutionResponsesCache cache = new ExecutionResponsesCache(MAX_ENTRIES, MAX_BYTES);
+
+
+    /**
+     * Tests that a cached response is returned for another solution with the same content.
+     *
+     * @param solution          The {@link ExerciseSolution} whose execution response is cached.
+     * @param identicalSolution Another {@link ExerciseSolution} with the same content.
+     * @param testCase          The {@link TestCase}.
+     * @param response          The {@link ExecutionResponse} being cached.
+     */
+    @Test
+    void testIdenticalSolutionsShareResponse(
+            @Mock(name = "solution", answer = RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "identicalSolution", answer = RETURNS_DEEP_STUBS) final ExerciseSolution identicalSolution,
+            @Mock(name = "testCase") final TestCase testCase,
+            @Mock(name = "response") final ExecutionResponse response) {
+        final var answer = Faker.instance().lorem().characters();
+        final var language = TestHelper.validLanguage();
+        setupSolution(solution, answer, language);
+        setupSolution(identicalSolution, answer, language);
+        setupTestCase(testCase, TestHelper.validTestCaseId(), TestHelper.validTestCaseList());
+        when(response.getResult()).thenReturn(ExecutionResponse.ExecutionResult.COMPLETED);
+
+        cache.put(solution, testCase, response);
+
+        Assertions.assertEquals(
+                Optional.of(response),
+                cache.get(identicalSolution, testCase),
+                "The response cached for a solution is not returned for an identical one"
+        );
+    }
+
+    /**
+     * Tests that a cached response is not returned for a solution with another answer.
+     *
+     * @param solution        The {@link ExerciseSolution} whose execution response is cached.
+     * @param anotherSolution Another {@link ExerciseSolution} with another answer.
+     * @param testCase        The {@link TestCase}.
+     * @param response        The {@link ExecutionResponse} being cached.
+     */
+    @Test
+    void testDifferentSolutionsDoNotShareResponse(
+            @Mock(name = "solution", answer = RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "anotherSolution", answer = RETURNS_DEEP_STUBS) final ExerciseSolution anotherSolution,
+            @Mock(name = "testCase") final TestCase testCase,
+            @Mock(name = "response") final ExecutionResponse response) {
+        final var language = TestHelper.validLanguage();
+        setupSolution(solution, "answer", language);
+        setupSolution(anotherSolution, "another answer", language);
+        setupTestCase(testCase, TestHelper.validTestCaseId(), TestHelper.validTestCaseList());
+        when(response.getResult()).thenReturn(ExecutionResponse.ExecutionResult.COMPLETED);
+
+        cache.put(solution, testCase, response);
+
+        Assertions.assertTrue(
+                cache.get(anotherSolution, testCase).isEmpty(),
+                "The response cached for a solution is returned for another one"
+        );
+    }
+
+    /**
+     * Tests that non deterministic responses are not cached.
+     *
+     * @param solution The {@link ExerciseSolution}.
+     * @param testCase The {@link TestCase}.
+     * @param response The {@link ExecutionResponse} (a timed out one).
+     */
+    @Test
+    void testNonDeterministicResponsesAreNotCached(
+            @Mock(name = "solution", answer = RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "testCase") final TestCase testCase,
+            @Mock(name = "response") final ExecutionResponse response) {
+        setupSolution(solution, Faker.instance().lorem().characters(), TestHelper.validLanguage());
+        when(testCase.getTimeout()).thenReturn(TestHelper.validTestCaseTimeout());
+        when(testCase.getProgramArguments()).thenReturn(TestHelper.validTestCaseList());
+        when(testCase.getStdin()).thenReturn(TestHelper.validTestCaseList());
+        when(response.getResult()).thenReturn(ExecutionResponse.ExecutionResult.TIMEOUT);
+
+        cache.put(solution, testCase, response);
+
+        Assertions.assertTrue(cache.get(solution, testCase).isEmpty(), "A timed out response was cached");
+    }
+
+    /**
+     * Tests that a response stored using a {@link TestCase} is found using its
+     * {@link ExecutionResponsesCache.TestCaseInputs}, and the other way around.
+     *
+     * @param solution  The {@link ExerciseSolution}.
+     * @param testCase1 A {@link TestCase} whose response is stored using it, and looked up using its inputs.
+     * @param testCase2 A {@link TestCase} whose response is stored using its inputs, and looked up using it.
+     * @param response  The {@link ExecutionResponse} being cached.
+     */
+    @Test
+    void testTestCaseInputsShareEntriesWithTestCase(
+            @Mock(name = "solution", answer = RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "testCase1") final TestCase testCase1,
+            @Mock(name = "testCase2") final TestCase testCase2,
+            @Mock(name = "response") final ExecutionResponse response) {
+        setupSolution(solution, Faker.instance().lorem().characters(), TestHelper.validLanguage());
+        setupTestCase(testCase1, 1, List.of("1"));
+        setupTestCase(testCase2, 2, List.of("2"));
+        when(response.getResult()).thenReturn(ExecutionResponse.ExecutionResult.COMPLETED);
+
+        cache.put(solution, testCase1, response);
+        cache.put(solution, ExecutionResponsesCache.TestCaseInputs.of(testCase2), response);
+
+        Assertions.assertAll(
+                "Test cases and their inputs do not share entries",
+                () -> Assertions.assertEquals(
+                        Optional.of(response),
+                        cache.get(solution, ExecutionResponsesCache.TestCaseInputs.of(testCase1)),
+                        "The response stored using a test case is not found using its inputs"
+                ),
+                () -> Assertions.assertEquals(
+                        Optional.of(response),
+                        cache.get(solution, testCase2),
+                        "The response stored using test case inputs is not found using the test case"
+                )
+        );
+    }
+
+    /**
+     * Tests that the entries of a {@link TestCase} are evicted when the said {@link TestCase} changes.
+     *
+     * @param solution The {@link ExerciseSolution}.
+     * @param testCase The {@link TestCase} that changes.
+     * @param response The {@link ExecutionResponse} being cached.
+     */
+    @Test
+    void testEntriesAreEvictedWhenTestCaseChanges(
+            @Mock(name = "solution", answer = RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "testCase") final TestCase testCase,
+            @Mock(name = "response") final ExecutionResponse response) {
+        setupSolution(solution, Faker.instance().lorem().characters(), TestHelper.validLanguage());
+        setupTestCase(testCase, TestHelper.validTestCaseId(), TestHelper.validTestCaseList());
+        when(response.getResult()).thenReturn(ExecutionResponse.ExecutionResult.COMPILE_ERROR);
+
+        cache.put(solution, testCase, response);
+        cache.testCaseChanged(TestCaseChangedEvent.create(testCase));
+
+        Assertions.assertTrue(
+                cache.get(solution, testCase).isEmpty(),
+                "The entries of a changed test case were not evicted"
+        );
+    }
+
+    /**
+     * Tests that the least recently used entry is evicted when the max. amount of entries is exceeded.
+     *
+     * @param solution  The {@link ExerciseSolution}.
+     * @param testCase1 A {@link TestCase} (the one whose entry is the least recently used).
+     * @param testCase2 Another {@link TestCase}.
+     * @param testCase3 Another {@link TestCase} (the one whose entry exceeds the max. amount).
+     * @param response  The {@link ExecutionResponse} being cached.
+     */
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted(
+            @Mock(name = "solution", answer = RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "testCase1") final TestCase testCase1,
+            @Mock(name = "testCase2") final TestCase testCase2,
+            @Mock(name = "testCase3") final TestCase testCase3,
+            @Mock(name = "response") final ExecutionResponse response) {
+        setupSolution(solution, Faker.instance().lorem().characters(), TestHelper.validLanguage());
+        setupTestCase(testCase1, 1, List.of("1"));
+        setupTestCase(testCase2, 2, List.of("2"));
+        setupTestCase(testCase3, 3, List.of("3"));
+        when(response.getResult()).thenReturn(ExecutionResponse.ExecutionResult.COMPLETED);
+
+        cache.put(solution, testCase1, response);
+        cache.put(solution, testCase2, response);
+        cache.get(solution, testCase1); // Now the entry of testCase2 is the least recently used.
+        cache.put(solution, testCase3, response);
+
+        Assertions.assertAll(
+                "The least recently used entry was not the evicted one",
+                () -> Assertions.assertTrue(cache.get(solution, testCase1).isPresent(), "Entry 1 was evicted"),
+                () -> Assertions.assertTrue(cache.get(solution, testCase2).isEmpty(), "Entry 2 was not evicted"),
+                () -> Assertions.assertTrue(cache.get(solution, testCase3).isPresent(), "Entry 3 was evicted")
+        );
+    }
+
+    /**
+     * Tests that a response whose outputs are larger than the max. size is not cached.
+     *
+     * @param solution The {@link ExerciseSolution}.
+     * @param testCase The {@link TestCase}.
+     * @param response The {@link ExecutionResponse} being cached.
+     */
+    @Test
+    void testOversizedResponsesAreNotCached(
+            @Mock(name = "solution", answer = RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "testCase") final TestCase testCase,
+            @Mock(name = "response") final ExecutionResponse response) {
+        setupSolution(solution, Faker.instance().lorem().characters(), TestHelper.validLanguage());
+        setupTestCase(testCase, TestHelper.validTestCaseId(), TestHelper.validTestCaseList());
+        when(response.getResult()).thenReturn(ExecutionResponse.ExecutionResult.COMPLETED);
+        when(response.getStdout()).thenReturn(List.of("a".repeat((int) MAX_BYTES)));
+
+        cache.put(solution, testCase, response);
+
+        Assertions.assertTrue(
+                cache.get(solution, testCase).isEmpty(),
+                "A response larger than the max. size was cached"
+        );
+    }
+
+    /**
+     * Tests that the least recently used entries are evicted when the max. size is exceeded,
+     * even if the max. amount of entries is not.
+     *
+     * @param solution  The {@link ExerciseSolution}.
+     * @param testCase1 A {@link TestCase} (the one whose entry is the least recently used).
+     * @param testCase2 Another {@link TestCase} (the one whose entry exceeds the max. size).
+     * @param response  The {@link ExecutionResponse} being cached.
+     */
+    @Test
+    void testLeastRecentlyUsedEntryIsEvictedWhenMaxSizeIsExceeded(
+            @Mock(name = "solution", answer = RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "testCase1") final TestCase testCase1,
+            @Mock(name = "testCase2") final TestCase testCase2,
+            @Mock(name = "response") final ExecutionResponse response) {
+        setupSolution(solution, Faker.instance().lorem().characters(), TestHelper.validLanguage());
+        setupTestCase(testCase1, 1, List.of("1"));
+        setupTestCase(testCase2, 2, List.of("2"));
+        when(response.getResult()).thenReturn(ExecutionResponse.ExecutionResult.COMPLETED);
+        // Each entry takes more than half of the max. size
+        when(response.getStdout()).thenReturn(List.of("a".repeat((int) MAX_BYTES / 4)));
+
+        cache.put(solution, testCase1, response);
+        cache.put(solution, testCase2, response);
+
+        Assertions.assertAll(
+                "The least recently used entry was not evicted when exceeding the max. size",
+                () -> Assertions.assertTrue(cache.get(solution, testCase1).isEmpty(), "Entry 1 was not evicted"),
+                () -> Assertions.assertTrue(cache.get(solution, testCase2).isPresent(), "Entry 2 was evicted")
+        );
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Configures the given {@code solution} mock.
+     *
+     * @param solution The {@link ExerciseSolution} mock (with deep stubs enabled).
+     * @param answer   The answer.
+     * @param language The {@link Language} of the solution's exercise.
+     */
+    private static void setupSolution(final ExerciseSolution solution, final String answer, final Language language) {
+        when(solution.getAnswer()).thenReturn(answer);
+        when(solution.getCompilerFlags()).thenReturn(null);
+        when(solution.getMainFileName()).thenReturn(null);
+        when(solution.getExercise().getLanguage()).thenReturn(language);
+    }
+
+    /**
+     * Configures the given {@code testCase} mock.
+     *
+     * @param testCase The {@link TestCase} mock.
+     * @param id       The {@link TestCase}'s id.
+     * @param stdin    The {@link TestCase}'s stdin.
+     */
+    private static void setupTestCase(final TestCase testCase, final long id, final List<String> stdin) {
+        when(testCase.getId()).thenReturn(id);
+        when(testCase.getTimeout()).thenReturn(null);
+        when(testCase.getProgramArguments()).thenReturn(List.of());
+        when(testCase.getStdin()).thenReturn(stdin);
+    }
+}
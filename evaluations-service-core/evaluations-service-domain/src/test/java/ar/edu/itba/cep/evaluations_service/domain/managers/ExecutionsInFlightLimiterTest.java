@@ -0,0 +1,204 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.commands.executor_service.SolutionAndTestCaseIds;
+import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
+import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link ExecutionsInFlightLimiter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExecutionsInFlightLimiterTest {
+
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MIN_LIMIT = 10;
+    private static final int MAX_LIMIT = 21;
+    private static final long TARGET_LATENCY = 1000;
+    private static final long TIMEOUT = 10000;
+
+
+    // ================================================================================================================
+    // Mocks
+    // ================================================================================================================
+
+    /**
+     * An {@link ExerciseSolutionResultRepository} mock that is injected to the {@link ExecutionsInFlightLimiter}.
+     */
+    private final ExerciseSolutionResultRepository exerciseSolutionResultRepository;
+
+    /**
+     * A {@link Clock} mock that is injected to the {@link ExecutionsInFlightLimiter}.
+     */
+    private final Clock clock;
+
+
+    // ================================================================================================================
+    // Limiter
+    // ================================================================================================================
+
+    /**
+     * The {@link ExecutionsInFlightLimiter} being tested.
+     */
+    private final ExecutionsInFlightLimiter limiter;
+
+
+    // ================================================================================================================
+    // Constructor
+    // ================================================================================================================
+
+    /**
+     * Constructor.
+     *
+     * @param exerciseSolutionResultRepository An {@link ExerciseSolutionResultRepository} mock
+     *                                         that is injected to the {@link ExecutionsInFlightLimiter}.
+     * @param clock                            A {@link Clock} mock
+     *                                         that is injected to the {@link ExecutionsInFlightLimiter}.
+     */
+    ExecutionsInFlightLimiterTest(
+            @Mock(name = "resultRepository") final ExerciseSolutionResultRepository exerciseSolutionResultRepository,
+            @Mock(name = "clock") final Clock clock) {
+        this.exerciseSolutionResultRepository = exerciseSolutionResultRepository;
+        this.clock = clock;
+        this.limiter = new ExecutionsInFlightLimiter(
+                exerciseSolutionResultRepository,
+                INITIAL_LIMIT,
+                MIN_LIMIT,
+                MAX_LIMIT,
+                TARGET_LATENCY,
+                TIMEOUT,
+                clock
+        );
+    }
+
+
+    // ================================================================================================================
+    // Tests
+    // ================================================================================================================
+
+    /**
+     * Tests that the executions counted as in-flight in the database (i.e those dispatched within the timeout)
+     * take permits.
+     */
+    @Test
+    void testInFlightExecutionsTakePermits() {
+        final var now = Instant.now();
+        final var inFlight = INITIAL_LIMIT / 2;
+        when(clock.instant()).thenReturn(now);
+        when(exerciseSolutionResultRepository.countInFlight(now.minusMillis(TIMEOUT))).thenReturn((long) inFlight);
+        Assertions.assertEquals(
+                INITIAL_LIMIT - inFlight,
+                limiter.availablePermits(),
+                "In-flight executions are not taking permits"
+        );
+        verify(exerciseSolutionResultRepository, only()).countInFlight(now.minusMillis(TIMEOUT));
+    }
+
+    /**
+     * Tests that there are no permits available when there are more in-flight executions than the limit.
+     */
+    @Test
+    void testNoPermitsAboveLimit() {
+        when(clock.instant()).thenReturn(Instant.now());
+        when(exerciseSolutionResultRepository.countInFlight(any())).thenReturn((long) INITIAL_LIMIT + 1);
+        Assertions.assertEquals(0, limiter.availablePermits(), "Permits are available above the limit");
+    }
+
+    /**
+     * Tests that responses arriving within the target latency increase the limit, up to the max. limit.
+     */
+    @Test
+    void testOnTimeResponsesIncreaseLimit() {
+        final var now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+
+        for (int i = 0; i < 10 * MAX_LIMIT; i++) {
+            limiter.completed(SolutionAndTestCaseIds.create(i, i, now));
+        }
+        Assertions.assertEquals(MAX_LIMIT, limiter.getLimit(), "The limit did not increase up to the max. limit");
+    }
+
+    /**
+     * Tests that late responses decrease the limit, down to the min. limit,
+     * when each of them was dispatched after the previous back-off.
+     * Latencies are measured from the dispatching moment of the responses,
+     * so responses of executions requested by other instances are also taken into account.
+     */
+    @Test
+    void testLateResponsesDecreaseLimit() {
+        var backoff = Instant.now();
+        for (int i = 0; i < 10 * INITIAL_LIMIT; i++) {
+            final var dispatchedAt = backoff.plusMillis(1); // Dispatched after the previous back-off.
+            backoff = dispatchedAt.plusMillis(TARGET_LATENCY + 1);
+            when(clock.instant()).thenReturn(backoff);
+            limiter.completed(SolutionAndTestCaseIds.create(i, i, dispatchedAt));
+        }
+        Assertions.assertEquals(MIN_LIMIT, limiter.getLimit(), "The limit did not decrease down to the min. limit");
+    }
+
+    /**
+     * Tests that a burst of late responses of executions dispatched before the last back-off
+     * decreases the limit only once.
+     */
+    @Test
+    void testLateResponsesBurstDecreasesLimitOnce() {
+        final var dispatchedAt = Instant.now();
+        when(clock.instant()).thenReturn(dispatchedAt.plusMillis(TARGET_LATENCY + 1));
+        for (int i = 0; i < 10 * INITIAL_LIMIT; i++) {
+            limiter.completed(SolutionAndTestCaseIds.create(i, i, dispatchedAt));
+        }
+        Assertions.assertEquals(
+                (int) (INITIAL_LIMIT * 0.9),
+                limiter.getLimit(),
+                "The limit was not decreased exactly once"
+        );
+    }
+
+    /**
+     * Tests that lost executions decrease the limit, at most once per timeout.
+     */
+    @Test
+    void testLostExecutionsDecreaseLimit() {
+        final var now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        limiter.lost();
+        final var decreased = limiter.getLimit();
+        Assertions.assertTrue(decreased < INITIAL_LIMIT, "The limit was not decreased");
+        limiter.lost();
+        Assertions.assertEquals(decreased, limiter.getLimit(), "The limit was decreased twice within the timeout");
+        when(clock.instant()).thenReturn(now.plusMillis(TIMEOUT + 1));
+        limiter.lost();
+        Assertions.assertTrue(limiter.getLimit() < decreased, "The limit was not decreased after the timeout");
+    }
+
+    /**
+     * Tests that responses whose dispatching moment is not known do not change the limit.
+     */
+    @Test
+    void testResponsesWithoutDispatchingMomentAreIgnored() {
+        limiter.completed(validIds());
+        Assertions.assertEquals(INITIAL_LIMIT, limiter.getLimit(), "The limit changed for an unknown dispatch");
+        verifyZeroInteractions(clock);
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * @return A valid {@link SolutionAndTestCaseIds} (without dispatching moment).
+     */
+    private static SolutionAndTestCaseIds validIds() {
+        return SolutionAndTestCaseIds.create(TestHelper.validExerciseSolutionId(), TestHelper.validTestCaseId());
+    }
+}
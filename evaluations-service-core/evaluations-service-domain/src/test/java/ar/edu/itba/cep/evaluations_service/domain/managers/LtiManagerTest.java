@@ -3,15 +3,19 @@ package ar.edu.itba.cep.evaluations_service.domain.managers;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExamScoredEvent;
 import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
 import ar.edu.itba.cep.evaluations_service.external_cep_services.lti_service.LtiService;
-import ar.edu.itba.cep.evaluations_service.models.Exam;
 import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
 import ar.edu.itba.cep.lti.ExamScoringRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.Mockito.*;
 
 /**
@@ -20,10 +24,21 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class LtiManagerTest {
 
+    /**
+     * The max. amount of scores relayed in each batch.
+     */
+    private static final int BATCH_SIZE = 10;
+
+
     // ================================================================================================================
     // Mocks
     // ================================================================================================================
 
+    /**
+     * A {@link ScoreNotificationsOutbox} mock that is injected to the {@link LtiManager}.
+     */
+    private final ScoreNotificationsOutbox outbox;
+
     /**
      * An {@link LtiService} mock that is injected to the {@link LtiManager}.
      */
@@ -31,7 +46,7 @@ class LtiManagerTest {
 
 
     // ================================================================================================================
-    // Solutions Manager
+    // LTI Manager
     // ================================================================================================================
 
     /**
@@ -47,49 +62,71 @@ class LtiManagerTest {
     /**
      * Constructor.
      *
+     * @param outbox     A {@link ScoreNotificationsOutbox} mock that is injected to the {@link LtiManager}.
      * @param ltiService An {@link LtiService} mock that is injected to the {@link LtiManager}.
      */
     LtiManagerTest(
+            @Mock(name = "outbox") final ScoreNotificationsOutbox outbox,
             @Mock(name = "ltiService") final LtiService ltiService) {
+        this.outbox = outbox;
         this.ltiService = ltiService;
-        this.ltiManager = new LtiManager(ltiService);
+        this.ltiManager = new LtiManager(outbox, ltiService, BATCH_SIZE);
     }
 
+
+    /**
+     * Tests that a scored submission is added to the outbox, instead of being sent right away.
+     *
+     * @param event      The {@link ExamScoredEvent} being handled.
+     * @param submission The scored {@link ExamSolutionSubmission}.
+     */
     @Test
-    void testRequestIsSent(
+    void testScoreIsAddedToOutbox(
             @Mock(name = "event") final ExamScoredEvent event,
-            @Mock(name = "exam") final Exam exam,
             @Mock(name = "submission") final ExamSolutionSubmission submission) {
-
-        final var examId = TestHelper.validExamId();
-        final var subject = TestHelper.validOwner();
-        final var score = TestHelper.validScore();
-
         when(event.getSubmission()).thenReturn(submission);
-        when(exam.getId()).thenReturn(examId);
-        when(submission.getExam()).thenReturn(exam);
-        when(submission.getSubmitter()).thenReturn(subject);
-        when(submission.getScore()).thenReturn(score);
-        doNothing().when(ltiService).scoreExam(any(ExamScoringRequest.class));
+        when(submission.getScore()).thenReturn(TestHelper.validScore());
 
         ltiManager.examScored(event);
 
-        verify(ltiService, only()).scoreExam(argThat(requestMatches(examId, subject, score)));
+        verify(outbox, only()).add(submission);
+        verifyZeroInteractions(ltiService);
     }
 
     /**
-     * Creates an {@link ArgumentMatcher} of {@link ExamScoringRequest} to check if the said request
-     * contains the given {@code examId}, {@code subject} and {@code score}.
-     *
-     * @param examId  The exam id to be checked.
-     * @param subject The subject to be checked.
-     * @param score   The score to be checked.
-     * @return The {@link ArgumentMatcher}.
+     * Tests that nothing is sent when there are no due scores.
      */
-    private static ArgumentMatcher<ExamScoringRequest> requestMatches(
-            final long examId, final String subject, final int score) {
-        return request -> request.getExamId() == examId
-                && request.getSubject().equals(subject)
-                && request.getScore() == score;
+    @Test
+    void testNothingIsRelayedWhenThereAreNoDueScores() {
+        when(outbox.takeDue(eq(BATCH_SIZE), any(Instant.class))).thenReturn(Collections.emptyMap());
+
+        ltiManager.relayScores();
+
+        verify(outbox, only()).takeDue(eq(BATCH_SIZE), any(Instant.class));
+        verifyZeroInteractions(ltiService);
+    }
+
+    /**
+     * Tests that due scores are sent, registering the delivered ones and the failures of the others.
+     */
+    @Test
+    void testDueScoresAreRelayed() {
+        final var delivered = new ExamScoringRequest(TestHelper.validExamId(), "delivered", TestHelper.validScore());
+        final var failed = new ExamScoringRequest(TestHelper.validExamId(), "failed", TestHelper.validScore());
+        final var requests = new LinkedHashMap<Long, ExamScoringRequest>();
+        requests.put(1L, delivered);
+        requests.put(2L, failed);
+        final var failure = new RuntimeException("The LTI service is not available");
+        when(outbox.takeDue(eq(BATCH_SIZE), any(Instant.class))).thenReturn(requests);
+        doThrow(failure).when(ltiService).scoreExam(failed);
+
+        ltiManager.relayScores();
+
+        verify(ltiService, times(1)).scoreExam(delivered);
+        verify(ltiService, times(1)).scoreExam(failed);
+        verifyNoMoreInteractions(ltiService);
+        verify(outbox, times(1)).takeDue(eq(BATCH_SIZE), any(Instant.class));
+        verify(outbox, times(1)).registerOutcomes(eq(List.of(1L)), eq(Map.of(2L, failure)), any(Instant.class));
+        verifyNoMoreInteractions(outbox);
     }
 }
@@ -0,0 +1,170 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.domain.events.TestCaseChangedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
+import ar.edu.itba.cep.evaluations_service.models.OutputsFingerprint;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the {@link OutputCheckersCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutputCheckersCacheTest {
+
+    /**
+     * The max. amount of entries of the {@link OutputCheckersCache} being tested.
+     */
+    private static final int MAX_ENTRIES = 2;
+
+    /**
+     * The {@link OutputCheckersCache} being tested.
+     */
+    private final OutputCheckersCache cache = new OutputCheckersCache(MAX_ENTRIES);
+
+
+    /**
+     * Tests that the checker of a {@link TestCase} is compiled only once
+     * (i.e the expected outputs are loaded only once).
+     *
+     * @param testCase The {@link TestCase}.
+     */
+    @Test
+    void testCheckerIsCompiledOnce(@Mock(name = "testCase") final TestCase testCase) {
+        final var expectedOutputs = TestHelper.validTestCaseList();
+        setupTestCase(testCase, TestHelper.validTestCaseId(), 0, expectedOutputs);
+
+        final var checker = cache.get(testCase);
+
+        Assertions.assertAll(
+                "The cached checker is not working as expected",
+                () -> Assertions.assertSame(checker, cache.get(testCase), "The checker is compiled again"),
+                () -> Assertions.assertTrue(checker.test(expectedOutputs), "The expected outputs are not approved")
+        );
+        verify(testCase, times(1)).getExpectedOutputs();
+    }
+
+    /**
+     * Tests that the expected outputs are not loaded when the {@link TestCase} has an {@link OutputsFingerprint}.
+     *
+     * @param testCase The {@link TestCase}.
+     */
+    @Test
+    void testFingerprintedTestCaseDoesNotLoadExpectedOutputs(@Mock(name = "testCase") final TestCase testCase) {
+        final var expectedOutputs = TestHelper.validTestCaseList();
+        when(testCase.getId()).thenReturn(TestHelper.validTestCaseId());
+        when(testCase.getOutputComparison()).thenReturn(TestCase.OutputComparison.EXACT);
+        when(testCase.getExpectedOutputsFingerprint()).thenReturn(Optional.of(OutputsFingerprint.of(expectedOutputs)));
+
+        final var checker = cache.get(testCase);
+
+        Assertions.assertAll(
+                "The fingerprint checker is not working as expected",
+                () -> Assertions.assertTrue(checker.test(expectedOutputs), "The expected outputs are not approved"),
+                () -> Assertions.assertFalse(checker.test(List.of()), "Other outputs are approved")
+        );
+        verify(testCase, never()).getExpectedOutputs();
+    }
+
+    /**
+     * Tests that the checker is compiled again when the {@link TestCase}'s version changes.
+     *
+     * @param testCase The {@link TestCase} that changes.
+     */
+    @Test
+    void testCheckerIsCompiledAgainForNewVersion(@Mock(name = "testCase") final TestCase testCase) {
+        final var oldOutputs = List.of("old");
+        final var newOutputs = List.of("new");
+        setupTestCase(testCase, TestHelper.validTestCaseId(), 0, oldOutputs);
+        cache.get(testCase);
+
+        when(testCase.getVersion()).thenReturn(1L);
+        when(testCase.getExpectedOutputs()).thenReturn(newOutputs);
+        final var checker = cache.get(testCase);
+
+        Assertions.assertAll(
+                "The checker of the old version is being used",
+                () -> Assertions.assertTrue(checker.test(newOutputs), "The new outputs are not approved"),
+                () -> Assertions.assertFalse(checker.test(oldOutputs), "The old outputs are approved")
+        );
+    }
+
+    /**
+     * Tests that the checker of a {@link TestCase} is evicted when the said {@link TestCase} changes.
+     *
+     * @param testCase The {@link TestCase} that changes.
+     */
+    @Test
+    void testCheckerIsEvictedWhenTestCaseChanges(@Mock(name = "testCase") final TestCase testCase) {
+        setupTestCase(testCase, TestHelper.validTestCaseId(), 0, TestHelper.validTestCaseList());
+
+        final var checker = cache.get(testCase);
+        cache.testCaseChanged(TestCaseChangedEvent.create(testCase));
+
+        Assertions.assertNotSame(checker, cache.get(testCase), "The checker of a changed test case was not evicted");
+    }
+
+    /**
+     * Tests that the least recently used entry is evicted when the max. amount of entries is exceeded.
+     *
+     * @param testCase1 A {@link TestCase} (the one whose entry is the least recently used).
+     * @param testCase2 Another {@link TestCase}.
+     * @param testCase3 Another {@link TestCase} (the one whose entry exceeds the max. amount).
+     */
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted(
+            @Mock(name = "testCase1") final TestCase testCase1,
+            @Mock(name = "testCase2") final TestCase testCase2,
+            @Mock(name = "testCase3") final TestCase testCase3) {
+        setupTestCase(testCase1, 1, 0, List.of("1"));
+        setupTestCase(testCase2, 2, 0, List.of("2"));
+        setupTestCase(testCase3, 3, 0, List.of("3"));
+
+        final var checker1 = cache.get(testCase1);
+        final var checker2 = cache.get(testCase2);
+        cache.get(testCase1); // Now the entry of testCase2 is the least recently used.
+        cache.get(testCase3);
+
+        Assertions.assertAll(
+                "The least recently used entry was not the evicted one",
+                () -> Assertions.assertSame(checker1, cache.get(testCase1), "Entry 1 was evicted"),
+                () -> Assertions.assertNotSame(checker2, cache.get(testCase2), "Entry 2 was not evicted")
+        );
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Configures the given {@code testCase} mock.
+     *
+     * @param testCase        The {@link TestCase} mock.
+     * @param id              The {@link TestCase}'s id.
+     * @param version         The {@link TestCase}'s version.
+     * @param expectedOutputs The {@link TestCase}'s expected outputs.
+     */
+    private static void setupTestCase(
+            final TestCase testCase,
+            final long id,
+            final long version,
+            final List<String> expectedOutputs) {
+        when(testCase.getId()).thenReturn(id);
+        when(testCase.getVersion()).thenReturn(version);
+        when(testCase.getOutputComparison()).thenReturn(TestCase.OutputComparison.EXACT);
+        when(testCase.getExpectedOutputs()).thenReturn(expectedOutputs);
+    }
+}
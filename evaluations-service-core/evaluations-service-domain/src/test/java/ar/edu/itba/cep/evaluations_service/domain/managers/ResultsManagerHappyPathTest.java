@@ -1,12 +1,16 @@
 package ar.edu.itba.cep.evaluations_service.domain.managers;
 
 import ar.edu.itba.cep.evaluations_service.domain.events.ExamSolutionSubmittedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionAbandonedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionRequestedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponseArrivedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponseRejectedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponsesArrivedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
 import ar.edu.itba.cep.evaluations_service.models.*;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingExecutionRequestRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.TestCaseRepository;
 import ar.edu.itba.cep.executor.models.ExecutionResponse;
 import com.github.javafaker.Faker;
@@ -23,12 +27,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.util.StringUtils;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
+import static java.util.function.Predicate.not;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.*;
 
@@ -42,21 +51,35 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
     /**
      * Constructor.
      *
-     * @param testCaseRepository               A {@link TestCaseRepository}
-     *                                         that is injected to the {@link ResultsManager}.
-     * @param exerciseSolutionRepository       An {@link ExerciseSolutionRepository}
-     *                                         that is injected to the {@link ExamManager}.
-     * @param exerciseSolutionResultRepository A {@link ExerciseSolutionResultRepository}
-     *                                         that is injected to the {@link ResultsManager}.
-     * @param publisher                        An {@link ApplicationEventPublisher}
-     *                                         that is injected to the {@link ExamManager}.
+     * @param testCaseRepository                A {@link TestCaseRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param exerciseSolutionRepository        An {@link ExerciseSolutionRepository}
+     *                                          that is injected to the {@link ExamManager}.
+     * @param exerciseSolutionResultRepository  A {@link ExerciseSolutionResultRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param pendingExecutionRequestRepository A {@link PendingExecutionRequestRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param responsesCache                    An {@link ExecutionResponsesCache}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param publisher                         An {@link ApplicationEventPublisher}
+     *                                          that is injected to the {@link ExamManager}.
      */
     ResultsManagerHappyPathTest(
             @Mock(name = "testCaseRepository") final TestCaseRepository testCaseRepository,
             @Mock(name = "exerciseSolutionRepository") final ExerciseSolutionRepository exerciseSolutionRepository,
             @Mock(name = "resultRepository") final ExerciseSolutionResultRepository exerciseSolutionResultRepository,
+            @Mock(name = "pendingRequestRepository")
+            final PendingExecutionRequestRepository pendingExecutionRequestRepository,
+            @Mock(name = "responsesCache") final ExecutionResponsesCache responsesCache,
             @Mock(name = "eventPublisher") final ApplicationEventPublisher publisher) {
-        super(testCaseRepository, exerciseSolutionRepository, exerciseSolutionResultRepository, publisher);
+        super(
+                testCaseRepository,
+                exerciseSolutionRepository,
+                exerciseSolutionResultRepository,
+                pendingExecutionRequestRepository,
+                responsesCache,
+                publisher
+        );
     }
 
 
@@ -184,7 +207,6 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
         when(markedResult.getTestCase()).thenReturn(testCase);
         doNothing().when(markedResult).unmark();
         when(nonMarkedResult.isMarked()).thenReturn(false);
-        when(exerciseSolutionResultRepository.save(nonMarkedResult)).thenReturn(nonMarkedResult);
         when(exerciseSolutionResultRepository.find(solution)).thenReturn(List.of(markedResult, nonMarkedResult));
 
         resultsManager.retryForSolution(solutionId);
@@ -193,7 +215,7 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
         verify(exerciseSolutionRepository, only()).findById(solutionId);
         verifyZeroInteractions(testCaseRepository);
         verify(exerciseSolutionResultRepository, times(1)).find(solution);
-        verify(exerciseSolutionResultRepository, times(1)).save(markedResult);
+        verify(exerciseSolutionResultRepository, times(1)).saveAll(List.of(markedResult));
         verifyNoMoreInteractions(exerciseSolutionResultRepository);
         verify(publisher, only()).publishEvent(argThat(eventIsWellFormed(solution, testCase)));
     }
@@ -310,6 +332,56 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
         verify(publisher, only()).publishEvent(argThat(eventIsWellFormed(solution, testCase)));
     }
 
+    /**
+     * Tests retrying execution for an {@link ExerciseSolution} and a {@link TestCase},
+     * when the {@link ExecutionResponse} for them is already cached
+     * (i.e the result must be marked without sending the solution to run).
+     *
+     * @param result            An {@link ExerciseSolutionResult} mock (the one being retried).
+     * @param solution          The {@link ExerciseSolution}.
+     * @param testCase          The {@link TestCase}.
+     * @param exercise          The {@link Exercise} that belongs to the solution and the test case.
+     * @param executionResponse The cached {@link ExecutionResponse}.
+     */
+    @Test
+    void testRetryExecutionForSolutionAndTestCaseWithCachedResponse(
+            @Mock(name = "result") final ExerciseSolutionResult result,
+            @Mock(name = "solution", answer = RETURNS_DEEP_STUBS) final ExerciseSolution solution,
+            @Mock(name = "testCase") final TestCase testCase,
+            @Mock(name = "exercise") final Exercise exercise,
+            @Mock(name = "executionResponse") final ExecutionResponse executionResponse) {
+        final var solutionId = TestHelper.validExerciseSolutionId();
+        final var testCaseId = TestHelper.validTestCaseId();
+        final var expectedOutputs = TestHelper.validExerciseSolutionResultList();
+        when(exerciseSolutionRepository.findById(solutionId)).thenReturn(Optional.of(solution));
+        when(testCaseRepository.findById(testCaseId)).thenReturn(Optional.of(testCase));
+        when(exerciseSolutionResultRepository.find(solution, testCase)).thenReturn(Optional.of(result));
+        when(exerciseSolutionResultRepository.save(result)).thenReturn(result);
+        when(result.isMarked()).thenReturn(true);
+        when(result.getSolution()).thenReturn(solution);
+        when(result.getTestCase()).thenReturn(testCase);
+        when(solution.getAnswer()).thenReturn(createAnswer());
+        when(solution.getSubmission().getState()).thenReturn(ExamSolutionSubmission.State.SUBMITTED);
+        when(solution.getExercise()).thenReturn(exercise);
+        when(testCase.getExercise()).thenReturn(exercise);
+        when(testCase.getExpectedOutputs()).thenReturn(expectedOutputs);
+        when(executionResponse.getResult()).thenReturn(ExecutionResponse.ExecutionResult.COMPLETED);
+        when(executionResponse.getExitCode()).thenReturn(0);
+        when(executionResponse.getStdout()).thenReturn(expectedOutputs);
+        final var cachedTestCaseId = testCase.getId();
+        when(responsesCache.get(eq(solution), inputsOf(cachedTestCaseId))).thenReturn(Optional.of(executionResponse));
+
+        resultsManager.retryForSolutionAndTestCase(solutionId, testCaseId);
+
+        verify(result, times(1)).unmark();
+        verify(result, times(1)).mark(ExerciseSolutionResult.Result.APPROVED);
+        verify(exerciseSolutionResultRepository, times(1)).find(solution, testCase);
+        verify(exerciseSolutionResultRepository, times(1)).save(result);
+        verifyNoMoreInteractions(exerciseSolutionResultRepository);
+        verify(responsesCache, only()).get(eq(solution), inputsOf(cachedTestCaseId));
+        verifyZeroInteractions(publisher);
+    }
+
 
     // ================================================================================================================
     // ExamSolutionSubmittedEvent reception
@@ -458,6 +530,52 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
         );
     }
 
+    /**
+     * Tests that only the first stage of a solution (i.e the public test cases) is sent to run
+     * when an {@link ExamSolutionSubmittedEvent} is received for an {@link Exam}
+     * that uses the {@link Exam.EvaluationPolicy#EARLY_EXIT} policy.
+     *
+     * @param event           A {@link ExamSolutionSubmittedEvent} mock that is received by the manager.
+     * @param submission      An {@link ExamSolutionSubmission} mock.
+     * @param exam            The {@link Exam} mock to which the submission belongs.
+     * @param exercise        An {@link Exercise} mock.
+     * @param publicTestCase  A public {@link TestCase} mock.
+     * @param privateTestCase A private {@link TestCase} mock.
+     * @param solution        An {@link ExerciseSolution} mock.
+     */
+    @Test
+    void testExamSolutionSubmissionEventWithEarlyExitPolicy(
+            @Mock(name = "event") final ExamSolutionSubmittedEvent event,
+            @Mock(name = "submission") final ExamSolutionSubmission submission,
+            @Mock(name = "exam") final Exam exam,
+            @Mock(name = "exercise") final Exercise exercise,
+            @Mock(name = "publicTestCase") final TestCase publicTestCase,
+            @Mock(name = "privateTestCase") final TestCase privateTestCase,
+            @Mock(name = "solution") final ExerciseSolution solution) {
+        when(event.getSubmission()).thenReturn(submission);
+        when(submission.getExam()).thenReturn(exam);
+        when(exam.getEvaluationPolicy()).thenReturn(Exam.EvaluationPolicy.EARLY_EXIT);
+        when(exerciseSolutionRepository.getExerciseSolutions(submission)).thenReturn(List.of(solution));
+        when(solution.getExercise()).thenReturn(exercise);
+        when(solution.getAnswer()).thenReturn(createAnswer());
+        when(testCaseRepository.getAllTestCases(exercise)).thenReturn(List.of(privateTestCase, publicTestCase));
+        when(publicTestCase.getVisibility()).thenReturn(TestCase.Visibility.PUBLIC);
+        when(privateTestCase.getVisibility()).thenReturn(TestCase.Visibility.PRIVATE);
+
+        resultsManager.examSolutionSubmitted(event);
+
+        verify(exerciseSolutionResultRepository, only())
+                .saveAll(
+                        argThat(
+                                (final Iterable<ExerciseSolutionResult> results) ->
+                                        StreamSupport.stream(results.spliterator(), false)
+                                                .filter(not(ExerciseSolutionResult::isMarked))
+                                                .count() == 2
+                        )
+                );
+        verify(publisher, only()).publishEvent(argThat(eventIsWellFormed(solution, publicTestCase)));
+    }
+
 
     // ================================================================================================================
     // ExecutionResponseArrivedEvent
@@ -575,7 +693,8 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
 
     /**
      * Performs an {@link ExecutionResponseArrivedEvent} received test,
-     * in which the {@link ExecutionResponse} has a {@link ExecutionResponse.ExecutionResult#COMPILE_ERROR} result.
+     * in which the {@link ExecutionResponse} has a {@link ExecutionResponse.ExecutionResult#COMPILE_ERROR} result
+     * (which must discard the rest of the solution's pending executions).
      *
      * @param event             An {@link ExecutionResponseArrivedEvent} mock that is received by the manager.
      * @param executionResponse An {@link ExecutionResponse} mock which is returned by the event.
@@ -643,11 +762,262 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
         );
     }
 
+    /**
+     * Tests that the rest of the pending executions of a solution are skipped when a response that does not approve
+     * the said solution arrives, for an {@link Exam} that uses the {@link Exam.EvaluationPolicy#EARLY_EXIT} policy.
+     *
+     * @param event             An {@link ExecutionResponseArrivedEvent} mock that is received by the manager.
+     * @param solutionResult    An {@link ExerciseSolutionResult} mock which is the one being affected.
+     * @param executionResponse An {@link ExecutionResponse} mock which is returned by the event.
+     */
+    @Test
+    void testProcessExecutionWithEarlyExitPolicyAndNotApprovedResult(
+            @Mock(name = "event") final ExecutionResponseArrivedEvent event,
+            @Mock(name = "solutionResult", answer = RETURNS_DEEP_STUBS) final ExerciseSolutionResult solutionResult,
+            @Mock(name = "executionResponse") final ExecutionResponse executionResponse) {
+        final var solution = solutionResult.getSolution();
+        setupEarlyExitResponse(event, solutionResult, executionResponse);
+        when(executionResponse.getResult()).thenReturn(ExecutionResponse.ExecutionResult.TIMEOUT);
+        when(solutionResult.getResult()).thenReturn(ExerciseSolutionResult.Result.TIMED_OUT);
+
+        resultsManager.receiveExecutionResponse(event);
+
+        verify(solutionResult, times(1)).mark(ExerciseSolutionResult.Result.TIMED_OUT);
+        verify(pendingExecutionRequestRepository, only()).deleteBySolution(solution);
+        verify(exerciseSolutionResultRepository, times(1)).markPending(solution, ExerciseSolutionResult.Result.SKIPPED);
+        verify(exerciseSolutionResultRepository, never()).find(solution);
+        verifyZeroInteractions(exerciseSolutionRepository);
+        verifyZeroInteractions(publisher);
+    }
+
+    /**
+     * Tests that the next stage of a solution is sent to run when the response that completes the current stage
+     * arrives approving the said solution, for an {@link Exam} that uses the {@link Exam.EvaluationPolicy#EARLY_EXIT}
+     * policy.
+     *
+     * @param event             An {@link ExecutionResponseArrivedEvent} mock that is received by the manager.
+     * @param solutionResult    An {@link ExerciseSolutionResult} mock which is the one being affected
+     *                          (belonging to a public {@link TestCase}).
+     * @param executionResponse An {@link ExecutionResponse} mock which is returned by the event.
+     * @param privateResult     An unmarked {@link ExerciseSolutionResult} mock belonging to a private {@link TestCase}.
+     * @param privateTestCase   The private {@link TestCase} mock.
+     */
+    @Test
+    void testProcessExecutionWithEarlyExitPolicyAndCompletedStage(
+            @Mock(name = "event") final ExecutionResponseArrivedEvent event,
+            @Mock(name = "solutionResult", answer = RETURNS_DEEP_STUBS) final ExerciseSolutionResult solutionResult,
+            @Mock(name = "executionResponse") final ExecutionResponse executionResponse,
+            @Mock(name = "privateResult") final ExerciseSolutionResult privateResult,
+            @Mock(name = "privateTestCase") final TestCase privateTestCase) {
+        final var solution = solutionResult.getSolution();
+        final var expectedOutputs = TestHelper.validExerciseSolutionResultList();
+        setupEarlyExitResponse(event, solutionResult, executionResponse);
+        when(executionResponse.getResult()).thenReturn(ExecutionResponse.ExecutionResult.COMPLETED);
+        when(executionResponse.getExitCode()).thenReturn(0);
+        when(executionResponse.getStdout()).thenReturn(expectedOutputs);
+        when(solutionResult.getTestCase().getExpectedOutputs()).thenReturn(expectedOutputs);
+        when(solutionResult.getTestCase().getVisibility()).thenReturn(TestCase.Visibility.PUBLIC);
+        when(solutionResult.getResult()).thenReturn(ExerciseSolutionResult.Result.APPROVED);
+        when(solutionResult.isMarked()).thenReturn(true);
+        when(privateResult.getSolution()).thenReturn(solution);
+        when(privateResult.getTestCase()).thenReturn(privateTestCase);
+        when(privateResult.isMarked()).thenReturn(false);
+        when(privateTestCase.getVisibility()).thenReturn(TestCase.Visibility.PRIVATE);
+        final var solutionResults = List.of(solutionResult, privateResult);
+        when(exerciseSolutionResultRepository.find(solution)).thenReturn(solutionResults);
+
+        resultsManager.receiveExecutionResponse(event);
+
+        verify(solutionResult, times(1)).mark(ExerciseSolutionResult.Result.APPROVED);
+        verify(privateResult, never()).mark(any());
+        verify(exerciseSolutionRepository, only()).lock(solution);
+        verify(exerciseSolutionResultRepository, times(1)).saveAll(solutionResults);
+        verify(exerciseSolutionResultRepository, never()).markPending(any(), any());
+        verifyZeroInteractions(pendingExecutionRequestRepository);
+        verify(publisher, only()).publishEvent(argThat(eventIsWellFormed(solution, privateTestCase)));
+    }
+
+
+
+    /**
+     * Tests that a response to an execution that is not the last one dispatched for a result is discarded.
+     *
+     * @param event             An {@link ExecutionResponseArrivedEvent} mock that is received by the manager.
+     * @param solutionResult    An {@link ExerciseSolutionResult} mock which is the one being affected.
+     * @param executionResponse An {@link ExecutionResponse} mock which is returned by the event.
+     */
+    @Test
+    void testProcessExecutionWithStaleResponse(
+            @Mock(name = "event") final ExecutionResponseArrivedEvent event,
+            @Mock(name = "solutionResult") final ExerciseSolutionResult solutionResult,
+            @Mock(name = "executionResponse") final ExecutionResponse executionResponse) {
+        final var dispatchedAt = Instant.now();
+        when(solutionResult.isMarked()).thenReturn(false);
+        when(solutionResult.getDispatchedAt()).thenReturn(dispatchedAt);
+        when(event.getDispatchedAt()).thenReturn(dispatchedAt.minusSeconds(1));
+        testDiscardedResponse(event, solutionResult, executionResponse);
+    }
 
+    /**
+     * Tests that a response for an already marked result (i.e a duplicated one) is discarded.
+     *
+     * @param event             An {@link ExecutionResponseArrivedEvent} mock that is received by the manager.
+     * @param solutionResult    An {@link ExerciseSolutionResult} mock which is the one being affected.
+     * @param executionResponse An {@link ExecutionResponse} mock which is returned by the event.
+     */
+    @Test
+    void testProcessExecutionWithDuplicatedResponse(
+            @Mock(name = "event") final ExecutionResponseArrivedEvent event,
+            @Mock(name = "solutionResult") final ExerciseSolutionResult solutionResult,
+            @Mock(name = "executionResponse") final ExecutionResponse executionResponse) {
+        when(solutionResult.isMarked()).thenReturn(true);
+        testDiscardedResponse(event, solutionResult, executionResponse);
+    }
+
+
+    // ================================================================================================================
+    // ExecutionResponsesArrivedEvent
+    // ================================================================================================================
+
+    /**
+     * Tests that the results of a batch of execution responses are loaded and saved together,
+     * rejecting the responses whose result does not exist.
+     *
+     * @param solutionResult1    An {@link ExerciseSolutionResult} mock affected by the batch.
+     * @param solutionResult2    Another {@link ExerciseSolutionResult} mock affected by the batch.
+     * @param executionResponse1 The {@link ExecutionResponse} mock for the first result.
+     * @param executionResponse2 The {@link ExecutionResponse} mock for the second result.
+     * @param orphanResponse     An {@link ExecutionResponse} mock for a result that does not exist.
+     */
+    @Test
+    void testReceiveExecutionResponses(
+            @Mock(name = "solutionResult1", answer = RETURNS_DEEP_STUBS) final ExerciseSolutionResult solutionResult1,
+            @Mock(name = "solutionResult2", answer = RETURNS_DEEP_STUBS) final ExerciseSolutionResult solutionResult2,
+            @Mock(name = "executionResponse1") final ExecutionResponse executionResponse1,
+            @Mock(name = "executionResponse2") final ExecutionResponse executionResponse2,
+            @Mock(name = "orphanResponse") final ExecutionResponse orphanResponse) {
+        final var testCaseId = TestHelper.validTestCaseId();
+        setupBatchedResult(solutionResult1, 1, testCaseId);
+        setupBatchedResult(solutionResult2, 2, testCaseId);
+        when(executionResponse1.getResult()).thenReturn(ExecutionResponse.ExecutionResult.TIMEOUT);
+        when(executionResponse2.getResult()).thenReturn(ExecutionResponse.ExecutionResult.UNKNOWN_ERROR);
+        when(exerciseSolutionResultRepository.find(Set.of(1L, 2L, 3L), Set.of(testCaseId)))
+                .thenReturn(List.of(solutionResult1, solutionResult2));
+
+        resultsManager.receiveExecutionResponses(
+                ExecutionResponsesArrivedEvent.create(
+                        List.of(
+                                ExecutionResponseArrivedEvent.create(1, testCaseId, executionResponse1, null),
+                                ExecutionResponseArrivedEvent.create(2, testCaseId, executionResponse2, null),
+                                ExecutionResponseArrivedEvent.create(3, testCaseId, orphanResponse, null)
+                        )
+                )
+        );
+
+        verifyZeroInteractions(exerciseSolutionRepository);
+        verifyZeroInteractions(testCaseRepository);
+        verifyZeroInteractions(orphanResponse);
+        verify(solutionResult1, times(1)).mark(ExerciseSolutionResult.Result.TIMED_OUT);
+        verify(solutionResult2, times(1)).mark(ExerciseSolutionResult.Result.UNKNOWN_ERROR);
+        verify(exerciseSolutionResultRepository, times(1)).find(Set.of(1L, 2L, 3L), Set.of(testCaseId));
+        verify(exerciseSolutionResultRepository, times(1))
+                .saveAll(
+                        argThat(
+                                (final Iterable<ExerciseSolutionResult> results) ->
+                                        StreamSupport.stream(results.spliterator(), false)
+                                                .collect(Collectors.toList())
+                                                .equals(List.of(solutionResult1, solutionResult2))
+                        )
+                );
+        verifyNoMoreInteractions(exerciseSolutionResultRepository);
+        final var testCaseId1 = solutionResult1.getTestCase().getId();
+        final var testCaseId2 = solutionResult2.getTestCase().getId();
+        verify(responsesCache, times(1))
+                .put(
+                        eq(solutionResult1.getSolution()),
+                        inputsOf(testCaseId1),
+                        eq(executionResponse1)
+                );
+        verify(responsesCache, times(1))
+                .put(
+                        eq(solutionResult2.getSolution()),
+                        inputsOf(testCaseId2),
+                        eq(executionResponse2)
+                );
+        verifyZeroInteractions(pendingExecutionRequestRepository);
+        verify(publisher, only()).publishEvent(ExecutionResponseRejectedEvent.create(3, testCaseId));
+    }
+
+    // ================================================================================================================
+    // ExecutionAbandonedEvent
+    // ================================================================================================================
+
+    /**
+     * Tests that an abandoned execution is marked as {@link ExerciseSolutionResult.Result#UNKNOWN_ERROR}.
+     *
+     * @param solutionResult An {@link ExerciseSolutionResult} mock whose execution is abandoned.
+     */
+    @Test
+    void testExecutionAbandoned(
+            @Mock(name = "solutionResult", answer = RETURNS_DEEP_STUBS) final ExerciseSolutionResult solutionResult) {
+        when(solutionResult.getSolution().getSubmission().getExam().getEvaluationPolicy())
+                .thenReturn(Exam.EvaluationPolicy.COMPLETE);
+        when(exerciseSolutionResultRepository.save(solutionResult)).thenReturn(solutionResult);
+
+        resultsManager.executionAbandoned(ExecutionAbandonedEvent.create(solutionResult));
+
+        verify(solutionResult, times(1)).mark(ExerciseSolutionResult.Result.UNKNOWN_ERROR);
+        verify(exerciseSolutionResultRepository, only()).save(solutionResult);
+        verifyZeroInteractions(pendingExecutionRequestRepository);
+        verifyZeroInteractions(responsesCache);
+        verifyZeroInteractions(publisher);
+    }
     // ================================================================================================================
     // Helpers
     // ================================================================================================================
 
+    /**
+     * Configures the mocks for an {@link ExecutionResponseArrivedEvent} received test
+     * for an {@link Exam} that uses the {@link Exam.EvaluationPolicy#EARLY_EXIT} policy.
+     *
+     * @param event             An {@link ExecutionResponseArrivedEvent} mock that is received by the manager.
+     * @param solutionResult    An {@link ExerciseSolutionResult} mock (with deep stubs enabled)
+     *                          which is the one being affected.
+     * @param executionResponse An {@link ExecutionResponse} mock which is returned by the event.
+     */
+    private void setupEarlyExitResponse(
+            final ExecutionResponseArrivedEvent event,
+            final ExerciseSolutionResult solutionResult,
+            final ExecutionResponse executionResponse) {
+        final var testCaseId = TestHelper.validTestCaseId();
+        final var solutionId = TestHelper.validExerciseSolutionId();
+        when(event.getTestCaseId()).thenReturn(testCaseId);
+        when(event.getSolutionId()).thenReturn(solutionId);
+        when(event.getResponse()).thenReturn(executionResponse);
+        when(solutionResult.getSolution().getSubmission().getExam().getEvaluationPolicy())
+                .thenReturn(Exam.EvaluationPolicy.EARLY_EXIT);
+        when(exerciseSolutionResultRepository.find(solutionId, testCaseId)).thenReturn(Optional.of(solutionResult));
+        when(exerciseSolutionResultRepository.save(solutionResult)).thenReturn(solutionResult);
+    }
+
+    /**
+     * Configures the given {@code solutionResult} mock in order to be affected by a batch of execution responses,
+     * for an {@link Exam} that uses the {@link Exam.EvaluationPolicy#COMPLETE} policy.
+     *
+     * @param solutionResult An {@link ExerciseSolutionResult} mock (with deep stubs enabled).
+     * @param solutionId     The id of the result's {@link ExerciseSolution}.
+     * @param testCaseId     The id of the result's {@link TestCase}.
+     */
+    private static void setupBatchedResult(
+            final ExerciseSolutionResult solutionResult,
+            final long solutionId,
+            final long testCaseId) {
+        when(solutionResult.getSolution().getId()).thenReturn(solutionId);
+        when(solutionResult.getTestCase().getId()).thenReturn(testCaseId);
+        when(solutionResult.getSolution().getSubmission().getExam().getEvaluationPolicy())
+                .thenReturn(Exam.EvaluationPolicy.COMPLETE);
+    }
+
     /**
      * Creates an {@link ExerciseSolution} answer with text.
      *
@@ -674,6 +1044,9 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
         solutionData2.setupSolutionMock();
         solutionData1.setupRepositories(testCaseRepository);
         solutionData2.setupRepositories(testCaseRepository);
+        final var exam = mock(Exam.class);
+        when(exam.getEvaluationPolicy()).thenReturn(Exam.EvaluationPolicy.COMPLETE);
+        when(submission.getExam()).thenReturn(exam);
         when(event.getSubmission()).thenReturn(submission);
         when(exerciseSolutionRepository.getExerciseSolutions(submission))
                 .thenReturn(List.of(solutionData1.getSolution(), solutionData2.getSolution()));
@@ -684,8 +1057,14 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
         solutionData1.verifyTestCaseRepositoryAccesses(testCaseRepository);
         solutionData2.verifyTestCaseRepositoryAccesses(testCaseRepository);
         verifyNoMoreInteractions(testCaseRepository);
-        solutionData1.verifyExerciseSolutionResultRepositoryAccesses(exerciseSolutionResultRepository);
-        solutionData2.verifyExerciseSolutionResultRepositoryAccesses(exerciseSolutionResultRepository);
+        verify(exerciseSolutionResultRepository, times(1))
+                .saveAll(
+                        argThat(
+                                (final Iterable<ExerciseSolutionResult> results) ->
+                                        solutionData1.resultsAreWellFormed(results)
+                                                && solutionData2.resultsAreWellFormed(results)
+                        )
+                );
         verifyNoMoreInteractions(exerciseSolutionResultRepository);
         solutionData1.verifyExecutionRequestEventPublishing(publisher);
         solutionData2.verifyExecutionRequestEventPublishing(publisher);
@@ -694,6 +1073,37 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
 
     }
 
+    /**
+     * Performs an {@link ExecutionResponseArrivedEvent} received test in which the response must be discarded
+     * (i.e the result is not marked, and neither saved nor cached).
+     *
+     * @param event             An {@link ExecutionResponseArrivedEvent} mock that is received by the manager.
+     * @param solutionResult    An {@link ExerciseSolutionResult} mock which is the one being affected.
+     * @param executionResponse An {@link ExecutionResponse} mock which is returned by the event.
+     */
+    private void testDiscardedResponse(
+            final ExecutionResponseArrivedEvent event,
+            final ExerciseSolutionResult solutionResult,
+            final ExecutionResponse executionResponse) {
+        final var testCaseId = TestHelper.validTestCaseId();
+        final var solutionId = TestHelper.validExerciseSolutionId();
+        when(event.getTestCaseId()).thenReturn(testCaseId);
+        when(event.getSolutionId()).thenReturn(solutionId);
+        when(event.getResponse()).thenReturn(executionResponse);
+        when(exerciseSolutionResultRepository.find(solutionId, testCaseId)).thenReturn(Optional.of(solutionResult));
+
+        resultsManager.receiveExecutionResponse(event);
+
+        verify(solutionResult, never()).mark(any());
+        verify(exerciseSolutionResultRepository, only()).find(solutionId, testCaseId);
+        verifyZeroInteractions(executionResponse);
+        verifyZeroInteractions(exerciseSolutionRepository);
+        verifyZeroInteractions(testCaseRepository);
+        verifyZeroInteractions(pendingExecutionRequestRepository);
+        verifyZeroInteractions(responsesCache);
+        verifyZeroInteractions(publisher);
+    }
+
     /**
      * Performs an {@link ExecutionResponseArrivedEvent} received test.
      *
@@ -745,6 +1155,18 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
         verify(exerciseSolutionResultRepository, times(1)).find(solutionId, testCaseId);
         verify(exerciseSolutionResultRepository, times(1)).save(solutionResult);
         verifyNoMoreInteractions(exerciseSolutionRepository);
+        final var cachedTestCaseId = solutionResult.getTestCase().getId();
+        verify(responsesCache, only())
+                .put(eq(solutionResult.getSolution()), inputsOf(cachedTestCaseId), eq(executionResponse));
+        if (expectedResult == ExerciseSolutionResult.Result.NOT_COMPILED) {
+            // The rest of the solution's pending executions must be discarded
+            verify(pendingExecutionRequestRepository, only()).deleteBySolution(solutionResult.getSolution());
+            verify(exerciseSolutionResultRepository, times(1))
+                    .markPending(solutionResult.getSolution(), ExerciseSolutionResult.Result.NOT_COMPILED);
+        } else {
+            verifyZeroInteractions(pendingExecutionRequestRepository);
+            verify(exerciseSolutionResultRepository, never()).markPending(any(), any());
+        }
         verifyZeroInteractions(publisher);
     }
 
@@ -809,17 +1231,22 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
         }
 
         /**
-         * Performs verification over the given {@code repository}
-         * (i.e checks that the {@link ExerciseSolutionResultRepository#save(ExerciseSolutionResult)} method
-         * is called using one {@link ExerciseSolutionResult}s with the {@code solution} and {@code testCase1},
-         * and with another for the {@code testCase2}.
+         * Checks that the given {@code results} (i.e those saved in bulk in the
+         * {@link ExerciseSolutionResultRepository}) contain exactly one {@link ExerciseSolutionResult}
+         * with the {@code solution} and {@code testCase1}, and exactly one for the {@code testCase2},
+         * both of them in the expected state.
          *
-         * @param repository The {@link ExerciseSolutionResultRepository} to be verified.
+         * @param results The {@link ExerciseSolutionResult}s to be checked.
+         * @return {@code true} if the results are well formed, or {@code false} otherwise.
          */
-        private void verifyExerciseSolutionResultRepositoryAccesses(final ExerciseSolutionResultRepository repository) {
+        private boolean resultsAreWellFormed(final Iterable<ExerciseSolutionResult> results) {
             final var stateMatcher = isAnswered() ? isNotMarkedMatcher() : isNotAnsweredMatcher();
-            verify(repository, times(1)).save(argThat(and(resultIsWellFormed(solution, testCase1), stateMatcher)));
-            verify(repository, times(1)).save(argThat(and(resultIsWellFormed(solution, testCase2), stateMatcher)));
+            final var testCase1Matcher = and(resultIsWellFormed(solution, testCase1), stateMatcher);
+            final var testCase2Matcher = and(resultIsWellFormed(solution, testCase2), stateMatcher);
+            final var resultsList = StreamSupport.stream(results.spliterator(), false)
+                    .collect(Collectors.toList());
+            return resultsList.stream().filter(testCase1Matcher::matches).count() == 1
+                    && resultsList.stream().filter(testCase2Matcher::matches).count() == 1;
         }
 
         /**
@@ -909,4 +1336,15 @@ class ResultsManagerHappyPathTest extends AbstractResultsManagerTest {
             final TestCase testCase) {
         return event -> event.getSolution().equals(solution) && event.getTestCase().equals(testCase);
     }
+
+    /**
+     * Matches the {@link ExecutionResponsesCache.TestCaseInputs} of the {@link TestCase}
+     * with the given {@code testCaseId}.
+     *
+     * @param testCaseId The id of the {@link TestCase} whose inputs are expected.
+     * @return {@code null} (the matcher is registered in Mockito).
+     */
+    private static ExecutionResponsesCache.TestCaseInputs inputsOf(final long testCaseId) {
+        return argThat(inputs -> inputs != null && inputs.getTestCaseId() == testCaseId);
+    }
 }
@@ -1,9 +1,12 @@
 package ar.edu.itba.cep.evaluations_service.domain.managers;
 
 import ar.edu.itba.cep.evaluations_service.domain.events.ExamSolutionSubmittedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionAbandonedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponseArrivedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionResponsesArrivedEvent;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingExecutionRequestRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.TestCaseRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -12,6 +15,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
+
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
@@ -25,21 +30,35 @@ class ResultsManagerIllegalArgumentsTest extends AbstractResultsManagerTest {
     /**
      * Constructor.
      *
-     * @param testCaseRepository               A {@link TestCaseRepository}
-     *                                         that is injected to the {@link ResultsManager}.
-     * @param exerciseSolutionRepository       An {@link ExerciseSolutionRepository}
-     *                                         that is injected to the {@link ExamManager}.
-     * @param exerciseSolutionResultRepository A {@link ExerciseSolutionResultRepository}
-     *                                         that is injected to the {@link ResultsManager}.
-     * @param publisher                        An {@link ApplicationEventPublisher}
-     *                                         that is injected to the {@link ExamManager}.
+     * @param testCaseRepository                A {@link TestCaseRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param exerciseSolutionRepository        An {@link ExerciseSolutionRepository}
+     *                                          that is injected to the {@link ExamManager}.
+     * @param exerciseSolutionResultRepository  A {@link ExerciseSolutionResultRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param pendingExecutionRequestRepository A {@link PendingExecutionRequestRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param responsesCache                    An {@link ExecutionResponsesCache}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param publisher                         An {@link ApplicationEventPublisher}
+     *                                          that is injected to the {@link ExamManager}.
      */
     ResultsManagerIllegalArgumentsTest(
             @Mock(name = "testCaseRepository") final TestCaseRepository testCaseRepository,
             @Mock(name = "exerciseSolutionRepository") final ExerciseSolutionRepository exerciseSolutionRepository,
             @Mock(name = "resultRepository") final ExerciseSolutionResultRepository exerciseSolutionResultRepository,
+            @Mock(name = "pendingRequestRepository")
+            final PendingExecutionRequestRepository pendingExecutionRequestRepository,
+            @Mock(name = "responsesCache") final ExecutionResponsesCache responsesCache,
             @Mock(name = "eventPublisher") final ApplicationEventPublisher publisher) {
-        super(testCaseRepository, exerciseSolutionRepository, exerciseSolutionResultRepository, publisher);
+        super(
+                testCaseRepository,
+                exerciseSolutionRepository,
+                exerciseSolutionResultRepository,
+                pendingExecutionRequestRepository,
+                responsesCache,
+                publisher
+        );
     }
 
 
@@ -105,6 +124,51 @@ class ResultsManagerIllegalArgumentsTest extends AbstractResultsManagerTest {
         verifyNoInteractionsWithMocks();
     }
 
+    /**
+     * Tests the reception of a {@code null} {@link ExecutionResponsesArrivedEvent}.
+     */
+    @Test
+    void testNullExecutionResponsesArrivedEvent() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> resultsManager.receiveExecutionResponses(null),
+                "The reception of a null batch of results event does not throw an IllegalArgumentException"
+        );
+        verifyNoInteractionsWithMocks();
+    }
+
+    /**
+     * Tests the reception of an {@link ExecutionResponsesArrivedEvent}
+     * containing a response that returns a {@code null} {@link ar.edu.itba.cep.executor.models.ExecutionResponse}.
+     *
+     * @param response An {@link ExecutionResponseArrivedEvent} mock contained in the batch.
+     */
+    @Test
+    void testExecutionResponsesArrivedEventWithNullResult(
+            @Mock(name = "response") final ExecutionResponseArrivedEvent response) {
+        when(response.getResponse()).thenReturn(null);
+        final var event = ExecutionResponsesArrivedEvent.create(List.of(response));
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> resultsManager.receiveExecutionResponses(event),
+                "The reception of a batch with a null result does not throw an IllegalArgumentException"
+        );
+        verifyNoInteractionsWithMocks();
+    }
+
+    /**
+     * Tests the reception of a {@code null} {@link ExecutionAbandonedEvent}.
+     */
+    @Test
+    void testNullExecutionAbandonedEvent() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> resultsManager.executionAbandoned(null),
+                "The reception of a null abandoned execution event does not throw an IllegalArgumentException"
+        );
+        verifyNoInteractionsWithMocks();
+    }
+
 
     // ================================================================================================================
     // Helpers
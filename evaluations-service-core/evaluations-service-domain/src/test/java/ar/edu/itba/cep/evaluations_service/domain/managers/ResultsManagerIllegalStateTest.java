@@ -7,6 +7,7 @@ import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
 import ar.edu.itba.cep.evaluations_service.models.TestCase;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingExecutionRequestRepository;
 import ar.edu.itba.cep.evaluations_service.repositories.TestCaseRepository;
 import com.bellotapps.webapps_commons.exceptions.IllegalEntityStateException;
 import org.junit.jupiter.api.Assertions;
@@ -32,21 +33,35 @@ class ResultsManagerIllegalStateTest extends AbstractResultsManagerTest {
     /**
      * Constructor.
      *
-     * @param testCaseRepository               A {@link TestCaseRepository}
-     *                                         that is injected to the {@link ResultsManager}.
-     * @param exerciseSolutionRepository       An {@link ExerciseSolutionRepository}
-     *                                         that is injected to the {@link ExamManager}.
-     * @param exerciseSolutionResultRepository A {@link ExerciseSolutionResultRepository}
-     *                                         that is injected to the {@link ResultsManager}.
-     * @param publisher                        An {@link ApplicationEventPublisher}
-     *                                         that is injected to the {@link ExamManager}.
+     * @param testCaseRepository                A {@link TestCaseRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param exerciseSolutionRepository        An {@link ExerciseSolutionRepository}
+     *                                          that is injected to the {@link ExamManager}.
+     * @param exerciseSolutionResultRepository  A {@link ExerciseSolutionResultRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param pendingExecutionRequestRepository A {@link PendingExecutionRequestRepository}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param responsesCache                    An {@link ExecutionResponsesCache}
+     *                                          that is injected to the {@link ResultsManager}.
+     * @param publisher                         An {@link ApplicationEventPublisher}
+     *                                          that is injected to the {@link ExamManager}.
      */
     ResultsManagerIllegalStateTest(
             @Mock(name = "testCaseRepository") final TestCaseRepository testCaseRepository,
             @Mock(name = "exerciseSolutionRepository") final ExerciseSolutionRepository exerciseSolutionRepository,
             @Mock(name = "resultRepository") final ExerciseSolutionResultRepository exerciseSolutionResultRepository,
+            @Mock(name = "pendingRequestRepository")
+            final PendingExecutionRequestRepository pendingExecutionRequestRepository,
+            @Mock(name = "responsesCache") final ExecutionResponsesCache responsesCache,
             @Mock(name = "eventPublisher") final ApplicationEventPublisher publisher) {
-        super(testCaseRepository, exerciseSolutionRepository, exerciseSolutionResultRepository, publisher);
+        super(
+                testCaseRepository,
+                exerciseSolutionRepository,
+                exerciseSolutionResultRepository,
+                pendingExecutionRequestRepository,
+                responsesCache,
+                publisher
+        );
     }
 
 
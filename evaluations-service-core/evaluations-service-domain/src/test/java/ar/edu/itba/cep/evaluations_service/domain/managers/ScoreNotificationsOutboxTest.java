@@ -0,0 +1,211 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
+import ar.edu.itba.cep.evaluations_service.models.PendingScoreNotification;
+import ar.edu.itba.cep.evaluations_service.repositories.PendingScoreNotificationRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link ScoreNotificationsOutbox}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ScoreNotificationsOutboxTest {
+
+    /**
+     * The amount of notifications taken from the outbox in each test.
+     */
+    private static final int AMOUNT = 10;
+    /**
+     * The lease of the taken notifications.
+     */
+    private static final long LEASE = 60_000;
+    /**
+     * The backoff of the notifications failing for the first time.
+     */
+    private static final long BACKOFF = 5_000;
+    /**
+     * The max. backoff of the failed notifications.
+     */
+    private static final long MAX_BACKOFF = 3_600_000;
+
+
+    // ================================================================================================================
+    // Mocks
+    // ================================================================================================================
+
+    /**
+     * A {@link PendingScoreNotificationRepository} mock that is injected to the {@link ScoreNotificationsOutbox}.
+     */
+    private final PendingScoreNotificationRepository notificationRepository;
+
+
+    // ================================================================================================================
+    // Outbox
+    // ================================================================================================================
+
+    /**
+     * The {@link ScoreNotificationsOutbox} being tested.
+     */
+    private final ScoreNotificationsOutbox outbox;
+
+
+    // ================================================================================================================
+    // Constructor
+    // ================================================================================================================
+
+    /**
+     * Constructor.
+     *
+     * @param notificationRepository A {@link PendingScoreNotificationRepository} mock
+     *                               that is injected to the {@link ScoreNotificationsOutbox}.
+     */
+    ScoreNotificationsOutboxTest(
+            @Mock(name = "notificationRepository") final PendingScoreNotificationRepository notificationRepository) {
+        this.notificationRepository = notificationRepository;
+        this.outbox = new ScoreNotificationsOutbox(notificationRepository, LEASE, BACKOFF, MAX_BACKOFF);
+    }
+
+
+    /**
+     * Tests that adding a scored submission stores a notification for it.
+     *
+     * @param submission The scored {@link ExamSolutionSubmission}.
+     */
+    @Test
+    void testAdd(@Mock(name = "submission") final ExamSolutionSubmission submission) {
+        outbox.add(submission);
+
+        verify(notificationRepository, only()).save(argThat(notification ->
+                notification.getSubmission() == submission && notification.getFailedAttempts() == 0
+        ));
+    }
+
+    /**
+     * Tests that taking notifications from an empty outbox returns no scoring requests.
+     */
+    @Test
+    void testTakeDueWithEmptyOutbox() {
+        final var now = Instant.now();
+        when(notificationRepository.getDueForUpdate(now, AMOUNT)).thenReturn(Collections.emptyList());
+
+        Assertions.assertTrue(
+                outbox.takeDue(AMOUNT, now).isEmpty(),
+                "Scoring requests are being returned when the outbox is empty"
+        );
+        verify(notificationRepository, only()).getDueForUpdate(now, AMOUNT);
+    }
+
+    /**
+     * Tests that taking due notifications postpones them for the lease duration,
+     * and returns the scoring request of each of them.
+     *
+     * @param notification The {@link PendingScoreNotification} being taken.
+     * @param submission   The scored {@link ExamSolutionSubmission}.
+     * @param exam         The {@link Exam} of the {@code submission}.
+     */
+    @Test
+    void testTakeDue(
+            @Mock(name = "notification") final PendingScoreNotification notification,
+            @Mock(name = "submission") final ExamSolutionSubmission submission,
+            @Mock(name = "exam") final Exam exam) {
+        final var notificationId = 1L;
+        final var examId = TestHelper.validExamId();
+        final var score = TestHelper.validScore();
+        when(notification.getId()).thenReturn(notificationId);
+        when(notification.getSubmission()).thenReturn(submission);
+        when(submission.getExam()).thenReturn(exam);
+        when(submission.getSubmitter()).thenReturn("submitter");
+        when(submission.getScore()).thenReturn(score);
+        when(exam.getId()).thenReturn(examId);
+        final var now = Instant.now();
+        when(notificationRepository.getDueForUpdate(now, AMOUNT)).thenReturn(List.of(notification));
+
+        final var requests = outbox.takeDue(AMOUNT, now);
+
+        Assertions.assertAll(
+                "The taken notifications are not the expected",
+                () -> Assertions.assertEquals(Set.of(notificationId), requests.keySet(), "Wrong notifications"),
+                () -> Assertions.assertEquals(examId, requests.get(notificationId).getExamId(), "Wrong exam"),
+                () -> Assertions.assertEquals(
+                        "submitter",
+                        requests.get(notificationId).getSubject(),
+                        "Wrong subject"
+                ),
+                () -> Assertions.assertEquals(score, requests.get(notificationId).getScore(), "Wrong score")
+        );
+        verify(notification, times(1)).postpone(now.plusMillis(LEASE));
+        verify(notificationRepository, only()).getDueForUpdate(now, AMOUNT);
+    }
+
+    /**
+     * Tests that registering the outcomes of the deliveries removes the delivered notifications,
+     * and registers the failure of the others with an exponential backoff.
+     *
+     * @param failed The {@link PendingScoreNotification} whose delivery failed (for the third time).
+     */
+    @Test
+    void testRegisterOutcomes(@Mock(name = "failed") final PendingScoreNotification failed) {
+        final var failedId = 2L;
+        when(failed.getId()).thenReturn(failedId);
+        when(failed.getFailedAttempts()).thenReturn(2);
+        when(notificationRepository.getByIds(Set.of(failedId))).thenReturn(List.of(failed));
+        final var now = Instant.now();
+
+        outbox.registerOutcomes(
+                List.of(1L),
+                Map.of(failedId, new RuntimeException("The LTI service is not available")),
+                now
+        );
+
+        verify(notificationRepository, times(1)).deleteByIds(List.of(1L));
+        verify(notificationRepository, times(1)).getByIds(Set.of(failedId));
+        verifyNoMoreInteractions(notificationRepository);
+        verify(failed, times(1)).registerFailedAttempt(notNull(), eq(now.plusMillis(BACKOFF * 4)));
+    }
+
+    /**
+     * Tests that the backoff of the failed notifications does not exceed the max. backoff.
+     *
+     * @param failed The {@link PendingScoreNotification} whose delivery failed (way too many times).
+     */
+    @Test
+    void testBackoffIsCapped(@Mock(name = "failed") final PendingScoreNotification failed) {
+        final var failedId = 2L;
+        when(failed.getId()).thenReturn(failedId);
+        when(failed.getFailedAttempts()).thenReturn(100);
+        when(notificationRepository.getByIds(Set.of(failedId))).thenReturn(List.of(failed));
+        final var now = Instant.now();
+
+        outbox.registerOutcomes(
+                Collections.emptyList(),
+                Map.of(failedId, new RuntimeException("The LTI service is not available")),
+                now
+        );
+
+        verify(failed, times(1)).registerFailedAttempt(notNull(), eq(now.plusMillis(MAX_BACKOFF)));
+    }
+
+    /**
+     * Tests that only the delivered notifications are removed when there are no failures.
+     */
+    @Test
+    void testRegisterOutcomesWithoutFailures() {
+        outbox.registerOutcomes(List.of(1L), Collections.emptyMap(), Instant.now());
+
+        verify(notificationRepository, only()).deleteByIds(List.of(1L));
+    }
+}
@@ -1,8 +1,8 @@
 package ar.edu.itba.cep.evaluations_service.domain.managers;
 
-import ar.edu.itba.cep.evaluations_service.domain.events.ExamFinishedEvent;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExamScoredEvent;
 import ar.edu.itba.cep.evaluations_service.domain.events.ExamSolutionSubmittedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.helpers.RepositoryCallsAssertions;
 import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
 import ar.edu.itba.cep.evaluations_service.models.*;
 import ar.edu.itba.cep.evaluations_service.repositories.*;
@@ -20,6 +20,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.util.List;
 import java.util.Optional;
 
+import static ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission.State.SUBMITTED;
 import static ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission.State.UNPLACED;
 import static org.mockito.Mockito.*;
 
@@ -44,9 +45,8 @@ class SolutionsManagerHappyPathsTest extends AbstractSolutionsManagerTest {
             @Mock(name = "exerciseRepository") final ExerciseRepository exerciseRepository,
             @Mock(name = "submissionRepository") final ExamSolutionSubmissionRepository submissionRepository,
             @Mock(name = "solutionRepository") final ExerciseSolutionRepository solutionRepository,
-            @Mock(name = "resultRepository") final ExerciseSolutionResultRepository resultRepository,
             @Mock(name = "eventPublisher") final ApplicationEventPublisher publisher) {
-        super(examRepository, exerciseRepository, submissionRepository, solutionRepository, resultRepository, publisher);
+        super(examRepository, exerciseRepository, submissionRepository, solutionRepository, publisher);
     }
 
 
@@ -134,7 +134,6 @@ class SolutionsManagerHappyPathsTest extends AbstractSolutionsManagerTest {
                 .save(argThat(inner -> inner.getExercise().equals(e)))
         );
         verifyNoMoreInteractions(solutionRepository);
-        verifyZeroInteractions(resultRepository);
         verifyZeroInteractions(publisher);
 
         TestHelper.clearSecurityContext();
@@ -167,7 +166,6 @@ class SolutionsManagerHappyPathsTest extends AbstractSolutionsManagerTest {
         verify(submissionRepository, times(1)).save(submission);
         verifyNoMoreInteractions(submissionRepository);
         verifyZeroInteractions(solutionRepository);
-        verifyZeroInteractions(resultRepository);
         verify(publisher, only()).publishEvent(argThat(eventContainsSubmission(submission)));
     }
 
@@ -189,81 +187,95 @@ class SolutionsManagerHappyPathsTest extends AbstractSolutionsManagerTest {
     }
 
     /**
-     * Tests that scoring an {@link ExamSolutionSubmission}
-     * that contains approved and not-approved {@link ExerciseSolution}s works as expected.
+     * Tests that scoring an {@link ExamSolutionSubmission} sets the score aggregated by the repository
+     * (i.e the sum of the awarded scores of its approved {@link ExerciseSolution}s),
+     * without loading its {@link ExerciseSolution}s nor their {@link ExerciseSolutionResult}s.
      *
      * @param submission A mocked {@link ExamSolutionSubmission} (the one being scored).
-     * @param solution1  A mocked {@link ExerciseSolution} (represents a solution belonging to the {@code submission}).
-     * @param solution2  A mocked {@link ExerciseSolution} (represents a solution belonging to the {@code submission}).
-     * @param result1a   A mocked {@link ExerciseSolutionResult} (represents a result of the {@code solution1}).
-     * @param result1b   A mocked {@link ExerciseSolutionResult} (represents a result of the {@code solution1}).
-     * @param result2a   A mocked {@link ExerciseSolutionResult} (represents a result of the {@code solution2}).
-     * @param result2b   A mocked {@link ExerciseSolutionResult} (represents a result of the {@code solution2}).
      */
     @Test
-    void testScoring(
-            @Mock(name = "submission") final ExamSolutionSubmission submission,
-            @Mock(name = "exercise1") final Exercise exercise1,
-            @Mock(name = "solution1") final ExerciseSolution solution1,
-            @Mock(name = "solution2") final ExerciseSolution solution2,
-            @Mock(name = "result1a") final ExerciseSolutionResult result1a,
-            @Mock(name = "result1b") final ExerciseSolutionResult result1b,
-            @Mock(name = "result2a") final ExerciseSolutionResult result2a,
-            @Mock(name = "result2b") final ExerciseSolutionResult result2b) {
+    void testScoring(@Mock(name = "submission") final ExamSolutionSubmission submission) {
         final var submissionId = TestHelper.validExamSolutionSubmissionId();
-        final var exercise1AwardedScore = TestHelper.validAwardedScore();
+        final var score = TestHelper.validScore();
         when(submissionRepository.findById(submissionId)).thenReturn(Optional.of(submission));
         when(submission.getScore()).thenReturn(null);
-        when(submission.getState()).thenReturn(ExamSolutionSubmission.State.SUBMITTED);
-        doNothing().when(submission).score(exercise1AwardedScore);
-        when(solution1.getExercise()).thenReturn(exercise1);
-        when(exercise1.getAwardedScore()).thenReturn(exercise1AwardedScore);
-        // We assume that all but one are approved
-        when(result1a.isMarked()).thenReturn(true);
-        when(result1b.isMarked()).thenReturn(true);
-        when(result2a.isMarked()).thenReturn(true);
-        when(result2b.isMarked()).thenReturn(true);
-        when(result1a.getResult()).thenReturn(ExerciseSolutionResult.Result.APPROVED);
-        when(result1b.getResult()).thenReturn(ExerciseSolutionResult.Result.APPROVED);
-        when(result2a.getResult()).thenReturn(ExerciseSolutionResult.Result.APPROVED);
-        when(result2b.getResult()).thenReturn(TestHelper.notApprovedResult());
-        when(solutionRepository.getExerciseSolutions(submission)).thenReturn(List.of(solution1, solution2));
-        when(resultRepository.find(solution1)).thenReturn(List.of(result1a, result1b));
-        when(resultRepository.find(solution2)).thenReturn(List.of(result2a, result2b));
-
-        solutionsManager.scoreSubmission(submissionId);
+        when(submission.getState()).thenReturn(SUBMITTED);
+        doNothing().when(submission).score(score);
+        when(submissionRepository.getScoring(submission)).thenReturn(new SubmissionScoring(submissionId, 0, score));
+
+        RepositoryCallsAssertions.assertMaxRepositoryCalls(
+                3,
+                () -> solutionsManager.scoreSubmission(submissionId),
+                examRepository,
+                exerciseRepository,
+                submissionRepository,
+                solutionRepository
+        );
 
         verify(submission, times(1)).getState();
         verify(submission, times(1)).getScore();
-        verify(submission, times(1)).score(exercise1AwardedScore);
+        verify(submission, times(1)).score(score);
         verifyNoMoreInteractions(submission);
-        verify(solution1, only()).getExercise();
-        verifyZeroInteractions(solution2); // The failed solution's exercise is not retrieved.
-        verify(result1a, atMost(1)).isMarked();
-        verify(result1a, atMost(1)).getResult();
-        verifyNoMoreInteractions(result1a);
-        verify(result1b, atMost(1)).isMarked();
-        verify(result1b, atMost(1)).getResult();
-        verifyNoMoreInteractions(result1b);
-        verify(result2a, atMost(1)).isMarked();
-        verify(result2a, atMost(1)).getResult();
-        verifyNoMoreInteractions(result2a);
-        verify(result2b, atMost(1)).isMarked();
-        verify(result2b, atMost(1)).getResult();
-        verifyNoMoreInteractions(result2b);
-        verify(exercise1, only()).getAwardedScore();
         verifyZeroInteractions(examRepository);
         verifyZeroInteractions(exerciseRepository);
         verify(submissionRepository, times(1)).findById(submissionId);
+        verify(submissionRepository, times(1)).getScoring(submission);
         verify(submissionRepository, times(1)).save(submission);
-        verify(solutionRepository, only()).getExerciseSolutions(submission);
-        verify(resultRepository, atMost(1)).find(solution1);
-        verify(resultRepository, atMost(1)).find(solution2);
-        verifyNoMoreInteractions(resultRepository);
-        verify(publisher, only())
-                .publishEvent(argThat(eventContainsSubmissionAndScore(submission, exercise1AwardedScore)));
+        verifyNoMoreInteractions(submissionRepository);
+        verifyZeroInteractions(solutionRepository);
+        verify(publisher, only()).publishEvent(argThat(eventContainsSubmissionAndScore(submission, score)));
     }
 
+    /**
+     * Tests that scoring the {@link ExamSolutionSubmission}s of an {@link Exam} scores those that are not scored yet
+     * and do not have pending executions (including those without solutions, which have no scoring),
+     * using the scorings aggregated by the repository in a single call.
+     *
+     * @param exam             A mocked {@link Exam} (the one whose submissions are scored).
+     * @param scored           A mocked {@link ExamSolutionSubmission} that is already scored.
+     * @param approved         A mocked {@link ExamSolutionSubmission} without pending executions.
+     * @param pending          A mocked {@link ExamSolutionSubmission} with pending executions.
+     * @param withoutSolutions A mocked {@link ExamSolutionSubmission} without {@link ExerciseSolution}s.
+     */
+    @Test
+    void testExamSubmissionsScoring(
+            @Mock(name = "exam") final Exam exam,
+            @Mock(name = "scored") final ExamSolutionSubmission scored,
+            @Mock(name = "approved") final ExamSolutionSubmission approved,
+            @Mock(name = "pending") final ExamSolutionSubmission pending,
+            @Mock(name = "withoutSolutions") final ExamSolutionSubmission withoutSolutions) {
+        final var examId = TestHelper.validExamId();
+        final var score = TestHelper.validScore();
+        when(examRepository.findById(examId)).thenReturn(Optional.of(exam));
+        when(scored.getScore()).thenReturn(TestHelper.validScore());
+        when(approved.getId()).thenReturn(1L);
+        when(pending.getId()).thenReturn(2L);
+        when(withoutSolutions.getId()).thenReturn(3L);
+        when(submissionRepository.getScorings(exam, SUBMITTED)).thenReturn(List.of(
+                new SubmissionScoring(1L, 0, score),
+                new SubmissionScoring(2L, 1, 0)
+        ));
+        when(submissionRepository.getByExamAndState(exam, SUBMITTED))
+                .thenReturn(List.of(scored, approved, pending, withoutSolutions));
+
+        solutionsManager.scoreExamSubmissions(examId);
+
+        verify(scored, never()).score(anyInt());
+        verify(approved, times(1)).score(score);
+        verify(pending, never()).score(anyInt());
+        verify(withoutSolutions, times(1)).score(0);
+        verify(examRepository, only()).findById(examId);
+        verifyZeroInteractions(exerciseRepository);
+        verify(submissionRepository, times(1)).getScorings(exam, SUBMITTED);
+        verify(submissionRepository, times(1)).getByExamAndState(exam, SUBMITTED);
+        verify(submissionRepository, times(1)).save(approved);
+        verify(submissionRepository, times(1)).save(withoutSolutions);
+        verifyNoMoreInteractions(submissionRepository);
+        verifyZeroInteractions(solutionRepository);
+        verify(publisher, times(1)).publishEvent(argThat(eventContainsSubmissionAndScore(approved, score)));
+        verify(publisher, times(1)).publishEvent(argThat(eventContainsSubmissionAndScore(withoutSolutions, 0)));
+        verifyNoMoreInteractions(publisher);
+    }
 
     // ================================================================================================================
     // Exercises Solutions
@@ -292,7 +304,6 @@ class SolutionsManagerHappyPathsTest extends AbstractSolutionsManagerTest {
         verify(solutionRepository, only()).getExerciseSolutions(submission);
         verifyZeroInteractions(examRepository);
         verifyZeroInteractions(exerciseRepository);
-        verifyZeroInteractions(resultRepository);
         verifyZeroInteractions(publisher);
     }
 
@@ -368,61 +379,10 @@ class SolutionsManagerHappyPathsTest extends AbstractSolutionsManagerTest {
         verify(solutionRepository, times(1)).findById(solutionId);
         verify(solutionRepository, times(1)).save(solution);
         verifyNoMoreInteractions(solutionRepository);
-        verifyZeroInteractions(resultRepository);
         verifyZeroInteractions(publisher);
     }
 
 
-    // ================================================================================================================
-    // Event Listeners
-    // ================================================================================================================
-
-    /**
-     * Tests the the reception of an {@link ExamFinishedEvent} is handled as expected
-     * (retrieves {@link ExamSolutionSubmission}s that are not placed, then they are submitted, and then the
-     * corresponding event is streamed).
-     *
-     * @param event               An {@link ExamFinishedEvent} mock (the one being received).
-     * @param exam                An {@link Exam} mock (the one that has finished).
-     * @param placedSubmission    An {@link ExamSolutionSubmission} mock (one that has already been placed).
-     * @param unplacedSubmission1 An {@link ExamSolutionSubmission} mock (one that has not been placed).
-     * @param unplacedSubmission2 An {@link ExamSolutionSubmission} mock (another one that has not been placed).
-     */
-    @Test
-    void testExamFinishedEventReception(
-            @Mock(name = "event") final ExamFinishedEvent event,
-            @Mock(name = "exam") final Exam exam,
-            @Mock(name = "placedSubmission") final ExamSolutionSubmission placedSubmission,
-            @Mock(name = "unplacedSubmission1") final ExamSolutionSubmission unplacedSubmission1,
-            @Mock(name = "unplacedSubmission2") final ExamSolutionSubmission unplacedSubmission2) {
-        when(event.getExam()).thenReturn(exam);
-        when(submissionRepository.getByExamAndState(exam, UNPLACED))
-                .thenReturn(List.of(unplacedSubmission1, unplacedSubmission2));
-        doNothing().when(unplacedSubmission1).submit();
-        when(submissionRepository.save(unplacedSubmission1)).thenReturn(unplacedSubmission1);
-        when(submissionRepository.save(unplacedSubmission2)).thenReturn(unplacedSubmission2);
-        doNothing().when(publisher).publishEvent(any(ExamSolutionSubmittedEvent.class));
-
-        solutionsManager.examFinished(event);
-
-        verifyZeroInteractions(exam);
-        verifyZeroInteractions(placedSubmission);
-        verify(unplacedSubmission1, only()).submit();
-        verify(unplacedSubmission2, only()).submit();
-        verifyZeroInteractions(examRepository);
-        verifyZeroInteractions(solutionRepository);
-        verify(submissionRepository, times(1)).getByExamAndState(exam, UNPLACED);
-        verify(submissionRepository, times(1)).save(unplacedSubmission1);
-        verify(submissionRepository, times(1)).save(unplacedSubmission2);
-        verifyNoMoreInteractions(submissionRepository);
-        verifyZeroInteractions(solutionRepository);
-        verifyZeroInteractions(resultRepository);
-        verify(publisher, times(1)).publishEvent(argThat(eventContainsSubmission(unplacedSubmission1)));
-        verify(publisher, times(1)).publishEvent(argThat(eventContainsSubmission(unplacedSubmission2)));
-        verifyNoMoreInteractions(publisher);
-    }
-
-
     // ================================================================================================================
     // Helpers
     // ================================================================================================================
@@ -33,9 +33,8 @@ class SolutionsManagerIllegalArgumentTest extends AbstractSolutionsManagerTest {
             @Mock(name = "exerciseRepository") final ExerciseRepository exerciseRepository,
             @Mock(name = "submissionRepository") final ExamSolutionSubmissionRepository submissionRepository,
             @Mock(name = "solutionRepository") final ExerciseSolutionRepository solutionRepository,
-            @Mock(name = "resultRepository") final ExerciseSolutionResultRepository resultRepository,
             @Mock(name = "eventPublisher") final ApplicationEventPublisher publisher) {
-        super(examRepository, exerciseRepository, submissionRepository, solutionRepository, resultRepository, publisher);
+        super(examRepository, exerciseRepository, submissionRepository, solutionRepository, publisher);
     }
 
 
@@ -87,7 +86,6 @@ class SolutionsManagerIllegalArgumentTest extends AbstractSolutionsManagerTest {
         verifyZeroInteractions(exerciseRepository);
         verifyZeroInteractions(submissionRepository);
         verifyZeroInteractions(solutionRepository);
-        verifyZeroInteractions(resultRepository);
         verifyZeroInteractions(publisher);
     }
 }
@@ -14,7 +14,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.List;
 import java.util.Optional;
 
 import static ar.edu.itba.cep.evaluations_service.models.Exam.State.*;
@@ -41,9 +40,8 @@ class SolutionsManagerIllegalStateTest extends AbstractSolutionsManagerTest {
             @Mock(name = "exerciseRepository") final ExerciseRepository exerciseRepository,
             @Mock(name = "submissionRepository") final ExamSolutionSubmissionRepository submissionRepository,
             @Mock(name = "solutionRepository") final ExerciseSolutionRepository solutionRepository,
-            @Mock(name = "resultRepository") final ExerciseSolutionResultRepository resultRepository,
             @Mock(name = "eventPublisher") final ApplicationEventPublisher publisher) {
-        super(examRepository, exerciseRepository, submissionRepository, solutionRepository, resultRepository, publisher);
+        super(examRepository, exerciseRepository, submissionRepository, solutionRepository, publisher);
     }
 
     // ================================================================================================================
@@ -155,72 +153,38 @@ class SolutionsManagerIllegalStateTest extends AbstractSolutionsManagerTest {
 
     /**
      * Tests that scoring an {@link ExamSolutionSubmission} that contains pending executions is not allowed
-     * (i.e one of the {@link ExerciseSolutionResult} mocks is not marked).
+     * (i.e the scoring aggregated by the repository reports results that are not marked).
      *
      * @param submission A mocked {@link ExamSolutionSubmission} (the one being scored).
-     * @param solution1  A mocked {@link ExerciseSolution} (represents a solution belonging to the {@code submission}).
-     * @param solution2  A mocked {@link ExerciseSolution} (represents a solution belonging to the {@code submission}).
-     * @param result1a   A mocked {@link ExerciseSolutionResult} (represents a result of the {@code solution1}).
-     * @param result1b   A mocked {@link ExerciseSolutionResult} (represents a result of the {@code solution1}).
-     * @param result2a   A mocked {@link ExerciseSolutionResult} (represents a result of the {@code solution2}).
-     * @param result2b   A mocked {@link ExerciseSolutionResult} (represents a result of the {@code solution2}).
      */
     @Test
     void testSubmissionIsNotScoredIfThereArePendingExecutions(
-            @Mock(name = "submission") final ExamSolutionSubmission submission,
-            @Mock(name = "solution1") final ExerciseSolution solution1,
-            @Mock(name = "solution2") final ExerciseSolution solution2,
-            @Mock(name = "result1a") final ExerciseSolutionResult result1a,
-            @Mock(name = "result1b") final ExerciseSolutionResult result1b,
-            @Mock(name = "result2a") final ExerciseSolutionResult result2a,
-            @Mock(name = "result2b") final ExerciseSolutionResult result2b) {
+            @Mock(name = "submission") final ExamSolutionSubmission submission) {
         final var submissionId = TestHelper.validExamSolutionSubmissionId();
         when(submissionRepository.findById(submissionId)).thenReturn(Optional.of(submission));
         when(submission.getScore()).thenReturn(null);
         when(submission.getState()).thenReturn(ExamSolutionSubmission.State.SUBMITTED);
-        // We assume that all but one are marked (the one without mark is the one with a pending execution).
-        when(result1a.isMarked()).thenReturn(true);
-        when(result1b.isMarked()).thenReturn(true);
-        when(result2a.isMarked()).thenReturn(true);
-        when(result2b.isMarked()).thenReturn(false);
-        when(solutionRepository.getExerciseSolutions(submission)).thenReturn(List.of(solution1, solution2));
-        when(resultRepository.find(solution1)).thenReturn(List.of(result1a, result1b));
-        when(resultRepository.find(solution2)).thenReturn(List.of(result2a, result2b));
+        when(submissionRepository.getScoring(submission))
+                .thenReturn(new SubmissionScoring(submissionId, 1, TestHelper.validScore()));
 
         Assertions.assertThrows(
                 IllegalEntityStateException.class,
                 () -> solutionsManager.scoreSubmission(submissionId),
-                "Scoring unplaced submissions is being allowed"
+                "Scoring submissions with pending executions is being allowed"
         );
 
         verify(submission, times(1)).getState();
         verify(submission, times(1)).getScore();
         verifyNoMoreInteractions(submission);
-        verifyZeroInteractions(solution1);
-        verifyZeroInteractions(solution2);
-        verify(result1a, atMost(1)).isMarked();
-        verify(result1a, atMost(1)).getResult();
-        verifyNoMoreInteractions(result1a);
-        verify(result1b, atMost(1)).isMarked();
-        verify(result1b, atMost(1)).getResult();
-        verifyNoMoreInteractions(result1b);
-        verify(result2a, atMost(1)).isMarked();
-        verify(result2a, atMost(1)).getResult();
-        verifyNoMoreInteractions(result2a);
-        verify(result2b, atMost(1)).isMarked();
-        verify(result2b, atMost(1)).getResult();
-        verifyNoMoreInteractions(result2b);
         verifyZeroInteractions(examRepository);
         verifyZeroInteractions(exerciseRepository);
-        verify(submissionRepository, only()).findById(submissionId);
-        verify(solutionRepository, only()).getExerciseSolutions(submission);
-        verify(resultRepository, atMost(1)).find(solution1);
-        verify(resultRepository, atMost(1)).find(solution2);
-        verifyNoMoreInteractions(resultRepository);
+        verify(submissionRepository, times(1)).findById(submissionId);
+        verify(submissionRepository, times(1)).getScoring(submission);
+        verifyNoMoreInteractions(submissionRepository);
+        verifyZeroInteractions(solutionRepository);
         verifyZeroInteractions(publisher);
     }
 
-
     // ================================================================================================================
     // Exercises Solutions
     // ================================================================================================================
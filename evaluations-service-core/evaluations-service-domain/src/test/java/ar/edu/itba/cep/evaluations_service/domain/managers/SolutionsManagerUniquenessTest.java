@@ -41,9 +41,8 @@ class SolutionsManagerUniquenessTest extends AbstractSolutionsManagerTest {
             @Mock(name = "exerciseRepository") final ExerciseRepository exerciseRepository,
             @Mock(name = "submissionRepository") final ExamSolutionSubmissionRepository submissionRepository,
             @Mock(name = "solutionRepository") final ExerciseSolutionRepository solutionRepository,
-            @Mock(name = "resultRepository") final ExerciseSolutionResultRepository resultRepository,
             @Mock(name = "eventPublisher") final ApplicationEventPublisher publisher) {
-        super(examRepository, exerciseRepository, submissionRepository, solutionRepository, resultRepository, publisher);
+        super(examRepository, exerciseRepository, submissionRepository, solutionRepository, publisher);
     }
 
 
@@ -75,7 +74,6 @@ class SolutionsManagerUniquenessTest extends AbstractSolutionsManagerTest {
         verifyZeroInteractions(solutionRepository);
         verify(submissionRepository, times(1)).existsSubmissionFor(exam, submitter);
         verifyZeroInteractions(solutionRepository);
-        verifyZeroInteractions(resultRepository);
         verifyZeroInteractions(publisher);
         TestHelper.clearSecurityContext();
     }
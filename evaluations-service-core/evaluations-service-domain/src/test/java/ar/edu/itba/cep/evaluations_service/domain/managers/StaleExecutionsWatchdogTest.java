@@ -0,0 +1,217 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionAbandonedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExecutionRequestedEvent;
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import ar.edu.itba.cep.evaluations_service.repositories.ExerciseSolutionResultRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link StaleExecutionsWatchdog}.
+ */
+@ExtendWith(MockitoExtension.class)
+class StaleExecutionsWatchdogTest {
+
+    /**
+     * The timeout (in milliseconds) used to create the {@link StaleExecutionsWatchdog} being tested.
+     */
+    private static final long TIMEOUT = 1000;
+    /**
+     * The max. amount of attempts used to create the {@link StaleExecutionsWatchdog} being tested.
+     */
+    private static final int MAX_ATTEMPTS = 3;
+    /**
+     * The batch size used to create the {@link StaleExecutionsWatchdog} being tested.
+     */
+    private static final int BATCH_SIZE = 10;
+
+
+    // ================================================================================================================
+    // Mocks
+    // ================================================================================================================
+
+    /**
+     * An {@link ExerciseSolutionResultRepository} mock that is injected to the {@link StaleExecutionsWatchdog}.
+     */
+    private final ExerciseSolutionResultRepository exerciseSolutionResultRepository;
+
+    /**
+     * An {@link ApplicationEventPublisher} mock that is injected to the {@link StaleExecutionsWatchdog}.
+     */
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * An {@link ExecutionsInFlightLimiter} mock that is injected to the {@link StaleExecutionsWatchdog}.
+     */
+    private final ExecutionsInFlightLimiter inFlightLimiter;
+
+
+    // ================================================================================================================
+    // Watchdog
+    // ================================================================================================================
+
+    /**
+     * The {@link StaleExecutionsWatchdog} being tested.
+     */
+    private final StaleExecutionsWatchdog watchdog;
+
+
+    // ================================================================================================================
+    // Constructor
+    // ================================================================================================================
+
+    /**
+     * Constructor.
+     *
+     * @param exerciseSolutionResultRepository An {@link ExerciseSolutionResultRepository} mock
+     *                                         that is injected to the {@link StaleExecutionsWatchdog}.
+     * @param publisher                        An {@link ApplicationEventPublisher} mock
+     *                                         that is injected to the {@link StaleExecutionsWatchdog}.
+     * @param inFlightLimiter                  An {@link ExecutionsInFlightLimiter} mock
+     *                                         that is injected to the {@link StaleExecutionsWatchdog}.
+     */
+    StaleExecutionsWatchdogTest(
+            @Mock(name = "resultRepository") final ExerciseSolutionResultRepository exerciseSolutionResultRepository,
+            @Mock(name = "eventPublisher") final ApplicationEventPublisher publisher,
+            @Mock(name = "inFlightLimiter") final ExecutionsInFlightLimiter inFlightLimiter) {
+        this.exerciseSolutionResultRepository = exerciseSolutionResultRepository;
+        this.publisher = publisher;
+        this.inFlightLimiter = inFlightLimiter;
+        this.watchdog = new StaleExecutionsWatchdog(
+                exerciseSolutionResultRepository,
+                publisher,
+                inFlightLimiter,
+                TIMEOUT,
+                MAX_ATTEMPTS,
+                BATCH_SIZE
+        );
+    }
+
+
+    /**
+     * Tests that nothing is done when there are no stale executions.
+     */
+    @Test
+    void testNoStaleExecutions() {
+        when(exerciseSolutionResultRepository.getStaleForUpdate(any(), eq(Duration.ofMillis(TIMEOUT)), eq(BATCH_SIZE)))
+                .thenReturn(Collections.emptyList());
+
+        watchdog.handleStaleExecutions();
+
+        verify(exerciseSolutionResultRepository, only())
+                .getStaleForUpdate(notNull(), eq(Duration.ofMillis(TIMEOUT)), eq(BATCH_SIZE));
+        verifyZeroInteractions(publisher);
+        verifyZeroInteractions(inFlightLimiter);
+    }
+
+    /**
+     * Tests that stale executions that have not reached the max. amount of attempts are requested again.
+     *
+     * @param result   The stale {@link ExerciseSolutionResult}.
+     * @param solution The {@link ExerciseSolution} of the stale result.
+     * @param testCase The {@link TestCase} of the stale result.
+     */
+    @Test
+    void testStaleExecutionIsRequestedAgain(
+            @Mock(name = "result") final ExerciseSolutionResult result,
+            @Mock(name = "solution") final ExerciseSolution solution,
+            @Mock(name = "testCase") final TestCase testCase) {
+        when(result.getAttempts()).thenReturn(MAX_ATTEMPTS - 1);
+        when(result.getSolution()).thenReturn(solution);
+        when(result.getTestCase()).thenReturn(testCase);
+        final var staleResults = List.of(result);
+        when(exerciseSolutionResultRepository.getStaleForUpdate(any(), any(), anyInt())).thenReturn(staleResults);
+
+        watchdog.handleStaleExecutions();
+
+        verify(result, times(1)).clearDispatch();
+        verify(exerciseSolutionResultRepository, times(1)).saveAll(staleResults);
+        verify(inFlightLimiter, only()).lost();
+        verify(publisher, only()).publishEvent(
+                argThat(e -> e instanceof ExecutionRequestedEvent
+                        && ((ExecutionRequestedEvent) e).getSolution() == solution
+                        && ((ExecutionRequestedEvent) e).getTestCase() == testCase)
+        );
+    }
+
+    /**
+     * Tests that stale executions that have reached the max. amount of attempts are abandoned.
+     *
+     * @param result     The stale {@link ExerciseSolutionResult}.
+     * @param solution   The {@link ExerciseSolution} of the stale result.
+     * @param submission The {@link ExamSolutionSubmission} of the {@code solution}.
+     * @param exam       The {@link Exam} of the {@code submission}.
+     */
+    @Test
+    void testStaleExecutionIsAbandoned(
+            @Mock(name = "result") final ExerciseSolutionResult result,
+            @Mock(name = "solution") final ExerciseSolution solution,
+            @Mock(name = "submission") final ExamSolutionSubmission submission,
+            @Mock(name = "exam") final Exam exam) {
+        when(result.getAttempts()).thenReturn(MAX_ATTEMPTS);
+        when(result.getSolution()).thenReturn(solution);
+        when(solution.getSubmission()).thenReturn(submission);
+        when(submission.getExam()).thenReturn(exam);
+        when(exam.getEvaluationPolicy()).thenReturn(Exam.EvaluationPolicy.COMPLETE);
+        final var staleResults = List.of(result);
+        when(exerciseSolutionResultRepository.getStaleForUpdate(any(), any(), anyInt())).thenReturn(staleResults);
+
+        watchdog.handleStaleExecutions();
+
+        verify(result, times(1)).clearDispatch();
+        verify(exerciseSolutionResultRepository, times(1)).saveAll(staleResults);
+        verify(publisher, only()).publishEvent(ExecutionAbandonedEvent.create(result));
+    }
+
+    /**
+     * Tests that when one of the stale executions of a solution evaluated in stages is abandoned,
+     * the rest of the stale executions of the same solution in the batch are not handled
+     * (as abandoning the former discards all the pending executions of the solution with a bulk update).
+     *
+     * @param sibling    A stale {@link ExerciseSolutionResult} that has not reached the max. amount of attempts.
+     * @param abandoned  A stale {@link ExerciseSolutionResult} of the same solution
+     *                   that has reached the max. amount of attempts.
+     * @param solution   The {@link ExerciseSolution} of the stale results.
+     * @param submission The {@link ExamSolutionSubmission} of the {@code solution}.
+     * @param exam       The {@link Exam} of the {@code submission}.
+     */
+    @Test
+    void testSiblingsOfAbandonedEarlyExitExecutionAreNotHandled(
+            @Mock(name = "sibling") final ExerciseSolutionResult sibling,
+            @Mock(name = "abandoned") final ExerciseSolutionResult abandoned,
+            @Mock(name = "solution") final ExerciseSolution solution,
+            @Mock(name = "submission") final ExamSolutionSubmission submission,
+            @Mock(name = "exam") final Exam exam) {
+        when(sibling.getAttempts()).thenReturn(MAX_ATTEMPTS - 1);
+        when(sibling.getSolution()).thenReturn(solution);
+        when(abandoned.getAttempts()).thenReturn(MAX_ATTEMPTS);
+        when(abandoned.getSolution()).thenReturn(solution);
+        when(solution.getSubmission()).thenReturn(submission);
+        when(submission.getExam()).thenReturn(exam);
+        when(exam.getEvaluationPolicy()).thenReturn(Exam.EvaluationPolicy.EARLY_EXIT);
+        when(exerciseSolutionResultRepository.getStaleForUpdate(any(), any(), anyInt()))
+                .thenReturn(List.of(sibling, abandoned));
+
+        watchdog.handleStaleExecutions();
+
+        verify(abandoned, times(1)).clearDispatch();
+        verify(sibling, never()).clearDispatch();
+        verify(exerciseSolutionResultRepository, times(1)).saveAll(List.of(abandoned));
+        verify(inFlightLimiter, only()).lost();
+        verify(publisher, only()).publishEvent(ExecutionAbandonedEvent.create(abandoned));
+    }
+}
@@ -0,0 +1,371 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.domain.events.ExamFinishedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExamSolutionSubmittedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
+import ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob;
+import ar.edu.itba.cep.evaluations_service.repositories.ExamRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.ExamSolutionSubmissionRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.SubmissionsPlacementJobRepository;
+import com.bellotapps.webapps_commons.exceptions.NoSuchEntityException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission.State.UNPLACED;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link SubmissionsPlacementManager}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SubmissionsPlacementManagerTest {
+
+    /**
+     * The chunk size used to create the {@link SubmissionsPlacementManager} being tested.
+     */
+    private static final int CHUNK_SIZE = 2;
+    /**
+     * The max. amount of attempts used to create the {@link SubmissionsPlacementManager} being tested.
+     */
+    private static final int MAX_ATTEMPTS = 2;
+
+
+    // ================================================================================================================
+    // Mocks
+    // ================================================================================================================
+
+    private final ExamRepository examRepository;
+    private final ExamSolutionSubmissionRepository submissionRepository;
+    private final SubmissionsPlacementJobRepository jobRepository;
+    private final ApplicationEventPublisher publisher;
+
+
+    // ================================================================================================================
+    // Submissions Placement Manager
+    // ================================================================================================================
+
+    /**
+     * The {@link SubmissionsPlacementManager} being tested.
+     */
+    private final SubmissionsPlacementManager submissionsPlacementManager;
+
+
+    // ================================================================================================================
+    // Constructor
+    // ================================================================================================================
+
+    /**
+     * Constructor.
+     *
+     * @param examRepository       An {@link ExamRepository} to be injected to the manager.
+     * @param submissionRepository An {@link ExamSolutionSubmissionRepository} to be injected to the manager.
+     * @param jobRepository        A {@link SubmissionsPlacementJobRepository} to be injected to the manager.
+     * @param publisher            An {@link ApplicationEventPublisher} to be injected to the manager.
+     */
+    SubmissionsPlacementManagerTest(
+            @Mock(name = "examRepository") final ExamRepository examRepository,
+            @Mock(name = "submissionRepository") final ExamSolutionSubmissionRepository submissionRepository,
+            @Mock(name = "jobRepository") final SubmissionsPlacementJobRepository jobRepository,
+            @Mock(name = "publisher") final ApplicationEventPublisher publisher) {
+        this.examRepository = examRepository;
+        this.submissionRepository = submissionRepository;
+        this.jobRepository = jobRepository;
+        this.publisher = publisher;
+        this.submissionsPlacementManager = new SubmissionsPlacementManager(
+                examRepository,
+                submissionRepository,
+                jobRepository,
+                publisher,
+                CHUNK_SIZE,
+                MAX_ATTEMPTS
+        );
+    }
+
+
+    // ================================================================================================================
+    // Tests
+    // ================================================================================================================
+
+    /**
+     * Tests that the {@link SubmissionsPlacementJob} of an {@link Exam} is retrieved.
+     *
+     * @param exam The {@link Exam} whose job is retrieved.
+     * @param job  The {@link SubmissionsPlacementJob} being retrieved.
+     */
+    @Test
+    void testGetPlacementJobForExam(
+            @Mock(name = "exam") final Exam exam,
+            @Mock(name = "job") final SubmissionsPlacementJob job) {
+        final var examId = TestHelper.validExamId();
+        when(examRepository.findById(examId)).thenReturn(Optional.of(exam));
+        when(jobRepository.getByExam(exam)).thenReturn(Optional.of(job));
+
+        Assertions.assertEquals(
+                Optional.of(job),
+                submissionsPlacementManager.getPlacementJobForExam(examId),
+                "The job is not the one returned by the repository"
+        );
+        verify(examRepository, only()).findById(examId);
+        verify(jobRepository, only()).getByExam(exam);
+        verifyZeroInteractions(submissionRepository);
+        verifyZeroInteractions(publisher);
+    }
+
+    /**
+     * Tests that retrieving the {@link SubmissionsPlacementJob} of a non existing {@link Exam}
+     * throws a {@link NoSuchEntityException}.
+     */
+    @Test
+    void testGetPlacementJobForNonExistingExam() {
+        final var examId = TestHelper.validExamId();
+        when(examRepository.findById(examId)).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(
+                NoSuchEntityException.class,
+                () -> submissionsPlacementManager.getPlacementJobForExam(examId),
+                "Retrieving the job of a non existing exam is not throwing a NoSuchEntityException"
+        );
+        verify(examRepository, only()).findById(examId);
+        verifyZeroInteractions(jobRepository);
+        verifyZeroInteractions(submissionRepository);
+        verifyZeroInteractions(publisher);
+    }
+
+    /**
+     * Tests that the reception of an {@link ExamFinishedEvent} creates a {@link SubmissionsPlacementJob},
+     * without placing any submission synchronously.
+     *
+     * @param event An {@link ExamFinishedEvent} mock (the one being received).
+     * @param exam  An {@link Exam} mock (the one that has finished).
+     */
+    @Test
+    void testExamFinishedEventReception(
+            @Mock(name = "event") final ExamFinishedEvent event,
+            @Mock(name = "exam") final Exam exam) {
+        when(event.getExam()).thenReturn(exam);
+
+        submissionsPlacementManager.examFinished(event);
+
+        verify(jobRepository, only()).save(
+                argThat((final SubmissionsPlacementJob job) ->
+                        job.getExam() == exam && job.getState() == SubmissionsPlacementJob.State.IN_PROGRESS
+                )
+        );
+        verifyZeroInteractions(exam);
+        verifyZeroInteractions(examRepository);
+        verifyZeroInteractions(submissionRepository);
+        verifyZeroInteractions(publisher);
+    }
+
+    /**
+     * Tests that placing a full chunk places the submissions, records the progress, and reports that the job
+     * is not completed yet.
+     *
+     * @param exam                An {@link Exam} mock (the one that has finished).
+     * @param job                 The {@link SubmissionsPlacementJob} being run.
+     * @param unplacedSubmission1 An {@link ExamSolutionSubmission} mock (one that has not been placed).
+     * @param unplacedSubmission2 An {@link ExamSolutionSubmission} mock (another one that has not been placed).
+     */
+    @Test
+    void testPlaceFullChunk(
+            @Mock(name = "exam") final Exam exam,
+            @Mock(name = "job") final SubmissionsPlacementJob job,
+            @Mock(name = "unplacedSubmission1") final ExamSolutionSubmission unplacedSubmission1,
+            @Mock(name = "unplacedSubmission2") final ExamSolutionSubmission unplacedSubmission2) {
+        final var jobId = TestHelper.validExamId();
+        when(job.getExam()).thenReturn(exam);
+        when(job.getState()).thenReturn(SubmissionsPlacementJob.State.IN_PROGRESS);
+        when(jobRepository.findForUpdate(jobId)).thenReturn(Optional.of(job));
+        when(submissionRepository.getByExamAndState(exam, UNPLACED, CHUNK_SIZE))
+                .thenReturn(List.of(unplacedSubmission1, unplacedSubmission2));
+
+        Assertions.assertTrue(
+                submissionsPlacementManager.placeNextChunk(jobId),
+                "A job whose chunk was full must not be reported as completed"
+        );
+
+        verify(unplacedSubmission1, only()).submit();
+        verify(unplacedSubmission2, only()).submit();
+        verify(job, times(1)).registerPlacedSubmissions(CHUNK_SIZE);
+        verify(job, never()).complete();
+        verify(submissionRepository, times(1)).getByExamAndState(exam, UNPLACED, CHUNK_SIZE);
+        verify(submissionRepository, times(1)).save(unplacedSubmission1);
+        verify(submissionRepository, times(1)).save(unplacedSubmission2);
+        verifyNoMoreInteractions(submissionRepository);
+        verify(jobRepository, times(1)).findForUpdate(jobId);
+        verify(jobRepository, times(1)).save(job);
+        verifyNoMoreInteractions(jobRepository);
+        verify(publisher, times(1)).publishEvent(argThat(eventContainsSubmission(unplacedSubmission1)));
+        verify(publisher, times(1)).publishEvent(argThat(eventContainsSubmission(unplacedSubmission2)));
+        verifyNoMoreInteractions(publisher);
+        verifyZeroInteractions(examRepository);
+    }
+
+    /**
+     * Tests that placing the last chunk (i.e one that is not full) completes the job.
+     *
+     * @param exam               An {@link Exam} mock (the one that has finished).
+     * @param unplacedSubmission An {@link ExamSolutionSubmission} mock (the last one that has not been placed).
+     */
+    @Test
+    void testPlaceLastChunk(
+            @Mock(name = "exam") final Exam exam,
+            @Mock(name = "unplacedSubmission") final ExamSolutionSubmission unplacedSubmission) {
+        final var jobId = TestHelper.validExamId();
+        final var job = new SubmissionsPlacementJob(exam);
+        when(jobRepository.findForUpdate(jobId)).thenReturn(Optional.of(job));
+        when(submissionRepository.getByExamAndState(exam, UNPLACED, CHUNK_SIZE))
+                .thenReturn(List.of(unplacedSubmission));
+
+        Assertions.assertFalse(
+                submissionsPlacementManager.placeNextChunk(jobId),
+                "A job whose last chunk was placed must be reported as completed"
+        );
+        Assertions.assertAll(
+                "The job's progress is not recorded as expected",
+                () -> Assertions.assertEquals(1, job.getPlacedSubmissions(), "Wrong amount of placed submissions"),
+                () -> Assertions.assertEquals(
+                        SubmissionsPlacementJob.State.COMPLETED,
+                        job.getState(),
+                        "The job is not completed"
+                )
+        );
+
+        verify(unplacedSubmission, only()).submit();
+        verify(submissionRepository, times(1)).save(unplacedSubmission);
+        verify(jobRepository, times(1)).save(job);
+        verify(publisher, only()).publishEvent(argThat(eventContainsSubmission(unplacedSubmission)));
+    }
+
+    /**
+     * Tests that an already completed job is not run again.
+     *
+     * @param exam An {@link Exam} mock.
+     */
+    @Test
+    void testPlaceChunkForCompletedJob(@Mock(name = "exam") final Exam exam) {
+        final var jobId = TestHelper.validExamId();
+        final var job = new SubmissionsPlacementJob(exam);
+        job.complete();
+        when(jobRepository.findForUpdate(jobId)).thenReturn(Optional.of(job));
+
+        Assertions.assertFalse(
+                submissionsPlacementManager.placeNextChunk(jobId),
+                "A completed job must be reported as completed"
+        );
+
+        verify(jobRepository, only()).findForUpdate(jobId);
+        verifyZeroInteractions(submissionRepository);
+        verifyZeroInteractions(publisher);
+    }
+
+    /**
+     * Tests that a job's failure is registered, keeping the job in progress
+     * while it has not failed the max. amount of attempts in a row.
+     *
+     * @param exam An {@link Exam} mock.
+     */
+    @Test
+    void testRegisterFailure(@Mock(name = "exam") final Exam exam) {
+        final var jobId = TestHelper.validExamId();
+        final var job = new SubmissionsPlacementJob(exam);
+        when(jobRepository.findForUpdate(jobId)).thenReturn(Optional.of(job));
+
+        Assertions.assertTrue(
+                submissionsPlacementManager.registerFailure(jobId, new IllegalStateException("Failed")),
+                "A job that has not failed the max. amount of attempts must be retried"
+        );
+        Assertions.assertAll(
+                "The job's failure is not recorded as expected",
+                () -> Assertions.assertEquals(1, job.getFailedAttempts(), "Wrong amount of failed attempts"),
+                () -> Assertions.assertEquals(
+                        IllegalStateException.class.getName() + ": Failed",
+                        job.getLastError(),
+                        "Wrong last error"
+                ),
+                () -> Assertions.assertEquals(
+                        SubmissionsPlacementJob.State.IN_PROGRESS,
+                        job.getState(),
+                        "The job is not in progress"
+                )
+        );
+        verify(jobRepository, times(1)).findForUpdate(jobId);
+        verify(jobRepository, times(1)).save(job);
+        verifyNoMoreInteractions(jobRepository);
+        verifyZeroInteractions(submissionRepository);
+        verifyZeroInteractions(publisher);
+    }
+
+    /**
+     * Tests that a job that fails the max. amount of attempts in a row is marked as failed.
+     *
+     * @param exam An {@link Exam} mock.
+     */
+    @Test
+    void testRegisterLastFailure(@Mock(name = "exam") final Exam exam) {
+        final var jobId = TestHelper.validExamId();
+        final var job = new SubmissionsPlacementJob(exam);
+        when(jobRepository.findForUpdate(jobId)).thenReturn(Optional.of(job));
+
+        for (int i = 1; i < MAX_ATTEMPTS; i++) {
+            submissionsPlacementManager.registerFailure(jobId, new IllegalStateException("Failed"));
+        }
+        Assertions.assertFalse(
+                submissionsPlacementManager.registerFailure(jobId, new IllegalStateException("Failed")),
+                "A job that has failed the max. amount of attempts must not be retried"
+        );
+        Assertions.assertEquals(SubmissionsPlacementJob.State.FAILED, job.getState(), "The job is not failed");
+        verify(jobRepository, times(MAX_ATTEMPTS)).save(job);
+        verifyZeroInteractions(submissionRepository);
+        verifyZeroInteractions(publisher);
+    }
+
+    /**
+     * Tests that failures are not registered for jobs that are not in progress.
+     *
+     * @param exam An {@link Exam} mock.
+     */
+    @Test
+    void testRegisterFailureForCompletedJob(@Mock(name = "exam") final Exam exam) {
+        final var jobId = TestHelper.validExamId();
+        final var job = new SubmissionsPlacementJob(exam);
+        job.complete();
+        when(jobRepository.findForUpdate(jobId)).thenReturn(Optional.of(job));
+
+        Assertions.assertFalse(
+                submissionsPlacementManager.registerFailure(jobId, new IllegalStateException("Failed")),
+                "A completed job must not be retried"
+        );
+        Assertions.assertEquals(0, job.getFailedAttempts(), "A failure was registered for a completed job");
+        verify(jobRepository, only()).findForUpdate(jobId);
+        verifyZeroInteractions(submissionRepository);
+        verifyZeroInteractions(publisher);
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Creates an {@link ArgumentMatcher} of {@link ExamSolutionSubmittedEvent} to check if the said event
+     * contains the given {@code submission}.
+     *
+     * @param submission The {@link ExamSolutionSubmission} to be checked.
+     * @return The {@link ArgumentMatcher}.
+     */
+    private static ArgumentMatcher<ExamSolutionSubmittedEvent> eventContainsSubmission(
+            final ExamSolutionSubmission submission) {
+        return event -> event.getSubmission().equals(submission);
+    }
+}
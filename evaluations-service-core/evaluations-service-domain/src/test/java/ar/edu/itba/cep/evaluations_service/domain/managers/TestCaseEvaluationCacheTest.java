@@ -0,0 +1,242 @@
+package ar.edu.itba.cep.evaluations_service.domain.managers;
+
+import ar.edu.itba.cep.evaluations_service.domain.events.ExamFinishedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.ExamStartedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.events.TestCaseChangedEvent;
+import ar.edu.itba.cep.evaluations_service.domain.helpers.TestHelper;
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import ar.edu.itba.cep.evaluations_service.models.Exercise;
+import ar.edu.itba.cep.evaluations_service.models.TestCase;
+import ar.edu.itba.cep.evaluations_service.repositories.ExerciseRepository;
+import ar.edu.itba.cep.evaluations_service.repositories.TestCaseRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the {@link TestCaseEvaluationCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TestCaseEvaluationCacheTest {
+
+    /**
+     * The max. amount of entries of the {@link TestCaseEvaluationCache} being tested.
+     */
+    private static final int MAX_ENTRIES = 2;
+    /**
+     * The max. amount of entries of the {@link OutputCheckersCache} used by the cache being tested.
+     */
+    private static final int OUTPUT_CHECKERS_CACHE_MAX_ENTRIES = 10;
+
+    /**
+     * An {@link ExerciseRepository} that is injected to the {@link TestCaseEvaluationCache}.
+     */
+    private final ExerciseRepository exerciseRepository;
+    /**
+     * A {@link TestCaseRepository} that is injected to the {@link TestCaseEvaluationCache}.
+     */
+    private final TestCaseRepository testCaseRepository;
+    /**
+     * The {@link TestCaseEvaluationCache} being tested.
+     */
+    private final TestCaseEvaluationCache cache;
+
+
+    /**
+     * Constructor.
+     *
+     * @param exerciseRepository An {@link ExerciseRepository} that is injected to the {@link TestCaseEvaluationCache}.
+     * @param testCaseRepository A {@link TestCaseRepository} that is injected to the {@link TestCaseEvaluationCache}.
+     */
+    TestCaseEvaluationCacheTest(
+            @Mock(name = "exerciseRepository") final ExerciseRepository exerciseRepository,
+            @Mock(name = "testCaseRepository") final TestCaseRepository testCaseRepository) {
+        this.exerciseRepository = exerciseRepository;
+        this.testCaseRepository = testCaseRepository;
+        this.cache = new TestCaseEvaluationCache(
+                exerciseRepository,
+                testCaseRepository,
+                new OutputCheckersCache(OUTPUT_CHECKERS_CACHE_MAX_ENTRIES),
+                MAX_ENTRIES
+        );
+    }
+
+
+    /**
+     * Tests that the evaluation data of a {@link TestCase} is computed only once
+     * (i.e the {@link TestCase}'s collections are loaded only once).
+     *
+     * @param testCase The {@link TestCase}.
+     */
+    @Test
+    void testEvaluationIsComputedOnce(@Mock(name = "testCase") final TestCase testCase) {
+        final var expectedOutputs = TestHelper.validTestCaseList();
+        setupTestCase(testCase, TestHelper.validTestCaseId(), expectedOutputs);
+
+        final var evaluation = cache.get(testCase);
+
+        Assertions.assertAll(
+                "The cached evaluation data is not working as expected",
+                () -> Assertions.assertSame(evaluation, cache.get(testCase), "The evaluation data is computed again"),
+                () -> Assertions.assertTrue(
+                        evaluation.getChecker().test(expectedOutputs),
+                        "The expected outputs are not approved"
+                ),
+                () -> Assertions.assertEquals(
+                        testCase.getId(),
+                        evaluation.getInputs().getTestCaseId(),
+                        "The inputs are not the test case's ones"
+                )
+        );
+        verify(testCase, times(1)).getExpectedOutputs();
+        verify(testCase, times(1)).getStdin();
+    }
+
+    /**
+     * Tests that the evaluation data is computed again when the {@link TestCase}'s version changes
+     * (e.g it was modified through another instance of the service, so this one did not evict the entry).
+     *
+     * @param testCase The {@link TestCase} that changes.
+     */
+    @Test
+    void testEvaluationIsComputedAgainForNewVersion(@Mock(name = "testCase") final TestCase testCase) {
+        final var oldOutputs = List.of("old");
+        final var newOutputs = List.of("new");
+        setupTestCase(testCase, TestHelper.validTestCaseId(), oldOutputs);
+        final var oldEvaluation = cache.get(testCase);
+
+        when(testCase.getVersion()).thenReturn(1L);
+        when(testCase.getExpectedOutputs()).thenReturn(newOutputs);
+        final var evaluation = cache.get(testCase);
+
+        Assertions.assertAll(
+                "The evaluation data of the old version is being used",
+                () -> Assertions.assertNotSame(oldEvaluation, evaluation, "The old entry is being returned"),
+                () -> Assertions.assertTrue(evaluation.getChecker().test(newOutputs), "The new outputs are rejected"),
+                () -> Assertions.assertFalse(evaluation.getChecker().test(oldOutputs), "The old outputs are approved")
+        );
+    }
+
+    /**
+     * Tests that the cache is populated with the {@link TestCase}s of an {@link Exam} when it starts.
+     *
+     * @param exam     The {@link Exam} that starts.
+     * @param exercise An {@link Exercise} of the {@code exam}.
+     * @param testCase A {@link TestCase} of the {@code exercise}.
+     */
+    @Test
+    void testCacheIsPopulatedWhenExamStarts(
+            @Mock(name = "exam") final Exam exam,
+            @Mock(name = "exercise") final Exercise exercise,
+            @Mock(name = "testCase") final TestCase testCase) {
+        setupTestCase(testCase, TestHelper.validTestCaseId(), TestHelper.validTestCaseList());
+        when(exerciseRepository.getExamExercises(exam)).thenReturn(List.of(exercise));
+        when(testCaseRepository.getAllTestCases(exercise)).thenReturn(List.of(testCase));
+
+        cache.examStarted(ExamStartedEvent.create(exam));
+        cache.get(testCase);
+
+        verify(testCase, times(1)).getExpectedOutputs();
+        verify(testCase, times(1)).getStdin();
+    }
+
+    /**
+     * Tests that the entries of the {@link TestCase}s of an {@link Exam} are evicted when it finishes.
+     *
+     * @param exam     The {@link Exam} that finishes.
+     * @param exercise An {@link Exercise} of the {@code exam}.
+     * @param testCase A {@link TestCase} of the {@code exercise}.
+     */
+    @Test
+    void testEntriesAreEvictedWhenExamFinishes(
+            @Mock(name = "exam") final Exam exam,
+            @Mock(name = "exercise") final Exercise exercise,
+            @Mock(name = "testCase") final TestCase testCase) {
+        setupTestCase(testCase, TestHelper.validTestCaseId(), TestHelper.validTestCaseList());
+        when(exerciseRepository.getExamExercises(exam)).thenReturn(List.of(exercise));
+        when(testCaseRepository.getAllTestCases(exercise)).thenReturn(List.of(testCase));
+
+        final var evaluation = cache.get(testCase);
+        cache.examFinished(ExamFinishedEvent.create(exam));
+
+        Assertions.assertNotSame(
+                evaluation,
+                cache.get(testCase),
+                "The evaluation data of a finished exam's test case was not evicted"
+        );
+    }
+
+    /**
+     * Tests that the entry of a {@link TestCase} is evicted when the said {@link TestCase} changes.
+     *
+     * @param testCase The {@link TestCase} that changes.
+     */
+    @Test
+    void testEntryIsEvictedWhenTestCaseChanges(@Mock(name = "testCase") final TestCase testCase) {
+        setupTestCase(testCase, TestHelper.validTestCaseId(), TestHelper.validTestCaseList());
+
+        final var evaluation = cache.get(testCase);
+        cache.testCaseChanged(TestCaseChangedEvent.create(testCase));
+
+        Assertions.assertNotSame(
+                evaluation,
+                cache.get(testCase),
+                "The evaluation data of a changed test case was not evicted"
+        );
+    }
+
+    /**
+     * Tests that the least recently used entry is evicted when the max. amount of entries is exceeded.
+     *
+     * @param testCase1 A {@link TestCase} (the one whose entry is the least recently used).
+     * @param testCase2 Another {@link TestCase}.
+     * @param testCase3 Another {@link TestCase} (the one whose entry exceeds the max. amount).
+     */
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted(
+            @Mock(name = "testCase1") final TestCase testCase1,
+            @Mock(name = "testCase2") final TestCase testCase2,
+            @Mock(name = "testCase3") final TestCase testCase3) {
+        setupTestCase(testCase1, 1, List.of("1"));
+        setupTestCase(testCase2, 2, List.of("2"));
+        setupTestCase(testCase3, 3, List.of("3"));
+
+        final var evaluation1 = cache.get(testCase1);
+        final var evaluation2 = cache.get(testCase2);
+        cache.get(testCase1); // Now the entry of testCase2 is the least recently used.
+        cache.get(testCase3);
+
+        Assertions.assertAll(
+                "The least recently used entry was not the evicted one",
+                () -> Assertions.assertSame(evaluation1, cache.get(testCase1), "Entry 1 was evicted"),
+                () -> Assertions.assertNotSame(evaluation2, cache.get(testCase2), "Entry 2 was not evicted")
+        );
+    }
+
+
+    // ================================================================================================================
+    // Helpers
+    // ================================================================================================================
+
+    /**
+     * Configures the given {@code testCase} mock.
+     *
+     * @param testCase        The {@link TestCase} mock.
+     * @param id              The {@link TestCase}'s id.
+     * @param expectedOutputs The {@link TestCase}'s expected outputs.
+     */
+    private static void setupTestCase(final TestCase testCase, final long id, final List<String> expectedOutputs) {
+        when(testCase.getId()).thenReturn(id);
+        when(testCase.getOutputComparison()).thenReturn(TestCase.OutputComparison.EXACT);
+        when(testCase.getExpectedOutputs()).thenReturn(expectedOutputs);
+        when(testCase.getStdin()).thenReturn(List.of());
+    }
+}
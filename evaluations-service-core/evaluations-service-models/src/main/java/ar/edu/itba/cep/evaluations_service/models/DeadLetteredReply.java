@@ -0,0 +1,44 @@
+package ar.edu.itba.cep.evaluations_service.models;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Represents a reply of the executor service that could not be processed after several attempts,
+ * and was set aside in order to be inspected (and, if the cause of the failure is fixed, replayed).
+ */
+@Getter
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+@AllArgsConstructor(staticName = "create")
+public class DeadLetteredReply {
+
+    /**
+     * An opaque value that identifies the reply (to be used to replay it).
+     */
+    private final String id;
+    /**
+     * The id of the {@link ExerciseSolution} to which the reply belongs to (or {@code null} if it is not known).
+     */
+    private final Long solutionId;
+    /**
+     * The id of the {@link TestCase} to which the reply belongs to (or {@code null} if it is not known).
+     */
+    private final Long testCaseId;
+    /**
+     * The amount of times the reply was processed.
+     */
+    private final int attempts;
+    /**
+     * The {@link Instant} at which the reply was set aside.
+     */
+    private final Instant deadLetteredAt;
+    /**
+     * A description of the cause of the last failure.
+     */
+    private final String cause;
+}
@@ -59,6 +59,19 @@ public class Exam {
      */
     private Duration actualDuration;
 
+    /**
+     * The {@link EvaluationPolicy} used to evaluate the submissions of this exam.
+     */
+    private EvaluationPolicy evaluationPolicy;
+
+    /**
+     * The max. amount of score for this exam (i.e the sum of the awarded scores of its exercises),
+     * stored with the exam so it can be read without loading the exercises.
+     * It is kept up to date by the persistence layer with atomic updates each time the exam's exercises change
+     * (see {@code ExamRepository#addToMaxScore} and {@code ExamRepository#clearMaxScore}).
+     */
+    private int maxScore;
+
     /**
      * A {@link Set} containing the owners of this exam.
      */
@@ -96,6 +109,8 @@ public class Exam {
         this.state = State.UPCOMING;
         this.actualStartingMoment = null;
         this.actualDuration = null;
+        this.evaluationPolicy = EvaluationPolicy.COMPLETE;
+        this.maxScore = 0;
         this.owners = new HashSet<>();
         owners.add(creator);
     }
@@ -156,6 +171,21 @@ public class Exam {
         this.actualDuration = Duration.between(actualStartingMoment, Instant.now());
     }
 
+    /**
+     * Changes the {@link EvaluationPolicy} of this exam.
+     *
+     * @param evaluationPolicy The new {@link EvaluationPolicy}.
+     * @throws IllegalEntityStateException If the exam is not upcoming (i.e its submissions might be already
+     *                                     being evaluated, or some might be evaluated with another policy).
+     * @throws IllegalArgumentException    If the given {@code evaluationPolicy} is {@code null}.
+     */
+    public void changeEvaluationPolicy(final EvaluationPolicy evaluationPolicy)
+            throws IllegalEntityStateException, IllegalArgumentException {
+        assertEvaluationPolicy(evaluationPolicy);
+        verifyStateForUpdate();
+        this.evaluationPolicy = evaluationPolicy;
+    }
+
     /**
      * Adds the given {@code owner} to this exam.
      *
@@ -221,6 +251,17 @@ public class Exam {
         Assert.isTrue(!(duration.isNegative() || duration.isZero()), "The duration must be positive");
     }
 
+    /**
+     * Asserts that the given {@code evaluationPolicy} is valid.
+     *
+     * @param evaluationPolicy The {@link EvaluationPolicy} to be checked.
+     * @throws IllegalArgumentException If the evaluation policy is not valid.
+     */
+    private static void assertEvaluationPolicy(final EvaluationPolicy evaluationPolicy)
+            throws IllegalArgumentException {
+        Assert.notNull(evaluationPolicy, "The evaluation policy is missing");
+    }
+
     /**
      * Asserts that the given {@code owner} is valid.
      *
@@ -260,7 +301,7 @@ public class Exam {
 
 
     // ================================
-    // Exam states
+    // Exam states and policies
     // ================================
 
     /**
@@ -282,6 +323,25 @@ public class Exam {
         ;
     }
 
+    /**
+     * An enum containing the different ways in which the submissions of an exam can be evaluated.
+     */
+    public enum EvaluationPolicy {
+        /**
+         * Indicates that each solution is run with all of its exercise's test cases,
+         * in order to get a result for each of them.
+         */
+        COMPLETE,
+        /**
+         * Indicates that the test cases are run in stages (public ones first),
+         * and that as soon as one of them does not approve the solution, the rest are skipped.
+         * As an exercise's score is only awarded if all of its test cases approve the solution,
+         * the score is the same as with {@link #COMPLETE}, but with less executions.
+         */
+        EARLY_EXIT,
+        ;
+    }
+
 
     // ================================
     // Errors
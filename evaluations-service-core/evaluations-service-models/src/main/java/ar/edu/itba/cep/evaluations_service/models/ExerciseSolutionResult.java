@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.ToString;
 import org.springframework.util.Assert;
 
+import java.time.Instant;
 import java.util.Objects;
 
 /**
@@ -34,6 +35,25 @@ public class ExerciseSolutionResult {
      * Indicates whether the result is approved or failed.
      */
     private Result result;
+    /**
+     * The moment at which the execution that will produce the result was last dispatched to the executor service
+     * (or {@code null} if it is not in flight).
+     */
+    private Instant dispatchedAt;
+    /**
+     * The amount of times the execution that will produce the result has been dispatched to the executor service.
+     */
+    private int attempts;
+    /**
+     * The cause of the failure of the last attempt to send the execution to the executor service
+     * (or {@code null} if it did not fail).
+     */
+    private String sendFailure;
+    /**
+     * The version of this result, used for optimistic locking
+     * (i.e it is managed by the persistence layer, and changes each time the result is updated).
+     */
+    private final long version;
 
 
     /**
@@ -44,6 +64,7 @@ public class ExerciseSolutionResult {
         this.id = 0;
         this.solution = null;
         this.testCase = null;
+        this.version = 0;
     }
 
     /**
@@ -60,6 +81,7 @@ public class ExerciseSolutionResult {
         this.id = 0;
         this.solution = solution;
         this.testCase = testCase;
+        this.version = 0;
     }
 
 
@@ -85,10 +107,24 @@ public class ExerciseSolutionResult {
     }
 
     /**
-     * Removes the {@code result}.
+     * Removes the {@code result}, also resetting the dispatching data.
      */
     public void unmark() {
         this.result = null;
+        this.dispatchedAt = null;
+        this.attempts = 0;
+        this.sendFailure = null;
+    }
+
+    /**
+     * Clears the dispatching moment (i.e the execution is not in flight anymore),
+     * keeping the amount of attempts performed.
+     * Note that dispatches (and send failures) are registered in bulk by the persistence layer
+     * (see {@code ExerciseSolutionResultRepository#registerDispatch}
+     * and {@code ExerciseSolutionResultRepository#registerSendFailure}).
+     */
+    public void clearDispatch() {
+        this.dispatchedAt = null;
     }
 
 
@@ -169,6 +205,12 @@ public class ExerciseSolutionResult {
          * For non compiled languages this will be reported when there are syntax errors.
          */
         UNKNOWN_ERROR,
+        /**
+         * Indicates that an exercise's solution was not tested with a given test case
+         * because it was already not accepted by another one
+         * (see {@link Exam.EvaluationPolicy#EARLY_EXIT}).
+         */
+        SKIPPED,
         ;
     }
 }
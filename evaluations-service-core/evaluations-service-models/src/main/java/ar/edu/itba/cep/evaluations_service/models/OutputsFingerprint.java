@@ -0,0 +1,153 @@
+package ar.edu.itba.cep.evaluations_service.models;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.Assert;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * A fingerprint of a {@link List} of outputs (i.e its amount of lines, its length in bytes, and a digest),
+ * that allows checking whether other outputs are the same without having the fingerprinted outputs at hand.
+ */
+@Getter
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+@AllArgsConstructor(staticName = "create")
+public class OutputsFingerprint {
+
+    /**
+     * The algorithm used to compute the digests.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * The amount of lines of the outputs.
+     */
+    private final int lines;
+    /**
+     * The total length of the lines of the outputs, in UTF-8 encoded bytes.
+     */
+    private final long bytes;
+    /**
+     * The digest of the outputs, as an hexadecimal {@link String}.
+     */
+    private final String digest;
+
+
+    /**
+     * Computes the fingerprint of the given {@code outputs}.
+     *
+     * @param outputs The outputs to be fingerprinted.
+     * @return The {@link OutputsFingerprint} of the given {@code outputs}.
+     * @throws IllegalArgumentException If the {@code outputs} are {@code null}.
+     */
+    public static OutputsFingerprint of(final List<String> outputs) throws IllegalArgumentException {
+        Assert.notNull(outputs, "The outputs must not be null");
+        return new OutputsFingerprint(outputs.size(), bytesOf(outputs), digestOf(outputs));
+    }
+
+    /**
+     * Checks whether the given {@code outputs} are the fingerprinted ones.
+     *
+     * @param outputs The outputs to be checked.
+     * @return {@code true} if they are the fingerprinted outputs, or {@code false} otherwise.
+     * @implNote The amount of lines and the length are checked first (without encoding nor hashing anything),
+     * so outputs with a different size are rejected right away, and only those with the same size are hashed.
+     */
+    public boolean matches(final List<String> outputs) {
+        return outputs != null
+                && outputs.size() == lines
+                && bytesOf(outputs) == bytes
+                && digestOf(outputs).equals(digest);
+    }
+
+
+    // ================================
+    // Helpers
+    // ================================
+
+    /**
+     * Computes the total length of the given {@code outputs}, in UTF-8 encoded bytes, without encoding them.
+     *
+     * @param outputs The outputs.
+     * @return Their length.
+     */
+    private static long bytesOf(final List<String> outputs) {
+        long length = 0;
+        for (final var line : outputs) {
+            length += line == null ? 0 : utf8Length(line);
+        }
+        return length;
+    }
+
+    /**
+     * Computes the length of the given {@code line} once encoded with UTF-8.
+     *
+     * @param line The line.
+     * @return Its length, in bytes.
+     */
+    private static long utf8Length(final String line) {
+        long length = 0;
+        for (int i = 0; i < line.length(); i++) {
+            final var c = line.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < line.length()
+                    && Character.isLowSurrogate(line.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Computes the digest of the given {@code outputs}. Each line is prefixed with its length,
+     * so different outputs with the same concatenation do not produce the same digest.
+     *
+     * @param outputs The outputs.
+     * @return The digest, as an hexadecimal {@link String}.
+     */
+    private static String digestOf(final List<String> outputs) {
+        final var digest = messageDigest();
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(outputs.size()).array());
+        for (final var line : outputs) {
+            if (line == null) {
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+                continue;
+            }
+            final var bytes = line.getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+        final var hash = digest.digest();
+        final var builder = new StringBuilder(hash.length * 2);
+        for (final var b : hash) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return A new {@link MessageDigest} instance.
+     */
+    private static MessageDigest messageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Every Java platform must support " + DIGEST_ALGORITHM, e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package ar.edu.itba.cep.evaluations_service.models;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+
+/**
+ * Represents an execution request that must be sent to the executor service
+ * (i.e an entry in the execution requests outbox).
+ * This class relates an {@link ExerciseSolution} and a {@link TestCase},
+ * indicating that the solution must be run with the said test case.
+ */
+@Getter
+@EqualsAndHashCode(of = "id")
+@ToString(doNotUseGetters = true, callSuper = true)
+public class PendingExecutionRequest {
+
+    /**
+     * The pending execution request id.
+     */
+    private final long id;
+    /**
+     * The {@link ExerciseSolution} to be executed.
+     */
+    private final ExerciseSolution solution;
+    /**
+     * The {@link TestCase} used to execute the {@link ExerciseSolution}.
+     */
+    private final TestCase testCase;
+    /**
+     * The {@link Instant} in which this pending execution request was created.
+     */
+    private final Instant createdAt;
+
+
+    /**
+     * Default constructor.
+     */
+    /* package */ PendingExecutionRequest() {
+        // Initialize final fields with default values.
+        this.id = 0;
+        this.solution = null;
+        this.testCase = null;
+        this.createdAt = null;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param solution The {@link ExerciseSolution} to be executed.
+     * @param testCase The {@link TestCase} used to execute the {@link ExerciseSolution}.
+     * @throws IllegalArgumentException If any argument is not valid.
+     */
+    public PendingExecutionRequest(final ExerciseSolution solution, final TestCase testCase)
+            throws IllegalArgumentException {
+        assertSolution(solution);
+        assertTestCase(testCase);
+        this.id = 0;
+        this.solution = solution;
+        this.testCase = testCase;
+        this.createdAt = Instant.now();
+    }
+
+
+    // ================================
+    // Assertions
+    // ================================
+
+    /**
+     * Asserts that the given {@code solution} is valid.
+     *
+     * @param solution The {@link ExerciseSolution} to be checked.
+     * @throws IllegalArgumentException If the solution is not valid.
+     */
+    private static void assertSolution(final ExerciseSolution solution) throws IllegalArgumentException {
+        Assert.notNull(solution, "The solution is missing");
+    }
+
+    /**
+     * Asserts that the given {@code testCase} is valid.
+     *
+     * @param testCase The {@link TestCase} to be checked.
+     * @throws IllegalArgumentException If the test case is not valid.
+     */
+    private static void assertTestCase(final TestCase testCase) throws IllegalArgumentException {
+        Assert.notNull(testCase, "The test case is missing");
+    }
+}
@@ -0,0 +1,138 @@
+package ar.edu.itba.cep.evaluations_service.models;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+
+/**
+ * Represents the score of an {@link ExamSolutionSubmission} that must be sent to the LTI service
+ * (i.e an entry in the score notifications outbox).
+ * It is created in the same transaction in which the submission is scored, and it is removed once delivered,
+ * so scores are never lost if the LTI service is not available. Failed deliveries are recorded,
+ * together with the moment in which the next attempt must be performed.
+ */
+@Getter
+@EqualsAndHashCode(of = "id")
+@ToString(doNotUseGetters = true, callSuper = true)
+public class PendingScoreNotification {
+
+    /**
+     * The pending score notification id.
+     */
+    private final long id;
+    /**
+     * The scored {@link ExamSolutionSubmission}.
+     */
+    private final ExamSolutionSubmission submission;
+    /**
+     * The {@link Instant} in which this pending score notification was created.
+     */
+    private final Instant createdAt;
+    /**
+     * The {@link Instant} from which the notification can be (re)sent.
+     */
+    private Instant nextAttemptAt;
+    /**
+     * The amount of failed attempts of sending the notification.
+     */
+    private int failedAttempts;
+    /**
+     * The error of the last failed attempt (or {@code null} if no attempt failed yet).
+     */
+    private String lastError;
+
+
+    /**
+     * Default constructor.
+     */
+    /* package */ PendingScoreNotification() {
+        // Initialize final fields with default values.
+        this.id = 0;
+        this.submission = null;
+        this.createdAt = null;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param submission The scored {@link ExamSolutionSubmission}.
+     * @throws IllegalArgumentException If any argument is not valid.
+     */
+    public PendingScoreNotification(final ExamSolutionSubmission submission) throws IllegalArgumentException {
+        assertSubmission(submission);
+        this.id = 0;
+        this.submission = submission;
+        this.createdAt = Instant.now();
+        this.nextAttemptAt = createdAt;
+        this.failedAttempts = 0;
+        this.lastError = null;
+    }
+
+
+    /**
+     * Postpones the next attempt of sending the notification until the given {@code nextAttemptAt} moment
+     * (e.g while it is being sent, so it is not sent again unless the attempt is never completed).
+     *
+     * @param nextAttemptAt The {@link Instant} from which the notification can be sent again.
+     * @throws IllegalArgumentException If the {@code nextAttemptAt} moment is {@code null}.
+     */
+    public void postpone(final Instant nextAttemptAt) throws IllegalArgumentException {
+        assertNextAttemptAt(nextAttemptAt);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * Registers a failed attempt of sending the notification, which will be sent again
+     * from the given {@code nextAttemptAt} moment.
+     *
+     * @param error         The error of the failed attempt.
+     * @param nextAttemptAt The {@link Instant} from which the notification can be sent again.
+     * @throws IllegalArgumentException If any argument is {@code null}.
+     */
+    public void registerFailedAttempt(final String error, final Instant nextAttemptAt)
+            throws IllegalArgumentException {
+        assertError(error);
+        assertNextAttemptAt(nextAttemptAt);
+        this.failedAttempts++;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+
+    // ================================
+    // Assertions
+    // ================================
+
+    /**
+     * Asserts that the given {@code submission} is valid.
+     *
+     * @param submission The {@link ExamSolutionSubmission} to be checked.
+     * @throws IllegalArgumentException If the submission is not valid.
+     */
+    private static void assertSubmission(final ExamSolutionSubmission submission) throws IllegalArgumentException {
+        Assert.notNull(submission, "The submission is missing");
+    }
+
+    /**
+     * Asserts that the given {@code nextAttemptAt} moment is valid.
+     *
+     * @param nextAttemptAt The moment to be checked.
+     * @throws IllegalArgumentException If the moment is not valid.
+     */
+    private static void assertNextAttemptAt(final Instant nextAttemptAt) throws IllegalArgumentException {
+        Assert.notNull(nextAttemptAt, "The next attempt moment is missing");
+    }
+
+    /**
+     * Asserts that the given {@code error} is valid.
+     *
+     * @param error The error to be checked.
+     * @throws IllegalArgumentException If the error is not valid.
+     */
+    private static void assertError(final String error) throws IllegalArgumentException {
+        Assert.notNull(error, "The error is missing");
+    }
+}
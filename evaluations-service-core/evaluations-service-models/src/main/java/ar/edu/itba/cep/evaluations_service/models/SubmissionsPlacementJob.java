@@ -0,0 +1,216 @@
+package ar.edu.itba.cep.evaluations_service.models;
+
+import com.bellotapps.webapps_commons.errors.IllegalEntityStateError;
+import com.bellotapps.webapps_commons.exceptions.IllegalEntityStateException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+
+/**
+ * Represents the background job that places the {@link ExamSolutionSubmission}s of an {@link Exam}
+ * that are still unplaced when the said {@link Exam} finishes.
+ * Submissions are placed in chunks, and the job records its progress in order to be resumed if interrupted.
+ */
+@Getter
+@EqualsAndHashCode(of = "id")
+@ToString(doNotUseGetters = true, callSuper = true)
+public class SubmissionsPlacementJob {
+
+    /**
+     * The job's id.
+     */
+    private final long id;
+    /**
+     * The {@link Exam} whose {@link ExamSolutionSubmission}s are placed by this job.
+     */
+    private final Exam exam;
+    /**
+     * The {@link Instant} in which this job was created.
+     */
+    private final Instant createdAt;
+    /**
+     * The state of this job.
+     */
+    private State state;
+    /**
+     * The amount of {@link ExamSolutionSubmission}s placed by this job so far.
+     */
+    private int placedSubmissions;
+    /**
+     * The {@link Instant} in which this job was completed (or {@code null} if it is not completed yet).
+     */
+    private Instant completedAt;
+    /**
+     * The amount of consecutive failed attempts of placing the next chunk of {@link ExamSolutionSubmission}s.
+     */
+    private int failedAttempts;
+    /**
+     * The error of the last failed attempt (or {@code null} if the last attempt did not fail).
+     */
+    private String lastError;
+
+
+    /**
+     * Default constructor.
+     */
+    /* package */ SubmissionsPlacementJob() {
+        // Initialize final fields with default values.
+        this.id = 0;
+        this.exam = null;
+        this.createdAt = null;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param exam The {@link Exam} whose {@link ExamSolutionSubmission}s are placed by this job.
+     * @throws IllegalArgumentException If any argument is not valid.
+     */
+    public SubmissionsPlacementJob(final Exam exam) throws IllegalArgumentException {
+        assertExam(exam);
+        this.id = 0;
+        this.exam = exam;
+        this.createdAt = Instant.now();
+        this.state = State.IN_PROGRESS;
+        this.placedSubmissions = 0;
+        this.completedAt = null;
+        this.failedAttempts = 0;
+        this.lastError = null;
+    }
+
+
+    /**
+     * Registers that the given {@code amount} of {@link ExamSolutionSubmission}s have been placed,
+     * resetting the failed attempts.
+     *
+     * @param amount The amount of placed {@link ExamSolutionSubmission}s.
+     * @throws IllegalArgumentException    If the given {@code amount} is negative.
+     * @throws IllegalEntityStateException If the job is not in progress.
+     */
+    public void registerPlacedSubmissions(final int amount)
+            throws IllegalArgumentException, IllegalEntityStateException {
+        assertAmount(amount);
+        verifyInProgress();
+        this.placedSubmissions += amount;
+        this.failedAttempts = 0;
+        this.lastError = null;
+    }
+
+    /**
+     * Registers a failed attempt of placing the next chunk of {@link ExamSolutionSubmission}s,
+     * marking this job as failed once it has failed the given {@code maxAttempts} times in a row.
+     *
+     * @param error       The error of the failed attempt.
+     * @param maxAttempts The max. amount of consecutive failed attempts before the job is marked as failed.
+     * @throws IllegalArgumentException    If the {@code error} is {@code null},
+     *                                     or if the {@code maxAttempts} is not positive.
+     * @throws IllegalEntityStateException If the job is not in progress.
+     */
+    public void registerFailedAttempt(final String error, final int maxAttempts)
+            throws IllegalArgumentException, IllegalEntityStateException {
+        assertError(error);
+        Assert.isTrue(maxAttempts > 0, "The max. amount of attempts must be positive");
+        verifyInProgress();
+        this.failedAttempts++;
+        this.lastError = error;
+        if (failedAttempts >= maxAttempts) {
+            this.state = State.FAILED;
+        }
+    }
+
+    /**
+     * Marks this job as completed.
+     *
+     * @throws IllegalEntityStateException If the job is not in progress.
+     */
+    public void complete() throws IllegalEntityStateException {
+        verifyInProgress();
+        this.state = State.COMPLETED;
+        this.completedAt = Instant.now();
+    }
+
+
+    /**
+     * Verifies that this job is in progress.
+     *
+     * @throws IllegalEntityStateException If the job is not in progress.
+     */
+    private void verifyInProgress() throws IllegalEntityStateException {
+        if (state != State.IN_PROGRESS) {
+            throw new IllegalEntityStateException(NOT_IN_PROGRESS);
+        }
+    }
+
+
+    // ================================
+    // Assertions
+    // ================================
+
+    /**
+     * Asserts that the given {@code exam} is valid.
+     *
+     * @param exam The {@link Exam} to be checked.
+     * @throws IllegalArgumentException If the exam is not valid.
+     */
+    private static void assertExam(final Exam exam) throws IllegalArgumentException {
+        Assert.notNull(exam, "The exam is missing");
+    }
+
+    /**
+     * Asserts that the given {@code amount} of placed submissions is valid.
+     *
+     * @param amount The amount to be checked.
+     * @throws IllegalArgumentException If the amount is not valid.
+     */
+    private static void assertAmount(final int amount) throws IllegalArgumentException {
+        Assert.isTrue(amount >= 0, "The amount of placed submissions cannot be negative");
+    }
+
+    /**
+     * Asserts that the given {@code error} is valid.
+     *
+     * @param error The error to be checked.
+     * @throws IllegalArgumentException If the error is not valid.
+     */
+    private static void assertError(final String error) throws IllegalArgumentException {
+        Assert.notNull(error, "The error is missing");
+    }
+
+
+    // ================================
+    // SubmissionsPlacementJob states
+    // ================================
+
+    /**
+     * An enum containing the states in which a {@link SubmissionsPlacementJob} can be.
+     */
+    public enum State {
+        /**
+         * There are still submissions to be placed.
+         */
+        IN_PROGRESS,
+        /**
+         * All submissions have been placed.
+         */
+        COMPLETED,
+        /**
+         * Placing the submissions failed too many times in a row (see the job's last error).
+         */
+        FAILED,
+        ;
+    }
+
+
+    // ================================
+    // Errors
+    // ================================
+
+    /**
+     * Indicates that a {@link SubmissionsPlacementJob} is not in progress anymore (i.e it is completed or failed).
+     */
+    private static final IllegalEntityStateError NOT_IN_PROGRESS =
+            new IllegalEntityStateError("The submissions placement job is not in progress anymore", "state");
+}
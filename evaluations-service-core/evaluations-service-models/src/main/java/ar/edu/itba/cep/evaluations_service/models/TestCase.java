@@ -9,6 +9,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Represents a test case for an {@link Exercise}.
@@ -38,6 +40,21 @@ public class TestCase {
      */
     private List<String> expectedOutputs;
 
+    /**
+     * The amount of lines of the expected outputs (see {@link OutputsFingerprint}).
+     */
+    private Integer expectedOutputsLines;
+
+    /**
+     * The length of the expected outputs, in bytes (see {@link OutputsFingerprint}).
+     */
+    private Long expectedOutputsBytes;
+
+    /**
+     * The digest of the expected outputs (see {@link OutputsFingerprint}).
+     */
+    private String expectedOutputsDigest;
+
     /**
      * Indicates whether the test case is public or private.
      */
@@ -48,6 +65,22 @@ public class TestCase {
      */
     private Long timeout;
 
+    /**
+     * The {@link OutputComparison} used to check whether an execution's outputs match the expected ones.
+     */
+    private OutputComparison outputComparison;
+
+    /**
+     * The relative tolerance used when comparing numbers
+     * (only used with the {@link OutputComparison#FLOAT_TOLERANCE} comparison).
+     */
+    private Double tolerance;
+
+    /**
+     * The version of this test case (incremented each time it is modified).
+     */
+    private final long version;
+
     /**
      * The {@link Exercise} to which this test case belongs to.
      */
@@ -63,6 +96,7 @@ public class TestCase {
         this.programArguments = null;
         this.stdin = null;
         this.expectedOutputs = null;
+        this.version = 0;
         this.exercise = null;
     }
 
@@ -97,6 +131,10 @@ public class TestCase {
         this.programArguments = Optional.ofNullable(programArguments).map(LinkedList::new).orElse(null);
         this.stdin = Optional.ofNullable(stdin).map(LinkedList::new).orElse(null);
         this.expectedOutputs = Optional.ofNullable(expectedOutputs).map(LinkedList::new).orElse(null);
+        fingerprintExpectedOutputs();
+        this.outputComparison = OutputComparison.EXACT;
+        this.tolerance = null;
+        this.version = 0;
         this.exercise = exercise;
     }
 
@@ -122,11 +160,58 @@ public class TestCase {
         assertProgramArgumentsList(programArguments);
         assertStdin(stdin);
         assertExpectedOutputsList(expectedOutputs);
+        assertExpectedOutputsComparison(outputComparison, expectedOutputs);
         this.visibility = visibility;
         this.timeout = timeout;
         this.programArguments = Optional.ofNullable(programArguments).map(LinkedList::new).orElse(null);
         this.stdin = Optional.ofNullable(stdin).map(LinkedList::new).orElse(null);
         this.expectedOutputs = Optional.ofNullable(expectedOutputs).map(LinkedList::new).orElse(null);
+        fingerprintExpectedOutputs();
+    }
+
+    /**
+     * Returns the {@link OutputsFingerprint} of the expected outputs,
+     * which allows checking outputs without loading the expected ones.
+     *
+     * @return An {@link Optional} containing the {@link OutputsFingerprint} of the expected outputs,
+     * or empty if it is not known (existing test cases are fingerprinted when migrating the database,
+     * so this should only happen with data inserted by other means).
+     */
+    public Optional<OutputsFingerprint> getExpectedOutputsFingerprint() {
+        if (expectedOutputsLines == null || expectedOutputsBytes == null || expectedOutputsDigest == null) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                OutputsFingerprint.create(expectedOutputsLines, expectedOutputsBytes, expectedOutputsDigest)
+        );
+    }
+
+    /**
+     * Changes the way in which an execution's outputs are compared with the expected ones.
+     *
+     * @param outputComparison The new {@link OutputComparison}.
+     * @param tolerance        The relative tolerance used when comparing numbers
+     *                         (must be present only for {@link OutputComparison#FLOAT_TOLERANCE}).
+     * @throws IllegalArgumentException If any argument is not valid.
+     */
+    public void changeOutputComparison(final OutputComparison outputComparison, final Double tolerance)
+            throws IllegalArgumentException {
+        assertOutputComparison(outputComparison);
+        assertTolerance(outputComparison, tolerance);
+        assertExpectedOutputsComparison(outputComparison, expectedOutputs);
+        this.outputComparison = outputComparison;
+        this.tolerance = tolerance;
+    }
+
+
+    /**
+     * Computes and stores the {@link OutputsFingerprint} of the expected outputs.
+     */
+    private void fingerprintExpectedOutputs() {
+        final var fingerprint = OutputsFingerprint.of(expectedOutputs);
+        this.expectedOutputsLines = fingerprint.getLines();
+        this.expectedOutputsBytes = fingerprint.getBytes();
+        this.expectedOutputsDigest = fingerprint.getDigest();
     }
 
 
@@ -194,6 +279,60 @@ public class TestCase {
         Assert.isTrue(outputs.stream().noneMatch(Objects::isNull), "The list must not contain null elements");
     }
 
+    /**
+     * Asserts that the given {@code outputComparison} is valid.
+     *
+     * @param outputComparison The {@link OutputComparison} to be checked.
+     * @throws IllegalArgumentException If the output comparison is not valid.
+     */
+    private static void assertOutputComparison(final OutputComparison outputComparison)
+            throws IllegalArgumentException {
+        Assert.notNull(outputComparison, "The output comparison is missing");
+    }
+
+    /**
+     * Asserts that the given {@code tolerance} is valid for the given {@code outputComparison}.
+     *
+     * @param outputComparison The {@link OutputComparison} for which the tolerance is being set.
+     * @param tolerance        The tolerance to be checked.
+     * @throws IllegalArgumentException If the tolerance is not valid.
+     */
+    private static void assertTolerance(final OutputComparison outputComparison, final Double tolerance)
+            throws IllegalArgumentException {
+        if (outputComparison == OutputComparison.FLOAT_TOLERANCE) {
+            Assert.notNull(tolerance, "The tolerance is missing");
+            Assert.isTrue(
+                    Double.isFinite(tolerance) && tolerance >= 0,
+                    "The tolerance must be finite and not negative"
+            );
+        } else {
+            Assert.isNull(tolerance, "A tolerance can only be set for the FLOAT_TOLERANCE output comparison");
+        }
+    }
+
+    /**
+     * Asserts that the given {@code outputs} can be used with the given {@code outputComparison}
+     * (i.e for {@link OutputComparison#REGEX}, that all of them are valid regular expressions).
+     *
+     * @param outputComparison The {@link OutputComparison} used to compare the outputs.
+     * @param outputs          The outputs {@link List} to be checked.
+     * @throws IllegalArgumentException If the outputs cannot be used with the output comparison.
+     */
+    private static void assertExpectedOutputsComparison(
+            final OutputComparison outputComparison,
+            final List<String> outputs) throws IllegalArgumentException {
+        if (outputComparison != OutputComparison.REGEX || outputs == null) {
+            return;
+        }
+        for (final var output : outputs) {
+            try {
+                Pattern.compile(output);
+            } catch (final PatternSyntaxException e) {
+                throw new IllegalArgumentException("The expected output \"" + output + "\" is not a valid regex", e);
+            }
+        }
+    }
+
     /**
      * Asserts that the given {@code exercise} is valid.
      *
@@ -225,4 +364,32 @@ public class TestCase {
         PRIVATE,
         ;
     }
+
+    /**
+     * An enum holding the ways in which an execution's outputs can be compared with the expected ones.
+     */
+    public enum OutputComparison {
+        /**
+         * Outputs must be exactly the expected ones.
+         */
+        EXACT,
+        /**
+         * Outputs must be the expected ones, ignoring leading and trailing whitespaces in each line,
+         * collapsing runs of whitespaces, and ignoring trailing blank lines.
+         */
+        WHITESPACE_INSENSITIVE,
+        /**
+         * Outputs must be the expected ones, but numbers can differ up to a relative tolerance.
+         */
+        FLOAT_TOLERANCE,
+        /**
+         * Each output line must fully match the regular expression in the same position of the expected outputs.
+         */
+        REGEX,
+        /**
+         * Outputs must be the expected ones, in any order.
+         */
+        UNORDERED_LINES,
+        ;
+    }
 }
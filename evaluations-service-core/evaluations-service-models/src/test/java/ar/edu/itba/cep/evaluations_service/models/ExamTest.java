@@ -141,7 +141,13 @@ class ExamTest {
         Assertions.assertAll("Exam is not being created as expected",
                 () -> Assertions.assertSame(Exam.State.UPCOMING, exam.getState(), "Not in UPCOMING state"),
                 () -> Assertions.assertNull(exam.getActualStartingMoment(), "Not null actual starting moment"),
-                () -> Assertions.assertNull(exam.getActualDuration(), "Not null actual duration")
+                () -> Assertions.assertNull(exam.getActualDuration(), "Not null actual duration"),
+                () -> Assertions.assertSame(
+                        Exam.EvaluationPolicy.COMPLETE,
+                        exam.getEvaluationPolicy(),
+                        "Not using the COMPLETE evaluation policy"
+                ),
+                () -> Assertions.assertEquals(0, exam.getMaxScore(), "Not zero max. score")
         );
     }
 
@@ -456,6 +462,49 @@ class ExamTest {
         );
     }
 
+    /**
+     * Tests that the evaluation policy can be changed when the exam is upcoming.
+     */
+    @Test
+    void testChangeEvaluationPolicyIfUpcoming() {
+        final var exam = createExam();
+        exam.changeEvaluationPolicy(Exam.EvaluationPolicy.EARLY_EXIT);
+        Assertions.assertSame(
+                Exam.EvaluationPolicy.EARLY_EXIT,
+                exam.getEvaluationPolicy(),
+                "Changing the evaluation policy when the exam is upcoming is not working as expected"
+        );
+    }
+
+    /**
+     * Tests that the evaluation policy cannot be changed when the exam is in progress.
+     */
+    @Test
+    void testChangeEvaluationPolicyIfInProgress() {
+        final var exam = createExam();
+        exam.startExam();
+        Assertions.assertThrows(
+                IllegalEntityStateException.class,
+                () -> exam.changeEvaluationPolicy(Exam.EvaluationPolicy.EARLY_EXIT),
+                "Changing the evaluation policy when the exam is in progress is being allowed"
+        );
+    }
+
+    /**
+     * Tests that the evaluation policy cannot be changed when the exam is finished.
+     */
+    @Test
+    void testChangeEvaluationPolicyIfFinished() {
+        final var exam = createExam();
+        exam.startExam();
+        exam.finishExam();
+        Assertions.assertThrows(
+                IllegalEntityStateException.class,
+                () -> exam.changeEvaluationPolicy(Exam.EvaluationPolicy.EARLY_EXIT),
+                "Changing the evaluation policy when the exam is finished is being allowed"
+        );
+    }
+
 
     // ================================================================================================================
     // Constraint testing
@@ -779,6 +828,24 @@ class ExamTest {
     }
 
 
+    // ================================
+    // Evaluation policy
+    // ================================
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown when changing the evaluation policy
+     * of an {@link Exam} to a null one.
+     */
+    @Test
+    void testNullEvaluationPolicy() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> createExam().changeEvaluationPolicy(null),
+                "Changing to a null evaluation policy is being allowed."
+        );
+    }
+
+
     // ================================================================================================================
     // Helpers
     // ================================================================================================================
@@ -844,7 +911,6 @@ class ExamTest {
         return Faker.instance().name().username();
     }
 
-
     // ========================================
     // Invalid values
     // ========================================
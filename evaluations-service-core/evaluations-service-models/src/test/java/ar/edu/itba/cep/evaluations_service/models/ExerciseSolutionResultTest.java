@@ -128,6 +128,31 @@ class ExerciseSolutionResultTest {
         );
     }
 
+    /**
+     * Tests that a created result is not dispatched.
+     */
+    @Test
+    void testNotDispatchedWhenCreated() {
+        final var result = createExerciseSolutionResult();
+        Assertions.assertAll(
+                "A created result is dispatched",
+                () -> Assertions.assertNull(result.getDispatchedAt(), "The dispatching moment is not null"),
+                () -> Assertions.assertEquals(0, result.getAttempts(), "There are attempts")
+        );
+    }
+
+    /**
+     * Tests that clearing the dispatch removes the dispatching moment.
+     */
+    @Test
+    void testClearDispatch() {
+        final var result = createExerciseSolutionResult();
+        result.clearDispatch();
+        Assertions.assertNull(result.getDispatchedAt(), "The dispatching moment was not cleared");
+        Mockito.verifyZeroInteractions(mockedExerciseSolution);
+        Mockito.verifyZeroInteractions(mockedTestCase);
+    }
+
     // ================================================================================================================
     // Constraint testing
     // ================================================================================================================
@@ -0,0 +1,55 @@
+package ar.edu.itba.cep.evaluations_service.models;
+
+import com.github.javafaker.Faker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Test class for {@link OutputsFingerprint}s.
+ */
+class OutputsFingerprintTest {
+
+    /**
+     * Tests that the fingerprint holds the amount of lines and the length in bytes of the outputs.
+     */
+    @Test
+    void testLinesAndBytes() {
+        final var fingerprint = OutputsFingerprint.of(List.of("a", "ñ", "€", "😀"));
+        Assertions.assertAll("The fingerprint is not well formed",
+                () -> Assertions.assertEquals(4, fingerprint.getLines(), "Lines mismatch"),
+                () -> Assertions.assertEquals(1 + 2 + 3 + 4, fingerprint.getBytes(), "Bytes mismatch"),
+                () -> Assertions.assertEquals(64, fingerprint.getDigest().length(), "Digest length mismatch")
+        );
+    }
+
+    /**
+     * Tests that the fingerprint matches the same outputs (even if they are other instances).
+     */
+    @Test
+    void testMatchesSameOutputs() {
+        final var outputs = Faker.instance().lorem().words(10);
+        Assertions.assertTrue(
+                OutputsFingerprint.of(outputs).matches(new ArrayList<>(outputs)),
+                "The fingerprint does not match the fingerprinted outputs"
+        );
+    }
+
+    /**
+     * Tests that the fingerprint does not match other outputs, even with the same size or the same concatenation.
+     */
+    @Test
+    void testDoesNotMatchOtherOutputs() {
+        final var fingerprint = OutputsFingerprint.of(List.of("ab", "c"));
+        Assertions.assertAll("The fingerprint matches other outputs",
+                () -> Assertions.assertFalse(fingerprint.matches(List.of("ab")), "Matches fewer lines"),
+                () -> Assertions.assertFalse(fingerprint.matches(List.of("ab", "cd")), "Matches longer outputs"),
+                () -> Assertions.assertFalse(fingerprint.matches(List.of("ab", "d")), "Matches same size outputs"),
+                () -> Assertions.assertFalse(fingerprint.matches(List.of("a", "bc")), "Matches same concatenation"),
+                () -> Assertions.assertFalse(fingerprint.matches(null), "Matches null outputs")
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package ar.edu.itba.cep.evaluations_service.models;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+
+/**
+ * Test class for {@link PendingExecutionRequest}s
+ */
+@ExtendWith(MockitoExtension.class)
+class PendingExecutionRequestTest {
+
+    /**
+     * A mocked {@link ExerciseSolution} which is used as the solution to be executed.
+     */
+    private final ExerciseSolution mockedExerciseSolution;
+
+    /**
+     * A mocked {@link TestCase} which is used as the test case with which the solution will be executed.
+     */
+    private final TestCase mockedTestCase;
+
+    /**
+     * Constructor.
+     *
+     * @param mockedExerciseSolution A mocked {@link ExerciseSolution} which is used as the solution to be executed.
+     * @param mockedTestCase         A mocked {@link TestCase} which is used as the test case
+     *                               with which the solution will be executed.
+     */
+    PendingExecutionRequestTest(
+            @Mock final ExerciseSolution mockedExerciseSolution,
+            @Mock final TestCase mockedTestCase) {
+        this.mockedExerciseSolution = mockedExerciseSolution;
+        this.mockedTestCase = mockedTestCase;
+    }
+
+
+    // ================================================================================================================
+    // Acceptable arguments
+    // ================================================================================================================
+
+    /**
+     * Tests that creating a {@link PendingExecutionRequest}
+     * with valid values can be performed without any exception being thrown.
+     */
+    @Test
+    void testAcceptableArguments() {
+        Assertions.assertDoesNotThrow(
+                () -> new PendingExecutionRequest(mockedExerciseSolution, mockedTestCase),
+                "Pending execution requests with acceptable arguments are not being created"
+        );
+        Mockito.verifyZeroInteractions(mockedExerciseSolution);
+        Mockito.verifyZeroInteractions(mockedTestCase);
+    }
+
+    /**
+     * Tests that a {@link PendingExecutionRequest} has the creation moment set when created.
+     */
+    @Test
+    void testCreationMomentIsSetWhenCreated() {
+        Assertions.assertNotNull(
+                new PendingExecutionRequest(mockedExerciseSolution, mockedTestCase).getCreatedAt(),
+                "The creation moment must be set when creating a pending execution request"
+        );
+        Mockito.verifyZeroInteractions(mockedExerciseSolution);
+        Mockito.verifyZeroInteractions(mockedTestCase);
+    }
+
+
+    // ================================================================================================================
+    // Constraint testing
+    // ================================================================================================================
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown
+     * when creating a {@link PendingExecutionRequest} with a null {@link ExerciseSolution}.
+     */
+    @Test
+    void testNullExerciseSolutionOnCreation() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new PendingExecutionRequest(null, mockedTestCase),
+                "Creating a pending execution request with a null exercise solution is being allowed"
+        );
+        Mockito.verifyZeroInteractions(mockedTestCase);
+    }
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown
+     * when creating a {@link PendingExecutionRequest} with a null {@link TestCase}.
+     */
+    @Test
+    void testNullTestCaseOnCreation() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new PendingExecutionRequest(mockedExerciseSolution, null),
+                "Creating a pending execution request with a null test case is being allowed"
+        );
+        Mockito.verifyZeroInteractions(mockedExerciseSolution);
+    }
+}
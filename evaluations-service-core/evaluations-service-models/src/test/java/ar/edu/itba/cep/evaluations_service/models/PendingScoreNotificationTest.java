@@ -0,0 +1,147 @@
+package ar.edu.itba.cep.evaluations_service.models;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+
+/**
+ * Test class for {@link PendingScoreNotification}s
+ */
+@ExtendWith(MockitoExtension.class)
+class PendingScoreNotificationTest {
+
+    /**
+     * A mocked {@link ExamSolutionSubmission} which is used as the scored submission.
+     */
+    private final ExamSolutionSubmission mockedSubmission;
+
+    /**
+     * Constructor.
+     *
+     * @param mockedSubmission A mocked {@link ExamSolutionSubmission} which is used as the scored submission.
+     */
+    PendingScoreNotificationTest(@Mock final ExamSolutionSubmission mockedSubmission) {
+        this.mockedSubmission = mockedSubmission;
+    }
+
+
+    // ================================================================================================================
+    // Acceptable arguments
+    // ================================================================================================================
+
+    /**
+     * Tests that creating a {@link PendingScoreNotification}
+     * with valid values can be performed without any exception being thrown.
+     */
+    @Test
+    void testAcceptableArguments() {
+        Assertions.assertDoesNotThrow(
+                () -> new PendingScoreNotification(mockedSubmission),
+                "Pending score notifications with acceptable arguments are not being created"
+        );
+        Mockito.verifyZeroInteractions(mockedSubmission);
+    }
+
+
+    // ================================================================================================================
+    // Behaviour testing
+    // ================================================================================================================
+
+    /**
+     * Tests that a {@link PendingScoreNotification} is due right away when created, without failed attempts.
+     */
+    @Test
+    void testNotificationIsDueWhenCreated() {
+        final var notification = new PendingScoreNotification(mockedSubmission);
+        Assertions.assertAll(
+                "The notification is not created as expected",
+                () -> Assertions.assertNotNull(notification.getCreatedAt(), "The creation moment must be set"),
+                () -> Assertions.assertEquals(
+                        notification.getCreatedAt(),
+                        notification.getNextAttemptAt(),
+                        "The notification must be due when created"
+                ),
+                () -> Assertions.assertEquals(0, notification.getFailedAttempts(), "There must not be failures"),
+                () -> Assertions.assertNull(notification.getLastError(), "There must not be an error")
+        );
+        Mockito.verifyZeroInteractions(mockedSubmission);
+    }
+
+    /**
+     * Tests that postponing a {@link PendingScoreNotification} changes its next attempt moment
+     * without registering a failure.
+     */
+    @Test
+    void testPostpone() {
+        final var notification = new PendingScoreNotification(mockedSubmission);
+        final var nextAttemptAt = Instant.now().plusSeconds(60);
+        notification.postpone(nextAttemptAt);
+        Assertions.assertAll(
+                "Postponing the notification is not working as expected",
+                () -> Assertions.assertEquals(nextAttemptAt, notification.getNextAttemptAt(), "Wrong next attempt"),
+                () -> Assertions.assertEquals(0, notification.getFailedAttempts(), "There must not be failures")
+        );
+    }
+
+    /**
+     * Tests that registering failed attempts records them, together with the last error and the next attempt.
+     */
+    @Test
+    void testRegisterFailedAttempts() {
+        final var notification = new PendingScoreNotification(mockedSubmission);
+        final var nextAttemptAt = Instant.now().plusSeconds(10);
+        notification.registerFailedAttempt("First error", Instant.now().plusSeconds(5));
+        notification.registerFailedAttempt("Second error", nextAttemptAt);
+        Assertions.assertAll(
+                "Registering failed attempts is not working as expected",
+                () -> Assertions.assertEquals(2, notification.getFailedAttempts(), "Wrong amount of failed attempts"),
+                () -> Assertions.assertEquals("Second error", notification.getLastError(), "Wrong last error"),
+                () -> Assertions.assertEquals(nextAttemptAt, notification.getNextAttemptAt(), "Wrong next attempt")
+        );
+    }
+
+
+    // ================================================================================================================
+    // Constraint testing
+    // ================================================================================================================
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown
+     * when creating a {@link PendingScoreNotification} with a null {@link ExamSolutionSubmission}.
+     */
+    @Test
+    void testNullSubmissionOnCreation() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new PendingScoreNotification(null),
+                "Creating a pending score notification with a null submission is being allowed"
+        );
+    }
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown
+     * when registering a failed attempt without error or without next attempt moment.
+     */
+    @Test
+    void testNullArgumentsOnFailedAttempt() {
+        final var notification = new PendingScoreNotification(mockedSubmission);
+        Assertions.assertAll(
+                "Registering a failed attempt with null arguments is being allowed",
+                () -> Assertions.assertThrows(
+                        IllegalArgumentException.class,
+                        () -> notification.registerFailedAttempt(null, Instant.now())
+                ),
+                () -> Assertions.assertThrows(
+                        IllegalArgumentException.class,
+                        () -> notification.registerFailedAttempt("Error", null)
+                )
+        );
+        Assertions.assertEquals(0, notification.getFailedAttempts(), "Failed attempts must not be registered");
+    }
+}
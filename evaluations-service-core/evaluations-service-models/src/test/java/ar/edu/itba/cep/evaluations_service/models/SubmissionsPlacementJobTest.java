@@ -0,0 +1,242 @@
+package ar.edu.itba.cep.evaluations_service.models;
+
+import com.bellotapps.webapps_commons.exceptions.IllegalEntityStateException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob.State.COMPLETED;
+import static ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob.State.FAILED;
+import static ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob.State.IN_PROGRESS;
+
+/**
+ * Test class for {@link SubmissionsPlacementJob}s.
+ */
+@ExtendWith(MockitoExtension.class)
+class SubmissionsPlacementJobTest {
+
+    /**
+     * A mocked {@link Exam} whose submissions are placed by the {@link SubmissionsPlacementJob}s being tested.
+     */
+    private final Exam mockedExam;
+
+    SubmissionsPlacementJobTest(@Mock(name = "exam") final Exam mockedExam) {
+        this.mockedExam = mockedExam;
+    }
+
+    // ================================================================================================================
+    // Acceptable arguments
+    // ================================================================================================================
+
+    /**
+     * Tests that creating a {@link SubmissionsPlacementJob}
+     * with valid values can be performed without any exception being thrown.
+     */
+    @Test
+    void testAcceptableArguments() {
+        Assertions.assertDoesNotThrow(
+                () -> new SubmissionsPlacementJob(mockedExam),
+                "A submissions placement job is not being created with acceptable arguments."
+        );
+        Mockito.verifyZeroInteractions(mockedExam);
+    }
+
+    // ================================================================================================================
+    // Behaviour testing
+    // ================================================================================================================
+
+    /**
+     * Tests that a {@link SubmissionsPlacementJob} is created in progress, without placed submissions.
+     */
+    @Test
+    void testJobIsInProgressWhenCreated() {
+        final var job = new SubmissionsPlacementJob(mockedExam);
+        Assertions.assertAll(
+                "The job is not created as expected",
+                () -> Assertions.assertEquals(
+                        IN_PROGRESS,
+                        job.getState(),
+                        "The state of the job must be " + IN_PROGRESS + " when created"
+                ),
+                () -> Assertions.assertEquals(
+                        0,
+                        job.getPlacedSubmissions(),
+                        "There must not be placed submissions when created"
+                ),
+                () -> Assertions.assertNull(job.getCompletedAt(), "The completion moment must be null when created")
+        );
+    }
+
+    /**
+     * Tests that registering placed submissions accumulates them.
+     */
+    @Test
+    void testRegisterPlacedSubmissions() {
+        final var job = new SubmissionsPlacementJob(mockedExam);
+        job.registerPlacedSubmissions(3);
+        job.registerPlacedSubmissions(2);
+        Assertions.assertEquals(
+                5,
+                job.getPlacedSubmissions(),
+                "Registered placed submissions are not being accumulated"
+        );
+    }
+
+    /**
+     * Tests that a {@link SubmissionsPlacementJob}'s state is {@link SubmissionsPlacementJob.State#COMPLETED}
+     * after completing it.
+     */
+    @Test
+    void testStateIsChangedAfterCompletingIt() {
+        final var job = new SubmissionsPlacementJob(mockedExam);
+        job.complete();
+        Assertions.assertAll(
+                "Completing the job is not working as expected",
+                () -> Assertions.assertEquals(
+                        COMPLETED,
+                        job.getState(),
+                        "The state of the job must be " + COMPLETED + " after completing it"
+                ),
+                () -> Assertions.assertNotNull(job.getCompletedAt(), "The completion moment is not set")
+        );
+    }
+
+    /**
+     * Tests that registering failed attempts records the last error, keeping the job in progress
+     * until the max. amount of attempts is reached.
+     */
+    @Test
+    void testRegisterFailedAttempts() {
+        final var job = new SubmissionsPlacementJob(mockedExam);
+        job.registerFailedAttempt("First error", 2);
+        Assertions.assertAll(
+                "Registering a failed attempt is not working as expected",
+                () -> Assertions.assertEquals(IN_PROGRESS, job.getState(), "The job must still be in progress"),
+                () -> Assertions.assertEquals(1, job.getFailedAttempts(), "Wrong amount of failed attempts"),
+                () -> Assertions.assertEquals("First error", job.getLastError(), "Wrong last error")
+        );
+        job.registerFailedAttempt("Second error", 2);
+        Assertions.assertAll(
+                "Registering the last failed attempt is not working as expected",
+                () -> Assertions.assertEquals(FAILED, job.getState(), "The job must be failed"),
+                () -> Assertions.assertEquals(2, job.getFailedAttempts(), "Wrong amount of failed attempts"),
+                () -> Assertions.assertEquals("Second error", job.getLastError(), "Wrong last error")
+        );
+    }
+
+    /**
+     * Tests that placing submissions resets the failed attempts (i.e they are counted in a row).
+     */
+    @Test
+    void testPlacedSubmissionsResetFailedAttempts() {
+        final var job = new SubmissionsPlacementJob(mockedExam);
+        job.registerFailedAttempt("Error", 2);
+        job.registerPlacedSubmissions(1);
+        Assertions.assertAll(
+                "Placing submissions is not resetting the failed attempts",
+                () -> Assertions.assertEquals(0, job.getFailedAttempts(), "The failed attempts were not reset"),
+                () -> Assertions.assertNull(job.getLastError(), "The last error was not cleared")
+        );
+        job.registerFailedAttempt("Error", 2);
+        Assertions.assertEquals(IN_PROGRESS, job.getState(), "Failed attempts are not being counted in a row");
+    }
+
+
+    // ================================================================================================================
+    // Constraint testing
+    // ================================================================================================================
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown
+     * when creating a {@link SubmissionsPlacementJob} with a null exam.
+     */
+    @Test
+    void testNullExamOnCreation() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new SubmissionsPlacementJob(null),
+                "Creating a submissions placement job with a null exam is being allowed"
+        );
+    }
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown when registering a negative amount of placed
+     * submissions.
+     */
+    @Test
+    void testNegativePlacedSubmissions() {
+        final var job = new SubmissionsPlacementJob(mockedExam);
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> job.registerPlacedSubmissions(-1),
+                "Registering a negative amount of placed submissions is being allowed"
+        );
+    }
+
+    /**
+     * Tests that the complete action cannot be executed more than once.
+     */
+    @Test
+    void testJobCannotBeCompletedTwice() {
+        final var job = new SubmissionsPlacementJob(mockedExam);
+        job.complete();
+        Assertions.assertThrows(
+                IllegalEntityStateException.class,
+                job::complete,
+                "Completing a job is being allowed to be done more than once"
+        );
+    }
+
+    /**
+     * Tests that placed submissions cannot be registered once the job is completed.
+     */
+    @Test
+    void testPlacedSubmissionsCannotBeRegisteredWhenCompleted() {
+        final var job = new SubmissionsPlacementJob(mockedExam);
+        job.complete();
+        Assertions.assertThrows(
+                IllegalEntityStateException.class,
+                () -> job.registerPlacedSubmissions(1),
+                "Registering placed submissions is being allowed for completed jobs"
+        );
+    }
+
+    /**
+     * Tests that failed attempts cannot be registered once the job is failed.
+     */
+    @Test
+    void testFailedAttemptsCannotBeRegisteredWhenFailed() {
+        final var job = new SubmissionsPlacementJob(mockedExam);
+        job.registerFailedAttempt("Error", 1);
+        Assertions.assertAll(
+                "Failed jobs are being modified",
+                () -> Assertions.assertThrows(
+                        IllegalEntityStateException.class,
+                        () -> job.registerFailedAttempt("Error", 1),
+                        "Registering failed attempts is being allowed for failed jobs"
+                ),
+                () -> Assertions.assertThrows(
+                        IllegalEntityStateException.class,
+                        job::complete,
+                        "Completing a failed job is being allowed"
+                )
+        );
+    }
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown when registering a failed attempt
+     * without an error.
+     */
+    @Test
+    void testNullErrorOnFailedAttempt() {
+        final var job = new SubmissionsPlacementJob(mockedExam);
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> job.registerFailedAttempt(null, 1),
+                "Registering a failed attempt without an error is being allowed"
+        );
+    }
+}
@@ -458,6 +458,177 @@ class TestCaseTest {
     }
 
 
+    // ================================
+    // Output comparison
+    // ================================
+
+    /**
+     * Tests that the {@link OutputsFingerprint} of the expected outputs is computed on creation and on update.
+     */
+    @Test
+    void testExpectedOutputsAreFingerprinted() {
+        final var expectedOutputs = validList();
+        final var testCase = new TestCase(
+                validVisibility(),
+                validTimeout(),
+                validList(),
+                validList(),
+                expectedOutputs,
+                mockedExercise
+        );
+        Assertions.assertEquals(
+                OutputsFingerprint.of(expectedOutputs),
+                testCase.getExpectedOutputsFingerprint().orElse(null),
+                "The expected outputs are not fingerprinted on creation"
+        );
+        final var newExpectedOutputs = validList();
+        testCase.update(validVisibility(), validTimeout(), validList(), validList(), newExpectedOutputs);
+        Assertions.assertEquals(
+                OutputsFingerprint.of(newExpectedOutputs),
+                testCase.getExpectedOutputsFingerprint().orElse(null),
+                "The expected outputs are not fingerprinted on update"
+        );
+        Mockito.verifyZeroInteractions(mockedExercise);
+    }
+
+    /**
+     * Tests that a new {@link TestCase} uses the {@link TestCase.OutputComparison#EXACT} comparison.
+     */
+    @Test
+    void testExactOutputComparisonByDefault() {
+        final var testCase = createAnyTimeoutTestCase();
+        Assertions.assertAll("The default output comparison is not the exact one",
+                () -> Assertions.assertEquals(
+                        TestCase.OutputComparison.EXACT,
+                        testCase.getOutputComparison(),
+                        "Output comparison mismatch"
+                ),
+                () -> Assertions.assertNull(testCase.getTolerance(), "A tolerance is set")
+        );
+        Mockito.verifyZeroInteractions(mockedExercise);
+    }
+
+    /**
+     * Tests that changing the output comparison with valid values works as expected.
+     */
+    @Test
+    void testValidOutputComparisonChange() {
+        final var testCase = createAnyTimeoutTestCase();
+        final var tolerance = validTolerance();
+        testCase.changeOutputComparison(TestCase.OutputComparison.FLOAT_TOLERANCE, tolerance);
+        Assertions.assertAll("The output comparison is not being changed",
+                () -> Assertions.assertEquals(
+                        TestCase.OutputComparison.FLOAT_TOLERANCE,
+                        testCase.getOutputComparison(),
+                        "Output comparison mismatch"
+                ),
+                () -> Assertions.assertEquals(tolerance, testCase.getTolerance(), "Tolerance mismatch")
+        );
+        Mockito.verifyZeroInteractions(mockedExercise);
+    }
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown
+     * when changing the output comparison to a null {@link TestCase.OutputComparison}.
+     */
+    @Test
+    void testNullOutputComparison() {
+        final var testCase = createAnyTimeoutTestCase();
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> testCase.changeOutputComparison(null, null),
+                "Changing the output comparison to null is being allowed"
+        );
+        Mockito.verifyZeroInteractions(mockedExercise);
+    }
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown
+     * when changing the output comparison to {@link TestCase.OutputComparison#FLOAT_TOLERANCE}
+     * with a missing or negative tolerance.
+     */
+    @Test
+    void testInvalidToleranceForFloatToleranceOutputComparison() {
+        final var testCase = createAnyTimeoutTestCase();
+        Assertions.assertAll("Invalid tolerances are being allowed",
+                () -> Assertions.assertThrows(
+                        IllegalArgumentException.class,
+                        () -> testCase.changeOutputComparison(TestCase.OutputComparison.FLOAT_TOLERANCE, null),
+                        "A missing tolerance is being allowed"
+                ),
+                () -> Assertions.assertThrows(
+                        IllegalArgumentException.class,
+                        () -> testCase.changeOutputComparison(TestCase.OutputComparison.FLOAT_TOLERANCE, -1d),
+                        "A negative tolerance is being allowed"
+                ),
+                () -> Assertions.assertThrows(
+                        IllegalArgumentException.class,
+                        () -> testCase.changeOutputComparison(
+                                TestCase.OutputComparison.FLOAT_TOLERANCE,
+                                Double.NaN
+                        ),
+                        "A NaN tolerance is being allowed"
+                )
+        );
+        Mockito.verifyZeroInteractions(mockedExercise);
+    }
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown when setting a tolerance
+     * for an output comparison other than {@link TestCase.OutputComparison#FLOAT_TOLERANCE}.
+     */
+    @Test
+    void testToleranceForOtherOutputComparison() {
+        final var testCase = createAnyTimeoutTestCase();
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> testCase.changeOutputComparison(TestCase.OutputComparison.UNORDERED_LINES, validTolerance()),
+                "Setting a tolerance for an output comparison that does not use it is being allowed"
+        );
+        Mockito.verifyZeroInteractions(mockedExercise);
+    }
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown when changing the output comparison
+     * to {@link TestCase.OutputComparison#REGEX} for a {@link TestCase} whose expected outputs are not valid
+     * regular expressions.
+     */
+    @Test
+    void testRegexOutputComparisonWithInvalidExpectedOutputs() {
+        final var testCase = new TestCase(
+                validVisibility(),
+                validTimeout(),
+                validList(),
+                validList(),
+                List.of("[unclosed"),
+                mockedExercise
+        );
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> testCase.changeOutputComparison(TestCase.OutputComparison.REGEX, null),
+                "Changing to the regex output comparison with invalid expected outputs is being allowed"
+        );
+        Mockito.verifyZeroInteractions(mockedExercise);
+    }
+
+    /**
+     * Tests that an {@link IllegalArgumentException} is thrown when updating a {@link TestCase}
+     * using the {@link TestCase.OutputComparison#REGEX} comparison with expected outputs
+     * that are not valid regular expressions.
+     */
+    @Test
+    void testInvalidRegexExpectedOutputsOnUpdate() {
+        final var testCase = createAnyTimeoutTestCase();
+        testCase.changeOutputComparison(TestCase.OutputComparison.REGEX, null);
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> testCase.update(validVisibility(), validTimeout(), validList(), validList(), List.of("(")),
+                "Updating a regex test case with invalid expected outputs is being allowed"
+        );
+        Mockito.verifyZeroInteractions(mockedExercise);
+    }
+
+
     // ================================================================================================================
     // Helpers
     // ================================================================================================================
@@ -606,6 +777,13 @@ class TestCaseTest {
         return Faker.instance().number().numberBetween(1, Long.MAX_VALUE);
     }
 
+    /**
+     * @return A random valid tolerance.
+     */
+    private static double validTolerance() {
+        return Faker.instance().number().randomDouble(6, 0, 1);
+    }
+
     /**
      * Creates a valid {@link List} of {@link String} to be used as inputs or expected outputs.
      *
@@ -0,0 +1,28 @@
+package ar.edu.itba.cep.evaluations_service.commands.executor_service;
+
+import java.util.Optional;
+
+/**
+ * A port out of the application that allows storing big payloads out of the command messages
+ * (i.e the claim-check pattern), so messages only carry a reference to them.
+ * Stores are content-addressed: the reference of a payload is derived from its digest,
+ * so storing the same payload several times keeps only one copy of it, and always returns the same reference.
+ */
+public interface ClaimCheckStore {
+
+    /**
+     * Stores the given {@code content}, if not already stored.
+     *
+     * @param content The content to be stored.
+     * @return The reference to the stored content (which includes its digest).
+     */
+    String store(final byte[] content);
+
+    /**
+     * Retrieves the content with the given {@code reference}.
+     *
+     * @param reference The reference to the content.
+     * @return An {@link Optional} containing the content if present, or empty otherwise.
+     */
+    Optional<byte[]> retrieve(final String reference);
+}
@@ -0,0 +1,28 @@
+package ar.edu.itba.cep.evaluations_service.commands.executor_service;
+
+import ar.edu.itba.cep.evaluations_service.models.DeadLetteredReply;
+
+import java.util.List;
+
+/**
+ * A port out of the application that allows inspecting and replaying the replies of the executor service
+ * that could not be processed (i.e the {@link DeadLetteredReply}s).
+ */
+public interface ExecutionRepliesDeadLetterQueue {
+
+    /**
+     * Retrieves the most recent {@link DeadLetteredReply}s, without removing them.
+     *
+     * @param amount The max. amount of {@link DeadLetteredReply}s to be retrieved.
+     * @return A {@link List} containing the most recent {@link DeadLetteredReply}s (the newest first).
+     */
+    List<DeadLetteredReply> peek(final int amount);
+
+    /**
+     * Sends the {@link DeadLetteredReply} with the given {@code id} to be processed again.
+     *
+     * @param id The id of the {@link DeadLetteredReply} to be replayed.
+     * @return {@code true} if the reply was found and replayed, or {@code false} otherwise.
+     */
+    boolean replay(final String id);
+}
@@ -0,0 +1,22 @@
+package ar.edu.itba.cep.evaluations_service.commands.executor_service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A port out of the application that allows tracking whether the execution requests sent to the executor service
+ * have been delivered (i.e accepted by the messaging infrastructure).
+ */
+public interface ExecutionRequestDeliveryTracker {
+
+    /**
+     * Starts tracking the delivery of the execution request identified by the given {@code ids}.
+     * Tracking must start before the request is sent.
+     *
+     * @param ids The {@link SolutionAndTestCaseIds} identifying the request (including its dispatching moment).
+     * @return A {@link CompletableFuture} that is completed when the request is delivered,
+     * or completed exceptionally when its delivery fails.
+     * @apiNote The returned future might never complete (e.g the messaging infrastructure does not report
+     * the outcome), so callers must not wait for it indefinitely. Completing it (in any way) stops the tracking.
+     */
+    CompletableFuture<Void> track(final SolutionAndTestCaseIds ids);
+}
@@ -0,0 +1,25 @@
+package ar.edu.itba.cep.evaluations_service.commands.executor_service;
+
+import ar.edu.itba.cep.executor.models.ExecutionResponse;
+
+import java.util.Set;
+
+/**
+ * A port into the application that allows processing several {@link ExecutionResponse}s together
+ * (e.g all the replies received in a single poll), instead of one at a time.
+ */
+public interface ExecutionResponsesBatcher {
+
+    /**
+     * Runs the given {@code action}, collecting all the {@link ExecutionResponse}s handled while it runs
+     * (in the same thread), and processing them together, in a single transaction, once the {@code action} ends.
+     *
+     * Responses that can not be processed because the solution or test case they refer to does not exist
+     * are not processed, but returned, so they can be handled by the caller (e.g dead lettered).
+     *
+     * @param action The action that handles the {@link ExecutionResponse}s to be batched.
+     * @return The {@link SolutionAndTestCaseIds} of the rejected {@link ExecutionResponse}s.
+     * @throws IllegalArgumentException If the {@code action} is {@code null}.
+     */
+    Set<SolutionAndTestCaseIds> inBatch(final Runnable action) throws IllegalArgumentException;
+}
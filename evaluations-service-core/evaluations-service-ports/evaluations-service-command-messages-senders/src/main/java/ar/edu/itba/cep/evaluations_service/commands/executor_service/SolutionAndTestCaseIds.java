@@ -1,12 +1,22 @@
 package ar.edu.itba.cep.evaluations_service.commands.executor_service;
 
 import ar.edu.itba.cep.executor.api.ExecutionResponseIdData;
-import lombok.Data;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
 
 /**
  * Class containing data to handle an {@link ar.edu.itba.cep.executor.models.ExecutionResponse}.
+ * Two instances are equal if they refer to the same solution and test case,
+ * regardless of the dispatch they belong to.
  */
-@Data(staticConstructor = "create")
+@Getter
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(of = {"solutionId", "testCaseId"}, doNotUseGetters = true)
+@AllArgsConstructor(staticName = "create")
 public class SolutionAndTestCaseIds implements ExecutionResponseIdData {
 
     /**
@@ -17,4 +27,21 @@ public class SolutionAndTestCaseIds implements ExecutionResponseIdData {
      * The id of the test case to be processed.
      */
     private final long testCaseId;
+    /**
+     * The moment at which the execution was dispatched, which identifies the request a response belongs to
+     * (or {@code null} if it is not known, e.g for responses to requests sent before it was included).
+     */
+    private final Instant dispatchedAt;
+
+
+    /**
+     * Creates a {@link SolutionAndTestCaseIds} that does not belong to a known dispatch.
+     *
+     * @param solutionId The id of the solution to be processed.
+     * @param testCaseId The id of the test case to be processed.
+     * @return The created {@link SolutionAndTestCaseIds}.
+     */
+    public static SolutionAndTestCaseIds create(final long solutionId, final long testCaseId) {
+        return new SolutionAndTestCaseIds(solutionId, testCaseId, null);
+    }
 }
@@ -21,4 +21,24 @@ public interface ExamRepository extends BasicRepository<Exam, Long>, PagingRepos
      * given {@code pagingRequest}.
      */
     Page<Exam> getOwnedBy(final String owner, final PagingRequest pagingRequest);
+
+    /**
+     * Adds the given {@code delta} to the max. score of the given {@code exam},
+     * performing an atomic update (i.e without reading the max. score first),
+     * so concurrent changes to the exam's exercises do not overwrite each other.
+     *
+     * @param exam  The {@link Exam} whose max. score is being changed.
+     * @param delta The amount of score to be added (negative to subtract score).
+     * @apiNote The given {@code exam} instance is not updated.
+     */
+    void addToMaxScore(final Exam exam, final int delta);
+
+    /**
+     * Sets the max. score of the given {@code exam} to zero (i.e all of its exercises were removed),
+     * performing an atomic update.
+     *
+     * @param exam The {@link Exam} whose max. score is being cleared.
+     * @apiNote The given {@code exam} instance is not updated.
+     */
+    void clearMaxScore(final Exam exam);
 }
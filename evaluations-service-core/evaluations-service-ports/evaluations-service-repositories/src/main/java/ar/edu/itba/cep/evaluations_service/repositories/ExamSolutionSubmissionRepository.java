@@ -35,6 +35,21 @@ public interface ExamSolutionSubmissionRepository extends BasicRepository<ExamSo
      */
     List<ExamSolutionSubmission> getByExamAndState(final Exam exam, final ExamSolutionSubmission.State state);
 
+    /**
+     * Retrieves the first {@link ExamSolutionSubmission}s (i.e sorted by id) belonging to the given {@code exam},
+     * that have the given {@code state}, returning at most the given {@code amount} of them.
+     *
+     * @param exam   The {@link Exam} owning the {@link ExamSolutionSubmission}s being returned.
+     * @param state  The {@link ExamSolutionSubmission.State} of the {@link ExamSolutionSubmission}s to be returned.
+     * @param amount The max. amount of {@link ExamSolutionSubmission}s to be returned.
+     * @return A {@link List} containing the matching {@link ExamSolutionSubmission}s.
+     */
+    List<ExamSolutionSubmission> getByExamAndState(
+            final Exam exam,
+            final ExamSolutionSubmission.State state,
+            final int amount
+    );
+
     /**
      * Deletes the {@link ExamSolutionSubmission}s belonging to the given {@code exam}.
      *
@@ -60,4 +75,23 @@ public interface ExamSolutionSubmissionRepository extends BasicRepository<ExamSo
      * @return {@code true} if a matching {@link ExamSolutionSubmission} exists, or {@code false} otherwise.
      */
     boolean existsSubmissionFor(final Exam exam, final String submitter);
+
+    /**
+     * Computes the {@link SubmissionScoring} of the given {@code submission} using a single query
+     * (i.e aggregating its results in the database, without loading them).
+     *
+     * @param submission The {@link ExamSolutionSubmission} to be scored.
+     * @return The {@link SubmissionScoring} of the given {@code submission}.
+     */
+    SubmissionScoring getScoring(final ExamSolutionSubmission submission);
+
+    /**
+     * Computes the {@link SubmissionScoring}s of all the {@link ExamSolutionSubmission}s belonging to the given
+     * {@code exam} that have the given {@code state}, using a single query.
+     *
+     * @param exam  The {@link Exam} owning the {@link ExamSolutionSubmission}s to be scored.
+     * @param state The {@link ExamSolutionSubmission.State} of the {@link ExamSolutionSubmission}s to be scored.
+     * @return A {@link List} containing the {@link SubmissionScoring} of each matching {@link ExamSolutionSubmission}.
+     */
+    List<SubmissionScoring> getScorings(final Exam exam, final ExamSolutionSubmission.State state);
 }
@@ -19,6 +19,17 @@ public interface ExerciseRepository extends BasicRepository<Exercise, Long> {
      */
     List<Exercise> getExamExercises(final Exam exam);
 
+    /**
+     * Indicates whether any of the {@link Exercise}s belonging to the given {@code exam}
+     * has no private {@link ar.edu.itba.cep.evaluations_service.models.TestCase}s, with a single query
+     * (i.e instead of retrieving the private test cases of each exercise).
+     *
+     * @param exam The {@link Exam} to which the {@link Exercise}s being checked belongs to.
+     * @return {@code true} if any {@link Exercise} of the given {@code exam} has no private test cases,
+     * or {@code false} otherwise.
+     */
+    boolean existsWithoutPrivateTestCases(final Exam exam);
+
     /**
      * Deletes all the {@link Exercise}s belonging to the given {@code exam}.
      *
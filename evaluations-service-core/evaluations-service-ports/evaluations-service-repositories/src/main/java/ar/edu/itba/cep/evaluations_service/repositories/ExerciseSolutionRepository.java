@@ -18,4 +18,13 @@ public interface ExerciseSolutionRepository extends BasicRepository<ExerciseSolu
      * @return A {@link List} with the {@link ExerciseSolution}.
      */
     List<ExerciseSolution> getExerciseSolutions(final ExamSolutionSubmission submission);
+
+    /**
+     * Locks the given {@code solution} until the current transaction ends,
+     * so operations over the said solution (or its results) performed in different transactions
+     * are serialized.
+     *
+     * @param solution The {@link ExerciseSolution} to be locked.
+     */
+    void lock(final ExerciseSolution solution);
 }
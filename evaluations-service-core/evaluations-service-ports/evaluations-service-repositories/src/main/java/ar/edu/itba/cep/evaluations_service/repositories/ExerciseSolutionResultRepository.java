@@ -4,6 +4,9 @@ import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
 import ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult;
 import ar.edu.itba.cep.evaluations_service.models.TestCase;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +25,19 @@ public interface ExerciseSolutionResultRepository {
      */
     <S extends ExerciseSolutionResult> S save(final S result) throws IllegalArgumentException;
 
+    /**
+     * Saves all the given {@code results}. Use the returned entity instances for further operation.
+     * Implementations should take advantage of this method to reduce the amount of round trips to the database
+     * (e.g by batching the statements).
+     *
+     * @param results The {@link ExerciseSolutionResult}s to be saved.
+     * @param <S>     Concrete type of {@link ExerciseSolutionResult}.
+     * @return The saved {@link ExerciseSolutionResult}s.
+     * @throws IllegalArgumentException If the given {@code results} {@link Iterable} is {@code null},
+     *                                  or if it contains a {@code null} element.
+     */
+    <S extends ExerciseSolutionResult> List<S> saveAll(final Iterable<S> results) throws IllegalArgumentException;
+
     /**
      * Finds the {@link ExerciseSolutionResult} for the given {@code solution} – {@code testCase} tuple.
      *
@@ -51,4 +67,92 @@ public interface ExerciseSolutionResultRepository {
      * that reference the given {@link ExerciseSolution}
      */
     List<ExerciseSolutionResult> find(final ExerciseSolution solution);
+
+    /**
+     * Finds all the {@link ExerciseSolutionResult}s belonging to any of the {@link ExerciseSolution}s
+     * with the given {@code solutionIds} and to any of the {@link TestCase}s with the given {@code testCaseIds},
+     * using a single query. Implementations should also fetch the {@link ExerciseSolution}s and {@link TestCase}s,
+     * but not the {@link TestCase}s' expected outputs, as outputs are usually checked with the {@link TestCase}s'
+     * fingerprints (and duplicated responses are discarded without checking them).
+     *
+     * @param solutionIds The ids of the {@link ExerciseSolution}s.
+     * @param testCaseIds The ids of the {@link TestCase}s.
+     * @return A {@link List} containing the matching {@link ExerciseSolutionResult}s.
+     */
+    List<ExerciseSolutionResult> find(final Collection<Long> solutionIds, final Collection<Long> testCaseIds);
+
+    /**
+     * Marks with the given {@code result} all the {@link ExerciseSolutionResult}s of the given {@code solution}
+     * that are not marked yet, performing a bulk operation (i.e without loading them).
+     *
+     * @param solution The {@link ExerciseSolution} whose pending {@link ExerciseSolutionResult}s must be marked.
+     * @param result   The {@link ExerciseSolutionResult.Result} to be set.
+     * @return The amount of marked {@link ExerciseSolutionResult}s.
+     */
+    int markPending(final ExerciseSolution solution, final ExerciseSolutionResult.Result result);
+
+    /**
+     * Registers that the executions of the given {@code solution} with the given {@code testCases}
+     * have been dispatched at the given {@code dispatchedAt} moment, increasing their attempts
+     * and clearing their send failures,
+     * performing a bulk operation (i.e without loading the {@link ExerciseSolutionResult}s).
+     *
+     * @param solution     The {@link ExerciseSolution} whose executions have been dispatched.
+     * @param testCases    The {@link TestCase}s with which the {@code solution} is being executed.
+     * @param dispatchedAt The moment at which the executions have been dispatched.
+     * @return The amount of updated {@link ExerciseSolutionResult}s.
+     */
+    int registerDispatch(
+            final ExerciseSolution solution,
+            final Collection<TestCase> testCases,
+            final Instant dispatchedAt
+    );
+
+    /**
+     * Registers that sending the executions of the given {@code solution} with the given {@code testCases}
+     * (registered as dispatched at the given {@code dispatchedAt} moment) to the executor service
+     * has failed with the given {@code cause}, undoing the dispatch registration
+     * (i.e clearing the dispatching moment and decreasing the attempts, as the executions are not in flight),
+     * performing a bulk operation (i.e without loading the {@link ExerciseSolutionResult}s).
+     * Results whose dispatching moment is not the given one are not updated
+     * (i.e they were dispatched again, or their dispatch was already cleared).
+     *
+     * @param solution     The {@link ExerciseSolution} whose executions could not be sent.
+     * @param testCases    The {@link TestCase}s with which the {@code solution} was being executed.
+     * @param dispatchedAt The moment at which the executions were registered as dispatched.
+     * @param cause        A description of the failure's cause.
+     * @return The amount of updated {@link ExerciseSolutionResult}s.
+     */
+    int registerSendFailure(
+            final ExerciseSolution solution,
+            final Collection<TestCase> testCases,
+            final Instant dispatchedAt,
+            final String cause
+    );
+
+    /**
+     * Counts the {@link ExerciseSolutionResult}s whose executions are in-flight
+     * (i.e they are not marked, and their executions were dispatched at or after the given {@code dispatchedSince}
+     * moment).
+     *
+     * @param dispatchedSince The moment since which dispatched executions are considered in-flight.
+     * @return The amount of in-flight executions.
+     */
+    long countInFlight(final Instant dispatchedSince);
+
+    /**
+     * Retrieves (and locks) the stale {@link ExerciseSolutionResult}s (up to the given {@code amount}),
+     * skipping those already locked by another transaction.
+     * A result is stale when it is not marked, and its execution was dispatched more than
+     * {@code timeout * 2^(attempts - 1)} ago (i.e the timeout grows exponentially with each attempt),
+     * the oldest dispatched being returned first.
+     *
+     * @param now     The current moment.
+     * @param timeout The time to wait for the response of the first attempt.
+     * @param amount  The max. amount of {@link ExerciseSolutionResult}s to be retrieved.
+     * @return A {@link List} containing the stale {@link ExerciseSolutionResult}s.
+     * @apiNote This method must be executed within a transaction, as the returned results are locked until
+     * the said transaction ends.
+     */
+    List<ExerciseSolutionResult> getStaleForUpdate(final Instant now, final Duration timeout, final int amount);
 }
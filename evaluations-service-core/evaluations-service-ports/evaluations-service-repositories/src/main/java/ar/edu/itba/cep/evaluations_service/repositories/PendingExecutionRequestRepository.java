@@ -0,0 +1,70 @@
+package ar.edu.itba.cep.evaluations_service.repositories;
+
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import ar.edu.itba.cep.evaluations_service.models.PendingExecutionRequest;
+
+import java.util.List;
+
+/**
+ * A port out of the application that allows {@link PendingExecutionRequest} persistence
+ * (i.e the execution requests outbox).
+ */
+public interface PendingExecutionRequestRepository {
+
+    /**
+     * Saves the given {@code request}. Use the returned entity instance for further operation.
+     *
+     * @param request The {@link PendingExecutionRequest} to be saved.
+     * @param <S>     Concrete type of {@link PendingExecutionRequest}.
+     * @return The saved {@link PendingExecutionRequest}.
+     * @throws IllegalArgumentException If the given {@code request} is {@code null}.
+     */
+    <S extends PendingExecutionRequest> S save(final S request) throws IllegalArgumentException;
+
+    /**
+     * Saves all the given {@code requests}. Use the returned entity instances for further operation.
+     * Implementations should take advantage of this method to reduce the amount of round trips to the database
+     * (e.g by batching the statements).
+     *
+     * @param requests The {@link PendingExecutionRequest}s to be saved.
+     * @param <S>      Concrete type of {@link PendingExecutionRequest}.
+     * @return The saved {@link PendingExecutionRequest}s.
+     * @throws IllegalArgumentException If the given {@code requests} {@link Iterable} is {@code null},
+     *                                  or if it contains a {@code null} element.
+     */
+    <S extends PendingExecutionRequest> List<S> saveAll(final Iterable<S> requests) throws IllegalArgumentException;
+
+    /**
+     * Retrieves the next {@link PendingExecutionRequest}s, up to the given {@code amount},
+     * locking them until the current transaction ends.
+     * {@link PendingExecutionRequest}s are grouped in lanes (one per exam and language),
+     * and are taken from them in a round-robin fashion (i.e the oldest of each lane first, then the second oldest,
+     * and so on), so a big exam cannot starve the others.
+     * Those {@link PendingExecutionRequest}s already locked by another transaction are skipped,
+     * in order to allow concurrent consumers of the outbox.
+     * Note that implementations might select the next requests before skipping the locked ones,
+     * in which case a concurrent consumer gets an empty batch (instead of the following requests)
+     * until the transaction holding the locks ends.
+     *
+     * @param amount The max. amount of {@link PendingExecutionRequest}s to be retrieved.
+     * @return A {@link List} containing the retrieved {@link PendingExecutionRequest}s,
+     * sorted from the oldest to the newest.
+     */
+    List<PendingExecutionRequest> getNextForUpdate(final int amount);
+
+    /**
+     * Deletes the given {@code requests}.
+     *
+     * @param requests The {@link PendingExecutionRequest}s to be deleted.
+     * @throws IllegalArgumentException If the given {@code requests} {@link Iterable} is {@code null}.
+     */
+    void deleteAll(final Iterable<PendingExecutionRequest> requests) throws IllegalArgumentException;
+
+    /**
+     * Deletes all the {@link PendingExecutionRequest}s of the given {@code solution}
+     * (i.e those that have not been relayed yet).
+     *
+     * @param solution The {@link ExerciseSolution} whose {@link PendingExecutionRequest}s must be deleted.
+     */
+    void deleteBySolution(final ExerciseSolution solution);
+}
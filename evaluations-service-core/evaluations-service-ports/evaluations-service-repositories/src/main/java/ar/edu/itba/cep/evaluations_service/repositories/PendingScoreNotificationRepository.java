@@ -0,0 +1,54 @@
+package ar.edu.itba.cep.evaluations_service.repositories;
+
+import ar.edu.itba.cep.evaluations_service.models.PendingScoreNotification;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A port out of the application that allows {@link PendingScoreNotification} persistence
+ * (i.e the score notifications outbox).
+ */
+public interface PendingScoreNotificationRepository {
+
+    /**
+     * Saves the given {@code notification}. Use the returned entity instance for further operation.
+     *
+     * @param notification The {@link PendingScoreNotification} to be saved.
+     * @param <S>          Concrete type of {@link PendingScoreNotification}.
+     * @return The saved {@link PendingScoreNotification}.
+     * @throws IllegalArgumentException If the given {@code notification} is {@code null}.
+     */
+    <S extends PendingScoreNotification> S save(final S notification) throws IllegalArgumentException;
+
+    /**
+     * Retrieves the {@link PendingScoreNotification}s whose next attempt moment is not after the given {@code now}
+     * moment (up to the given {@code amount}), together with their scored submissions,
+     * locking them until the current transaction ends.
+     * Those {@link PendingScoreNotification}s already locked by another transaction are skipped,
+     * in order to allow concurrent consumers of the outbox.
+     *
+     * @param now    The current moment.
+     * @param amount The max. amount of {@link PendingScoreNotification}s to be retrieved.
+     * @return A {@link List} containing the retrieved {@link PendingScoreNotification}s,
+     * sorted by their next attempt moment.
+     */
+    List<PendingScoreNotification> getDueForUpdate(final Instant now, final int amount);
+
+    /**
+     * Retrieves the {@link PendingScoreNotification}s with the given {@code ids}.
+     *
+     * @param ids The ids of the {@link PendingScoreNotification}s to be retrieved.
+     * @return A {@link List} containing the retrieved {@link PendingScoreNotification}s
+     * (those already removed are not included).
+     */
+    List<PendingScoreNotification> getByIds(final Collection<Long> ids);
+
+    /**
+     * Deletes the {@link PendingScoreNotification}s with the given {@code ids}.
+     *
+     * @param ids The ids of the {@link PendingScoreNotification}s to be deleted.
+     */
+    void deleteByIds(final Collection<Long> ids);
+}
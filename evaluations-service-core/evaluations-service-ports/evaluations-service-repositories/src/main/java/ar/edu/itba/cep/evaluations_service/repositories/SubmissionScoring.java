@@ -0,0 +1,53 @@
+package ar.edu.itba.cep.evaluations_service.repositories;
+
+import ar.edu.itba.cep.evaluations_service.models.ExamSolutionSubmission;
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolution;
+import ar.edu.itba.cep.evaluations_service.models.ExerciseSolutionResult;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The data needed to score an {@link ExamSolutionSubmission}, aggregated by the database
+ * (i.e without loading its {@link ExerciseSolution}s nor their {@link ExerciseSolutionResult}s).
+ */
+@Getter
+@ToString(doNotUseGetters = true)
+public final class SubmissionScoring {
+
+    /**
+     * The id of the scored {@link ExamSolutionSubmission}.
+     */
+    private final long submissionId;
+    /**
+     * The amount of {@link ExerciseSolutionResult}s of the submission that are not marked yet.
+     */
+    private final long pendingResults;
+    /**
+     * The sum of the awarded scores of the approved {@link ExerciseSolution}s of the submission
+     * (i.e those whose {@link ExerciseSolutionResult}s are all {@link ExerciseSolutionResult.Result#APPROVED}).
+     */
+    private final int approvedScore;
+
+
+    /**
+     * Constructor.
+     *
+     * @param submissionId   The id of the scored {@link ExamSolutionSubmission}.
+     * @param pendingResults The amount of {@link ExerciseSolutionResult}s of the submission that are not marked yet.
+     * @param approvedScore  The sum of the awarded scores of the approved {@link ExerciseSolution}s of the submission.
+     */
+    public SubmissionScoring(final long submissionId, final long pendingResults, final int approvedScore) {
+        this.submissionId = submissionId;
+        this.pendingResults = pendingResults;
+        this.approvedScore = approvedScore;
+    }
+
+
+    /**
+     * @return {@code true} if the submission has {@link ExerciseSolutionResult}s that are not marked yet,
+     * or {@code false} otherwise.
+     */
+    public boolean hasPendingResults() {
+        return pendingResults > 0;
+    }
+}
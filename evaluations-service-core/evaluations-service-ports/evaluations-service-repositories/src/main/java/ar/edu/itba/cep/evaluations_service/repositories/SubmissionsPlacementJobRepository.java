@@ -0,0 +1,50 @@
+package ar.edu.itba.cep.evaluations_service.repositories;
+
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A port out of the application that allows {@link SubmissionsPlacementJob} persistence.
+ */
+public interface SubmissionsPlacementJobRepository {
+
+    /**
+     * Saves the given {@code job}. Use the returned entity instance for further operation.
+     *
+     * @param job The {@link SubmissionsPlacementJob} to be saved.
+     * @param <S> Concrete type of {@link SubmissionsPlacementJob}.
+     * @return The saved {@link SubmissionsPlacementJob}.
+     * @throws IllegalArgumentException If the given {@code job} is {@code null}.
+     */
+    <S extends SubmissionsPlacementJob> S save(final S job) throws IllegalArgumentException;
+
+    /**
+     * Retrieves the {@link SubmissionsPlacementJob} of the given {@code exam}.
+     *
+     * @param exam The {@link Exam} whose {@link SubmissionsPlacementJob} must be retrieved.
+     * @return An {@link Optional} containing the {@link SubmissionsPlacementJob} of the given {@code exam}
+     * if it exists, or empty otherwise.
+     */
+    Optional<SubmissionsPlacementJob> getByExam(final Exam exam);
+
+    /**
+     * Retrieves the ids of the {@link SubmissionsPlacementJob}s with the given {@code state}.
+     *
+     * @param state The {@link SubmissionsPlacementJob.State} of the {@link SubmissionsPlacementJob}s.
+     * @return A {@link List} containing the ids of the matching {@link SubmissionsPlacementJob}s.
+     */
+    List<Long> getIdsByState(final SubmissionsPlacementJob.State state);
+
+    /**
+     * Retrieves the {@link SubmissionsPlacementJob} with the given {@code id},
+     * locking it until the current transaction ends (i.e other transactions trying to lock it will wait).
+     *
+     * @param id The id of the {@link SubmissionsPlacementJob} to be retrieved.
+     * @return An {@link Optional} containing the {@link SubmissionsPlacementJob} with the given {@code id}
+     * if it exists, or empty otherwise.
+     */
+    Optional<SubmissionsPlacementJob> findForUpdate(final long id);
+}
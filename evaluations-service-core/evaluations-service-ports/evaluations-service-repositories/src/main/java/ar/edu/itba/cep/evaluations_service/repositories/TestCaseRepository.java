@@ -6,12 +6,22 @@ import ar.edu.itba.cep.evaluations_service.models.TestCase;
 import com.bellotapps.webapps_commons.persistence.repository_utils.repositories.BasicRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * A port out of the application that allows {@link TestCase} persistence.
  */
 public interface TestCaseRepository extends BasicRepository<TestCase, Long> {
 
+    /**
+     * Retrieves the {@link TestCase} with the given {@code testCaseId}, together with its expected outputs
+     * (which are not loaded with the {@link TestCase} otherwise, as they are not needed by most operations).
+     *
+     * @param testCaseId The id of the {@link TestCase} to be retrieved.
+     * @return An {@link Optional} containing the {@link TestCase} if it exists, or empty otherwise.
+     */
+    Optional<TestCase> findWithExpectedOutputs(final long testCaseId);
+
     /**
      * Retrieves the {@link TestCase}s belonging to the given {@code exercise}.
      *
@@ -21,7 +31,8 @@ public interface TestCaseRepository extends BasicRepository<TestCase, Long> {
     List<TestCase> getAllTestCases(final Exercise exercise);
 
     /**
-     * Returns a {@link List} of public {@link TestCase}s belonging to the given {@code exercise}.
+     * Returns a {@link List} of public {@link TestCase}s belonging to the given {@code exercise},
+     * together with their expected outputs.
      *
      * @param exercise The {@link Exercise} to which all the public {@link TestCase}s to be returned belongs to.
      * @return A {@link List} containing the public {@link TestCase}s belonging to the given {@link Exercise}.
@@ -29,7 +40,8 @@ public interface TestCaseRepository extends BasicRepository<TestCase, Long> {
     List<TestCase> getExercisePublicTestCases(final Exercise exercise);
 
     /**
-     * Returns a {@link List} of private {@link TestCase}s belonging to the given {@code exercise}.
+     * Returns a {@link List} of private {@link TestCase}s belonging to the given {@code exercise},
+     * together with their expected outputs.
      *
      * @param exercise The {@link Exercise} to which all the private {@link TestCase}s to be returned belongs to.
      * @return A {@link List} containing the private {@link TestCase}s belonging to the given {@link Exercise}.
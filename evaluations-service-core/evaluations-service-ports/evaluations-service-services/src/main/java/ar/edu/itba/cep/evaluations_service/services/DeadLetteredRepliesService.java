@@ -0,0 +1,30 @@
+package ar.edu.itba.cep.evaluations_service.services;
+
+import ar.edu.itba.cep.evaluations_service.models.DeadLetteredReply;
+import com.bellotapps.webapps_commons.exceptions.NoSuchEntityException;
+
+import java.util.List;
+
+/**
+ * A port into the application that allows inspecting and replaying the {@link DeadLetteredReply}s
+ * (i.e the replies of the executor service that could not be processed).
+ */
+public interface DeadLetteredRepliesService {
+
+    /**
+     * Retrieves the most recent {@link DeadLetteredReply}s.
+     *
+     * @param amount The max. amount of {@link DeadLetteredReply}s to be retrieved.
+     * @return A {@link List} containing the most recent {@link DeadLetteredReply}s (the newest first).
+     * @throws IllegalArgumentException If the {@code amount} is not positive.
+     */
+    List<DeadLetteredReply> getDeadLetteredReplies(final int amount) throws IllegalArgumentException;
+
+    /**
+     * Sends the {@link DeadLetteredReply} with the given {@code id} to be processed again.
+     *
+     * @param id The id of the {@link DeadLetteredReply} to be replayed.
+     * @throws NoSuchEntityException If there is no {@link DeadLetteredReply} with the given {@code id}.
+     */
+    void replay(final String id) throws NoSuchEntityException;
+}
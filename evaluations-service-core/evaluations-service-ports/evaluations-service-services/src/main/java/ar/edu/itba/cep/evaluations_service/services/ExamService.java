@@ -106,6 +106,20 @@ public interface ExamService {
      */
     void finishExam(final long examId) throws NoSuchEntityException, IllegalEntityStateException;
 
+    /**
+     * Changes the {@link Exam.EvaluationPolicy} of the {@link Exam} with the given {@code examId}.
+     *
+     * @param examId           The id of the {@link Exam} whose evaluation policy will be changed.
+     * @param evaluationPolicy The new {@link Exam.EvaluationPolicy}.
+     * @throws NoSuchEntityException       If there is no {@link Exam} with the given {@code examId}.
+     * @throws IllegalEntityStateException If the {@link Exam} is not in {@link Exam.State#UPCOMING} state.
+     * @throws IllegalArgumentException    If the given {@code evaluationPolicy} is {@code null}.
+     * @apiNote It cannot be executed if the {@link Exam} is not in {@link Exam.State#UPCOMING} state
+     * (i.e its submissions might be already being evaluated, so they would be evaluated with different policies).
+     */
+    void changeEvaluationPolicy(final long examId, final Exam.EvaluationPolicy evaluationPolicy)
+            throws NoSuchEntityException, IllegalEntityStateException, IllegalArgumentException;
+
     /**
      * Adds the given {@code owner} to the {@link Exam} with the given {@code examId}.
      *
@@ -312,6 +326,28 @@ public interface ExamService {
             final List<String> expectedOutputs
     ) throws NoSuchEntityException, IllegalEntityStateException, IllegalArgumentException;
 
+    /**
+     * Changes the way in which execution outputs are compared with the expected ones
+     * for the {@link TestCase} with the given {@code testCaseId}.
+     *
+     * @param testCaseId       The id of the {@link TestCase} whose output comparison will be changed.
+     * @param outputComparison The new {@link TestCase.OutputComparison}.
+     * @param tolerance        The relative tolerance used when comparing numbers
+     *                         (only for {@link TestCase.OutputComparison#FLOAT_TOLERANCE}).
+     * @throws NoSuchEntityException       If there is no {@link TestCase} with the given {@code testCaseId}.
+     * @throws IllegalEntityStateException If the {@link Exam} owning the {@link Exercise}
+     *                                     that owns the {@link TestCase}
+     *                                     is not in {@link Exam.State#UPCOMING} state.
+     * @throws IllegalArgumentException    If the given {@code outputComparison} or {@code tolerance} are not valid.
+     * @apiNote It cannot be executed if the {@link Exam} owning the {@link Exercise} that owns the {@link TestCase}
+     * is not in {@link Exam.State#UPCOMING} state.
+     */
+    void changeTestCaseOutputComparison(
+            final long testCaseId,
+            final TestCase.OutputComparison outputComparison,
+            final Double tolerance
+    ) throws NoSuchEntityException, IllegalEntityStateException, IllegalArgumentException;
+
     /**
      * Deletes the {@link TestCase} with the given {@code testCaseId}.
      *
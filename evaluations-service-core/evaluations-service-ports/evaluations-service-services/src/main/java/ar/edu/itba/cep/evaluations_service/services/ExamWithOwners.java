@@ -70,6 +70,13 @@ public class ExamWithOwners extends ExamWrapper {
         return getExam().getActualDuration();
     }
 
+    /**
+     * @return The {@link Exam}'s evaluation policy.
+     */
+    public Exam.EvaluationPolicy getEvaluationPolicy() {
+        return getExam().getEvaluationPolicy();
+    }
+
     /**
      * @return The {@link Exam}'s owners.
      */
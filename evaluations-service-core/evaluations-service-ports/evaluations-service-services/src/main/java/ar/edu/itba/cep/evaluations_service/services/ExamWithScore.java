@@ -10,20 +10,13 @@ import java.time.LocalDateTime;
  */
 public class ExamWithScore extends ExamWrapper {
 
-    /**
-     * The max. amount of score for the wrapped {@link Exam}.
-     */
-    private final int maxScore;
-
     /**
      * Constructor.
      *
-     * @param exam     The {@link Exam} being wrapped.
-     * @param maxScore The max. amount of score for the wrapped {@link Exam}.
+     * @param exam The {@link Exam} being wrapped.
      */
-    public ExamWithScore(final Exam exam, final int maxScore) {
+    public ExamWithScore(final Exam exam) {
         super(exam);
-        this.maxScore = maxScore;
     }
 
 
@@ -66,7 +59,7 @@ public class ExamWithScore extends ExamWrapper {
      * @return The max. amount of score for the wrapped {@link Exam}.
      */
     public int getMaxScore() {
-        return maxScore;
+        return getExam().getMaxScore();
     }
 
 }
@@ -69,4 +69,11 @@ public class ExamWithoutOwners extends ExamWrapper {
     public Duration getActualDuration() {
         return getExam().getActualDuration();
     }
+
+    /**
+     * @return The {@link Exam}'s evaluation policy.
+     */
+    public Exam.EvaluationPolicy getEvaluationPolicy() {
+        return getExam().getEvaluationPolicy();
+    }
 }
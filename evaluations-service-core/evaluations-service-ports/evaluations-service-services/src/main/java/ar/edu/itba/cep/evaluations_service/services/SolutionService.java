@@ -83,6 +83,17 @@ public interface SolutionService {
      */
     void scoreSubmission(final long submissionId) throws NoSuchEntityException, IllegalEntityStateException;
 
+    /**
+     * Scores all the submitted {@link ExamSolutionSubmission}s of the {@link Exam} with the given {@code examId}
+     * that are not scored yet, in a single pass.
+     * Those owning an {@link ExerciseSolution} for which there are pending executions are skipped
+     * (i.e they can be scored later).
+     *
+     * @param examId The id of the {@link Exam} whose {@link ExamSolutionSubmission}s are scored.
+     * @throws NoSuchEntityException If there is no {@link Exam} with the given {@code examId}.
+     */
+    void scoreExamSubmissions(final long examId) throws NoSuchEntityException;
+
 
     // ================================================================================================================
     // Solutions
@@ -0,0 +1,24 @@
+package ar.edu.itba.cep.evaluations_service.services;
+
+import ar.edu.itba.cep.evaluations_service.models.Exam;
+import ar.edu.itba.cep.evaluations_service.models.SubmissionsPlacementJob;
+import com.bellotapps.webapps_commons.exceptions.NoSuchEntityException;
+
+import java.util.Optional;
+
+/**
+ * A port into the application that allows querying the {@link SubmissionsPlacementJob}s
+ * (i.e the background jobs that place the submissions that are still unplaced when an {@link Exam} finishes).
+ */
+public interface SubmissionsPlacementService {
+
+    /**
+     * Retrieves the {@link SubmissionsPlacementJob} of the {@link Exam} with the given {@code examId}.
+     *
+     * @param examId The id of the {@link Exam} whose {@link SubmissionsPlacementJob} must be retrieved.
+     * @return An {@link Optional} containing the {@link SubmissionsPlacementJob} if it exists
+     * (i.e the {@link Exam} has finished), or empty otherwise.
+     * @throws NoSuchEntityException If there is no {@link Exam} with the given {@code examId}.
+     */
+    Optional<SubmissionsPlacementJob> getPlacementJobForExam(final long examId) throws NoSuchEntityException;
+}